@@ -0,0 +1,71 @@
+package swu.cp112.silkblade.benchmark;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatSimulation;
+import swu.cp112.silkblade.entity.combat.Player;
+import swu.cp112.silkblade.entity.enemy.SilkWraith;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One frame of {@link CombatSimulation#update(float)}, the combat bullet loop, at a fixed live
+ * bullet count: update every bullet, merge explosion children and cull off-screen bullets.
+ * The simulation runs outside an enemy turn so nothing spawns and the player isn't hit;
+ * the hitbox test itself is measured by {@link BulletUpdateBenchmark}.
+ * Culled bullets are replaced so the count stays at the parameter. Scores are microseconds per frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulletLoopBenchmark {
+    private static final String[] BEHAVIORS = {"plain", "homing", "telegraph", "spinning", "rainbow"};
+
+    @Param({"100", "1000", "10000"})
+    public int bulletCount;
+
+    private CombatSimulation simulation;
+    private Array<Bullet> bullets;
+    private Random random;
+    private int spawned;
+
+    @Setup
+    public void setUp() {
+        HeadlessGame.start();
+        random = new Random(42);
+        Rectangle playerHitbox = new Rectangle(BulletUpdateBenchmark.PLAYER_X - 9f, BulletUpdateBenchmark.PLAYER_Y - 9f, 18f, 18f);
+        simulation = new CombatSimulation(Player.loadFromFile(), new SilkWraith(1), playerHitbox,
+            CombatSimulator.WORLD_WIDTH, CombatSimulator.WORLD_HEIGHT);
+        bullets = simulation.getBullets();
+        topUp();
+    }
+
+    @Benchmark
+    public int updateBullets() {
+        simulation.update(BulletUpdateBenchmark.DELTA);
+        topUp();
+        return bullets.size;
+    }
+
+    private void topUp() {
+        while (bullets.size < bulletCount) {
+            bullets.add(BulletUpdateBenchmark.createBullet(BEHAVIORS[spawned++ % BEHAVIORS.length], random));
+        }
+    }
+}
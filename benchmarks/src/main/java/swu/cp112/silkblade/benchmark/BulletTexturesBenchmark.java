@@ -0,0 +1,46 @@
+package swu.cp112.silkblade.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import swu.cp112.silkblade.entity.combat.BulletTextures;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generation of every bullet and glow texture, as paid on the first bullet of a session.
+ * The pixmaps are drawn on the CPU; uploads go to the headless mock GL, so GPU upload time
+ * is not included. Scores are milliseconds per full generation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulletTexturesBenchmark {
+    @Setup
+    public void setUp() {
+        HeadlessGame.start();
+    }
+
+    @Benchmark
+    public BulletTextures generateAll() {
+        // dispose() also clears the singleton, so the next getInstance() regenerates everything
+        BulletTextures.getInstance().dispose();
+        return BulletTextures.getInstance();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BulletTextures.getInstance().dispose();
+    }
+}
@@ -0,0 +1,130 @@
+package swu.cp112.silkblade.benchmark;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import swu.cp112.silkblade.entity.combat.Bullet;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-bullet cost of {@link Bullet#update(float, float, float)} for each behavior mix,
+ * plus the trail shift and the hitbox overlap test CombatScene runs against the player.
+ * Scores are nanoseconds per bullet.
+ *
+ * Behaviors are given long durations so every measured update runs the same code path
+ * instead of falling back to plain movement once a homing or telegraph timer expires.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulletUpdateBenchmark {
+    static final int BULLETS = 256;
+    static final float DELTA = 1f / 60f;
+    static final float PLAYER_X = 640f;
+    static final float PLAYER_Y = 240f;
+
+    @Param({"plain", "homing", "telegraph", "spinning", "rainbow"})
+    public String behavior;
+
+    private TrailBullet[] bullets;
+    private Rectangle playerHitbox;
+
+    @Setup
+    public void setUp() {
+        HeadlessGame.start();
+        Random random = new Random(42);
+        bullets = new TrailBullet[BULLETS];
+        for (int i = 0; i < BULLETS; i++) {
+            bullets[i] = createBullet(behavior, random);
+        }
+        playerHitbox = new Rectangle(PLAYER_X - 9f, PLAYER_Y - 9f, 18f, 18f);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULLETS)
+    public void update() {
+        for (TrailBullet bullet : bullets) {
+            bullet.update(DELTA, PLAYER_X, PLAYER_Y);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULLETS)
+    public void updateTrail() {
+        for (TrailBullet bullet : bullets) {
+            bullet.shiftTrail();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULLETS)
+    public void hitboxOverlap(Blackhole blackhole) {
+        for (TrailBullet bullet : bullets) {
+            blackhole.consume(bullet.getHitbox().overlaps(playerHitbox));
+        }
+    }
+
+    /**
+     * Creates a bullet of the given behavior somewhere around the arena.
+     */
+    static TrailBullet createBullet(String behavior, Random random) {
+        float angle = random.nextFloat() * 360f;
+        float speed = 120f + random.nextFloat() * 180f;
+        TrailBullet bullet = new TrailBullet(
+            200f + random.nextFloat() * 880f,
+            100f + random.nextFloat() * 300f,
+            (float) Math.cos(Math.toRadians(angle)) * speed,
+            (float) Math.sin(Math.toRadians(angle)) * speed);
+
+        switch (behavior) {
+            case "plain":
+                break;
+            case "homing":
+                bullet.enableHoming(1000f, 400f);
+                bullet.updateTarget(PLAYER_X, PLAYER_Y);
+                break;
+            case "telegraph":
+                bullet.enableTelegraphing(1000f, 0.2f);
+                break;
+            case "spinning":
+                bullet.setRotationSpeed(360f);
+                break;
+            case "rainbow":
+                bullet.enableRainbow();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown behavior: " + behavior);
+        }
+        return bullet;
+    }
+
+    /**
+     * Exposes the protected trail update.
+     */
+    static final class TrailBullet extends Bullet {
+        TrailBullet(float x, float y, float velocityX, float velocityY) {
+            super(5f, x, y, velocityX, velocityY, 8f, new Color(Color.WHITE), false);
+        }
+
+        void shiftTrail() {
+            updateTrail();
+        }
+    }
+}
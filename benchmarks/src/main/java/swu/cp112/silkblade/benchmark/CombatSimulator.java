@@ -0,0 +1,202 @@
+package swu.cp112.silkblade.benchmark;
+
+import com.badlogic.gdx.math.Rectangle;
+import swu.cp112.silkblade.audio.VoiceManager;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
+import swu.cp112.silkblade.entity.combat.CombatSimulation;
+import swu.cp112.silkblade.entity.combat.Player;
+import swu.cp112.silkblade.entity.enemy.Enemy;
+import swu.cp112.silkblade.entity.enemy.EnemyRoster;
+import swu.cp112.silkblade.screen.StageSelectionScreen;
+import swu.cp112.silkblade.util.GameClock;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Runs enemy turns back to back on the headless backend as fast as possible and reports
+ * simulation speed, peak live bullets and allocation rate.
+ *
+ * <pre>
+ * ./gradlew benchmarks:simulate -Pargs="--stage 45 --seconds 300"
+ * ./gradlew benchmarks:simulate -Pargs="--enemy SilkRevenant --seconds 120 --tick-rate 120"
+ * </pre>
+ *
+ * A run with the same seed and arguments fires the same bullets. Without {@code --seed} a new
+ * seed is picked and printed.
+ *
+ * The player stands still in the middle of the arena. When they die they are fully healed
+ * and the death is counted, so the run always covers the requested time.
+ */
+public class CombatSimulator {
+    static final float WORLD_WIDTH = 1280f; // Main.WORLD_WIDTH
+    static final float WORLD_HEIGHT = 720f; // Main.WORLD_HEIGHT
+    static final float ARENA_BOTTOM = 130f; // Button row plus margin, as laid out by CombatScene
+    static final float PLAYER_SIZE = 18f;
+
+    private final CombatSimulation simulation;
+    private final Enemy enemy;
+    private final Player player;
+    private final Rectangle playerHitbox = new Rectangle(0, 0, PLAYER_SIZE, PLAYER_SIZE);
+    private final float tick;
+
+    private long ticks;
+    private int attacks;
+    private int deaths;
+
+    public CombatSimulator(Enemy enemy, float tickRate) {
+        this(enemy, Player.loadFromFile(), tickRate);
+    }
+
+    public CombatSimulator(Enemy enemy, Player player, float tickRate) {
+        this.enemy = enemy;
+        this.player = player;
+        this.tick = 1f / tickRate;
+        this.simulation = new CombatSimulation(player, enemy, playerHitbox, WORLD_WIDTH, WORLD_HEIGHT);
+    }
+
+    /**
+     * Runs enemy turns until the given simulated time has passed.
+     */
+    public void run(float seconds) {
+        float elapsed = 0f;
+        while (elapsed < seconds) {
+            elapsed += runAttack(seconds - elapsed);
+        }
+    }
+
+    /**
+     * Runs one enemy turn and lets its leftover bullets play out, like they do during the
+     * player's turn. Stops early once the time limit is reached.
+     *
+     * @return The simulated seconds the turn took
+     */
+    public float runAttack(float maxSeconds) {
+        float elapsed = 0f;
+        startAttack();
+        while (simulation.isCombatActive() && elapsed < maxSeconds) {
+            step();
+            elapsed += tick;
+        }
+        simulation.endAttack();
+
+        while (simulation.getBullets().size > 0 && elapsed < maxSeconds) {
+            step();
+            elapsed += tick;
+        }
+        return elapsed;
+    }
+
+    private void startAttack() {
+        simulation.startAttack();
+        attacks++;
+
+        // Arena from the pattern the enemy just selected, centered like CombatScene does
+        float width = enemy.getArenaWidth();
+        float height = enemy.getArenaHeight();
+        float x = (WORLD_WIDTH - width) / 2f;
+        simulation.setSpawnArea(x, ARENA_BOTTOM, width, height);
+        playerHitbox.setPosition(x + width / 2f - PLAYER_SIZE / 2f, ARENA_BOTTOM + height / 2f - PLAYER_SIZE / 2f);
+    }
+
+    void step() {
+        enemy.updatePlayerPosition(playerHitbox.x, playerHitbox.y);
+        GameClock.setDelta(tick);
+        enemy.update(tick); // Phase changes and other timers, CombatScene updates the enemy every frame
+        simulation.update(tick);
+        simulation.updateImmunity(tick);
+        VoiceManager.update(); // Patterns queue their own sounds, start them like the game does each frame
+        ticks++;
+        if (player.isDead()) {
+            deaths++;
+            player.fullHeal();
+        }
+    }
+
+    public CombatSimulation getSimulation() {
+        return simulation;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public int getAttacks() {
+        return attacks;
+    }
+
+    public int getDeaths() {
+        return deaths;
+    }
+
+    /**
+     * Bytes allocated so far by the current thread, or -1 if the JVM can't tell.
+     */
+    static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    public static void main(String[] args) {
+        String enemyName = null;
+        int stage = 1;
+        float seconds = 60f;
+        float tickRate = 60f;
+        long seed = CombatRandom.newSeed();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (i + 1 >= args.length && arg.startsWith("--")) {
+                usage("Missing value for " + arg);
+            }
+            switch (arg) {
+                case "--enemy": enemyName = args[++i]; break;
+                case "--stage": stage = Integer.parseInt(args[++i]); break;
+                case "--seconds": seconds = Float.parseFloat(args[++i]); break;
+                case "--tick-rate": tickRate = Float.parseFloat(args[++i]); break;
+                case "--seed": seed = Long.parseLong(args[++i]); break;
+                default: usage("Unknown argument " + arg);
+            }
+        }
+
+        HeadlessGame.start();
+        StageSelectionScreen.setCurrentChallengingStage(stage);
+        CombatRandom.begin(seed);
+        Enemy enemy = enemyName != null ? EnemyRoster.create(enemyName, stage) : EnemyRoster.forStage(stage);
+        CombatSimulator simulator = new CombatSimulator(enemy, tickRate);
+
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        simulator.run(seconds);
+        double wallSeconds = (System.nanoTime() - start) / 1e9;
+        long allocatedAfter = allocatedBytes();
+
+        System.out.println("Enemy:          " + enemy.getName() + " (stage " + stage + ", seed " + seed + ")");
+        System.out.println("Simulated:      " + seconds + " s at " + tickRate + " ticks/s in "
+            + String.format("%.2f", wallSeconds) + " s (" + String.format("%.1f", seconds / wallSeconds) + "x real time)");
+        System.out.println("Ticks/s:        " + String.format("%.0f", simulator.getTicks() / wallSeconds));
+        System.out.println("Enemy turns:    " + simulator.getAttacks());
+        System.out.println("Peak bullets:   " + simulator.getSimulation().getPeakBullets());
+        System.out.println("Player deaths:  " + simulator.getDeaths());
+        if (allocatedBefore >= 0 && allocatedAfter >= 0) {
+            double megabytes = (allocatedAfter - allocatedBefore) / (1024.0 * 1024.0);
+            System.out.println("Allocated:      " + String.format("%.1f", megabytes) + " MB ("
+                + String.format("%.2f", megabytes / seconds) + " MB per simulated s, "
+                + String.format("%.1f", megabytes / wallSeconds) + " MB/s wall)");
+        }
+        System.exit(0);
+    }
+
+    private static void usage(String error) {
+        System.err.println(error);
+        System.err.println("Usage: CombatSimulator [--enemy NAME] [--stage N] [--seconds S] [--tick-rate HZ] [--seed N]");
+        System.err.print("Enemies:");
+        for (String name : EnemyRoster.ENEMY_NAMES) {
+            System.err.print(" " + name);
+        }
+        System.err.println();
+        System.exit(1);
+    }
+}
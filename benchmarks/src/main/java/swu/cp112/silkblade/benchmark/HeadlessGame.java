@@ -0,0 +1,33 @@
+package swu.cp112.silkblade.benchmark;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import swu.cp112.silkblade.util.GameLogger;
+
+/**
+ * Starts libGDX on the headless backend so game classes can run without a window.
+ * GL calls go to {@link TextureCountingGL} and sounds are silent, but pixmaps, files and JSON work normally.
+ */
+final class HeadlessGame {
+    private HeadlessGame() {
+    }
+
+    /**
+     * Starts the backend once per JVM. Safe to call from every benchmark setup.
+     */
+    static synchronized void start() {
+        if (Gdx.app != null) {
+            return;
+        }
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1; // No render loop, the benchmarks drive the game code
+        new HeadlessApplication(new ApplicationAdapter() {
+        }, config);
+        Gdx.gl = Gdx.gl20 = TextureCountingGL.create();
+
+        // Keep INFO logging from the game out of the measurements
+        GameLogger.setLevel(GameLogger.Level.WARN);
+    }
+}
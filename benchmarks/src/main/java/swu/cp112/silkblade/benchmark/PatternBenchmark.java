@@ -0,0 +1,181 @@
+package swu.cp112.silkblade.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
+import swu.cp112.silkblade.entity.enemy.CrimsonSericulture;
+import swu.cp112.silkblade.entity.enemy.GoldenCocoon;
+import swu.cp112.silkblade.entity.enemy.HundredSilkOgre;
+import swu.cp112.silkblade.entity.enemy.SilkCicada;
+import swu.cp112.silkblade.entity.enemy.SilkGuardian;
+import swu.cp112.silkblade.entity.enemy.SilkRevenant;
+import swu.cp112.silkblade.entity.enemy.SilkWeaver;
+import swu.cp112.silkblade.entity.enemy.SilkWraith;
+import swu.cp112.silkblade.entity.enemy.SpiritOfTheLoom;
+import swu.cp112.silkblade.entity.enemy.Threadmancer;
+import swu.cp112.silkblade.pattern.EnemyAttackPattern;
+import swu.cp112.silkblade.pattern.crimsonsericulture.PrecisionNeedlePattern;
+import swu.cp112.silkblade.pattern.crimsonsericulture.PrismaticAssaultPattern;
+import swu.cp112.silkblade.pattern.crimsonsericulture.ThreadweaverPattern;
+import swu.cp112.silkblade.pattern.goldencocoon.BlossomingWebPattern;
+import swu.cp112.silkblade.pattern.goldencocoon.PrecisionWebPattern;
+import swu.cp112.silkblade.pattern.hundredsilkogre.OgreEvolutionPattern;
+import swu.cp112.silkblade.pattern.silkcicada.HighAttackPattern;
+import swu.cp112.silkblade.pattern.silkcicada.LowAttackPattern;
+import swu.cp112.silkblade.pattern.silkgod.ConvergingStarPattern;
+import swu.cp112.silkblade.pattern.silkgod.CrossfirePattern;
+import swu.cp112.silkblade.pattern.silkgod.FallenStarPattern;
+import swu.cp112.silkblade.pattern.silkgod.HomingExplosionPattern;
+import swu.cp112.silkblade.pattern.silkgod.RotatingStarPattern;
+import swu.cp112.silkblade.pattern.silkgod.TelegraphPattern;
+import swu.cp112.silkblade.pattern.silkguardian.EvolutionaryAttackPattern;
+import swu.cp112.silkblade.pattern.silkwraith.BasicAttackPattern;
+import swu.cp112.silkblade.pattern.spiritoftheloom.LoomPattern;
+import swu.cp112.silkblade.pattern.threadmancer.PhantomNeedlePattern;
+import swu.cp112.silkblade.pattern.threadmancer.ThreadCagePattern;
+import swu.cp112.silkblade.pattern.threadmancer.WeavingMatrixPattern;
+import swu.cp112.silkblade.screen.StageSelectionScreen;
+import swu.cp112.silkblade.util.GameClock;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one {@link EnemyAttackPattern#generateBullets} volley for every pattern in the game,
+ * fired by the enemy that owns it at the hardest stage that uses it.
+ * Patterns keep state between volleys, so a fresh pattern is created for every iteration.
+ * Scores are microseconds per volley.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatternBenchmark {
+    private static final float ARENA_CENTER_X = 640f;
+    private static final float ARENA_CENTER_Y = 250f;
+    private static final float FRAME_DELTA = 1f / 60f; // Each call is one 60 FPS frame for patterns that time themselves
+
+    @Param({
+        "silkwraith.BasicAttack",
+        "silkguardian.EvolutionaryAttack",
+        "silkweaver.MediumAttack",
+        "goldencocoon.PrecisionWeb",
+        "goldencocoon.BlossomingWeb",
+        "silkcicada.LowAttack",
+        "silkcicada.MediumAttack",
+        "silkcicada.HighAttack",
+        "threadmancer.ThreadCage",
+        "threadmancer.PhantomNeedle",
+        "threadmancer.WeavingMatrix",
+        "spiritoftheloom.Loom",
+        "crimsonsericulture.PrecisionNeedle",
+        "crimsonsericulture.Threadweaver",
+        "crimsonsericulture.PrismaticAssault",
+        "hundredsilkogre.OgreEvolution",
+        "silkgod.Telegraph",
+        "silkgod.Crossfire",
+        "silkgod.ConvergingStar",
+        "silkgod.RotatingStar",
+        "silkgod.HomingExplosion",
+        "silkgod.FallenStar"
+    })
+    public String pattern;
+
+    private AbstractEnemy enemy;
+    private EnemyAttackPattern attackPattern;
+    private float arenaX, arenaY, arenaWidth, arenaHeight;
+
+    @Setup
+    public void setUp() {
+        HeadlessGame.start();
+        GameClock.setDelta(FRAME_DELTA);
+        enemy = createEnemy(pattern);
+        arenaWidth = enemy.getArenaWidth();
+        arenaHeight = enemy.getArenaHeight();
+        arenaX = ARENA_CENTER_X - arenaWidth / 2f;
+        arenaY = ARENA_CENTER_Y - arenaHeight / 2f;
+        enemy.updatePlayerPosition(ARENA_CENTER_X, ARENA_CENTER_Y);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPattern() {
+        attackPattern = createPattern(pattern);
+    }
+
+    @Benchmark
+    public List<Bullet> generateBullets() {
+        return attackPattern.generateBullets(enemy, arenaX, arenaY, arenaWidth, arenaHeight);
+    }
+
+    private static AbstractEnemy createEnemy(String id) {
+        String owner = id.substring(0, id.indexOf('.'));
+        switch (owner) {
+            case "silkwraith":
+                StageSelectionScreen.setCurrentChallengingStage(9);
+                return new SilkWraith(9);
+            case "silkguardian":
+                return new SilkGuardian();
+            case "silkweaver":
+                StageSelectionScreen.setCurrentChallengingStage(19);
+                return new SilkWeaver(19);
+            case "goldencocoon":
+                return new GoldenCocoon();
+            case "silkcicada":
+                return new SilkCicada(29);
+            case "threadmancer":
+                return new Threadmancer();
+            case "spiritoftheloom":
+                return new SpiritOfTheLoom(39);
+            case "crimsonsericulture":
+                return new CrimsonSericulture();
+            case "hundredsilkogre":
+                return new HundredSilkOgre(49);
+            case "silkgod":
+                return new SilkRevenant();
+            default:
+                throw new IllegalArgumentException("Unknown enemy: " + owner);
+        }
+    }
+
+    private static EnemyAttackPattern createPattern(String id) {
+        switch (id) {
+            case "silkwraith.BasicAttack": return new BasicAttackPattern();
+            case "silkguardian.EvolutionaryAttack": return new EvolutionaryAttackPattern();
+            case "silkweaver.MediumAttack": return new swu.cp112.silkblade.pattern.silkweaver.MediumAttackPattern();
+            case "goldencocoon.PrecisionWeb": return new PrecisionWebPattern();
+            case "goldencocoon.BlossomingWeb": return new BlossomingWebPattern();
+            case "silkcicada.LowAttack": return new LowAttackPattern();
+            case "silkcicada.MediumAttack": return new swu.cp112.silkblade.pattern.silkcicada.MediumAttackPattern();
+            case "silkcicada.HighAttack": return new HighAttackPattern();
+            case "threadmancer.ThreadCage": return new ThreadCagePattern();
+            case "threadmancer.PhantomNeedle": return new PhantomNeedlePattern();
+            case "threadmancer.WeavingMatrix": return new WeavingMatrixPattern();
+            case "spiritoftheloom.Loom": return new LoomPattern(3);
+            case "crimsonsericulture.PrecisionNeedle": return new PrecisionNeedlePattern();
+            case "crimsonsericulture.Threadweaver": return new ThreadweaverPattern();
+            case "crimsonsericulture.PrismaticAssault": return new PrismaticAssaultPattern();
+            case "hundredsilkogre.OgreEvolution": return new OgreEvolutionPattern(3, 4);
+            case "silkgod.Telegraph": return new TelegraphPattern();
+            case "silkgod.Crossfire": return new CrossfirePattern();
+            case "silkgod.ConvergingStar": return new ConvergingStarPattern();
+            case "silkgod.RotatingStar": return new RotatingStarPattern();
+            case "silkgod.HomingExplosion": return new HomingExplosionPattern();
+            case "silkgod.FallenStar": return new FallenStarPattern();
+            default:
+                throw new IllegalArgumentException("Unknown pattern: " + id);
+        }
+    }
+}
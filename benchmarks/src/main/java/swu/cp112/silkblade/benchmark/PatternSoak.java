@@ -0,0 +1,300 @@
+package swu.cp112.silkblade.benchmark;
+
+import swu.cp112.silkblade.entity.combat.CombatRandom;
+import swu.cp112.silkblade.entity.combat.CombatSimulation;
+import swu.cp112.silkblade.entity.combat.Player;
+import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
+import swu.cp112.silkblade.entity.enemy.Enemy;
+import swu.cp112.silkblade.entity.enemy.EnemyRoster;
+import swu.cp112.silkblade.screen.StageSelectionScreen;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Soaks every enemy on every stage it appears on, through every one of its patterns, and
+ * fails when a run goes over one of the ceilings:
+ *
+ * <ul>
+ * <li>peak live bullets during a turn</li>
+ * <li>the slowest single {@code generateAttack} call</li>
+ * <li>heap still retained after a run once its bullets are gone, which catches patterns
+ * that hold on to bullets between volleys</li>
+ * <li>live textures during a run, and textures left behind after the enemy is disposed</li>
+ * </ul>
+ *
+ * <pre>
+ * ./gradlew benchmarks:soak
+ * ./gradlew benchmarks:soak -Pargs="--enemy SilkRevenant --seconds 600"
+ * </pre>
+ *
+ * The run is split across {@link #HP_LEVELS}: the enemy's HP is lowered to each level in turn
+ * so phases that start below an HP threshold, and the patterns they add, are soaked too.
+ *
+ * Every run starts from the same seed, so a regression reproduces on the next run.
+ * Exits with status 1 when any ceiling is exceeded, so it can gate a build.
+ */
+public class PatternSoak {
+    private static final float WARMUP_SECONDS = 10f;
+    private static final int COVERAGE_FACTOR = 4; // Runs may go this many times over to reach every pattern
+    // Fractions of max HP the enemy is lowered to, below every phase threshold in the game
+    private static final float[] HP_LEVELS = {1f, 0.75f, 0.5f, 0.25f, 0.1f};
+    private static final float PHASE_SETTLE_SECONDS = 5f; // Longer than any phase transition
+    private static final String NO_PATTERN = "(no pattern)";
+
+    // Ceilings, overridable from the command line
+    private int maxBullets = 5000;
+    private float maxSpawnMillis = 16.6f; // One frame at 60 FPS
+    private float maxRetainedMegabytes = 8f;
+    private int maxLiveTextures = 64;
+    private int maxLeakedTextures = 0;
+
+    private float seconds = 120f;
+    private float tickRate = 60f;
+    private String enemyFilter;
+    private int stageFilter = -1;
+    private long seed = 1L; // Fixed so a gated run is the same every time
+
+    private Player player;
+    private int failures;
+
+    /**
+     * Stats of one pattern over a run.
+     */
+    private static class PatternStats {
+        int turns;
+        int peakBullets;
+        long slowestSpawnNanos;
+    }
+
+    public static void main(String[] args) {
+        PatternSoak soak = new PatternSoak();
+        soak.parseArguments(args);
+
+        HeadlessGame.start();
+        long start = System.nanoTime();
+        int runs = soak.run();
+        double wallSeconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println();
+        System.out.println(runs + " runs in " + String.format("%.1f", wallSeconds) + " s, "
+            + soak.failures + " over a ceiling");
+        System.exit(soak.failures > 0 ? 1 : 0);
+    }
+
+    private int run() {
+        player = Player.loadFromFile();
+
+        // First use of the game code loads classes, static caches and bullet textures.
+        // Get that out of the way so it isn't reported against the first enemy.
+        for (String name : EnemyRoster.ENEMY_NAMES) {
+            if (isSelected(name)) {
+                soak(name, EnemyRoster.getFirstStage(name), WARMUP_SECONDS, false);
+            }
+        }
+
+        int runs = 0;
+        for (String name : EnemyRoster.ENEMY_NAMES) {
+            if (!isSelected(name)) {
+                continue;
+            }
+            // The secret boss doesn't scale with the stage, one run covers it
+            int lastStage = "DemoEnemy".equals(name) ? EnemyRoster.FIRST_STAGE : EnemyRoster.getLastStage(name);
+            for (int stage = EnemyRoster.getFirstStage(name); stage <= lastStage; stage++) {
+                if (stageFilter < 0 || stageFilter == stage) {
+                    soak(name, stage, seconds, true);
+                    runs++;
+                }
+            }
+        }
+        return runs;
+    }
+
+    private boolean isSelected(String name) {
+        return enemyFilter == null || enemyFilter.equals(name);
+    }
+
+    private void soak(String name, int stage, float runSeconds, boolean report) {
+        StageSelectionScreen.setCurrentChallengingStage(stage);
+        CombatRandom.begin(seed);
+        int texturesBefore = TextureCountingGL.getLiveTextures();
+        long heapBefore = usedHeapAfterGc();
+
+        Enemy enemy = EnemyRoster.create(name, stage);
+        player.fullHeal();
+        CombatSimulator simulator = new CombatSimulator(enemy, player, tickRate);
+        CombatSimulation simulation = simulator.getSimulation();
+
+        Map<String, PatternStats> patterns = new LinkedHashMap<>();
+        int patternCount = 0; // Most patterns the enemy had at once, phases add theirs on the way
+        int peakTextures = TextureCountingGL.getLiveTextures() - texturesBefore;
+        float elapsed = 0f;
+        float limit = runSeconds * COVERAGE_FACTOR;
+        float levelSeconds = runSeconds / HP_LEVELS.length;
+        for (int level = 0; level < HP_LEVELS.length; level++) {
+            lowerHp(enemy, simulator, HP_LEVELS[level]);
+            patternCount = Math.max(patternCount, patternCount(enemy));
+
+            float levelEnd = elapsed + levelSeconds;
+            boolean lastLevel = level == HP_LEVELS.length - 1;
+            while (elapsed < limit && (elapsed < levelEnd || lastLevel && patternsRun(patterns) < patternCount)) {
+                simulation.resetStats();
+                elapsed += simulator.runAttack((elapsed < levelEnd ? levelEnd : limit) - elapsed);
+                patternCount = Math.max(patternCount, patternCount(enemy));
+                peakTextures = Math.max(peakTextures, TextureCountingGL.getLiveTextures() - texturesBefore);
+                record(enemy, simulation, patterns);
+            }
+        }
+
+        // Anything the enemy and its patterns still hold once the bullets are gone is retained
+        simulation.getBullets().clear();
+        long retainedBytes = usedHeapAfterGc() - heapBefore;
+
+        if (enemy instanceof AbstractEnemy) {
+            ((AbstractEnemy) enemy).dispose();
+        }
+        int leakedTextures = TextureCountingGL.getLiveTextures() - texturesBefore;
+
+        if (report) {
+            report(name, stage, elapsed, patternCount, patterns, retainedBytes, peakTextures, leakedTextures);
+        }
+    }
+
+    /**
+     * Lowers the enemy's HP to the given fraction of its max and runs the simulation idle
+     * long enough for a phase change that starts to finish, so the next turns pick from the
+     * new phase's patterns.
+     */
+    private void lowerHp(Enemy enemy, CombatSimulator simulator, float fraction) {
+        enemy.setHP(Math.max(1, Math.min(enemy.getCurrentHP(), (int) (enemy.getMaxHP() * fraction))));
+        for (float settled = 0f; settled < PHASE_SETTLE_SECONDS; settled += 1f / tickRate) {
+            simulator.step();
+        }
+    }
+
+    private static int patternCount(Enemy enemy) {
+        return enemy instanceof AbstractEnemy ? ((AbstractEnemy) enemy).getAttackPatternCount() : 0;
+    }
+
+    /**
+     * Adds the turn that just ended to the stats of the pattern it used.
+     */
+    private static void record(Enemy enemy, CombatSimulation simulation, Map<String, PatternStats> patterns) {
+        String patternName = enemy.getCurrentPattern() != null ? enemy.getCurrentPattern().getPatternName() : NO_PATTERN;
+        PatternStats stats = patterns.get(patternName);
+        if (stats == null) {
+            stats = new PatternStats();
+            patterns.put(patternName, stats);
+        }
+        stats.turns++;
+        stats.peakBullets = Math.max(stats.peakBullets, simulation.getPeakBullets());
+        stats.slowestSpawnNanos = Math.max(stats.slowestSpawnNanos, simulation.getSlowestSpawnNanos());
+    }
+
+    /**
+     * Counts the enemy's patterns that ran at least one turn.
+     */
+    private static int patternsRun(Map<String, PatternStats> patterns) {
+        return patterns.containsKey(NO_PATTERN) ? patterns.size() - 1 : patterns.size();
+    }
+
+    private void report(String name, int stage, float elapsed, int patternCount, Map<String, PatternStats> patterns,
+                        long retainedBytes, int peakTextures, int leakedTextures) {
+        List<String> problems = new ArrayList<>();
+        if (patternsRun(patterns) < patternCount) {
+            problems.add("only " + patternsRun(patterns) + " of " + patternCount + " patterns ran");
+        }
+        double retainedMegabytes = retainedBytes / (1024.0 * 1024.0);
+        if (retainedMegabytes > maxRetainedMegabytes) {
+            problems.add("retained " + String.format("%.1f", retainedMegabytes) + " MB > " + maxRetainedMegabytes);
+        }
+        if (peakTextures > maxLiveTextures) {
+            problems.add(peakTextures + " live textures > " + maxLiveTextures);
+        }
+        if (leakedTextures > maxLeakedTextures) {
+            problems.add(leakedTextures + " textures leaked > " + maxLeakedTextures);
+        }
+
+        StringBuilder patternLines = new StringBuilder();
+        for (Map.Entry<String, PatternStats> entry : patterns.entrySet()) {
+            PatternStats stats = entry.getValue();
+            double spawnMillis = stats.slowestSpawnNanos / 1e6;
+            patternLines.append(String.format("    %-32s turns=%-4d peakBullets=%-6d slowestSpawn=%.2fms%n",
+                entry.getKey(), stats.turns, stats.peakBullets, spawnMillis));
+            if (stats.peakBullets > maxBullets) {
+                problems.add(entry.getKey() + ": " + stats.peakBullets + " bullets > " + maxBullets);
+            }
+            if (spawnMillis > maxSpawnMillis) {
+                problems.add(entry.getKey() + ": spawn " + String.format("%.2f", spawnMillis) + " ms > " + maxSpawnMillis);
+            }
+        }
+
+        System.out.println(String.format("%-20s stage %-3d %6.0f s  retained=%.1fMB textures=%d leaked=%d  %s",
+            name, stage, elapsed, retainedMegabytes, peakTextures, leakedTextures, problems.isEmpty() ? "OK" : "FAIL"));
+        System.out.print(patternLines);
+        for (String problem : problems) {
+            System.out.println("    FAIL: " + problem);
+        }
+        if (!problems.isEmpty()) {
+            failures++;
+        }
+    }
+
+    /**
+     * Collects garbage until the used heap settles and returns it.
+     */
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            long now = memory.getHeapMemoryUsage().getUsed();
+            if (now >= used) {
+                break;
+            }
+            used = now;
+        }
+        return used;
+    }
+
+    private void parseArguments(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (i + 1 >= args.length && arg.startsWith("--")) {
+                usage("Missing value for " + arg);
+            }
+            switch (arg) {
+                case "--enemy": enemyFilter = args[++i]; break;
+                case "--stage": stageFilter = Integer.parseInt(args[++i]); break;
+                case "--seconds": seconds = Float.parseFloat(args[++i]); break;
+                case "--tick-rate": tickRate = Float.parseFloat(args[++i]); break;
+                case "--seed": seed = Long.parseLong(args[++i]); break;
+                case "--max-bullets": maxBullets = Integer.parseInt(args[++i]); break;
+                case "--max-spawn-ms": maxSpawnMillis = Float.parseFloat(args[++i]); break;
+                case "--max-retained-mb": maxRetainedMegabytes = Float.parseFloat(args[++i]); break;
+                case "--max-textures": maxLiveTextures = Integer.parseInt(args[++i]); break;
+                case "--max-leaked-textures": maxLeakedTextures = Integer.parseInt(args[++i]); break;
+                default: usage("Unknown argument " + arg);
+            }
+        }
+        if (enemyFilter != null) {
+            try {
+                EnemyRoster.getFirstStage(enemyFilter);
+            } catch (IllegalArgumentException e) {
+                usage(e.getMessage());
+            }
+        }
+    }
+
+    private static void usage(String error) {
+        System.err.println(error);
+        System.err.println("Usage: PatternSoak [--enemy NAME] [--stage N] [--seconds S] [--tick-rate HZ] [--seed N]");
+        System.err.println("                   [--max-bullets N] [--max-spawn-ms MS] [--max-retained-mb MB]");
+        System.err.println("                   [--max-textures N] [--max-leaked-textures N]");
+        System.exit(2);
+    }
+}
@@ -0,0 +1,97 @@
+package swu.cp112.silkblade.benchmark;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import swu.cp112.silkblade.entity.combat.Player;
+import swu.cp112.silkblade.entity.item.ConsumableItem;
+import swu.cp112.silkblade.entity.item.Equipment;
+import swu.cp112.silkblade.entity.item.Inventory;
+import swu.cp112.silkblade.entity.item.ItemDatabase;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Player and Inventory persistence with a full inventory: JSON write and read as done by
+ * export/import and legacy saves, and the binary save file round trip.
+ * Each JSON operation uses a fresh {@link Json} like the game does.
+ * Scores are microseconds per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveBenchmark {
+    private static final String SAVE_FILE = "save/player_save.sav"; // Player.SAVE_FILE, under build/jmh
+
+    private Player player;
+    private String playerJson;
+    private String inventoryJson;
+
+    @Setup
+    public void setUp() {
+        HeadlessGame.start();
+        player = new Player("BENCH");
+        Inventory inventory = player.getInventory();
+        for (Equipment equipment : ItemDatabase.getInstance().getAllEquipment()) {
+            if (!inventory.addToInventory(equipment)) {
+                break;
+            }
+        }
+        for (ConsumableItem consumable : ItemDatabase.getInstance().getAllConsumables()) {
+            inventory.addConsumableItem(consumable);
+        }
+        playerJson = createJson().toJson(player);
+        inventoryJson = createJson().toJson(inventory);
+        player.saveToFile();
+    }
+
+    @Benchmark
+    public String playerJsonWrite() {
+        return createJson().toJson(player);
+    }
+
+    @Benchmark
+    public Player playerJsonRead() {
+        return createJson().fromJson(Player.class, playerJson);
+    }
+
+    @Benchmark
+    public String inventoryJsonWrite() {
+        return createJson().toJson(player.getInventory());
+    }
+
+    @Benchmark
+    public Inventory inventoryJsonRead() {
+        return createJson().fromJson(Inventory.class, inventoryJson);
+    }
+
+    @Benchmark
+    public void binarySave() {
+        player.saveToFile();
+    }
+
+    @Benchmark
+    public Player binaryLoad() throws IOException {
+        return Player.readSaveFile(Gdx.files.local(SAVE_FILE));
+    }
+
+    private static Json createJson() {
+        Json json = new Json();
+        json.setOutputType(JsonWriter.OutputType.json);
+        return json;
+    }
+}
@@ -0,0 +1,65 @@
+package swu.cp112.silkblade.benchmark;
+
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+/**
+ * A GL20 that does nothing except hand out texture handles and count the live ones.
+ * Textures created with a handle of 0 are never deleted by libGDX, so without real
+ * handles a leaked texture can't be told apart from a disposed one.
+ */
+final class TextureCountingGL {
+    private static int nextHandle = 1;
+    private static int liveTextures;
+
+    private TextureCountingGL() {
+    }
+
+    static GL20 create() {
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class},
+            new InvocationHandler() {
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) {
+                    switch (method.getName()) {
+                        case "glGenTexture":
+                            liveTextures++;
+                            return nextHandle++;
+                        case "glGenTextures":
+                            IntBuffer handles = (IntBuffer) args[1];
+                            for (int i = 0, n = (Integer) args[0]; i < n; i++) {
+                                liveTextures++;
+                                handles.put(handles.position() + i, nextHandle++);
+                            }
+                            return null;
+                        case "glDeleteTexture":
+                            liveTextures--;
+                            return null;
+                        case "glDeleteTextures":
+                            liveTextures -= (Integer) args[0];
+                            return null;
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                }
+            });
+    }
+
+    /**
+     * Gets the number of textures generated and not yet deleted.
+     */
+    static int getLiveTextures() {
+        return liveTextures;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == int.class) return 0;
+        if (type == boolean.class) return false;
+        if (type == float.class) return 0f;
+        if (type == long.class) return 0L;
+        return null;
+    }
+}
@@ -0,0 +1,266 @@
+package swu.cp112.silkblade.audio;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import swu.cp112.silkblade.util.GameLogger;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Owns every music track so screens don't open their own streams.
+ *
+ * A screen calls {@link #prepare} when it's constructed, which opens the track's stream on a
+ * background thread while the screen transition plays, then {@link #play} or {@link #restart}
+ * when it's shown. Only one track is current. Starting another crossfades into it.
+ *
+ * A track that stops playing stays open for {@link #GRACE_SECONDS}, so consecutive fights with
+ * the same track reuse the same {@link Music}. After that it is disposed, unless it was
+ * marked with {@link #keepLoaded}.
+ */
+public final class MusicManager {
+    private static final float CROSSFADE_SECONDS = 0.75f;
+    private static final float GRACE_SECONDS = 10f;
+    private static final float MAX_DELTA = 0.1f; // A long frame shouldn't skip a whole fade
+
+    private static class Track {
+        final String path;
+        Future<Music> pending;
+        Music music;
+        float volume;
+        float fade; // 0 is silent, 1 is full volume
+        float fadeDirection; // 1 fading in, -1 fading out, 0 steady
+        float idleSeconds;
+        boolean keepLoaded;
+
+        Track(String path) {
+            this.path = path;
+        }
+    }
+
+    private static final ObjectMap<String, Track> tracks = new ObjectMap<>();
+    private static final Array<Track> disposed = new Array<>(false, 4);
+    private static Track current;
+    private static ExecutorService loader;
+
+    private MusicManager() {
+    }
+
+    /**
+     * Starts opening a track in the background so playing it later doesn't stall the frame.
+     */
+    public static void prepare(final String path) {
+        Track track = tracks.get(path);
+        if (track != null) {
+            track.idleSeconds = 0f;
+            return;
+        }
+        track = new Track(path);
+        tracks.put(path, track);
+        if (loader == null) {
+            loader = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "MusicLoader");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        // Opening a stream reads and parses the file but doesn't touch OpenAL, so it's safe off the GL thread
+        track.pending = loader.submit(new Callable<Music>() {
+            @Override
+            public Music call() {
+                return Gdx.audio.newMusic(Gdx.files.internal(path));
+            }
+        });
+    }
+
+    /**
+     * Never disposes the track, for music that comes back often such as the menu music.
+     */
+    public static void keepLoaded(String path) {
+        prepare(path);
+        tracks.get(path).keepLoaded = true;
+    }
+
+    /**
+     * Makes the track current and fades it in, carrying on from where it was paused.
+     * Does nothing when it is already playing.
+     */
+    public static void play(String path, float volume) {
+        start(path, volume, false);
+    }
+
+    /**
+     * Makes the track current and fades it in from the beginning.
+     */
+    public static void restart(String path, float volume) {
+        start(path, volume, true);
+    }
+
+    private static void start(String path, float volume, boolean fromBeginning) {
+        prepare(path);
+        Track track = tracks.get(path);
+        Music music = await(track);
+        if (music == null) {
+            tracks.remove(path); // Couldn't be opened, the next call tries again
+            return;
+        }
+        if (current != null && current != track) {
+            current.fadeDirection = -1f;
+        }
+        current = track;
+        track.volume = volume;
+        track.idleSeconds = 0f;
+        if (fromBeginning && (music.isPlaying() || music.getPosition() > 0f)) {
+            music.stop();
+            track.fade = 0f;
+        }
+        if (!music.isPlaying()) {
+            music.setLooping(true);
+            music.setVolume(0f);
+            music.play();
+        }
+        track.fadeDirection = track.fade < 1f ? 1f : 0f;
+        music.setVolume(volume * track.fade);
+    }
+
+    /**
+     * Fades the track out. A track marked with {@link #keepLoaded} carries on where it
+     * left off when it's played again, others start over.
+     */
+    public static void stop(String path) {
+        Track track = tracks.get(path);
+        if (track == null) {
+            return;
+        }
+        if (track == current) {
+            current = null;
+        }
+        if (track.music != null && track.music.isPlaying()) {
+            track.fadeDirection = -1f;
+        }
+    }
+
+    /**
+     * Whether a track is fading in or out, which needs a frame every frame.
+     */
+    public static boolean isFading() {
+        for (Track track : tracks.values()) {
+            if (track.fadeDirection != 0f) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Changes the volume of a track, whether or not it's playing.
+     */
+    public static void setVolume(String path, float volume) {
+        Track track = tracks.get(path);
+        if (track != null) {
+            track.volume = volume;
+            if (track.music != null) {
+                track.music.setVolume(volume * track.fade);
+            }
+        }
+    }
+
+    /**
+     * Advances fades and disposes tracks that have gone unused. Called once per frame.
+     */
+    public static void update(float delta) {
+        delta = Math.min(delta, MAX_DELTA);
+        for (Track track : tracks.values()) {
+            if (track.pending != null) {
+                if (!track.pending.isDone()) {
+                    continue;
+                }
+                await(track);
+            }
+            if (track.music == null) {
+                disposed.add(track); // Couldn't be opened
+                continue;
+            }
+
+            if (track.fadeDirection != 0f) {
+                track.fade += track.fadeDirection * delta / CROSSFADE_SECONDS;
+                if (track.fade >= 1f) {
+                    track.fade = 1f;
+                    track.fadeDirection = 0f;
+                } else if (track.fade <= 0f) {
+                    track.fade = 0f;
+                    track.fadeDirection = 0f;
+                    // Pausing holds on to an OpenAL source, only tracks that stay loaded keep their place
+                    if (track.keepLoaded) {
+                        track.music.pause();
+                    } else {
+                        track.music.stop();
+                    }
+                }
+                track.music.setVolume(track.volume * track.fade);
+            }
+
+            if (track == current || track.music.isPlaying() || track.keepLoaded) {
+                track.idleSeconds = 0f;
+            } else if ((track.idleSeconds += delta) >= GRACE_SECONDS) {
+                disposed.add(track);
+            }
+        }
+
+        for (int i = 0; i < disposed.size; i++) {
+            Track track = disposed.get(i);
+            tracks.remove(track.path);
+            if (track.music != null) {
+                track.music.dispose();
+            }
+        }
+        disposed.clear();
+    }
+
+    /**
+     * Waits for a track's stream to be opened.
+     *
+     * @return the track's music, or null if it couldn't be opened
+     */
+    private static Music await(Track track) {
+        if (track.pending == null) {
+            return track.music;
+        }
+        try {
+            track.music = track.pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            GameLogger.logError("Failed to load music " + track.path, e.getCause());
+        }
+        track.pending = null;
+        return track.music;
+    }
+
+    /**
+     * Disposes every track. Called when the game exits.
+     */
+    public static void dispose() {
+        for (Track track : tracks.values()) {
+            Music music = await(track);
+            if (music != null) {
+                music.dispose();
+            }
+        }
+        tracks.clear();
+        current = null;
+        if (loader != null) {
+            loader.shutdownNow();
+            loader = null;
+        }
+    }
+}
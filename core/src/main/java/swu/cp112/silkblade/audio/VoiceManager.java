@@ -0,0 +1,275 @@
+package swu.cp112.silkblade.audio;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import swu.cp112.silkblade.util.GameLogger;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+
+/**
+ * Plays sounds that can be triggered many times a frame, such as bullet explosions and hits.
+ *
+ * Plays are queued and started once per frame by {@link #update()}. Plays of the same sound in
+ * one frame become a single, slightly louder play. Each sound has its own voice limit, and
+ * all managed sounds together share {@link #MAX_VOICES}. When a sound is at its limit, its
+ * oldest voice is cut. When every voice is taken, the oldest voice of the lowest priority
+ * is cut, but only if its priority isn't higher than the new sound's.
+ *
+ * Only sounds loaded through {@link #load} are managed. Other sounds play immediately.
+ */
+public final class VoiceManager {
+    public static final int PRIORITY_LOW = 0;
+    public static final int PRIORITY_NORMAL = 1;
+    public static final int PRIORITY_HIGH = 2;
+
+    private static final int MAX_VOICES = 12; // The desktop backend has 16 sources, music and menu sounds need the rest
+    private static final float LOUDNESS_PER_DOUBLING = 0.25f; // Volume added each time the plays in a frame double
+    private static final float UNKNOWN_SECONDS = 1f; // How long a voice is assumed to last when the file can't tell
+
+    /**
+     * A managed sound and its plays queued this frame.
+     */
+    private static class ManagedSound {
+        final Sound sound;
+        final int maxVoices;
+        final int priority;
+        final float seconds;
+        int requests;
+        float volume;
+        float pitch;
+
+        ManagedSound(Sound sound, int maxVoices, int priority, float seconds) {
+            this.sound = sound;
+            this.maxVoices = maxVoices;
+            this.priority = priority;
+            this.seconds = seconds;
+        }
+    }
+
+    private static class Voice {
+        ManagedSound owner;
+        long id;
+        long startNanos;
+        long endNanos;
+    }
+
+    private static final Comparator<ManagedSound> HIGHEST_PRIORITY_FIRST = new Comparator<ManagedSound>() {
+        @Override
+        public int compare(ManagedSound a, ManagedSound b) {
+            return b.priority - a.priority;
+        }
+    };
+
+    private static final ObjectMap<Sound, ManagedSound> sounds = new ObjectMap<>();
+    private static final Array<ManagedSound> queued = new Array<>(false, 16);
+    private static final Voice[] voices = new Voice[MAX_VOICES];
+    private static int voiceCount;
+
+    static {
+        for (int i = 0; i < voices.length; i++) {
+            voices[i] = new Voice();
+        }
+    }
+
+    private VoiceManager() {
+    }
+
+    /**
+     * Loads a sound whose plays are managed.
+     *
+     * @param maxVoices how many copies of the sound may play at once
+     * @param priority one of the {@code PRIORITY_} constants
+     */
+    public static Sound load(FileHandle file, int maxVoices, int priority) {
+        Sound sound = Gdx.audio.newSound(file);
+        sounds.put(sound, new ManagedSound(sound, maxVoices, priority, readSeconds(file)));
+        return sound;
+    }
+
+    public static void play(Sound sound, float volume) {
+        play(sound, volume, 1f);
+    }
+
+    /**
+     * Queues a play of the sound for the end of this frame. When the sound is played more
+     * than once this frame, the loudest play's pitch is used.
+     */
+    public static void play(Sound sound, float volume, float pitch) {
+        ManagedSound managed = sounds.get(sound);
+        if (managed == null) {
+            sound.play(volume, pitch, 0f);
+            return;
+        }
+        if (managed.requests == 0) {
+            queued.add(managed);
+            managed.volume = volume;
+            managed.pitch = pitch;
+        } else if (volume > managed.volume) {
+            managed.volume = volume;
+            managed.pitch = pitch;
+        }
+        managed.requests++;
+    }
+
+    /**
+     * Starts the plays queued this frame. Called once per frame after the screen renders.
+     */
+    public static void update() {
+        long now = TimeUtils.nanoTime();
+        for (int i = voiceCount - 1; i >= 0; i--) {
+            if (voices[i].endNanos <= now) {
+                removeVoice(i);
+            }
+        }
+        if (queued.size == 0) {
+            return;
+        }
+
+        queued.sort(HIGHEST_PRIORITY_FIRST);
+        for (int i = 0; i < queued.size; i++) {
+            ManagedSound managed = queued.get(i);
+            float volume = managed.volume * (1f + LOUDNESS_PER_DOUBLING * (float) (Math.log(managed.requests) / Math.log(2)));
+            start(managed, Math.min(volume, 1f), now);
+            managed.requests = 0;
+        }
+        queued.clear();
+    }
+
+    private static void start(ManagedSound managed, float volume, long now) {
+        int playing = 0;
+        int oldestOwn = -1;
+        for (int i = 0; i < voiceCount; i++) {
+            if (voices[i].owner == managed) {
+                playing++;
+                if (oldestOwn < 0 || voices[i].startNanos < voices[oldestOwn].startNanos) {
+                    oldestOwn = i;
+                }
+            }
+        }
+
+        if (playing >= managed.maxVoices) {
+            stopVoice(oldestOwn);
+        } else if (voiceCount >= MAX_VOICES) {
+            int victim = -1;
+            for (int i = 0; i < voiceCount; i++) {
+                Voice voice = voices[i];
+                if (voice.owner.priority > managed.priority) {
+                    continue;
+                }
+                if (victim < 0 || voice.owner.priority < voices[victim].owner.priority
+                    || (voice.owner.priority == voices[victim].owner.priority && voice.startNanos < voices[victim].startNanos)) {
+                    victim = i;
+                }
+            }
+            if (victim < 0) {
+                return; // Everything playing matters more
+            }
+            stopVoice(victim);
+        }
+
+        long id = managed.sound.play(volume, managed.pitch, 0f);
+        if (id == -1) {
+            return; // The backend is out of sources
+        }
+        Voice voice = voices[voiceCount++];
+        voice.owner = managed;
+        voice.id = id;
+        voice.startNanos = now;
+        voice.endNanos = now + (long) (managed.seconds / managed.pitch * 1e9);
+    }
+
+    private static void stopVoice(int index) {
+        Voice voice = voices[index];
+        voice.owner.sound.stop(voice.id);
+        removeVoice(index);
+    }
+
+    private static void removeVoice(int index) {
+        // Swap the freed voice to the end so the live voices stay packed
+        Voice voice = voices[index];
+        voices[index] = voices[voiceCount - 1];
+        voices[voiceCount - 1] = voice;
+        voice.owner = null;
+        voiceCount--;
+    }
+
+    /**
+     * Stops every voice of the sound and drops its queued plays.
+     */
+    public static void stop(Sound sound) {
+        ManagedSound managed = sounds.get(sound);
+        if (managed == null) {
+            sound.stop();
+            return;
+        }
+        for (int i = voiceCount - 1; i >= 0; i--) {
+            if (voices[i].owner == managed) {
+                stopVoice(i);
+            }
+        }
+        if (managed.requests > 0) {
+            queued.removeValue(managed, true);
+            managed.requests = 0;
+        }
+    }
+
+    /**
+     * Stops and disposes a sound loaded with {@link #load}.
+     */
+    public static void unload(Sound sound) {
+        stop(sound);
+        sounds.remove(sound);
+        sound.dispose();
+    }
+
+    /**
+     * Disposes every sound still loaded. Called when the game exits.
+     */
+    public static void dispose() {
+        for (ManagedSound managed : sounds.values()) {
+            managed.sound.dispose();
+        }
+        sounds.clear();
+        queued.clear();
+        voiceCount = 0;
+    }
+
+    /**
+     * Reads how long a WAV file plays from its header.
+     */
+    private static float readSeconds(FileHandle file) {
+        if (!"wav".equalsIgnoreCase(file.extension())) {
+            return UNKNOWN_SECONDS;
+        }
+        try {
+            byte[] bytes = file.readBytes();
+            ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+            int byteRate = 0;
+            int position = 12; // Past "RIFF", the file size and "WAVE"
+            while (position + 8 <= bytes.length) {
+                String chunk = new String(bytes, position, 4, StandardCharsets.US_ASCII);
+                int size = buffer.getInt(position + 4);
+                if ("fmt ".equals(chunk) && position + 20 <= bytes.length) {
+                    byteRate = buffer.getInt(position + 16);
+                } else if ("data".equals(chunk) && byteRate > 0) {
+                    return size / (float) byteRate;
+                }
+                if (size < 0) {
+                    break;
+                }
+                position += 8 + size + (size & 1);
+            }
+        } catch (GdxRuntimeException e) {
+            GameLogger.logError("Failed to read the length of " + file.path(), e);
+        }
+        return UNKNOWN_SECONDS;
+    }
+}
@@ -1,19 +1,42 @@
 package swu.cp112.silkblade.core;
 
-import swu.cp112.silkblade.entity.item.ItemDatabase;
+import swu.cp112.silkblade.audio.MusicManager;
+import swu.cp112.silkblade.audio.VoiceManager;
+import swu.cp112.silkblade.entity.combat.BulletTextures;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
+import swu.cp112.silkblade.entity.combat.Player;
+import swu.cp112.silkblade.entity.combat.QualityGovernor;
+import swu.cp112.silkblade.entity.enemy.EnemyRoster;
+import swu.cp112.silkblade.input.AutopilotInput;
+import swu.cp112.silkblade.input.CombatRecording;
+import swu.cp112.silkblade.screen.BootScreen;
+import swu.cp112.silkblade.screen.CombatScene;
+import swu.cp112.silkblade.screen.FrameBufferPool;
 import swu.cp112.silkblade.screen.MainMenuScreen;
+import swu.cp112.silkblade.screen.OnDemandScreen;
 import swu.cp112.silkblade.screen.OptionsScreen;
 import swu.cp112.silkblade.screen.SaveFileSelectionScreen;
+import swu.cp112.silkblade.screen.ScreenManager;
+import swu.cp112.silkblade.screen.StageSelectionScreen;
+import swu.cp112.silkblade.util.FrameProfiler;
+import swu.cp112.silkblade.util.GameClock;
 import swu.cp112.silkblade.util.GameLogger;
+import swu.cp112.silkblade.util.HitchMonitor;
+import swu.cp112.silkblade.util.SharedTextures;
+import swu.cp112.silkblade.util.StartupTimeline;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.Timer;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 
+import java.io.File;
+
 /**
  * Main game class that handles initialization and core game components.
  */
@@ -39,8 +62,10 @@ public class Main extends Game {
      */
     private static OrthographicCamera camera;
     private static FitViewport viewport;
-    private static Music backgroundMusic;
     private static Game gameInstance;
+
+    // Wakes an on-demand screen for its next animation step, created once the app exists
+    private Timer.Task nextFrameTask;
     
     /**
      * Audio settings
@@ -55,15 +80,16 @@ public class Main extends Game {
     public void create() {
         try {
             GameLogger.logInfo("Initializing game...");
+            StartupTimeline.mark("create");
             
             // Store reference to game instance
             gameInstance = this;
 
-            // Initialize core systems
+            // Initialize core systems, the item database is built by the boot screen
             initializeGraphics();
-            initializeItemDatabase();
             initializeAudio();
             initializeOptions();
+            StartupTimeline.mark("options applied");
 
             // Create save directory if it doesn't exist
             FileHandle saveDir = Gdx.files.local("save");
@@ -71,8 +97,13 @@ public class Main extends Game {
                 saveDir.mkdirs();
             }
 
-            // Set initial screen
-            setInitialScreen();
+            // Preload on worker threads behind a progress bar, then set the initial screen
+            setScreen(new BootScreen(new Runnable() {
+                @Override
+                public void run() {
+                    setInitialScreen();
+                }
+            }));
 
             GameLogger.logInfo("Game initialized successfully");
         } catch (Exception e) {
@@ -94,24 +125,115 @@ public class Main extends Game {
     @Override
     public void render() {
         try {
-            super.render();
+            if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+                FrameProfiler.toggle();
+            }
+            HitchMonitor.frame();
+            FrameProfiler.beginFrame();
+            float delta = GameClock.beginFrame(Gdx.graphics.getDeltaTime(), !Gdx.graphics.isContinuousRendering());
+            Screen screen = getScreen();
+            if (screen != null) {
+                screen.render(delta);
+                if (!StartupTimeline.isFinished() && !(screen instanceof BootScreen)) {
+                    StartupTimeline.finish("first interactive frame");
+                }
+            }
+            VoiceManager.update();
+            MusicManager.update(delta); // Clamped like the screens, so a stall doesn't skip a fade
+            FrameProfiler.endFrame();
+            FrameProfiler.renderOverlay();
+            updateRenderingMode();
         } catch (Exception e) {
             GameLogger.logError("Error during game render", e);
             Gdx.app.exit();
         }
     }
 
+    /**
+     * Renders continuously unless the screen is an idle OnDemandScreen, in which case the next
+     * frame comes from input or from a timer set for the screen's next animation step.
+     */
+    private void updateRenderingMode() {
+        if (GameClock.isSuspended()) {
+            return; // Stays off until resume()
+        }
+        float delay = OnDemandScreen.EVERY_FRAME;
+        if (getScreen() instanceof OnDemandScreen && !FrameProfiler.isEnabled() && !MusicManager.isFading()) {
+            delay = ((OnDemandScreen) getScreen()).getNextFrameDelay();
+        }
+
+        boolean continuous = delay == OnDemandScreen.EVERY_FRAME;
+        if (Gdx.graphics.isContinuousRendering() != continuous) {
+            Gdx.graphics.setContinuousRendering(continuous);
+        }
+        if (nextFrameTask == null) {
+            nextFrameTask = new Timer.Task() {
+                @Override
+                public void run() {
+                    Gdx.graphics.requestRendering();
+                }
+            };
+        }
+        nextFrameTask.cancel();
+        if (!continuous) {
+            // The gap until the next frame is idle time, not a hitch
+            HitchMonitor.resetFrameTiming();
+            if (Gdx.input.isKeyJustPressed(Input.Keys.ANY_KEY) || Gdx.input.justTouched()) {
+                // Menus draw before they handle input, one more frame shows what the key changed
+                Gdx.graphics.requestRendering();
+            } else if (delay > 0f) {
+                Timer.schedule(nextFrameTask, delay);
+            }
+        }
+    }
+
+    /**
+     * Called when the window is minimized. Stops rendering, the game clock and the Timer
+     * tasks, so a fight is exactly where it was left when the window comes back.
+     */
+    @Override
+    public void pause() {
+        super.pause();
+        GameClock.suspend();
+        Timer.instance().stop();
+        Gdx.graphics.setContinuousRendering(false);
+        GameLogger.logInfo("Window minimized, game suspended");
+    }
+
+    @Override
+    public void resume() {
+        GameClock.resume();
+        Timer.instance().start();
+        Gdx.graphics.setContinuousRendering(true);
+        super.resume();
+        GameLogger.logInfo("Window restored, game resumed");
+    }
+
+    @Override
+    public void setScreen(Screen screen) {
+        Screen previous = getScreen();
+        super.setScreen(screen);
+        ScreenManager.screenChanged(previous, screen);
+    }
+
     @Override
     public void dispose() {
         try {
             super.dispose();
-            if (backgroundMusic != null) {
-                backgroundMusic.dispose();
-            }
+            ScreenManager.dispose();
+            FrameBufferPool.dispose();
+            BulletTextures.disposeAll();
+            SharedTextures.dispose();
+            MusicManager.dispose();
+            FrameProfiler.dispose();
+            VoiceManager.dispose();
+            HitchMonitor.dispose();
             GameLogger.logInfo("Game disposed successfully");
         } catch (Exception e) {
             GameLogger.logError("Error during game disposal", e);
         }
+        // Write out anything still queued before the process exits
+        GameLogger.shutdown();
     }
 
     /**
@@ -128,24 +250,13 @@ public class Main extends Game {
         camera.update();
     }
 
-    /**
-     * Initialize the item database to ensure items are loaded
-     */
-    private void initializeItemDatabase() {
-        GameLogger.logInfo("Initializing item database...");
-        ItemDatabase.getInstance(); // This initializes the singleton
-        GameLogger.logInfo("Item database initialized");
-    }
-
     /**
      * Initialize global audio
      */
     private void initializeAudio() {
         GameLogger.logInfo("Initializing audio...");
-        backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal(AudioConfig.MAIN_MUSIC_PATH));
-        backgroundMusic.setLooping(true);
-        backgroundMusic.setVolume(AudioConfig.MUSIC_VOLUME);
-        backgroundMusic.play();
+        MusicManager.keepLoaded(AudioConfig.MAIN_MUSIC_PATH);
+        MusicManager.play(AudioConfig.MAIN_MUSIC_PATH, musicVolume);
         GameLogger.logInfo("Audio initialized");
     }
 
@@ -215,10 +326,50 @@ public class Main extends Game {
         if (settings.fullscreen) {
             Gdx.graphics.setFullscreenMode(Gdx.graphics.getDisplayMode());
         }
+
+        QualityGovernor.setMode(settings.bulletQuality);
     }
 
     private void setInitialScreen() {
-        setScreen(new MainMenuScreen(this));
+        String replayPath = System.getProperty("silkblade.replay");
+        if (replayPath != null && startReplay(replayPath)) {
+            return;
+        }
+        int autopilotStage = AutopilotInput.getStartStage();
+        if (autopilotStage >= 0) {
+            startAutopilot(autopilotStage);
+            return;
+        }
+        setScreen(ScreenManager.obtain(MainMenuScreen.class, this));
+    }
+
+    /**
+     * Starts a stage's fight with the autopilot playing it. The game exits when the fight ends
+     * and, like a replay, never writes the save file.
+     */
+    private void startAutopilot(int stage) {
+        Player.setSavingEnabled(false);
+        StageSelectionScreen.setCurrentChallengingStage(stage);
+        CombatRandom.begin(CombatRandom.newSeed());
+        setScreen(new CombatScene(this, EnemyRoster.forStage(stage)));
+    }
+
+    /**
+     * Plays a combat recording instead of opening the menu. The game exits when the replay ends
+     * and the save file is never written, so replaying can't change the player's progress.
+     */
+    private boolean startReplay(String path) {
+        try {
+            FileHandle file = new File(path).isAbsolute() ? Gdx.files.absolute(path) : Gdx.files.local(path);
+            CombatRecording recording = CombatRecording.read(file);
+            Player.setSavingEnabled(false);
+            setScreen(CombatScene.forReplay(this, recording));
+            return true;
+        } catch (Exception e) {
+            GameLogger.logError("Failed to start replay " + path, e);
+            Player.setSavingEnabled(true);
+            return false;
+        }
     }
 
     private void updateViewport(int width, int height) {
@@ -246,32 +397,21 @@ public class Main extends Game {
     }
 
     /**
-     * Music management methods
+     * Music management methods, the menu music fades in and out through the MusicManager
      */
-    public static Music getBackgroundMusic() {
-        return backgroundMusic;
-    }
-
     public static void pauseBackgroundMusic() {
-        if (backgroundMusic != null && backgroundMusic.isPlaying()) {
-            backgroundMusic.pause();
-        }
+        MusicManager.stop(AudioConfig.MAIN_MUSIC_PATH);
     }
 
     public static void resumeBackgroundMusic() {
-        if (backgroundMusic != null && !backgroundMusic.isPlaying()) {
-            backgroundMusic.play();
-        }
+        MusicManager.play(AudioConfig.MAIN_MUSIC_PATH, musicVolume);
     }
 
     /**
      * Restarts the background music from the beginning
      */
     public static void restartBackgroundMusic() {
-        if (backgroundMusic != null) {
-            backgroundMusic.stop();
-            backgroundMusic.play();
-        }
+        MusicManager.restart(AudioConfig.MAIN_MUSIC_PATH, musicVolume);
     }
     
     /**
@@ -279,9 +419,7 @@ public class Main extends Game {
      */
     public static void setMusicVolume(float volume) {
         musicVolume = volume;
-        if (backgroundMusic != null) {
-            backgroundMusic.setVolume(musicVolume);
-        }
+        MusicManager.setVolume(AudioConfig.MAIN_MUSIC_PATH, musicVolume);
     }
     
     public static float getMusicVolume() {
@@ -11,6 +11,7 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.Texture;
+import swu.cp112.silkblade.util.GameEvents;
 
 
 public class Bullet {
@@ -44,6 +45,9 @@ public class Bullet {
 
     // Visual properties
     private Color color;
+    private final Color animatedColor = new Color(); // Rainbow and disco colors are written here instead of allocated
+    private final Color displayColor = new Color();
+    private float colorUpdateTimer = 0f;
     private float[][] trailPositions;
     private float trailTimer = 0f;
 
@@ -511,22 +515,26 @@ public class Bullet {
     }
 
     public Color getColor() {
+        return displayColor().cpy();
+    }
+
+    /**
+     * Gets the color the bullet is drawn with right now. The color is reused, copy it to keep it.
+     */
+    private Color displayColor() {
         if (hasExplosionTimer()) {
             // Flash between original color and white when about to explode
             // Make the flashing faster as the explosion approaches
             float flashSpeed = 100 + (1 - slowdownFactor) * 300; // Faster flashing as it slows down
             boolean isWhiteFrame = ((System.currentTimeMillis() / (long) flashSpeed) % 2 == 0);
 
-            // Return white for the flash frames, original color otherwise
-            Color result = isWhiteFrame ? Color.WHITE.cpy() : color.cpy();
-            result.a = alpha; // Maintain the current alpha
-            return result;
+            // White for the flash frames, original color otherwise
+            displayColor.set(isWhiteFrame ? Color.WHITE : color);
+        } else {
+            displayColor.set(color);
         }
-
-        // Normal case - just return the color with current alpha
-        Color c = color.cpy();
-        c.a = alpha;
-        return c;
+        displayColor.a = alpha;
+        return displayColor;
     }
     public float getAlpha() {
         return alpha;
@@ -608,9 +616,7 @@ public class Bullet {
 
         // Immediately trigger explosion if duration is 0
         if (duration <= 0) {
-            if (onExplodeCallback != null) {
-                onExplodeCallback.run();
-            }
+            runExplodeCallback();
             destroy();
         }
     }
@@ -838,8 +844,13 @@ public class Bullet {
         if (isRainbow) {
             // Update rainbow hue
             rainbowHue = (rainbowHue + delta * rainbowSpeed) % 1f;
-            // Convert HSV to RGB and update color
-            this.color = hsvToRGB(rainbowHue, rainbowSaturation, rainbowValue);
+            if (isColorUpdateDue(delta)) {
+                // Convert HSV to RGB and update color
+                float a = color.a;
+                hsvToRGB(rainbowHue, rainbowSaturation, rainbowValue, animatedColor);
+                animatedColor.a = a;
+                this.color = animatedColor;
+            }
             return;
         }
 
@@ -848,9 +859,12 @@ public class Bullet {
         }
 
         discoTimer += delta;
+        if (!isColorUpdateDue(delta)) {
+            return;
+        }
 
-        // Create a copy of the original color to modify
-        Color updatedColor = new Color(baseR, baseG, baseB, color.a);
+        // Start from the base color, written into the bullet's own color so nothing is allocated
+        Color updatedColor = animatedColor.set(baseR, baseG, baseB, color.a);
 
         // Update the color components that should be animated
         if (discoR) {
@@ -870,18 +884,37 @@ public class Bullet {
         this.color = updatedColor;
     }
 
+    /**
+     * Whether animated colors should be recomputed this update. The quality governor spaces
+     * the updates out when frames are running long.
+     */
+    private boolean isColorUpdateDue(float delta) {
+        colorUpdateTimer += delta;
+        if (colorUpdateTimer < QualityGovernor.getColorUpdateInterval()) {
+            return false;
+        }
+        colorUpdateTimer = 0f;
+        return true;
+    }
+
     public void updateExplosion(float delta) {
         if (explosionTimer > 0) {
             explosionTimer -= delta;
             if (explosionTimer <= 0) {
-                if (onExplodeCallback != null) {
-                    onExplodeCallback.run();
-                }
+                runExplodeCallback();
                 destroy();
             }
         }
     }
 
+    private void runExplodeCallback() {
+        if (onExplodeCallback != null) {
+            Object event = GameEvents.begin(GameEvents.Kind.EXPLOSION_SPAWN);
+            onExplodeCallback.run();
+            GameEvents.end(event, null, spawnedBullets.size());
+        }
+    }
+
     private void checkPlayerPassing(float playerY) {
         if (!hasPassedPlayer) {
             if ((lastY > playerY && y <= playerY) ||
@@ -1428,6 +1461,15 @@ public class Bullet {
 
     // Add this method to convert HSV to RGB
     private Color hsvToRGB(float h, float s, float v) {
+        Color rgb = new Color(0, 0, 0, color.a);
+        hsvToRGB(h, s, v, rgb);
+        return rgb;
+    }
+
+    /**
+     * Converts HSV to RGB into an existing color, leaving its alpha alone.
+     */
+    private void hsvToRGB(float h, float s, float v, Color out) {
         float r, g, b;
         int i = (int) (h * 6);
         float f = h * 6 - i;
@@ -1443,7 +1485,9 @@ public class Bullet {
             case 4: r = t; g = p; b = v; break;
             default: r = v; g = p; b = q; break;
         }
-        return new Color(r, g, b, color.a);
+        out.r = r;
+        out.g = g;
+        out.b = b;
     }
 
     // Add this method to enable rainbow effect
@@ -1459,7 +1503,7 @@ public class Bullet {
     public void drawWithSpriteBatch(SpriteBatch batch) {
         if (!useTextures) return;
 
-        Color bulletDisplayColor = getColor(); // Use getColor() which handles explosion blinking
+        Color bulletDisplayColor = displayColor(); // Handles explosion blinking
 
         // Draw glow first (underneath)
         if (isGlowing && glowSprite != null) {
@@ -1487,8 +1531,9 @@ public class Bullet {
             float currentGlowWidth = width * glowSizeMultiplier;
             float currentGlowHeight = height * glowSizeMultiplier;
 
-            // Draw multiple layers of increasingly transparent glow
-            for (int i = 0; i < 4; i++) {
+            // Draw multiple layers of increasingly transparent glow, as many as the quality level allows
+            int glowLayerCount = QualityGovernor.getGlowLayers(4);
+            for (int i = 0; i < glowLayerCount; i++) {
                 // Each layer gets progressively larger but more transparent
                 float layerWidth = currentGlowWidth * (1.0f + (i * 0.25f));
                 float layerHeight = currentGlowHeight * (1.0f + (i * 0.25f));
@@ -1559,7 +1604,10 @@ public class Bullet {
             movementRotation = MathUtils.atan2(velocityY, velocityX) * MathUtils.radiansToDegrees - 90;
         }
 
-        for (int i = 0; i < trail.length; i++) {
+        // Lower quality levels skip samples, the trail keeps its length with fewer segments
+        int stride = QualityGovernor.getTrailStride();
+        int trailGlowLayers = QualityGovernor.getTrailGlowLayers(3);
+        for (int i = 0; i < trail.length; i += stride) {
             float progress = (float)i / trail.length;
             // Base alpha for trail - uses same formula as standard TRAIL_ALPHA
             float trailAlpha = (1.0f - progress) * TRAIL_ALPHA * alpha;
@@ -1595,7 +1643,7 @@ public class Bullet {
 
             // Handle explosion blinking for trail
             if (hasExplosionTimer()) {
-                Color flashingColor = getColor();
+                Color flashingColor = displayColor();
                 trailColor.r = flashingColor.r;
                 trailColor.g = flashingColor.g;
                 trailColor.b = flashingColor.b;
@@ -1608,7 +1656,7 @@ public class Bullet {
 
                 if (hasExplosionTimer()) {
                     // Make trail glow flash with the bullet
-                    glowTrailColor = getColor().cpy();
+                    glowTrailColor = displayColor().cpy();
                 } else if (rainbowGlow) {
                     // Rainbow effect - shift hue over time and along trail
                     float baseHue = getHue(glowColor != null ? glowColor : color);
@@ -1637,7 +1685,7 @@ public class Bullet {
                 float baseTrailGlowAlpha = trailAlpha * 0.6f * glowIntensity;
 
                 // Draw multiple diffused layers
-                for (int j = 0; j < 3; j++) {
+                for (int j = 0; j < trailGlowLayers; j++) {
                     float layerWidth = glowTrailWidth * (1.0f + (j * 0.25f));
                     float layerHeight = glowTrailHeight * (1.0f + (j * 0.25f));
                     float layerAlpha = baseTrailGlowAlpha * (0.7f - (j * 0.15f));
@@ -1681,7 +1729,7 @@ public class Bullet {
      * This is called only for glowing bullets in the second render pass
      */
     public void drawAdditionalGlowPass(SpriteBatch batch) {
-        if (!useTextures || !isGlowing) return;
+        if (!useTextures || !isGlowing || !QualityGovernor.isBloomEnabled()) return;
 
         // Create an extra sprite for the bloom effect
         Sprite extraGlowSprite = new Sprite(BulletTextures.getInstance().getGlowTexture(shape));
@@ -1695,7 +1743,7 @@ public class Bullet {
             bloomColor = hsvToRGB(hue, 0.6f, 0.9f);
         } else if (hasExplosionTimer()) {
             // Make explosion bloom flash with the bullet
-            bloomColor = getColor().cpy();
+            bloomColor = displayColor().cpy();
         } else {
             bloomColor = glowColor != null ? glowColor.cpy() : color.cpy();
         }
@@ -13,6 +13,9 @@ import swu.cp112.silkblade.util.GameLogger;
 /**
  * Class to manage bullet textures.
  * Generates and caches textures for different bullet shapes.
+ *
+ * The textures live for the whole session. The boot screen draws the images on worker threads
+ * and hands them to {@link #upload}, so the first fight doesn't generate them in its first frame.
  */
 public class BulletTextures implements Disposable {
     private static BulletTextures instance;
@@ -24,17 +27,70 @@ public class BulletTextures implements Disposable {
     // Default size for texture generation
     private static final int DEFAULT_TEXTURE_SIZE = 64;
 
+    private boolean complete; // Every shape has both of its textures
+
     private BulletTextures() {
-        generateBulletTextures();
     }
 
     public static BulletTextures getInstance() {
         if (instance == null) {
             instance = new BulletTextures();
         }
+        if (!instance.complete) {
+            instance.generateBulletTextures();
+        }
         return instance;
     }
 
+    /**
+     * Draws a shape's bullet image. Only touches the pixmap, so it can run on any thread.
+     */
+    public static Pixmap drawBulletPixmap(Bullet.Shape shape) {
+        Pixmap pixmap = new Pixmap(DEFAULT_TEXTURE_SIZE, DEFAULT_TEXTURE_SIZE, Pixmap.Format.RGBA8888);
+        pixmap.setColor(Color.WHITE);
+        drawShapeOnPixmap(pixmap, shape);
+        return pixmap;
+    }
+
+    /**
+     * Draws a shape's glow image. Only touches the pixmap, so it can run on any thread.
+     */
+    public static Pixmap drawGlowPixmap(Bullet.Shape shape) {
+        Pixmap pixmap = new Pixmap(DEFAULT_TEXTURE_SIZE, DEFAULT_TEXTURE_SIZE, Pixmap.Format.RGBA8888);
+
+        // Create a larger, softer version of the shape for the glow effect
+        Color glowColor = new Color(1, 1, 1, 0.7f);
+        pixmap.setColor(glowColor);
+
+        // Draw the glow (slightly larger than the regular shape)
+        drawShapeOnPixmap(pixmap, shape, 0.2f);
+
+        // Apply a soft gradient to the edges
+        applyGlowGradient(pixmap);
+        return pixmap;
+    }
+
+    /**
+     * Uploads an image drawn ahead of time as a shape's texture and disposes the pixmap.
+     * Called on the GL thread.
+     */
+    public static void upload(Bullet.Shape shape, Pixmap pixmap, boolean glow) {
+        if (instance == null) {
+            instance = new BulletTextures();
+        }
+        instance.put(glow ? instance.glowTextures : instance.bulletTextures, shape, pixmap);
+    }
+
+    private void put(ObjectMap<Bullet.Shape, Texture> textures, Bullet.Shape shape, Pixmap pixmap) {
+        Texture texture = new Texture(pixmap);
+        texture.setFilter(TextureFilter.Linear, TextureFilter.Linear);
+        Texture previous = textures.put(shape, texture);
+        if (previous != null) {
+            previous.dispose();
+        }
+        pixmap.dispose();
+    }
+
     /**
      * Get the appropriate bullet texture for the given shape
      */
@@ -56,13 +112,18 @@ public class BulletTextures implements Disposable {
     }
 
     /**
-     * Generate all textures for all bullet shapes
+     * Generate the textures of every bullet shape that doesn't have them yet
      */
     private void generateBulletTextures() {
         for (Bullet.Shape shape : Bullet.Shape.values()) {
-            generateTextureForShape(shape);
-            generateGlowTextureForShape(shape);
+            if (!bulletTextures.containsKey(shape)) {
+                generateTextureForShape(shape);
+            }
+            if (!glowTextures.containsKey(shape)) {
+                generateGlowTextureForShape(shape);
+            }
         }
+        complete = true;
     }
 
     /**
@@ -70,16 +131,7 @@ public class BulletTextures implements Disposable {
      */
     private void generateTextureForShape(Bullet.Shape shape) {
         try {
-            Pixmap pixmap = new Pixmap(DEFAULT_TEXTURE_SIZE, DEFAULT_TEXTURE_SIZE, Pixmap.Format.RGBA8888);
-            pixmap.setColor(Color.WHITE);
-
-            drawShapeOnPixmap(pixmap, shape);
-
-            Texture texture = new Texture(pixmap);
-            texture.setFilter(TextureFilter.Linear, TextureFilter.Linear);
-            bulletTextures.put(shape, texture);
-
-            pixmap.dispose();
+            put(bulletTextures, shape, drawBulletPixmap(shape));
         } catch (Exception e) {
             GameLogger.logError("Failed to generate bullet texture for shape: " + shape, e);
         }
@@ -90,23 +142,7 @@ public class BulletTextures implements Disposable {
      */
     private void generateGlowTextureForShape(Bullet.Shape shape) {
         try {
-            Pixmap pixmap = new Pixmap(DEFAULT_TEXTURE_SIZE, DEFAULT_TEXTURE_SIZE, Pixmap.Format.RGBA8888);
-
-            // Create a larger, softer version of the shape for the glow effect
-            Color glowColor = new Color(1, 1, 1, 0.7f);
-            pixmap.setColor(glowColor);
-
-            // Draw the glow (slightly larger than the regular shape)
-            drawShapeOnPixmap(pixmap, shape, 0.2f);
-
-            // Apply a soft gradient to the edges
-            applyGlowGradient(pixmap);
-
-            Texture texture = new Texture(pixmap);
-            texture.setFilter(TextureFilter.Linear, TextureFilter.Linear);
-            glowTextures.put(shape, texture);
-
-            pixmap.dispose();
+            put(glowTextures, shape, drawGlowPixmap(shape));
         } catch (Exception e) {
             GameLogger.logError("Failed to generate glow texture for shape: " + shape, e);
         }
@@ -115,7 +151,7 @@ public class BulletTextures implements Disposable {
     /**
      * Apply a soft gradient to create a glow effect
      */
-    private void applyGlowGradient(Pixmap pixmap) {
+    private static void applyGlowGradient(Pixmap pixmap) {
         int width = pixmap.getWidth();
         int height = pixmap.getHeight();
 
@@ -174,14 +210,14 @@ public class BulletTextures implements Disposable {
     /**
      * Draw the specified shape on a pixmap
      */
-    private void drawShapeOnPixmap(Pixmap pixmap, Bullet.Shape shape) {
+    private static void drawShapeOnPixmap(Pixmap pixmap, Bullet.Shape shape) {
         drawShapeOnPixmap(pixmap, shape, 0);
     }
 
     /**
      * Draw the specified shape on a pixmap with padding
      */
-    private void drawShapeOnPixmap(Pixmap pixmap, Bullet.Shape shape, float padding) {
+    private static void drawShapeOnPixmap(Pixmap pixmap, Bullet.Shape shape, float padding) {
         int width = pixmap.getWidth();
         int height = pixmap.getHeight();
         int centerX = width / 2;
@@ -226,7 +262,7 @@ public class BulletTextures implements Disposable {
         }
     }
 
-    private void drawStar(Pixmap pixmap, int centerX, int centerY, int radius, int points) {
+    private static void drawStar(Pixmap pixmap, int centerX, int centerY, int radius, int points) {
         // Create a smoother, more balanced star shape with clear edges
         // This will produce better trail effects
 
@@ -264,7 +300,7 @@ public class BulletTextures implements Disposable {
         }
     }
 
-    private void drawTriangle(Pixmap pixmap, int centerX, int centerY, int radius) {
+    private static void drawTriangle(Pixmap pixmap, int centerX, int centerY, int radius) {
         int[] xPoints = new int[3];
         int[] yPoints = new int[3];
 
@@ -277,7 +313,7 @@ public class BulletTextures implements Disposable {
         drawFilledTriangle(pixmap, xPoints[0], yPoints[0], xPoints[1], yPoints[1], xPoints[2], yPoints[2]);
     }
 
-    private void drawPolygon(Pixmap pixmap, int centerX, int centerY, int radius, int sides) {
+    private static void drawPolygon(Pixmap pixmap, int centerX, int centerY, int radius, int sides) {
         int[] xPoints = new int[sides];
         int[] yPoints = new int[sides];
 
@@ -293,7 +329,7 @@ public class BulletTextures implements Disposable {
         }
     }
 
-    private void drawDiamond(Pixmap pixmap, int centerX, int centerY, int radius) {
+    private static void drawDiamond(Pixmap pixmap, int centerX, int centerY, int radius) {
         // Create a diamond with smooth edges using four triangle draws
 
         // Calculate the diamond points
@@ -313,7 +349,7 @@ public class BulletTextures implements Disposable {
         // that works better with the trail rendering system
     }
 
-    private void drawHeart(Pixmap pixmap, int centerX, int centerY, int radius) {
+    private static void drawHeart(Pixmap pixmap, int centerX, int centerY, int radius) {
         // Create a heart shape that works well with trails
         // Scale the heart to fit in the radius
         int heartHeight = radius * 2;
@@ -351,7 +387,7 @@ public class BulletTextures implements Disposable {
         drawFilledTriangle(pixmap, xPoints[0], yPoints[0], xPoints[1], yPoints[1], xPoints[2], yPoints[2]);
     }
 
-    private void drawCrescent(Pixmap pixmap, int centerX, int centerY, int radius) {
+    private static void drawCrescent(Pixmap pixmap, int centerX, int centerY, int radius) {
         // Remember the current color
         Color currentColor = new Color(1, 1, 1, 1); // We're using white by default
 
@@ -383,7 +419,7 @@ public class BulletTextures implements Disposable {
     /**
      * Helper method to draw a filled triangle
      */
-    private void drawFilledTriangle(Pixmap pixmap, int x1, int y1, int x2, int y2, int x3, int y3) {
+    private static void drawFilledTriangle(Pixmap pixmap, int x1, int y1, int x2, int y2, int x3, int y3) {
         // Find the bounding box of the triangle
         int minX = Math.min(x1, Math.min(x2, x3));
         int maxX = Math.max(x1, Math.max(x2, x3));
@@ -403,7 +439,7 @@ public class BulletTextures implements Disposable {
     /**
      * Helper method to check if a point is inside a triangle using barycentric coordinates
      */
-    private boolean isPointInTriangle(int px, int py, int x1, int y1, int x2, int y2, int x3, int y3) {
+    private static boolean isPointInTriangle(int px, int py, int x1, int y1, int x2, int y2, int x3, int y3) {
         float area = 0.5f * (-y2 * x3 + y1 * (-x2 + x3) + x1 * (y2 - y3) + x2 * y3);
         float s = 1 / (2 * area) * (y1 * x3 - x1 * y3 + (y3 - y1) * px + (x1 - x3) * py);
         float t = 1 / (2 * area) * (x1 * y2 - y1 * x2 + (y1 - y2) * px + (x2 - x1) * py);
@@ -411,6 +447,15 @@ public class BulletTextures implements Disposable {
         return s >= 0 && t >= 0 && (s + t) <= 1;
     }
 
+    /**
+     * Disposes the textures if they were ever created. Called when the game exits.
+     */
+    public static void disposeAll() {
+        if (instance != null) {
+            instance.dispose();
+        }
+    }
+
     @Override
     public void dispose() {
         for (Texture texture : bulletTextures.values()) {
@@ -427,6 +472,7 @@ public class BulletTextures implements Disposable {
 
         bulletTextures.clear();
         glowTextures.clear();
+        complete = false;
 
         instance = null;
     }
@@ -0,0 +1,371 @@
+package swu.cp112.silkblade.entity.combat;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import swu.cp112.silkblade.entity.enemy.Enemy;
+import swu.cp112.silkblade.util.FrameProfiler;
+import swu.cp112.silkblade.util.GameClock;
+
+import java.util.List;
+
+/**
+ * The enemy turn of a combat without any rendering: bullet spawning from the enemy's
+ * attack pattern, bullet updates, explosions, off-screen culling, player collision and
+ * the immunity window after a hit.
+ *
+ * CombatScene drives it once per frame and reacts to hits through a {@link Listener}.
+ * Without a listener hits are applied to the player directly, which is what headless
+ * tools use to run combat without a GL context.
+ */
+public class CombatSimulation {
+    public static final float COMBAT_START_GRACE_PERIOD = 0.2f;
+    public static final float DEFAULT_END_COMBAT_PHASE_DELAY = 2.0f; // Default time to wait after all bullets are fired before ending combat phase
+    public static final float IMMUNITY_DURATION = 0.85f;
+    private static final int TRAIL_LENGTH = 28; // Off-screen margin in bullet sizes, matches the rendered trail
+
+    /**
+     * Receives the events of the simulation that need audio, effects or HP handling.
+     */
+    public interface Listener {
+        /**
+         * A bullet exploded into child bullets, which have already been added.
+         */
+        void onExplosion(Bullet bullet, List<Bullet> children);
+
+        void onPlayerHealed(Bullet bullet, int amount);
+
+        /**
+         * A damaging bullet hit the player while not immune. The listener applies the damage
+         * and usually calls {@link #startImmunity()}.
+         */
+        void onPlayerHit(Bullet bullet, int damage);
+
+        /**
+         * All bullets have been fired and the end phase delay has passed, or none are left.
+         */
+        void onAttackFinished();
+    }
+
+    private final Array<Bullet> bullets = new Array<>();
+    private final Player player;
+    private final Enemy enemy;
+    private final Rectangle playerHitbox;
+    private final Rectangle spawnArea = new Rectangle();
+    private final float worldWidth;
+    private final float worldHeight;
+    private Listener listener;
+
+    // Attack phase state
+    private boolean inCombat = false;
+    private boolean combatActive = false;
+    private float bulletSpawnTimer = 0;
+    private float bulletSpawnInterval;
+    private int maxBullets;
+    private int bulletsSpawned = 0;
+    private boolean allBulletsFired = false;
+    private float endCombatPhaseTimer = 0;
+    private float combatStartGraceTimer = 0;
+
+    private boolean immune = false;
+    private float immunityTimer = 0;
+
+    private int peakBullets;
+    private long slowestSpawnNanos;
+
+    /**
+     * @param playerHitbox The player's hitbox, read every update so the owner can move it
+     * @param worldWidth Width of the world bullets are culled against
+     * @param worldHeight Height of the world bullets are culled against
+     */
+    public CombatSimulation(Player player, Enemy enemy, Rectangle playerHitbox, float worldWidth, float worldHeight) {
+        this.player = player;
+        this.enemy = enemy;
+        this.playerHitbox = playerHitbox;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.bulletSpawnInterval = enemy.getAttackInterval();
+        this.maxBullets = enemy.getMaxBullets();
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Starts the enemy turn: the enemy selects its pattern and spawning restarts.
+     */
+    public void startAttack() {
+        inCombat = true;
+        bullets.clear();
+        bulletsSpawned = 0;
+        combatActive = true;
+        allBulletsFired = false;
+        combatStartGraceTimer = 0;
+
+        // Let the enemy start its turn BEFORE reading interval/bullet values so the pattern is selected first
+        enemy.startTurn();
+        bulletSpawnInterval = enemy.getAttackInterval();
+        maxBullets = enemy.getMaxBullets();
+    }
+
+    /**
+     * Ends the enemy turn. Remaining bullets keep updating but no new ones spawn.
+     */
+    public void endAttack() {
+        inCombat = false;
+        enemy.endTurn();
+        combatActive = false;
+        bulletsSpawned = maxBullets + 1;
+        bulletSpawnTimer = 0;
+    }
+
+    /**
+     * Sets the arena bullets are spawned into.
+     */
+    public void setSpawnArea(float x, float y, float width, float height) {
+        spawnArea.set(x, y, width, height);
+    }
+
+    /**
+     * Advances spawning and every live bullet by one step.
+     */
+    public void update(float delta) {
+        GameClock.setDelta(delta); // Patterns that time their own spawns read it from the clock
+
+        // Only spawn new bullets if we're in active combat
+        if (inCombat && combatActive) {
+            combatStartGraceTimer += delta;
+
+            // Only start spawning bullets after grace period has elapsed
+            if (combatStartGraceTimer >= COMBAT_START_GRACE_PERIOD) {
+                bulletSpawnTimer += delta;
+                if (bulletSpawnTimer >= bulletSpawnInterval && bulletsSpawned < maxBullets) {
+                    long spawnStart = System.nanoTime();
+                    List<Bullet> enemyBullets = enemy.generateAttack(
+                        spawnArea.x, spawnArea.y, spawnArea.width, spawnArea.height
+                    );
+                    long spawnNanos = System.nanoTime() - spawnStart;
+                    if (spawnNanos > slowestSpawnNanos) {
+                        slowestSpawnNanos = spawnNanos;
+                    }
+
+                    if (enemyBullets != null && !enemyBullets.isEmpty()) {
+                        for (int i = 0, n = enemyBullets.size(); i < n; i++) {
+                            bullets.add(enemyBullets.get(i));
+                        }
+                        bulletsSpawned++;
+                    }
+
+                    bulletSpawnTimer = 0;
+                }
+            }
+
+            // Check if all bullets have been fired
+            if (bulletsSpawned >= maxBullets && !allBulletsFired) {
+                allBulletsFired = true;
+                endCombatPhaseTimer = 0;
+            }
+
+            // End combat immediately if all bullets are gone and all have been fired
+            if (allBulletsFired && bullets.size == 0) {
+                finishAttack();
+                return;
+            }
+
+            if (allBulletsFired) {
+                endCombatPhaseTimer += delta;
+
+                // Get the end phase delay from the current enemy's attack pattern, or use default
+                float currentEndPhaseDelay = DEFAULT_END_COMBAT_PHASE_DELAY;
+                if (enemy.getCurrentPattern() != null) {
+                    currentEndPhaseDelay = enemy.getCurrentPattern().getConfig().getEndPhaseDelay();
+                }
+
+                // Bullets are still processed during the end phase countdown
+                if (endCombatPhaseTimer >= currentEndPhaseDelay) {
+                    finishAttack();
+                    return;
+                }
+            }
+        }
+
+        updateBullets(delta);
+
+        // Handle any remaining bullets running out after the spawning checks
+        if (allBulletsFired && bullets.size == 0 && combatActive) {
+            finishAttack();
+        }
+    }
+
+    private void updateBullets(float delta) {
+        float playerX = playerHitbox.x + playerHitbox.width / 2;
+        float playerY = playerHitbox.y + playerHitbox.height / 2;
+
+        for (int i = bullets.size - 1; i >= 0; i--) {
+            Bullet bullet = bullets.get(i);
+            long profileStart = FrameProfiler.start();
+            bullet.update(delta, playerX, playerY);
+            FrameProfiler.stop("Bullet.update", profileStart);
+
+            // Ensure explosion happens before removing bullet
+            if (!bullet.isActive()) {
+                List<Bullet> newBullets = bullet.getExplosionBullets();
+                if (newBullets != null && !newBullets.isEmpty()) {
+                    for (Bullet newBullet : newBullets) {
+                        bullets.add(newBullet);
+                    }
+                    if (listener != null) {
+                        listener.onExplosion(bullet, newBullets);
+                    }
+                }
+                bullets.removeIndex(i);
+                continue;
+            }
+
+            if (isBulletOffScreen(bullet)) {
+                if (bullet.hasExplosionTimer()) {
+                    continue; // Let explosion run instead of removing it immediately
+                }
+                bullet.destroy();
+                bullets.removeIndex(i);
+                continue;
+            }
+
+            // Only check for player collision if we're still in active combat
+            if (inCombat && combatActive &&
+                bullet.getHitbox().overlaps(playerHitbox) &&
+                (!bullet.isTelegraphing() || bullet.getTelegraphTimer() >= bullet.getTelegraphDuration()) &&
+                !bullet.isFading()) {
+
+                int damageValue = (int) bullet.getDamage();
+
+                if (damageValue < 0) {
+                    healPlayer(bullet, Math.abs(damageValue));
+                    bullet.destroy();
+                    bullets.removeIndex(i);
+                } else if (damageValue > 0 && !immune) {
+                    hitPlayer(bullet, damageValue);
+
+                    // If this bullet can explode, start its timer instead of destroying it
+                    if (bullet.getOnExplodeCallback() != null) {
+                        bullet.startExplosionTimer(0.5f); // Half second delay before explosion
+                        continue;
+                    }
+
+                    bullet.destroy();
+                    bullets.removeIndex(i);
+                }
+            }
+        }
+
+        if (bullets.size > peakBullets) {
+            peakBullets = bullets.size;
+        }
+    }
+
+    private void healPlayer(Bullet bullet, int amount) {
+        if (listener != null) {
+            listener.onPlayerHealed(bullet, amount);
+        } else {
+            player.heal(amount);
+        }
+    }
+
+    private void hitPlayer(Bullet bullet, int damage) {
+        if (listener != null) {
+            listener.onPlayerHit(bullet, damage);
+        } else {
+            player.takeDamage(damage);
+            startImmunity();
+        }
+    }
+
+    private void finishAttack() {
+        combatActive = false;
+        if (listener != null) {
+            listener.onAttackFinished();
+        }
+    }
+
+    private boolean isBulletOffScreen(Bullet bullet) {
+        // Only consider the bullet off screen once its trail has left too
+        float trailBuffer = bullet.getSize() * TRAIL_LENGTH;
+        return bullet.getX() < -trailBuffer ||
+               bullet.getX() > worldWidth + trailBuffer ||
+               bullet.getY() < -trailBuffer ||
+               bullet.getY() > worldHeight + trailBuffer;
+    }
+
+    // Immunity after a hit
+    public void startImmunity() {
+        immune = true;
+        immunityTimer = 0;
+    }
+
+    public void clearImmunity() {
+        immune = false;
+    }
+
+    /**
+     * Advances the immunity window. Returns true on the step immunity ends.
+     */
+    public boolean updateImmunity(float delta) {
+        if (!immune) {
+            return false;
+        }
+        immunityTimer += delta;
+        if (immunityTimer >= IMMUNITY_DURATION) {
+            immune = false;
+            return true;
+        }
+        return false;
+    }
+
+    public boolean isImmune() {
+        return immune;
+    }
+
+    // Getters
+    public Array<Bullet> getBullets() {
+        return bullets;
+    }
+
+    public Enemy getEnemy() {
+        return enemy;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public boolean isInCombat() {
+        return inCombat;
+    }
+
+    public boolean isCombatActive() {
+        return combatActive;
+    }
+
+    public int getBulletsSpawned() {
+        return bulletsSpawned;
+    }
+
+    /**
+     * Gets the highest live bullet count seen since creation or the last {@link #resetStats()}.
+     */
+    public int getPeakBullets() {
+        return peakBullets;
+    }
+
+    /**
+     * Gets the longest single {@code generateAttack} call since creation or the last {@link #resetStats()}.
+     */
+    public long getSlowestSpawnNanos() {
+        return slowestSpawnNanos;
+    }
+
+    public void resetStats() {
+        peakBullets = bullets.size;
+        slowestSpawnNanos = 0;
+    }
+}
@@ -0,0 +1,11 @@
+package swu.cp112.silkblade.entity.combat;
+
+/**
+ * The sounds the combat scene plays for what happens to bullets. A pattern that plays its own
+ * version of one of them claims it with {@link swu.cp112.silkblade.pattern.EnemyAttackPattern#ownsSound}.
+ */
+public enum CombatSound {
+    EXPLOSION,
+    HURT,
+    HEAL
+}
@@ -80,7 +80,7 @@ public class DamageNumber {
         this.scale = isCritical ? 1.5f : 1.0f;
         
         // Add random horizontal offset to prevent overlap
-        this.x += MathUtils.random(-20, 20);
+        this.x += CombatRandom.random(-20, 20);
     }
     
     /**
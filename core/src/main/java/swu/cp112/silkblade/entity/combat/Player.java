@@ -1,6 +1,7 @@
 package swu.cp112.silkblade.entity.combat;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
@@ -14,13 +15,21 @@ import com.badlogic.gdx.utils.JsonWriter;
 
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.entity.item.Equipment;
+import swu.cp112.silkblade.entity.item.EquipmentStats;
 import swu.cp112.silkblade.entity.item.Inventory;
+import swu.cp112.silkblade.util.GameEvents;
 import swu.cp112.silkblade.util.GameLogger;
+import swu.cp112.silkblade.util.SaveCodec;
+import swu.cp112.silkblade.util.SharedTextures;
 import swu.cp112.silkblade.screen.CombatScene;
 import swu.cp112.silkblade.screen.ScreenManager;
 
 public class Player implements Json.Serializable {
-    private static final String SAVE_FILE = "save/player_save.json";
+    private static final String SAVE_FILE = "save/player_save.sav";
+    private static final String LEGACY_SAVE_FILE = "save/player_save.json"; // Pre-binary saves, migrated on load
+    private static int saveGeneration; // Bumped on every save so screens can tell their copy is stale
+    private static boolean savingEnabled = true;
+    private static final String EXPORT_FILE = "save/export/player_save.json"; // Debug export, not listed as a save
     private static final int[] EXP_REQUIREMENTS = {
         0,      // LV 1:   0 EXP
         10,     // LV 2:  10 EXP
@@ -131,6 +140,15 @@ public class Player implements Json.Serializable {
     // Add buff manager for temporary effects
     private transient BuffManager buffManager;
 
+    // Stats with equipment bonuses applied (buffs excluded), rebuilt when the
+    // equipment version or one of the base stats they were derived from changes
+    private transient int derivedEquipmentVersion = -1;
+    private transient int derivedFromAttack, derivedFromDefense, derivedFromMaxHP, derivedFromMaxMP;
+    private transient int derivedAttack, derivedDefense, derivedMaxHP, derivedMaxMP;
+
+    // Bumped whenever the unlocked skills change so menus can cache their skill lists
+    private transient int skillsVersion;
+
     public Player() {
         // Default constructor for JSON deserialization
         this.level = 1;
@@ -185,7 +203,7 @@ public class Player implements Json.Serializable {
 
     private void initializeSprite() {
         try {
-            texture = new Texture("player.png");
+            texture = SharedTextures.get("player.png");
             sprite = new Sprite(texture);
         } catch (Exception e) {
             GameLogger.logError("Failed to initialize player sprite", e);
@@ -268,6 +286,7 @@ public class Player implements Json.Serializable {
 
     private void initializeSkills() {
         unlockedSkills = new boolean[SkillType.values().length];
+        skillsVersion++;
         unlockedSkills[SkillType.BASIC.ordinal()] = true;  // BASIC is always unlocked
         unlockedSkills[SkillType.SKILL1.ordinal()] = false;  // Dark Silk Face Slap (unlocked at stage 10)
         unlockedSkills[SkillType.SKILL2.ordinal()] = false;  // Silk Scratch of Salvation (unlocked after 30th floor boss)
@@ -344,10 +363,10 @@ public class Player implements Json.Serializable {
     }
 
     public DamageResult calculateDamage() {
-        float critRoll = (float) Math.random();
+        float critRoll = CombatRandom.random();
         boolean isCrit = critRoll <= getCritRate();  // Use getCritRate() to include bonuses
         int totalAttack = getAttack();  // Use getAttack() to include equipment bonuses
-        int baseDamage = totalAttack + (int)(Math.random() * 3) - 1; // -1 to +1 variance
+        int baseDamage = totalAttack + CombatRandom.random(-1, 1); // -1 to +1 variance
         int finalDamage = isCrit ? baseDamage * 3 : baseDamage;
 
         // Check for double attack
@@ -356,7 +375,7 @@ public class Player implements Json.Serializable {
         // If double attack, multiply damage by 2
         if (isDoubleAttack) {
             finalDamage *= 2;
-            GameLogger.logInfo("Double attack triggered! Damage multiplied by 2.");
+            GameLogger.logDebug("Double attack triggered! Damage multiplied by 2.");
         }
 
         return new DamageResult(finalDamage, isCrit, isDoubleAttack);
@@ -374,8 +393,10 @@ public class Player implements Json.Serializable {
             case SKILL1:
                 // Dark Silk Face Slap - 1.2x ATK
                 damageMultiplier = 1.2f;
-                GameLogger.logInfo("Skill 1 using ATK: " + getAttack() + " (base: " + attack +
-                                  ", bonus: " + (getAttack() - attack) + ")");
+                if (GameLogger.isDebugEnabled()) {
+                    GameLogger.logDebug("Skill 1 using ATK: " + getAttack() + " (base: " + attack +
+                                       ", bonus: " + (getAttack() - attack) + ")");
+                }
                 break;
             case SKILL2:
                 // Silk Scratch of Salvation - healing skill
@@ -384,8 +405,10 @@ public class Player implements Json.Serializable {
             case SKILL3:
                 // Duckfoot Knot from Heaven - 2.6x ATK + defense buff
                 damageMultiplier = 2.6f;
-                GameLogger.logInfo("Skill 3 using ATK: " + getAttack() + " (base: " + attack +
-                                  ", bonus: " + (getAttack() - attack) + ")");
+                if (GameLogger.isDebugEnabled()) {
+                    GameLogger.logDebug("Skill 3 using ATK: " + getAttack() + " (base: " + attack +
+                                       ", bonus: " + (getAttack() - attack) + ")");
+                }
                 break;
             case SKILL4:
                 // Sai-Oua Silk Wrap - defensive skill with healing
@@ -394,8 +417,10 @@ public class Player implements Json.Serializable {
             case SKILL5:
                 // Lamphun Blade: Piip Slash Supreme - 4.0x ATK
                 damageMultiplier = 4.0f;
-                GameLogger.logInfo("Skill 5 using ATK: " + getAttack() + " (base: " + attack +
-                                  ", bonus: " + (getAttack() - attack) + ")");
+                if (GameLogger.isDebugEnabled()) {
+                    GameLogger.logDebug("Skill 5 using ATK: " + getAttack() + " (base: " + attack +
+                                       ", bonus: " + (getAttack() - attack) + ")");
+                }
                 break;
             case SKILL6:
                 // Silk End - I Am Cosmic Weave: 3.0 * MP * ATK - UNCAPPED TRUE FINAL ATTACK
@@ -616,40 +641,228 @@ public class Player implements Json.Serializable {
 
     // Save/Load Methods
     public void saveToFile() {
+        if (!savingEnabled) {
+            return;
+        }
+        Object event = GameEvents.begin(GameEvents.Kind.PLAYER_SAVE);
         try {
-            Json json = new Json();
-            json.setOutputType(JsonWriter.OutputType.json);
-            String jsonStr = json.prettyPrint(this);
             FileHandle file = Gdx.files.local(SAVE_FILE);
-            file.writeString(jsonStr, false);
+            byte[] bytes = toSaveBytes();
+            file.writeBytes(bytes, false);
+            saveGeneration++;
+            GameEvents.end(event, SAVE_FILE, bytes.length);
             GameLogger.logInfo("Player data saved successfully");
         } catch (Exception e) {
             GameLogger.logError("Failed to save player data", e);
         }
     }
 
+    /**
+     * Gets a number that changes every time the save file is written. A screen that keeps a
+     * loaded player compares it to decide whether to load the player again.
+     */
+    public static int getSaveGeneration() {
+        return saveGeneration;
+    }
+
     public static Player loadFromFile() {
         try {
             FileHandle file = Gdx.files.local(SAVE_FILE);
             if (!file.exists()) {
+                FileHandle legacyFile = Gdx.files.local(LEGACY_SAVE_FILE);
+                if (legacyFile.exists()) {
+                    return migrateLegacySave(legacyFile);
+                }
                 GameLogger.logInfo("No save file found, creating new player");
                 return new Player("CHARA");
             }
 
-            Json json = new Json();
-            // Register ItemDatabase to ensure it's initialized before deserialization
-            swu.cp112.silkblade.entity.item.ItemDatabase.getInstance();
-
-            Player player = json.fromJson(Player.class, file.readString());
-            player.initializeSprite();  // Re-initialize sprite after loading
-            player.initializeSounds();  // Re-initialize sounds after loading
-            return player;
+            return readSaveFile(file);
         } catch (Exception e) {
             GameLogger.logError("Failed to load player data", e);
             return new Player("CHARA");
         }
     }
 
+    /**
+     * Reads a save file in either the binary or the legacy JSON format.
+     * The format is detected from the file header.
+     *
+     * @param file The save file to read
+     * @return The loaded player
+     * @throws IOException if the file is corrupted or uses an unsupported version
+     */
+    public static Player readSaveFile(FileHandle file) throws IOException {
+        // Register ItemDatabase to ensure it's initialized before deserialization
+        swu.cp112.silkblade.entity.item.ItemDatabase.getInstance();
+
+        byte[] bytes = file.readBytes();
+        if (!SaveCodec.isBinarySave(bytes)) {
+            return importFromJson(file);
+        }
+        return fromSaveBytes(bytes);
+    }
+
+    /**
+     * Encodes the player in the binary save format.
+     */
+    public byte[] toSaveBytes() throws IOException {
+        SaveCodec.Writer writer = new SaveCodec.Writer();
+        writeBinary(writer);
+        return writer.toBytes();
+    }
+
+    /**
+     * Decodes a player from {@link #toSaveBytes()} output or a binary save file's contents.
+     */
+    public static Player fromSaveBytes(byte[] bytes) throws IOException {
+        swu.cp112.silkblade.entity.item.ItemDatabase.getInstance();
+        Player player = new Player();
+        player.readBinary(new SaveCodec.Reader(bytes));
+        return player;
+    }
+
+    /**
+     * Turns writing the save file on or off. Combat replays turn it off so replaying
+     * a fight can't change the real save.
+     */
+    public static void setSavingEnabled(boolean enabled) {
+        savingEnabled = enabled;
+    }
+
+    /**
+     * Converts a legacy JSON save to the binary format.
+     * The old file is kept with a .bak suffix so it no longer shows up as a save.
+     */
+    private static Player migrateLegacySave(FileHandle legacyFile) {
+        GameLogger.logInfo("Migrating legacy JSON save to binary format");
+        Player player = importFromJson(legacyFile);
+        player.saveToFile();
+        legacyFile.moveTo(legacyFile.sibling(legacyFile.name() + ".bak"));
+        return player;
+    }
+
+    /**
+     * Exports the player as pretty-printed JSON for debugging.
+     */
+    public void exportToJson() {
+        exportToJson(Gdx.files.local(EXPORT_FILE));
+    }
+
+    /**
+     * Exports the player as pretty-printed JSON for debugging.
+     *
+     * @param file The file to write to
+     */
+    public void exportToJson(FileHandle file) {
+        try {
+            Json json = new Json();
+            json.setOutputType(JsonWriter.OutputType.json);
+            file.writeString(json.prettyPrint(this), false);
+            GameLogger.logInfo("Player data exported to " + file.path());
+        } catch (Exception e) {
+            GameLogger.logError("Failed to export player data", e);
+        }
+    }
+
+    /**
+     * Reads a player from a JSON save or debug export.
+     *
+     * @param file The JSON file to read
+     * @return The loaded player
+     */
+    public static Player importFromJson(FileHandle file) {
+        Json json = new Json();
+        // Register ItemDatabase to ensure it's initialized before deserialization
+        swu.cp112.silkblade.entity.item.ItemDatabase.getInstance();
+
+        Player player = json.fromJson(Player.class, file.readString());
+        player.initializeSprite();  // Re-initialize sprite after loading
+        player.initializeSounds();  // Re-initialize sounds after loading
+        return player;
+    }
+
+    /**
+     * Writes the player in the compact binary save format.
+     * Field order must match {@link #readBinary(SaveCodec.Reader)}.
+     */
+    private void writeBinary(SaveCodec.Writer out) throws IOException {
+        out.writeString(name);
+        out.writeSignedVarInt(level);
+        out.writeSignedVarInt(exp);
+        out.writeSignedVarInt(mp);
+        out.writeSignedVarInt(maxMP);
+        out.writeSignedVarInt(attack);
+        out.writeFloat(critRate);
+        out.writeSignedVarInt(defense);
+        out.writeSignedVarInt(maxHP);
+        out.writeSignedVarInt(currentHP);
+        out.writeSignedVarInt(currentStage);
+        out.writeSignedVarInt(gold);
+
+        // Skills as a bit mask, BASIC is bit 0
+        int skillMask = 0;
+        for (int i = 0; i < unlockedSkills.length; i++) {
+            if (unlockedSkills[i]) {
+                skillMask |= 1 << i;
+            }
+        }
+        out.writeVarInt(unlockedSkills.length);
+        out.writeVarInt(skillMask);
+        out.writeVarInt(currentSkill.ordinal());
+
+        // Boss tracking as a bit mask, boss 1 is bit 0
+        int bossMask = 0;
+        for (int boss = 1; boss <= 5; boss++) {
+            if (isBossDefeated(boss)) {
+                bossMask |= 1 << (boss - 1);
+            }
+        }
+        out.writeVarInt(bossMask);
+
+        inventory.writeBinary(out);
+    }
+
+    /**
+     * Reads the player from the compact binary save format.
+     * New fields added in later format versions should be gated on {@code in.getVersion()}
+     * and fall back to the same defaults as the JSON reader.
+     */
+    private void readBinary(SaveCodec.Reader in) throws IOException {
+        name = in.readString();
+        level = in.readSignedVarInt();
+        exp = in.readSignedVarInt();
+        mp = in.readSignedVarInt();
+        maxMP = in.readSignedVarInt();
+        attack = in.readSignedVarInt();
+        critRate = in.readFloat();
+        defense = in.readSignedVarInt();
+        maxHP = in.readSignedVarInt();
+        currentHP = in.readSignedVarInt();
+        currentStage = in.readSignedVarInt();
+        gold = in.readSignedVarInt();
+
+        int skillCount = in.readVarInt();
+        int skillMask = in.readVarInt();
+        initializeSkills();
+        for (int i = 0; i < Math.min(skillCount, unlockedSkills.length); i++) {
+            unlockedSkills[i] = (skillMask & (1 << i)) != 0;
+        }
+        skillsVersion++;
+        int skillOrdinal = in.readVarInt();
+        SkillType[] skills = SkillType.values();
+        currentSkill = skillOrdinal < skills.length ? skills[skillOrdinal] : SkillType.BASIC;
+
+        int bossMask = in.readVarInt();
+        boss1Defeated = (bossMask & 1) != 0;
+        boss2Defeated = (bossMask & (1 << 1)) != 0;
+        boss3Defeated = (bossMask & (1 << 2)) != 0;
+        boss4Defeated = (bossMask & (1 << 3)) != 0;
+        boss5Defeated = (bossMask & (1 << 4)) != 0;
+
+        inventory.readBinary(in);
+    }
+
     // Json.Serializable Implementation
     @Override
     public void write(Json json) {
@@ -698,6 +911,7 @@ public class Player implements Json.Serializable {
         JsonValue unlockedSkillsValue = jsonData.get("unlockedSkills");
         if (unlockedSkillsValue != null) {
             unlockedSkills = json.readValue(boolean[].class, unlockedSkillsValue);
+            skillsVersion++;
         } else {
             initializeSkills(); // Create default skills if not in save
         }
@@ -738,12 +952,9 @@ public class Player implements Json.Serializable {
     public int getMP() { return mp; }
     public int getAttack() {
         ensureBuffManagerExists();
-        int baseAttack = attack;
-        // Apply percentage bonus first to base stat
-        float percentBonus = inventory.getTotalAttackPercentBonus();
-        int percentBonusAmount = (int)(baseAttack * percentBonus);
-        // Add flat bonuses and buffs
-        return baseAttack + percentBonusAmount + inventory.getTotalAttackBonus() + buffManager.getAttackBuff();
+        ensureDerivedStats();
+        // Add buffs on top of the equipment-adjusted stat
+        return derivedAttack + buffManager.getAttackBuff();
     }
     public float getCritRate() {
         ensureBuffManagerExists();
@@ -751,28 +962,42 @@ public class Player implements Json.Serializable {
     }
     public int getDefense() {
         ensureBuffManagerExists();
-        int baseDefense = defense;
-        // Apply percentage bonus first to base stat
-        float percentBonus = inventory.getTotalDefensePercentBonus();
-        int percentBonusAmount = (int)(baseDefense * percentBonus);
-        // Add flat bonuses and buffs
-        return baseDefense + percentBonusAmount + inventory.getTotalDefenseBonus() + buffManager.getDefenseBuff();
+        ensureDerivedStats();
+        // Add buffs on top of the equipment-adjusted stat
+        return derivedDefense + buffManager.getDefenseBuff();
     }
     public int getMaxMP() {
-        int baseMaxMP = maxMP;
-        // Apply percentage bonus first to base stat
-        float percentBonus = inventory.getTotalMaxMPPercentBonus();
-        int percentBonusAmount = (int)(baseMaxMP * percentBonus);
-        // Add flat bonuses
-        return baseMaxMP + percentBonusAmount + inventory.getTotalMaxMPBonus();
+        ensureDerivedStats();
+        return derivedMaxMP;
     }
     public int getMaxHP() {
-        int baseMaxHP = maxHP;
-        // Apply percentage bonus first to base stat
-        float percentBonus = inventory.getTotalMaxHPPercentBonus();
-        int percentBonusAmount = (int)(baseMaxHP * percentBonus);
-        // Add flat bonuses
-        return baseMaxHP + percentBonusAmount + inventory.getTotalMaxHPBonus();
+        ensureDerivedStats();
+        return derivedMaxHP;
+    }
+
+    /**
+     * Rebuilds the equipment-adjusted stats if the equipment or a base stat changed.
+     * Percentage bonuses apply to the base stat first, then flat bonuses are added.
+     */
+    private void ensureDerivedStats() {
+        int version = inventory.getEquipmentVersion();
+        if (version == derivedEquipmentVersion
+            && attack == derivedFromAttack && defense == derivedFromDefense
+            && maxHP == derivedFromMaxHP && maxMP == derivedFromMaxMP) {
+            return;
+        }
+
+        EquipmentStats stats = inventory.getEquipmentStats();
+        derivedAttack = attack + (int)(attack * stats.attackPercentBonus) + stats.attackBonus;
+        derivedDefense = defense + (int)(defense * stats.defensePercentBonus) + stats.defenseBonus;
+        derivedMaxHP = maxHP + (int)(maxHP * stats.maxHPPercentBonus) + stats.maxHPBonus;
+        derivedMaxMP = maxMP + (int)(maxMP * stats.maxMPPercentBonus) + stats.maxMPBonus;
+
+        derivedEquipmentVersion = version;
+        derivedFromAttack = attack;
+        derivedFromDefense = defense;
+        derivedFromMaxHP = maxHP;
+        derivedFromMaxMP = maxMP;
     }
     public int getCurrentHP() { return currentHP; }
     public Sprite getSprite() { return sprite; }
@@ -787,9 +1012,7 @@ public class Player implements Json.Serializable {
     }
 
     public void dispose() {
-        if (texture != null) {
-            texture.dispose();
-        }
+        // The texture is shared, SharedTextures disposes it
         // Dispose of all sounds
         if (basicAttackSound != null) basicAttackSound.dispose();
         if (skill1Sound != null) skill1Sound.dispose();
@@ -869,11 +1092,19 @@ public class Player implements Json.Serializable {
     public void unlockSkill(SkillType skill) {
         if (skill != SkillType.BASIC) {  // Can't "unlock" BASIC as it's always available
             unlockedSkills[skill.ordinal()] = true;
+            skillsVersion++;
             GameLogger.logInfo("Unlocked skill: " + skill.name());
             saveToFile();  // Save progress when unlocking new skill
         }
     }
 
+    /**
+     * Gets a counter that changes every time the set of unlocked skills changes.
+     */
+    public int getSkillsVersion() {
+        return skillsVersion;
+    }
+
     public SkillType getCurrentSkill() {
         return currentSkill;
     }
@@ -1153,63 +1384,23 @@ public class Player implements Json.Serializable {
     }
 
     /**
-     * Creates a deep snapshot of the player's current state that can be used for restoration
-     * @return A new Player object containing a copy of the player's current state
+     * Creates a lightweight copy used only as a snapshot.
+     * Skips sprite and sound loading since snapshots are never rendered,
+     * and shares the inventory containers copy-on-write.
+     */
+    private Player(Player source) {
+        copyStateFrom(source);
+        this.skillSoundDurations = source.skillSoundDurations;
+    }
+
+    /**
+     * Creates a snapshot of the player's current state that can be used for restoration.
+     * The inventory is shared copy-on-write, so this does not copy any item containers.
+     * @return A new Player object containing the player's current state
      */
     public Player createSnapshot() {
         try {
-            // Create a new player
-            Player snapshot = new Player();
-
-            // Copy basic stats
-            snapshot.name = this.name;
-            snapshot.level = this.level;
-            snapshot.exp = this.exp;
-            snapshot.attack = this.attack;
-            snapshot.defense = this.defense;
-            snapshot.maxHP = this.maxHP;
-            snapshot.currentHP = this.currentHP;
-            snapshot.maxMP = this.maxMP;
-            snapshot.mp = this.mp;
-            snapshot.critRate = this.critRate;
-            snapshot.currentStage = this.currentStage;
-            snapshot.gold = this.gold;
-
-            // Copy boss defeat status
-            snapshot.boss1Defeated = this.boss1Defeated;
-            snapshot.boss2Defeated = this.boss2Defeated;
-            snapshot.boss3Defeated = this.boss3Defeated;
-            snapshot.boss4Defeated = this.boss4Defeated;
-            snapshot.boss5Defeated = this.boss5Defeated;
-
-            // Copy skill data
-            snapshot.unlockedSkills = new boolean[this.unlockedSkills.length];
-            System.arraycopy(this.unlockedSkills, 0, snapshot.unlockedSkills, 0, this.unlockedSkills.length);
-            snapshot.currentSkill = this.currentSkill;
-
-            // Create a copy of the inventory (serialize and deserialize for deep copy)
-            Json json = new Json();
-            json.setOutputType(JsonWriter.OutputType.json);
-            String inventoryJson = json.toJson(this.inventory);
-            snapshot.inventory = json.fromJson(Inventory.class, inventoryJson);
-
-            // Initialize transient fields
-            snapshot.initializeSprite();
-            snapshot.initializeSounds();
-
-            // Initialize and copy buffs if they exist
-            snapshot.ensureBuffManagerExists();
-            if (this.buffManager != null) {
-                for (BuffManager.StatBuff buff : this.buffManager.getActiveBuffs()) {
-                    snapshot.buffManager.addBuff(
-                        buff.getType(),
-                        buff.getAmount(),
-                        buff.getRemainingTurns()
-                    );
-                }
-            }
-
-            return snapshot;
+            return new Player(this);
         } catch (Exception e) {
             GameLogger.logError("Failed to create player snapshot", e);
             return null;
@@ -1227,52 +1418,60 @@ public class Player implements Json.Serializable {
         }
 
         try {
-            // Restore basic stats
-            this.name = snapshot.name;
-            this.level = snapshot.level;
-            this.exp = snapshot.exp;
-            this.attack = snapshot.attack;
-            this.defense = snapshot.defense;
-            this.maxHP = snapshot.maxHP;
-            this.currentHP = snapshot.currentHP;
-            this.maxMP = snapshot.maxMP;
-            this.mp = snapshot.mp;
-            this.critRate = snapshot.critRate;
-            this.currentStage = snapshot.currentStage;
-            this.gold = snapshot.gold;
-
-            // Restore boss defeat status
-            this.boss1Defeated = snapshot.boss1Defeated;
-            this.boss2Defeated = snapshot.boss2Defeated;
-            this.boss3Defeated = snapshot.boss3Defeated;
-            this.boss4Defeated = snapshot.boss4Defeated;
-            this.boss5Defeated = snapshot.boss5Defeated;
-
-            // Restore skill data
-            this.unlockedSkills = new boolean[snapshot.unlockedSkills.length];
-            System.arraycopy(snapshot.unlockedSkills, 0, this.unlockedSkills, 0, snapshot.unlockedSkills.length);
-            this.currentSkill = snapshot.currentSkill;
-
-            // Restore inventory (serialize and deserialize for deep copy)
-            Json json = new Json();
-            json.setOutputType(JsonWriter.OutputType.json);
-            String inventoryJson = json.toJson(snapshot.inventory);
-            this.inventory = json.fromJson(Inventory.class, inventoryJson);
+            copyStateFrom(snapshot);
+//            GameLogger.logInfo("Player state restored from snapshot");
+        } catch (Exception e) {
+            GameLogger.logError("Failed to restore player from snapshot", e);
+        }
+    }
 
-            // Clear and restore buffs
-            this.ensureBuffManagerExists();
-            this.buffManager.clearBuffs();
-            for (BuffManager.StatBuff buff : snapshot.buffManager.getActiveBuffs()) {
+    /**
+     * Copies the persistent state and active buffs from another player.
+     * The inventory is taken as a copy-on-write snapshot so the source stays untouched
+     * and can be restored from again.
+     */
+    private void copyStateFrom(Player source) {
+        // Copy basic stats
+        this.name = source.name;
+        this.level = source.level;
+        this.exp = source.exp;
+        this.attack = source.attack;
+        this.defense = source.defense;
+        this.maxHP = source.maxHP;
+        this.currentHP = source.currentHP;
+        this.maxMP = source.maxMP;
+        this.mp = source.mp;
+        this.critRate = source.critRate;
+        this.currentStage = source.currentStage;
+        this.gold = source.gold;
+
+        // Copy boss defeat status
+        this.boss1Defeated = source.boss1Defeated;
+        this.boss2Defeated = source.boss2Defeated;
+        this.boss3Defeated = source.boss3Defeated;
+        this.boss4Defeated = source.boss4Defeated;
+        this.boss5Defeated = source.boss5Defeated;
+
+        // Copy skill data
+        this.unlockedSkills = new boolean[source.unlockedSkills.length];
+        System.arraycopy(source.unlockedSkills, 0, this.unlockedSkills, 0, source.unlockedSkills.length);
+        this.currentSkill = source.currentSkill;
+        this.skillsVersion++;
+
+        // Share the inventory until either side modifies it
+        this.inventory = source.inventory.createSnapshot();
+
+        // Clear and copy buffs
+        this.ensureBuffManagerExists();
+        this.buffManager.clearBuffs();
+        if (source.buffManager != null) {
+            for (BuffManager.StatBuff buff : source.buffManager.getActiveBuffs()) {
                 this.buffManager.addBuff(
                     buff.getType(),
                     buff.getAmount(),
                     buff.getRemainingTurns()
                 );
             }
-
-//            GameLogger.logInfo("Player state restored from snapshot");
-        } catch (Exception e) {
-            GameLogger.logError("Failed to restore player from snapshot", e);
         }
     }
 
@@ -0,0 +1,180 @@
+package swu.cp112.silkblade.entity.combat;
+
+import com.badlogic.gdx.Gdx;
+import swu.cp112.silkblade.util.GameClock;
+import swu.cp112.silkblade.util.GameLogger;
+
+/**
+ * Decides how much bullets spend on looks: trail samples, glow layers, the extra bloom pass,
+ * how often rainbow and disco colors are recomputed, and whether overlapping telegraph fills
+ * are merged. None of it changes where a bullet is or what it hits.
+ *
+ * In {@link Mode#AUTO} the level drops a step when frames run over budget and comes back a
+ * step at a time once there is headroom again. Coming back needs either fewer bullets than
+ * when it dropped, or a long calm stretch, so a heavy phase doesn't bounce between levels.
+ */
+public final class QualityGovernor {
+    public enum Mode {
+        AUTO, LOW, HIGH
+    }
+
+    private static final int LOWEST = 0;
+    private static final int HIGHEST = 3;
+
+    // Per level, from LOWEST to HIGHEST
+    private static final int[] TRAIL_STRIDE = {4, 3, 2, 1}; // Draw every Nth trail sample
+    private static final int[] GLOW_LAYERS = {1, 2, 3, 4};
+    private static final int[] TRAIL_GLOW_LAYERS = {1, 1, 2, 3};
+    private static final float[] COLOR_INTERVAL = {1 / 10f, 1 / 20f, 1 / 30f, 0f}; // Seconds between color updates
+    private static final int BLOOM_LEVEL = 2; // Extra glow pass at this level and above
+    private static final int MERGE_TELEGRAPHS_LEVEL = 1; // Telegraph fills merged at this level and below
+
+    private static final int WINDOW_FRAMES = 30;
+    private static final float DOWN_THRESHOLD = 1.2f; // Average frame time over the budget that lowers the level
+    private static final float UP_THRESHOLD = 1.05f; // Average frame time under the budget that counts as calm
+    private static final int CALM_WINDOWS = 4; // Calm windows before going up with fewer bullets than at the drop
+    private static final int LONG_CALM_WINDOWS = 12; // Calm windows before going up regardless, about 6 s
+    private static final float FEWER_BULLETS = 0.75f;
+    private static final long MAX_GAP_NANOS = 250_000_000L; // Longer gaps between frames are pauses, not load
+    private static final int DEFAULT_REFRESH_RATE = 60;
+
+    private static Mode mode = Mode.AUTO;
+    private static int level = HIGHEST;
+    private static long budgetNanos;
+
+    private static long lastFrameNanos;
+    private static long windowNanos;
+    private static int windowFrames;
+    private static int windowPeakBullets;
+    private static int calmWindows;
+    private static int bulletsAtDrop = Integer.MAX_VALUE;
+
+    private QualityGovernor() {
+    }
+
+    public static void setMode(Mode value) {
+        mode = value != null ? value : Mode.AUTO;
+        level = mode == Mode.LOW ? LOWEST : HIGHEST;
+        bulletsAtDrop = Integer.MAX_VALUE;
+        calmWindows = 0;
+    }
+
+    public static Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Forgets the last frame, for when a fight starts and the time since the previous one
+     * isn't a frame.
+     */
+    public static void resetFrameTiming() {
+        lastFrameNanos = 0;
+        windowNanos = 0;
+        windowFrames = 0;
+        windowPeakBullets = 0;
+    }
+
+    /**
+     * Measures a combat frame and adjusts the level in auto mode. Called once per frame.
+     */
+    public static void frame(int bullets) {
+        if (mode != Mode.AUTO) {
+            return;
+        }
+        if (GameClock.isThrottled()) {
+            resetFrameTiming(); // The background frame cap isn't load
+            return;
+        }
+        long now = System.nanoTime();
+        long frameNanos = now - lastFrameNanos;
+        lastFrameNanos = now;
+        if (frameNanos > MAX_GAP_NANOS) {
+            return;
+        }
+        windowNanos += frameNanos;
+        windowPeakBullets = Math.max(windowPeakBullets, bullets);
+        if (++windowFrames < WINDOW_FRAMES) {
+            return;
+        }
+
+        if (budgetNanos == 0) {
+            int refreshRate = Gdx.graphics.getDisplayMode().refreshRate;
+            budgetNanos = 1_000_000_000L / (refreshRate > 0 ? refreshRate : DEFAULT_REFRESH_RATE);
+        }
+        long average = windowNanos / windowFrames;
+        int peakBullets = windowPeakBullets;
+        windowNanos = 0;
+        windowFrames = 0;
+        windowPeakBullets = 0;
+
+        if (average > budgetNanos * DOWN_THRESHOLD) {
+            calmWindows = 0;
+            if (level > LOWEST) {
+                bulletsAtDrop = peakBullets;
+                setLevel(level - 1, peakBullets);
+            }
+        } else if (average < budgetNanos * UP_THRESHOLD && level < HIGHEST) {
+            calmWindows++;
+            boolean lighter = peakBullets < bulletsAtDrop * FEWER_BULLETS;
+            if ((lighter && calmWindows >= CALM_WINDOWS) || calmWindows >= LONG_CALM_WINDOWS) {
+                calmWindows = 0;
+                setLevel(level + 1, peakBullets);
+            }
+        } else {
+            calmWindows = 0;
+        }
+    }
+
+    private static void setLevel(int value, int bullets) {
+        level = value;
+        // The first frame at the new level isn't representative
+        lastFrameNanos = 0;
+        GameLogger.logInfo("Bullet quality level " + level + " of " + HIGHEST + " with " + bullets + " bullets");
+    }
+
+    public static int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets how many trail samples are skipped between drawn ones, 1 draws every sample.
+     */
+    public static int getTrailStride() {
+        return TRAIL_STRIDE[level];
+    }
+
+    /**
+     * Caps a bullet's glow layers.
+     */
+    public static int getGlowLayers(int wanted) {
+        return Math.min(wanted, GLOW_LAYERS[level]);
+    }
+
+    /**
+     * Caps the glow layers drawn behind each trail sample.
+     */
+    public static int getTrailGlowLayers(int wanted) {
+        return Math.min(wanted, TRAIL_GLOW_LAYERS[level]);
+    }
+
+    /**
+     * Whether glowing bullets get the extra wide bloom pass.
+     */
+    public static boolean isBloomEnabled() {
+        return level >= BLOOM_LEVEL;
+    }
+
+    /**
+     * Gets the seconds between recomputing animated bullet colors, 0 for every frame.
+     */
+    public static float getColorUpdateInterval() {
+        return COLOR_INTERVAL[level];
+    }
+
+    /**
+     * Whether telegraph fills that lie on top of each other are drawn once.
+     */
+    public static boolean isMergingTelegraphs() {
+        return level <= MERGE_TELEGRAPHS_LEVEL;
+    }
+}
@@ -9,7 +9,10 @@ import com.badlogic.gdx.math.MathUtils;
 import swu.cp112.silkblade.pattern.EnemyAttackPattern;
 import swu.cp112.silkblade.pattern.EnemyAttackPatternManager;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.screen.CombatScene;
+import swu.cp112.silkblade.util.FrameProfiler;
+import swu.cp112.silkblade.util.GameEvents;
 import swu.cp112.silkblade.util.GameLogger;
 
 import java.util.ArrayList;
@@ -260,7 +263,13 @@ public abstract class AbstractEnemy implements Enemy {
     public List<Bullet> generateAttack(float arenaX, float arenaY, float arenaWidth, float arenaHeight) {
         // Pass back to the current pattern if available
         if (currentPattern != null) {
+            long profileStart = FrameProfiler.start();
+            Object event = GameEvents.begin(GameEvents.Kind.PATTERN_VOLLEY);
             List<Bullet> generatedBullets = currentPattern.generateBullets(this, arenaX, arenaY, arenaWidth, arenaHeight);
+            GameEvents.end(event, currentPattern.getPatternName(), generatedBullets != null ? generatedBullets.size() : 0);
+            if (profileStart != 0L) {
+                FrameProfiler.stop("generateBullets: " + currentPattern.getPatternName(), profileStart);
+            }
             
             // Notify subclasses that bullets were spawned
             if (generatedBullets != null && !generatedBullets.isEmpty()) {
@@ -359,7 +368,8 @@ public abstract class AbstractEnemy implements Enemy {
         if (!randomTurnDialogues.isEmpty()) {
             int nextIndex;
             do {
-                nextIndex = MathUtils.random(0, randomTurnDialogues.size() - 1);
+                // Seeded so a replay shows the same line
+                nextIndex = CombatRandom.random(0, randomTurnDialogues.size() - 1);
             } while (nextIndex == lastDialogueIndex && randomTurnDialogues.size() > 1);
 
             lastDialogueIndex = nextIndex;
@@ -505,6 +515,9 @@ public abstract class AbstractEnemy implements Enemy {
 
     // Resource management methods
     public void dispose() {
+        if (texture != null) {
+            texture.dispose();
+        }
         if (hitSound != null) {
             hitSound.dispose();
         }
@@ -561,6 +574,10 @@ public abstract class AbstractEnemy implements Enemy {
         }
     }
 
+    public int getAttackPatternCount() {
+        return patternManager != null ? patternManager.getPatternCount() : 0;
+    }
+
     // Add these getter methods
     public float getLastPlayerX() {
         return lastPlayerX;
@@ -10,6 +10,7 @@ import swu.cp112.silkblade.pattern.crimsonsericulture.PrecisionNeedlePattern;
 import swu.cp112.silkblade.pattern.crimsonsericulture.ThreadweaverPattern;
 import swu.cp112.silkblade.pattern.crimsonsericulture.PrismaticAssaultPattern;
 import swu.cp112.silkblade.screen.StageSelectionScreen;
+import swu.cp112.silkblade.util.GameClock;
 import swu.cp112.silkblade.util.GameLogger;
 
 /**
@@ -136,7 +137,7 @@ public class CrimsonSericulture extends AbstractEnemy {
 
         // Update transition animation
         if (phaseTransitionTimer > 0) {
-            phaseTransitionTimer -= Gdx.graphics.getDeltaTime();
+            phaseTransitionTimer -= GameClock.getDelta();
 
             // If transition complete, finalize phase 2
             if (phaseTransitionTimer <= 0) {
@@ -0,0 +1,96 @@
+package swu.cp112.silkblade.entity.enemy;
+
+import swu.cp112.silkblade.entity.enemy.silkgod.DemoEnemy;
+
+/**
+ * Which enemy is fought on which stage, and creation of enemies by name.
+ * Stage selection and the headless tools share this so they always agree.
+ */
+public final class EnemyRoster {
+    public static final int FIRST_STAGE = 1;
+    public static final int LAST_STAGE = 50;
+
+    /**
+     * Names accepted by {@link #create(String, int)}, in stage order. DemoEnemy is the secret boss.
+     */
+    public static final String[] ENEMY_NAMES = {
+        "SilkWraith", "SilkGuardian", "SilkWeaver", "GoldenCocoon", "SilkCicada",
+        "Threadmancer", "SpiritOfTheLoom", "CrimsonSericulture", "HundredSilkOgre", "SilkRevenant",
+        "DemoEnemy"
+    };
+
+    private EnemyRoster() {
+    }
+
+    /**
+     * Creates the enemy fought on a stage. Stages outside the roster get the DemoEnemy.
+     */
+    public static Enemy forStage(int stage) {
+        for (String name : ENEMY_NAMES) {
+            if (stage >= getFirstStage(name) && stage <= getLastStage(name)) {
+                return create(name, stage);
+            }
+        }
+        return new DemoEnemy();
+    }
+
+    /**
+     * Creates an enemy by class name. The stage only matters for enemies that scale with it.
+     *
+     * @throws IllegalArgumentException if the name is not in {@link #ENEMY_NAMES}
+     */
+    public static Enemy create(String name, int stage) {
+        switch (name) {
+            case "SilkWraith": return new SilkWraith(stage);
+            case "SilkGuardian": return new SilkGuardian();
+            case "SilkWeaver": return new SilkWeaver(stage);
+            case "GoldenCocoon": return new GoldenCocoon();
+            case "SilkCicada": return new SilkCicada(stage);
+            case "Threadmancer": return new Threadmancer();
+            case "SpiritOfTheLoom": return new SpiritOfTheLoom(stage);
+            case "CrimsonSericulture": return new CrimsonSericulture();
+            case "HundredSilkOgre": return new HundredSilkOgre(stage);
+            case "SilkRevenant": return new SilkRevenant();
+            case "DemoEnemy": return new DemoEnemy();
+            default:
+                throw new IllegalArgumentException("Unknown enemy: " + name);
+        }
+    }
+
+    /**
+     * Gets the first stage an enemy appears on. The DemoEnemy can appear on any stage.
+     */
+    public static int getFirstStage(String name) {
+        switch (name) {
+            case "SilkWraith": return 1;
+            case "SilkGuardian": return 10;
+            case "SilkWeaver": return 11;
+            case "GoldenCocoon": return 20;
+            case "SilkCicada": return 21;
+            case "Threadmancer": return 30;
+            case "SpiritOfTheLoom": return 31;
+            case "CrimsonSericulture": return 40;
+            case "HundredSilkOgre": return 41;
+            case "SilkRevenant": return 50;
+            case "DemoEnemy": return FIRST_STAGE;
+            default:
+                throw new IllegalArgumentException("Unknown enemy: " + name);
+        }
+    }
+
+    /**
+     * Gets the last stage an enemy appears on.
+     */
+    public static int getLastStage(String name) {
+        switch (name) {
+            case "SilkWraith": return 9;
+            case "SilkWeaver": return 19;
+            case "SilkCicada": return 29;
+            case "SpiritOfTheLoom": return 39;
+            case "HundredSilkOgre": return 49;
+            case "DemoEnemy": return LAST_STAGE;
+            default:
+                return getFirstStage(name); // Bosses appear on a single stage
+        }
+    }
+}
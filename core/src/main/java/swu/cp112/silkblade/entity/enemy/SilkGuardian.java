@@ -194,7 +194,7 @@ public class SilkGuardian extends AbstractEnemy {
         float drawY = y;
 
         if (phaseTransitionTimer > 0) {
-            // Add vibration during phase transition
+            // Add vibration during phase transition, drawing only so it doesn't use the seeded combat random
             drawX += MathUtils.random(-5, 5);
             drawY += MathUtils.random(-5, 5);
         }
@@ -149,8 +149,22 @@ public class ConsumableItem implements Json.Serializable, Cloneable {
     @Override
     public void read(Json json, JsonValue jsonData) {
         // Read the ID and quantity from saved data
-        id = jsonData.getString("id");
-        quantity = jsonData.getInt("quantity", 1);
+        loadFromDatabase(jsonData.getString("id"), jsonData.getInt("quantity", 1));
+    }
+
+    /**
+     * Creates a consumable instance from a saved ID and quantity.
+     * Unknown IDs produce a placeholder item, same as the JSON loader.
+     */
+    public static ConsumableItem fromSavedId(String id, int quantity) {
+        ConsumableItem item = new ConsumableItem();
+        item.loadFromDatabase(id, quantity);
+        return item;
+    }
+
+    private void loadFromDatabase(String id, int quantity) {
+        this.id = id;
+        this.quantity = quantity;
 
         // Load the item data from the database
         ConsumableItem template = ItemDatabase.getInstance().getConsumableById(id);
@@ -195,8 +195,22 @@ public class Equipment implements Json.Serializable, Cloneable {
     @Override
     public void read(Json json, JsonValue jsonData) {
         // Only read the ID; other properties will be loaded from the database
-        id = jsonData.getString("id");
-        
+        loadFromDatabase(jsonData.getString("id"));
+    }
+
+    /**
+     * Creates an equipment instance from a saved ID.
+     * Unknown IDs produce a placeholder item, same as the JSON loader.
+     */
+    public static Equipment fromSavedId(String id) {
+        Equipment item = new Equipment();
+        item.loadFromDatabase(id);
+        return item;
+    }
+
+    private void loadFromDatabase(String id) {
+        this.id = id;
+
         // Load the equipment data from the database
         Equipment template = ItemDatabase.getInstance().getEquipmentById(id);
         if (template != null) {
@@ -0,0 +1,97 @@
+package swu.cp112.silkblade.entity.item;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Immutable aggregate of the bonuses granted by a set of equipped items.
+ * Built by the inventory whenever equipment changes so stat reads are plain field loads.
+ */
+public final class EquipmentStats {
+    public static final EquipmentStats EMPTY = new EquipmentStats(0, 0, 0, 0, 0f, 0f, 0f, 0f, 0f,
+        false, 0f, false, false);
+
+    // Flat bonuses
+    public final int attackBonus;
+    public final int defenseBonus;
+    public final int maxHPBonus;
+    public final int maxMPBonus;
+    public final float critRateBonus;
+
+    // Percentage-based bonuses (0.05f = 5%, 0.20f = 20%, etc.)
+    public final float maxHPPercentBonus;
+    public final float maxMPPercentBonus;
+    public final float attackPercentBonus;
+    public final float defensePercentBonus;
+
+    // Special effects
+    public final boolean hasDoubleAttack; // From the weapon only
+    public final float thornDamage; // From the armor only
+    public final boolean hasDeathDefiance;
+    public final boolean hasFreeSkillCast;
+
+    private EquipmentStats(int attackBonus, int defenseBonus, int maxHPBonus, int maxMPBonus,
+                           float critRateBonus, float maxHPPercentBonus, float maxMPPercentBonus,
+                           float attackPercentBonus, float defensePercentBonus, boolean hasDoubleAttack,
+                           float thornDamage, boolean hasDeathDefiance, boolean hasFreeSkillCast) {
+        this.attackBonus = attackBonus;
+        this.defenseBonus = defenseBonus;
+        this.maxHPBonus = maxHPBonus;
+        this.maxMPBonus = maxMPBonus;
+        this.critRateBonus = critRateBonus;
+        this.maxHPPercentBonus = maxHPPercentBonus;
+        this.maxMPPercentBonus = maxMPPercentBonus;
+        this.attackPercentBonus = attackPercentBonus;
+        this.defensePercentBonus = defensePercentBonus;
+        this.hasDoubleAttack = hasDoubleAttack;
+        this.thornDamage = thornDamage;
+        this.hasDeathDefiance = hasDeathDefiance;
+        this.hasFreeSkillCast = hasFreeSkillCast;
+    }
+
+    /**
+     * Aggregates the bonuses of the given equipped slots, indexed by EquipmentType ordinal.
+     * Empty slots are null.
+     */
+    public static EquipmentStats of(Array<Equipment> equippedItems) {
+        int attackBonus = 0;
+        int defenseBonus = 0;
+        int maxHPBonus = 0;
+        int maxMPBonus = 0;
+        float critRateBonus = 0;
+        float maxHPPercentBonus = 0;
+        float maxMPPercentBonus = 0;
+        float attackPercentBonus = 0;
+        float defensePercentBonus = 0;
+        boolean hasDeathDefiance = false;
+        boolean hasFreeSkillCast = false;
+
+        for (Equipment item : equippedItems) {
+            if (item == null) continue;
+            attackBonus += item.getAttackBonus();
+            defenseBonus += item.getDefenseBonus();
+            maxHPBonus += item.getMaxHPBonus();
+            maxMPBonus += item.getMaxMPBonus();
+            critRateBonus += item.getCritRateBonus();
+            maxHPPercentBonus += item.getMaxHPPercentBonus();
+            maxMPPercentBonus += item.getMaxMPPercentBonus();
+            attackPercentBonus += item.getAttackPercentBonus();
+            defensePercentBonus += item.getDefensePercentBonus();
+            hasDeathDefiance |= item.hasDeathDefiance();
+            hasFreeSkillCast |= item.hasFreeSkillCast();
+        }
+
+        Equipment weapon = slot(equippedItems, Equipment.EquipmentType.WEAPON);
+        Equipment armor = slot(equippedItems, Equipment.EquipmentType.ARMOR);
+
+        return new EquipmentStats(attackBonus, defenseBonus, maxHPBonus, maxMPBonus, critRateBonus,
+            maxHPPercentBonus, maxMPPercentBonus, attackPercentBonus, defensePercentBonus,
+            weapon != null && weapon.hasDoubleAttack(),
+            armor != null ? armor.getThornDamage() : 0f,
+            hasDeathDefiance, hasFreeSkillCast);
+    }
+
+    private static Equipment slot(Array<Equipment> equippedItems, Equipment.EquipmentType type) {
+        int index = type.ordinal();
+        return index < equippedItems.size ? equippedItems.get(index) : null;
+    }
+}
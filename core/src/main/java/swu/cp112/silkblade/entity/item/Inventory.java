@@ -4,9 +4,16 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
 import swu.cp112.silkblade.util.GameLogger;
+import swu.cp112.silkblade.util.SaveCodec;
+
+import java.io.IOException;
 
 /**
  * Manages the player's equipment and storage.
+ *
+ * Snapshots share containers with the inventory they were taken from (copy-on-write).
+ * Equipment is never modified after it leaves the database, so equipment containers
+ * only copy the arrays; consumable containers also clone the items since quantities change.
  */
 public class Inventory implements Json.Serializable {
 
@@ -20,6 +27,19 @@ public class Inventory implements Json.Serializable {
     private Array<ConsumableItem> consumableItems; // Consumable items (can stack)
     private Array<ConsumableItem> combatItems; // Items selected for use in combat
 
+    // Copy-on-write flags, set while the containers are shared with a snapshot
+    private boolean equipmentShared;
+    private boolean consumablesShared;
+
+    // Aggregated bonuses of the equipped items, rebuilt on equip/unequip/load
+    private static int nextEquipmentVersion = 0;
+    private EquipmentStats equipmentStats = EquipmentStats.EMPTY;
+    private int equipmentVersion = nextEquipmentVersion++;
+
+    // Stamp of the consumable containers, renewed whenever they may have been modified
+    private static int nextConsumablesVersion = 0;
+    private int consumablesVersion = nextConsumablesVersion++;
+
     public Inventory() {
         equippedItems = new Array<>(MAX_EQUIPPED_SLOTS);
         // Initialize equipped slots with null values
@@ -36,6 +56,103 @@ public class Inventory implements Json.Serializable {
         addStarterItems();
     }
 
+    /**
+     * Creates a snapshot sharing the containers of the given inventory.
+     */
+    private Inventory(Inventory source) {
+        equippedItems = source.equippedItems;
+        inventoryItems = source.inventoryItems;
+        storageItems = source.storageItems;
+        consumableItems = source.consumableItems;
+        combatItems = source.combatItems;
+        equipmentStats = source.equipmentStats;
+        equipmentVersion = source.equipmentVersion;
+        consumablesVersion = source.consumablesVersion;
+        equipmentShared = true;
+        consumablesShared = true;
+    }
+
+    /**
+     * Creates a snapshot of this inventory in O(1).
+     * Both inventories share their containers until one of them is modified,
+     * at which point only the modified container group is copied.
+     */
+    public Inventory createSnapshot() {
+        equipmentShared = true;
+        consumablesShared = true;
+        return new Inventory(this);
+    }
+
+    /**
+     * Copies the equipment containers if they are shared with a snapshot.
+     */
+    private void detachEquipment() {
+        if (!equipmentShared) {
+            return;
+        }
+        equippedItems = new Array<>(equippedItems);
+        Array<Equipment> inventoryCopy = new Array<>(true, Math.max(MAX_INVENTORY_SLOTS, inventoryItems.size));
+        inventoryCopy.addAll(inventoryItems);
+        inventoryItems = inventoryCopy;
+        storageItems = new Array<>(storageItems);
+        equipmentShared = false;
+    }
+
+    /**
+     * Copies the consumable containers and their items if they are shared with a snapshot.
+     * Called before every possible modification, so it also renews the consumables version.
+     */
+    private void detachConsumables() {
+        consumablesVersion = nextConsumablesVersion++;
+        if (!consumablesShared) {
+            return;
+        }
+        consumableItems = copyConsumables(consumableItems, consumableItems.size);
+        combatItems = copyConsumables(combatItems, MAX_COMBAT_ITEMS);
+        consumablesShared = false;
+    }
+
+    /**
+     * Rebuilds the aggregated equipment bonuses and stamps them with a new version.
+     * Versions are unique across all inventories so derived stat caches can compare them directly.
+     */
+    private void refreshEquipmentStats() {
+        equipmentStats = EquipmentStats.of(equippedItems);
+        equipmentVersion = nextEquipmentVersion++;
+    }
+
+    /**
+     * Gets the aggregated bonuses of all equipped items.
+     */
+    public EquipmentStats getEquipmentStats() {
+        return equipmentStats;
+    }
+
+    /**
+     * Gets the version stamp of the current equipment stats.
+     * Changes every time the equipped items change.
+     */
+    public int getEquipmentVersion() {
+        return equipmentVersion;
+    }
+
+    /**
+     * Gets the version stamp of the consumable and combat item lists.
+     * Changes every time they are modified or handed out for modification,
+     * so views built from them should read it after building.
+     */
+    public int getConsumablesVersion() {
+        return consumablesVersion;
+    }
+
+    private static Array<ConsumableItem> copyConsumables(Array<ConsumableItem> items, int capacity) {
+        Array<ConsumableItem> copy = new Array<>(true, Math.max(capacity, items.size));
+        for (ConsumableItem item : items) {
+            copy.add(item.clone());
+        }
+        return copy;
+    }
+
     /**
      * Add some starter items for testing.
      */
@@ -65,6 +182,7 @@ public class Inventory implements Json.Serializable {
      * Gets all equipped items.
      */
     public Array<Equipment> getEquippedItems() {
+        detachEquipment(); // Callers may modify the returned array
         return equippedItems;
     }
 
@@ -95,6 +213,7 @@ public class Inventory implements Json.Serializable {
      */
     public Equipment equipItem(Equipment item) {
         if (item == null) return null;
+        detachEquipment();
 
         int slot = item.getType().ordinal();
         Equipment previousItem = equippedItems.get(slot);
@@ -103,6 +222,8 @@ public class Inventory implements Json.Serializable {
         // Remove the item from inventory if it was there
         inventoryItems.removeValue(item, true);
 
+        refreshEquipmentStats();
+
         return previousItem;
     }
 
@@ -122,6 +243,7 @@ public class Inventory implements Json.Serializable {
         if (inventoryItems.size >= MAX_INVENTORY_SLOTS) {
             return false; // No space in inventory
         }
+        detachEquipment();
 
         // Remove item from equipped slot
         equippedItems.set(slot, null);
@@ -129,6 +251,8 @@ public class Inventory implements Json.Serializable {
         // Add to inventory
         inventoryItems.add(item);
 
+        refreshEquipmentStats();
+
         return true;
     }
 
@@ -140,6 +264,7 @@ public class Inventory implements Json.Serializable {
             return false; // Inventory full
         }
 
+        detachEquipment();
         inventoryItems.add(item);
         return true;
     }
@@ -150,6 +275,8 @@ public class Inventory implements Json.Serializable {
      * Returns true if successful.
      */
     public boolean addConsumableItem(ConsumableItem item) {
+        detachConsumables();
+
         // Check if we already have this item
         for (ConsumableItem existingItem : consumableItems) {
             if (existingItem.getName().equals(item.getName())) {
@@ -182,9 +309,13 @@ public class Inventory implements Json.Serializable {
      * Returns true if successfully used.
      */
     public boolean useConsumableItem(ConsumableItem item) {
-        if (item == null || !consumableItems.contains(item, true)) {
+        int index = item != null ? consumableItems.indexOf(item, true) : -1;
+        if (index < 0) {
             return false;
         }
+        // Look the item up again in case detaching replaced it with a copy
+        detachConsumables();
+        item = consumableItems.get(index);
 
         if (item.decreaseQuantity(1)) {
             // If quantity becomes 0, remove the item
@@ -201,6 +332,7 @@ public class Inventory implements Json.Serializable {
      * Gets all consumable items.
      */
     public Array<ConsumableItem> getConsumableItems() {
+        detachConsumables(); // Callers may modify the returned array or its items
         return consumableItems;
     }
 
@@ -208,6 +340,7 @@ public class Inventory implements Json.Serializable {
      * Gets all items selected for combat.
      */
     public Array<ConsumableItem> getCombatItems() {
+        detachConsumables(); // Callers may modify the returned array or its items
         return combatItems;
     }
 
@@ -229,6 +362,8 @@ public class Inventory implements Json.Serializable {
      * Returns true if the selection state was changed.
      */
     public boolean toggleCombatSelection(ConsumableItem item) {
+        detachConsumables();
+
         // Check if already selected
         for (int i = 0; i < combatItems.size; i++) {
             ConsumableItem combatItem = combatItems.get(i);
@@ -261,6 +396,7 @@ public class Inventory implements Json.Serializable {
         }
         
         // Remove item from inventory
+        detachEquipment();
         boolean removed = inventoryItems.removeValue(item, true);
         
         // Also remove from combat items if it's an accessory with combat effects
@@ -278,7 +414,13 @@ public class Inventory implements Json.Serializable {
         }
         
         // Remove item from inventory
-        boolean removed = consumableItems.removeValue(item, true);
+        int index = consumableItems.indexOf(item, true);
+        boolean removed = index >= 0;
+        if (removed) {
+            // Remove by index in case detaching replaced the item with a copy
+            detachConsumables();
+            consumableItems.removeIndex(index);
+        }
         
         // Also remove from combat items if it was selected
         if (removed) {
@@ -302,6 +444,7 @@ public class Inventory implements Json.Serializable {
             return false; // Item not in inventory
         }
 
+        detachEquipment();
         inventoryItems.removeValue(item, true);
         storageItems.add(item);
         return true;
@@ -319,6 +462,7 @@ public class Inventory implements Json.Serializable {
             return false; // Inventory full
         }
 
+        detachEquipment();
         storageItems.removeValue(item, true);
         inventoryItems.add(item);
         return true;
@@ -328,6 +472,7 @@ public class Inventory implements Json.Serializable {
      * Gets items in the inventory.
      */
     public Array<Equipment> getInventoryItems() {
+        detachEquipment(); // Callers may modify the returned array
         return inventoryItems;
     }
 
@@ -335,128 +480,75 @@ public class Inventory implements Json.Serializable {
      * Gets items in storage.
      */
     public Array<Equipment> getStorageItems() {
+        detachEquipment(); // Callers may modify the returned array
         return storageItems;
     }
 
     /**
-     * Calculates the total attack bonus from all equipped items.
+     * Gets the total attack bonus from all equipped items.
      */
     public int getTotalAttackBonus() {
-        int total = 0;
-        for (Equipment item : equippedItems) {
-            if (item != null) {
-                total += item.getAttackBonus();
-            }
-        }
-        return total;
+        return equipmentStats.attackBonus;
     }
 
     /**
-     * Calculates the total defense bonus from all equipped items.
+     * Gets the total defense bonus from all equipped items.
      */
     public int getTotalDefenseBonus() {
-        int total = 0;
-        for (Equipment item : equippedItems) {
-            if (item != null) {
-                total += item.getDefenseBonus();
-            }
-        }
-        return total;
+        return equipmentStats.defenseBonus;
     }
 
     /**
-     * Calculates the total max HP bonus from all equipped items.
+     * Gets the total max HP bonus from all equipped items.
      */
     public int getTotalMaxHPBonus() {
-        int total = 0;
-        for (Equipment item : equippedItems) {
-            if (item != null) {
-                total += item.getMaxHPBonus();
-            }
-        }
-        return total;
+        return equipmentStats.maxHPBonus;
     }
 
     /**
-     * Calculates the total max MP bonus from all equipped items.
+     * Gets the total max MP bonus from all equipped items.
      */
     public int getTotalMaxMPBonus() {
-        int total = 0;
-        for (Equipment item : equippedItems) {
-            if (item != null) {
-                total += item.getMaxMPBonus();
-            }
-        }
-        return total;
+        return equipmentStats.maxMPBonus;
     }
 
     /**
-     * Calculates the total crit rate bonus from all equipped items.
+     * Gets the total crit rate bonus from all equipped items.
      */
     public float getTotalCritRateBonus() {
-        float total = 0;
-        for (Equipment item : equippedItems) {
-            if (item != null) {
-                total += item.getCritRateBonus();
-            }
-        }
-        return total;
+        return equipmentStats.critRateBonus;
     }
 
     /**
-     * Calculates the total max HP percentage bonus from all equipped items.
+     * Gets the total max HP percentage bonus from all equipped items.
      * Returns a decimal value (0.05f = 5%, 0.20f = 20%, etc.)
      */
     public float getTotalMaxHPPercentBonus() {
-        float total = 0;
-        for (Equipment item : equippedItems) {
-            if (item != null) {
-                total += item.getMaxHPPercentBonus();
-            }
-        }
-        return total;
+        return equipmentStats.maxHPPercentBonus;
     }
 
     /**
-     * Calculates the total max MP percentage bonus from all equipped items.
+     * Gets the total max MP percentage bonus from all equipped items.
      * Returns a decimal value (0.05f = 5%, 0.20f = 20%, etc.)
      */
     public float getTotalMaxMPPercentBonus() {
-        float total = 0;
-        for (Equipment item : equippedItems) {
-            if (item != null) {
-                total += item.getMaxMPPercentBonus();
-            }
-        }
-        return total;
+        return equipmentStats.maxMPPercentBonus;
     }
 
     /**
-     * Calculates the total attack percentage bonus from all equipped items.
+     * Gets the total attack percentage bonus from all equipped items.
      * Returns a decimal value (0.05f = 5%, 0.20f = 20%, etc.)
      */
     public float getTotalAttackPercentBonus() {
-        float total = 0;
-        for (Equipment item : equippedItems) {
-            if (item != null) {
-                total += item.getAttackPercentBonus();
-            }
-        }
-        return total;
+        return equipmentStats.attackPercentBonus;
     }
 
     /**
-     * Calculates the total defense percentage bonus from all equipped items.
+     * Gets the total defense percentage bonus from all equipped items.
      * Returns a decimal value (0.05f = 5%, 0.20f = 20%, etc.)
      */
     public float getTotalDefensePercentBonus() {
-        float total = 0;
-        for (Equipment item : equippedItems) {
-            if (item != null) {
-                total += item.getDefensePercentBonus();
-            }
-        }
-        return total;
+        return equipmentStats.defensePercentBonus;
     }
 
     /**
@@ -465,21 +557,17 @@ public class Inventory implements Json.Serializable {
      * @return true if the equipped weapon has double attack
      */
     public boolean hasDoubleAttack() {
-        // Weapon is at index 0 of equippedItems (based on the ordinal of EquipmentType.WEAPON)
-        Equipment weapon = equippedItems.get(0);
-        return weapon != null && weapon.hasDoubleAttack();
+        return equipmentStats.hasDoubleAttack;
     }
     
     /**
-     * Calculates the total thorn damage percentage from equipped armor.
+     * Gets the total thorn damage percentage from equipped armor.
      * Returns a decimal value (0.15f = 15%, 0.30f = 30%, etc.)
      * 
      * @return The total thorn damage percentage
      */
     public float getTotalThornDamage() {
-        // Armor is at index 1 of equippedItems (based on the ordinal of EquipmentType.ARMOR)
-        Equipment armor = equippedItems.get(1);
-        return (armor != null) ? armor.getThornDamage() : 0f;
+        return equipmentStats.thornDamage;
     }
 
     /**
@@ -488,12 +576,7 @@ public class Inventory implements Json.Serializable {
      * @return true if death defiance is available
      */
     public boolean hasDeathDefiance() {
-        for (Equipment item : equippedItems) {
-            if (item != null && item.hasDeathDefiance()) {
-                return true;
-            }
-        }
-        return false;
+        return equipmentStats.hasDeathDefiance;
     }
     
     /**
@@ -503,12 +586,7 @@ public class Inventory implements Json.Serializable {
      * @return true if free skill cast is available from an equipped item
      */
     public boolean hasFreeSkillCast() {
-        for (Equipment item : equippedItems) {
-            if (item != null && item.hasFreeSkillCast()) {
-                return true;
-            }
-        }
-        return false;
+        return equipmentStats.hasFreeSkillCast;
     }
 
     // Json.Serializable implementation
@@ -553,6 +631,8 @@ public class Inventory implements Json.Serializable {
     @Override
     public void read(Json json, JsonValue jsonData) {
         // Clear existing items
+        detachEquipment();
+        detachConsumables();
         equippedItems.clear();
         inventoryItems.clear();
         storageItems.clear();
@@ -578,6 +658,7 @@ public class Inventory implements Json.Serializable {
                 }
             }
         }
+        refreshEquipmentStats();
 
         // Read inventory items
         JsonValue inventoryArray = jsonData.get("inventoryItems");
@@ -639,4 +720,125 @@ public class Inventory implements Json.Serializable {
             }
         }
     }
+
+    // Binary save format (see SaveCodec)
+    /**
+     * Writes the inventory in the compact binary save format.
+     * Items are stored as interned ID references, consumables also store their quantity.
+     */
+    public void writeBinary(SaveCodec.Writer out) throws IOException {
+        for (int i = 0; i < MAX_EQUIPPED_SLOTS; i++) {
+            Equipment item = equippedItems.get(i);
+            out.writeId(item != null ? item.getId() : null);
+        }
+        writeEquipmentList(out, inventoryItems);
+        writeEquipmentList(out, storageItems);
+        writeConsumableList(out, consumableItems);
+        writeConsumableList(out, combatItems);
+    }
+
+    /**
+     * Reads the inventory from the compact binary save format.
+     * Applies the same slot limits as the JSON loader.
+     */
+    public void readBinary(SaveCodec.Reader in) throws IOException {
+        detachEquipment();
+        detachConsumables();
+        equippedItems.clear();
+        inventoryItems.clear();
+        storageItems.clear();
+        consumableItems.clear();
+        combatItems.clear();
+
+        // Resolve each distinct saved ID to its database index once
+        ItemDatabase db = ItemDatabase.getInstance();
+        int[] equipmentIndexes = new int[in.getIdCount()];
+        int[] consumableIndexes = new int[in.getIdCount()];
+        for (int i = 0; i < equipmentIndexes.length; i++) {
+            equipmentIndexes[i] = db.getEquipmentIndex(in.getId(i));
+            consumableIndexes[i] = db.getConsumableIndex(in.getId(i));
+        }
+
+        for (int i = 0; i < MAX_EQUIPPED_SLOTS; i++) {
+            equippedItems.add(null);
+        }
+        for (int i = 0; i < MAX_EQUIPPED_SLOTS; i++) {
+            int ref = in.readIdIndex();
+            if (ref >= 0) {
+                Equipment item = readEquipment(in, db, equipmentIndexes, ref);
+                equippedItems.set(item.getType().ordinal(), item);
+            }
+        }
+        refreshEquipmentStats();
+
+        int inventoryCount = in.readVarInt();
+        for (int i = 0; i < inventoryCount; i++) {
+            Equipment item = readEquipment(in, db, equipmentIndexes, in.readIdIndex());
+            if (inventoryItems.size < MAX_INVENTORY_SLOTS) {
+                inventoryItems.add(item);
+            } else {
+                // If inventory is full, move to storage
+                storageItems.add(item);
+            }
+        }
+
+        int storageCount = in.readVarInt();
+        storageItems.ensureCapacity(storageCount);
+        for (int i = 0; i < storageCount; i++) {
+            storageItems.add(readEquipment(in, db, equipmentIndexes, in.readIdIndex()));
+        }
+
+        int consumableCount = in.readVarInt();
+        for (int i = 0; i < consumableCount; i++) {
+            int ref = in.readIdIndex();
+            consumableItems.add(readConsumable(in, db, consumableIndexes, ref, in.readVarInt()));
+        }
+
+        int combatCount = in.readVarInt();
+        for (int i = 0; i < combatCount; i++) {
+            int ref = in.readIdIndex();
+            int quantity = in.readVarInt();
+            if (combatItems.size < MAX_COMBAT_ITEMS) {
+                combatItems.add(readConsumable(in, db, consumableIndexes, ref, quantity));
+            }
+        }
+    }
+
+    private static Equipment readEquipment(SaveCodec.Reader in, ItemDatabase db, int[] indexes, int ref)
+            throws IOException {
+        if (ref < 0) {
+            throw new IOException("Missing equipment ID in save file");
+        }
+        int index = indexes[ref];
+        return index >= 0 ? db.getEquipmentByIndex(index) : Equipment.fromSavedId(in.getId(ref));
+    }
+
+    private static ConsumableItem readConsumable(SaveCodec.Reader in, ItemDatabase db, int[] indexes,
+                                                 int ref, int quantity) throws IOException {
+        if (ref < 0) {
+            throw new IOException("Missing consumable ID in save file");
+        }
+        int index = indexes[ref];
+        if (index < 0) {
+            return ConsumableItem.fromSavedId(in.getId(ref), quantity);
+        }
+        ConsumableItem item = db.getConsumableByIndex(index);
+        item.setQuantity(quantity);
+        return item;
+    }
+
+    private static void writeEquipmentList(SaveCodec.Writer out, Array<Equipment> items) throws IOException {
+        out.writeVarInt(items.size);
+        for (Equipment item : items) {
+            out.writeId(item.getId());
+        }
+    }
+
+    private static void writeConsumableList(SaveCodec.Writer out, Array<ConsumableItem> items) throws IOException {
+        out.writeVarInt(items.size);
+        for (ConsumableItem item : items) {
+            out.writeId(item.getId());
+            out.writeVarInt(item.getQuantity());
+        }
+    }
 }
@@ -1,12 +1,22 @@
 package swu.cp112.silkblade.entity.item;
 
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
 import com.badlogic.gdx.utils.ObjectMap;
 import swu.cp112.silkblade.util.GameLogger;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
 /**
  * Central database of all available items in the game.
  * Items are defined as code instead of in JSON to make it harder to cheat.
+ *
+ * After registration the database builds immutable indexes (by type, by tier, and
+ * sorted by tier then name) and assigns every item an int index for fast lookups.
+ * Indexed items are the shared templates; clone them before modifying or storing them.
  */
 public class ItemDatabase {
     // Singleton instance
@@ -16,10 +26,40 @@ public class ItemDatabase {
     private final ObjectMap<String, Equipment> equipmentDatabase = new ObjectMap<>();
     private final ObjectMap<String, ConsumableItem> consumableDatabase = new ObjectMap<>();
 
+    // Interned int indexes, in registration order
+    private final Array<Equipment> equipmentTable = new Array<>();
+    private final Array<ConsumableItem> consumableTable = new Array<>();
+    private final ObjectIntMap<String> equipmentIndex = new ObjectIntMap<>();
+    private final ObjectIntMap<String> consumableIndex = new ObjectIntMap<>();
+
+    // Immutable views, each sorted by tier (lowest first) then name
+    private List<Equipment> sortedEquipment;
+    private List<ConsumableItem> sortedConsumables;
+    private final List<List<Equipment>> equipmentByType = new ArrayList<>();
+    private final List<List<Equipment>> equipmentByTier = new ArrayList<>();
+    private final List<List<ConsumableItem>> consumablesByTier = new ArrayList<>();
+
+    private static final Comparator<Equipment> EQUIPMENT_TIER_NAME_ORDER = new Comparator<Equipment>() {
+        @Override
+        public int compare(Equipment item1, Equipment item2) {
+            int rarityCompare = item1.getTier().ordinal() - item2.getTier().ordinal();
+            return rarityCompare != 0 ? rarityCompare : item1.getName().compareTo(item2.getName());
+        }
+    };
+
+    private static final Comparator<ConsumableItem> CONSUMABLE_TIER_NAME_ORDER = new Comparator<ConsumableItem>() {
+        @Override
+        public int compare(ConsumableItem item1, ConsumableItem item2) {
+            int rarityCompare = item1.getTier().ordinal() - item2.getTier().ordinal();
+            return rarityCompare != 0 ? rarityCompare : item1.getName().compareTo(item2.getName());
+        }
+    };
+
     // Private constructor (singleton)
     private ItemDatabase() {
         initializeEquipment();
         initializeConsumables();
+        buildIndexes();
     }
 
     /**
@@ -304,6 +344,8 @@ public class ItemDatabase {
      */
     private void registerEquipment(Equipment equipment) {
         equipmentDatabase.put(equipment.getId(), equipment);
+        equipmentIndex.put(equipment.getId(), equipmentTable.size);
+        equipmentTable.add(equipment);
         GameLogger.logInfo("Registered equipment: " + equipment.getId());
     }
 
@@ -312,9 +354,52 @@ public class ItemDatabase {
      */
     private void registerConsumable(ConsumableItem consumable) {
         consumableDatabase.put(consumable.getId(), consumable);
+        consumableIndex.put(consumable.getId(), consumableTable.size);
+        consumableTable.add(consumable);
         GameLogger.logInfo("Registered consumable: " + consumable.getId());
     }
 
+    /**
+     * Build the sorted, per-type and per-tier views once all items are registered
+     */
+    private void buildIndexes() {
+        List<Equipment> equipment = new ArrayList<>(equipmentTable.size);
+        for (Equipment item : equipmentTable) {
+            equipment.add(item);
+        }
+        Collections.sort(equipment, EQUIPMENT_TIER_NAME_ORDER);
+        sortedEquipment = Collections.unmodifiableList(equipment);
+
+        List<ConsumableItem> consumables = new ArrayList<>(consumableTable.size);
+        for (ConsumableItem item : consumableTable) {
+            consumables.add(item);
+        }
+        Collections.sort(consumables, CONSUMABLE_TIER_NAME_ORDER);
+        sortedConsumables = Collections.unmodifiableList(consumables);
+
+        // Filtering the sorted lists keeps every view in (tier, name) order
+        for (Equipment.EquipmentType type : Equipment.EquipmentType.values()) {
+            List<Equipment> view = new ArrayList<>();
+            for (Equipment item : sortedEquipment) {
+                if (item.getType() == type) view.add(item);
+            }
+            equipmentByType.add(Collections.unmodifiableList(view));
+        }
+        for (ItemTier tier : ItemTier.values()) {
+            List<Equipment> equipmentView = new ArrayList<>();
+            for (Equipment item : sortedEquipment) {
+                if (item.getTier() == tier) equipmentView.add(item);
+            }
+            equipmentByTier.add(Collections.unmodifiableList(equipmentView));
+
+            List<ConsumableItem> consumableView = new ArrayList<>();
+            for (ConsumableItem item : sortedConsumables) {
+                if (item.getTier() == tier) consumableView.add(item);
+            }
+            consumablesByTier.add(Collections.unmodifiableList(consumableView));
+        }
+    }
+
     /**
      * Get an equipment item by its ID
      */
@@ -340,24 +425,89 @@ public class ItemDatabase {
     }
 
     /**
-     * Get all available equipment items
+     * Get all available equipment items.
+     * Returns fresh copies; prefer the indexed views when the items are only read.
      */
     public Array<Equipment> getAllEquipment() {
-        Array<Equipment> result = new Array<>(equipmentDatabase.size);
-        for (Equipment equipment : equipmentDatabase.values()) {
+        Array<Equipment> result = new Array<>(equipmentTable.size);
+        for (Equipment equipment : equipmentTable) {
             result.add(equipment.clone());
         }
         return result;
     }
 
     /**
-     * Get all available consumable items
+     * Get all available consumable items.
+     * Returns fresh copies; prefer the indexed views when the items are only read.
      */
     public Array<ConsumableItem> getAllConsumables() {
-        Array<ConsumableItem> result = new Array<>(consumableDatabase.size);
-        for (ConsumableItem consumable : consumableDatabase.values()) {
+        Array<ConsumableItem> result = new Array<>(consumableTable.size);
+        for (ConsumableItem consumable : consumableTable) {
             result.add(consumable.clone());
         }
         return result;
     }
+
+    /**
+     * Get all equipment templates sorted by tier (lowest first) then name
+     */
+    public List<Equipment> getSortedEquipment() {
+        return sortedEquipment;
+    }
+
+    /**
+     * Get all consumable templates sorted by tier (lowest first) then name
+     */
+    public List<ConsumableItem> getSortedConsumables() {
+        return sortedConsumables;
+    }
+
+    /**
+     * Get the equipment templates of one type, sorted by tier then name
+     */
+    public List<Equipment> getEquipmentByType(Equipment.EquipmentType type) {
+        return equipmentByType.get(type.ordinal());
+    }
+
+    /**
+     * Get the equipment templates of one tier, sorted by name
+     */
+    public List<Equipment> getEquipmentByTier(ItemTier tier) {
+        return equipmentByTier.get(tier.ordinal());
+    }
+
+    /**
+     * Get the consumable templates of one tier, sorted by name
+     */
+    public List<ConsumableItem> getConsumablesByTier(ItemTier tier) {
+        return consumablesByTier.get(tier.ordinal());
+    }
+
+    /**
+     * Get the interned index of an equipment ID, or -1 if it is unknown
+     */
+    public int getEquipmentIndex(String id) {
+        return id != null ? equipmentIndex.get(id, -1) : -1;
+    }
+
+    /**
+     * Get the interned index of a consumable ID, or -1 if it is unknown
+     */
+    public int getConsumableIndex(String id) {
+        return id != null ? consumableIndex.get(id, -1) : -1;
+    }
+
+    /**
+     * Get a copy of an equipment item by its interned index
+     */
+    public Equipment getEquipmentByIndex(int index) {
+        return equipmentTable.get(index).clone();
+    }
+
+    /**
+     * Get a copy of a consumable item by its interned index
+     */
+    public ConsumableItem getConsumableByIndex(int index) {
+        return consumableTable.get(index).clone();
+    }
 }
@@ -0,0 +1,226 @@
+package swu.cp112.silkblade.input;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.util.GameLogger;
+
+/**
+ * Plays combat without a human so long fights can run unattended, for example to capture
+ * frame times for every boss.
+ *
+ * During the enemy turn it tries standing still and the eight move directions, predicts
+ * every damaging bullet a few ticks ahead along its current velocity, and moves toward the
+ * position with the most clearance. Healing bullets count in a position's favour. On the
+ * player's turn it skips dialogue and picks FIGHT.
+ *
+ * Launching with {@code -Dsilkblade.autopilot} lets it play every fight. Giving it a stage,
+ * {@code -Dsilkblade.autopilot=30}, starts that stage's fight right away and exits when it's over.
+ */
+public class AutopilotInput implements CombatInput {
+    private static final int LOOKAHEAD_TICKS = 8;
+    private static final float TICK = 1f / 60f;
+    private static final float DANGER_RADIUS = 60f; // Bullets further than this don't affect a position
+    private static final float CENTER_PULL = 0.02f; // Slight preference for the arena center, where there is room to dodge
+    private static final int MENU_INTERVAL = 8; // Frames between menu key presses, lets the scene react
+    private static final int FIGHT_BUTTON = 0;
+
+    private static final float[][] DIRECTIONS = {
+        {0, 0}, {-1, 0}, {1, 0}, {0, 1}, {0, -1},
+        {-0.7071f, 0.7071f}, {0.7071f, 0.7071f}, {-0.7071f, -0.7071f}, {0.7071f, -0.7071f}
+    };
+
+    /**
+     * What the bot can see of the scene.
+     */
+    public interface View {
+        /**
+         * Whether it's the enemy turn and the player can move.
+         */
+        boolean isDodging();
+
+        /**
+         * Gets the selected menu button, -1 for none and 0 for FIGHT.
+         */
+        int getSelectedButton();
+
+        Rectangle getPlayerHitbox();
+
+        /**
+         * Gets the area the player's hitbox is kept inside.
+         */
+        Rectangle getMovementBounds();
+
+        Array<Bullet> getBullets();
+
+        float getMovementSpeed();
+    }
+
+    private final View view;
+    private final FrameTimes frameTimes = new FrameTimes(4096);
+    private int frame;
+    private int heldKeys;
+    private int pressedKeys;
+
+    /**
+     * Whether fights are played by the autopilot.
+     */
+    public static boolean isEnabled() {
+        return System.getProperty("silkblade.autopilot") != null;
+    }
+
+    /**
+     * Gets the stage the game should start straight into, or -1 to start at the menu.
+     */
+    public static int getStartStage() {
+        String value = System.getProperty("silkblade.autopilot");
+        if (value == null || value.isEmpty() || "true".equals(value)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            GameLogger.logError("Autopilot stage is not a number: " + value, e);
+            return -1;
+        }
+    }
+
+    public AutopilotInput(View view) {
+        this.view = view;
+        GameLogger.logInfo("Autopilot is playing this combat");
+    }
+
+    @Override
+    public float beginFrame(float delta) {
+        frameTimes.frame();
+        frame++;
+        heldKeys = 0;
+        pressedKeys = 0;
+        if (view.isDodging()) {
+            dodge();
+        } else if (frame % MENU_INTERVAL == 0) {
+            useMenu();
+        }
+        return delta;
+    }
+
+    private void dodge() {
+        Rectangle hitbox = view.getPlayerHitbox();
+        Rectangle bounds = view.getMovementBounds();
+        float speed = view.getMovementSpeed();
+        float startX = hitbox.x + hitbox.width / 2;
+        float startY = hitbox.y + hitbox.height / 2;
+        float halfSize = hitbox.width / 2;
+
+        int best = 0;
+        float bestScore = -Float.MAX_VALUE;
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            float score = Float.MAX_VALUE;
+            float x = startX;
+            float y = startY;
+            for (int tick = 1; tick <= LOOKAHEAD_TICKS; tick++) {
+                x = clamp(x + DIRECTIONS[d][0] * speed * TICK, bounds.x + halfSize, bounds.x + bounds.width - halfSize);
+                y = clamp(y + DIRECTIONS[d][1] * speed * TICK, bounds.y + halfSize, bounds.y + bounds.height - halfSize);
+                score = Math.min(score, clearance(x, y, halfSize, tick * TICK));
+            }
+            // Prefer positions near the center when the threat is equal
+            float centerX = bounds.x + bounds.width / 2;
+            float centerY = bounds.y + bounds.height / 2;
+            score -= CENTER_PULL * (Math.abs(x - centerX) + Math.abs(y - centerY));
+            if (score > bestScore) {
+                bestScore = score;
+                best = d;
+            }
+        }
+
+        float dx = DIRECTIONS[best][0];
+        float dy = DIRECTIONS[best][1];
+        if (dx < 0) hold(Input.Keys.LEFT);
+        if (dx > 0) hold(Input.Keys.RIGHT);
+        if (dy > 0) hold(Input.Keys.UP);
+        if (dy < 0) hold(Input.Keys.DOWN);
+    }
+
+    /**
+     * Distance from the player at a position to the nearest damaging bullet's predicted edge,
+     * capped at {@link #DANGER_RADIUS}. Healing bullets nearby raise it.
+     */
+    private float clearance(float x, float y, float halfSize, float time) {
+        Array<Bullet> bullets = view.getBullets();
+        float nearest = DANGER_RADIUS;
+        float healing = 0;
+        for (int i = 0, n = bullets.size; i < n; i++) {
+            Bullet bullet = bullets.get(i);
+            if (!bullet.isActive() || bullet.isFading()) {
+                continue;
+            }
+            float bulletX = bullet.getX() + bullet.getVelocityX() * time;
+            float bulletY = bullet.getY() + bullet.getVelocityY() * time;
+            float gap = Math.max(Math.abs(bulletX - x), Math.abs(bulletY - y)) - bullet.getSize() - halfSize;
+            if (bullet.getDamage() < 0) {
+                healing = Math.max(healing, DANGER_RADIUS - Math.max(gap, 0));
+            } else if (gap < nearest) {
+                nearest = gap;
+            }
+        }
+        return nearest + healing * 0.1f;
+    }
+
+    private void useMenu() {
+        int selected = view.getSelectedButton();
+        if (selected == FIGHT_BUTTON) {
+            press(Input.Keys.ENTER);
+        } else if (selected < 0) {
+            // Nothing selected yet, also skips any dialogue that is still typing
+            press(Input.Keys.Z);
+            press(Input.Keys.RIGHT);
+        } else {
+            press(Input.Keys.LEFT);
+        }
+    }
+
+    private void hold(int key) {
+        heldKeys |= keyBit(key);
+    }
+
+    private void press(int key) {
+        heldKeys |= keyBit(key);
+        pressedKeys |= keyBit(key);
+    }
+
+    private static int keyBit(int key) {
+        for (int i = 0; i < KEYS.length; i++) {
+            if (KEYS[i] == key) {
+                return 1 << i;
+            }
+        }
+        return 0;
+    }
+
+    private static float clamp(float value, float min, float max) {
+        return value < min ? min : (value > max ? max : value);
+    }
+
+    @Override
+    public boolean isKeyPressed(int key) {
+        return (heldKeys & keyBit(key)) != 0;
+    }
+
+    @Override
+    public boolean isKeyJustPressed(int key) {
+        return (pressedKeys & keyBit(key)) != 0;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return false;
+    }
+
+    /**
+     * Logs the frame times of the fight so far.
+     */
+    public void logFrameTimes(String outcome) {
+        GameLogger.logInfo("Autopilot " + outcome + " after " + frame + " frames: " + frameTimes.summary());
+    }
+}
@@ -0,0 +1,63 @@
+package swu.cp112.silkblade.input;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+
+/**
+ * Where CombatScene reads its keys from. Normally the keyboard, but a replay or a bot can
+ * stand in for the player.
+ */
+public interface CombatInput {
+    /**
+     * Every key CombatScene reads. Recordings store one bit per key in this order,
+     * so new keys must be appended.
+     */
+    int[] KEYS = {
+        Input.Keys.LEFT, Input.Keys.RIGHT, Input.Keys.UP, Input.Keys.DOWN,
+        Input.Keys.A, Input.Keys.D, Input.Keys.W, Input.Keys.S,
+        Input.Keys.ENTER, Input.Keys.Z, Input.Keys.X, Input.Keys.SPACE,
+        Input.Keys.ESCAPE, Input.Keys.BACKSPACE, Input.Keys.PAGE_UP, Input.Keys.PAGE_DOWN
+    };
+
+    /**
+     * The keyboard.
+     */
+    CombatInput LIVE = new CombatInput() {
+        @Override
+        public float beginFrame(float delta) {
+            return delta;
+        }
+
+        @Override
+        public boolean isKeyPressed(int key) {
+            return Gdx.input.isKeyPressed(key);
+        }
+
+        @Override
+        public boolean isKeyJustPressed(int key) {
+            return Gdx.input.isKeyJustPressed(key);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return false;
+        }
+    };
+
+    /**
+     * Called at the start of every CombatScene frame, before any key is read.
+     *
+     * @param delta The frame's delta time
+     * @return The delta time the scene should simulate this frame with
+     */
+    float beginFrame(float delta);
+
+    boolean isKeyPressed(int key);
+
+    boolean isKeyJustPressed(int key);
+
+    /**
+     * Whether this source has run out of input, like a replay that reached its end.
+     */
+    boolean isFinished();
+}
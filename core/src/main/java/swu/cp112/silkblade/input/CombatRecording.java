@@ -0,0 +1,477 @@
+package swu.cp112.silkblade.input;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.FloatArray;
+import swu.cp112.silkblade.entity.combat.Player;
+import swu.cp112.silkblade.screen.transition.ScreenTransition;
+import swu.cp112.silkblade.util.GameLogger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The input of one combat, frame by frame, together with everything else needed to fight
+ * it again: the {@link swu.cp112.silkblade.entity.combat.CombatRandom} seed, the enemy and
+ * stage, the movement speed setting and the player as they entered the fight.
+ *
+ * Layout: magic, format version, header, then the deflated frame stream. Each frame record
+ * is a varint {@code (repeat << 3) | flags} followed by the fields named in the flags:
+ * the change in delta time (zigzag varint, microseconds), the held keys XORed with the
+ * previous frame's, and the keys pressed this frame. The record then repeats unchanged
+ * for {@code repeat} more frames, which covers most of a fight where nothing changes.
+ */
+public class CombatRecording {
+    private static final byte[] MAGIC = {'S', 'B', 'R', 'P'};
+    public static final int CURRENT_VERSION = 1;
+    public static final String DIRECTORY = "replays";
+    private static final int KEPT_RECORDINGS = 10;
+
+    private static final int DELTA_CHANGED = 1;
+    private static final int KEYS_CHANGED = 2;
+    private static final int KEYS_PRESSED = 4;
+    private static final int FLAG_BITS = 3;
+
+    private final long seed;
+    private final String enemyName;
+    private final int stage;
+    private final float movementSpeed;
+    private final byte[] playerSave;
+    private final int frameCount;
+    private final byte[] frames;
+
+    private CombatRecording(long seed, String enemyName, int stage, float movementSpeed, byte[] playerSave,
+                            int frameCount, byte[] frames) {
+        this.seed = seed;
+        this.enemyName = enemyName;
+        this.stage = stage;
+        this.movementSpeed = movementSpeed;
+        this.playerSave = playerSave;
+        this.frameCount = frameCount;
+        this.frames = frames;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String getEnemyName() {
+        return enemyName;
+    }
+
+    public int getStage() {
+        return stage;
+    }
+
+    public float getMovementSpeed() {
+        return movementSpeed;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Creates the player as they were when the recorded fight started.
+     */
+    public Player createPlayer() throws IOException {
+        return Player.fromSaveBytes(playerSave);
+    }
+
+    /**
+     * Creates an input source that plays the recorded frames back.
+     */
+    public Playback playback() {
+        return new Playback(this);
+    }
+
+    // =================== Files ===================
+
+    /**
+     * Writes the recording to {@link #DIRECTORY} with a timestamped name and removes the
+     * oldest recordings beyond the last {@value #KEPT_RECORDINGS}.
+     */
+    public FileHandle saveToDirectory() throws IOException {
+        FileHandle directory = Gdx.files.local(DIRECTORY);
+        directory.mkdirs();
+        String name = "combat-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + "-" + enemyName + ".sbr";
+        FileHandle file = directory.child(name);
+        file.writeBytes(toBytes(), false);
+
+        FileHandle[] recordings = directory.list(".sbr");
+        if (recordings.length > KEPT_RECORDINGS) {
+            Arrays.sort(recordings, new Comparator<FileHandle>() {
+                @Override
+                public int compare(FileHandle a, FileHandle b) {
+                    return a.name().compareTo(b.name());
+                }
+            });
+            for (int i = 0; i < recordings.length - KEPT_RECORDINGS; i++) {
+                recordings[i].delete();
+            }
+        }
+        return file;
+    }
+
+    public byte[] toBytes() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(frames.length / 4 + playerSave.length + 64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(MAGIC);
+        writeVarInt(out, CURRENT_VERSION);
+        out.writeLong(seed);
+        out.writeUTF(enemyName);
+        writeVarInt(out, stage);
+        out.writeFloat(movementSpeed);
+        writeVarInt(out, playerSave.length);
+        out.write(playerSave);
+        writeVarInt(out, frameCount);
+        writeVarInt(out, frames.length);
+
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        deflater.setInput(frames);
+        deflater.finish();
+        byte[] buffer = new byte[4096];
+        while (!deflater.finished()) {
+            out.write(buffer, 0, deflater.deflate(buffer));
+        }
+        deflater.end();
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    public static CombatRecording read(FileHandle file) throws IOException {
+        byte[] bytes = file.readBytes();
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (bytes.length <= i || bytes[i] != MAGIC[i]) {
+                throw new IOException("Not a combat recording: " + file.path());
+            }
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, MAGIC.length, bytes.length - MAGIC.length));
+        int version = readVarInt(in);
+        if (version < 1 || version > CURRENT_VERSION) {
+            throw new IOException("Unsupported recording version: " + version);
+        }
+        long seed = in.readLong();
+        String enemyName = in.readUTF();
+        int stage = readVarInt(in);
+        float movementSpeed = in.readFloat();
+        byte[] playerSave = new byte[readVarInt(in)];
+        in.readFully(playerSave);
+        int frameCount = readVarInt(in);
+        byte[] frames = new byte[readVarInt(in)];
+
+        int headerLength = bytes.length - in.available();
+        Inflater inflater = new Inflater();
+        inflater.setInput(bytes, headerLength, bytes.length - headerLength);
+        try {
+            int length = 0;
+            while (length < frames.length && !inflater.finished()) {
+                int inflated = inflater.inflate(frames, length, frames.length - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length < frames.length) {
+                throw new EOFException("Truncated combat recording: " + file.path());
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted combat recording: " + file.path(), e);
+        } finally {
+            inflater.end();
+        }
+        return new CombatRecording(seed, enemyName, stage, movementSpeed, playerSave, frameCount, frames);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Truncated combat recording");
+            }
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed varint in combat recording");
+    }
+
+    private static int keyIndex(int key) {
+        for (int i = 0; i < CombatInput.KEYS.length; i++) {
+            if (CombatInput.KEYS[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean hasKey(int mask, int key) {
+        int index = keyIndex(key);
+        return index >= 0 && (mask & (1 << index)) != 0;
+    }
+
+    // =================== Recording ===================
+
+    /**
+     * Passes another input source through to the scene and records what the scene saw.
+     * Delta times are rounded to whole microseconds for both the scene and the recording,
+     * so a replay simulates with exactly the same values.
+     */
+    public static class Recorder implements CombatInput {
+        private final CombatInput source;
+        private final long seed;
+        private final String enemyName;
+        private final int stage;
+        private final float movementSpeed;
+        private final byte[] playerSave;
+
+        private final ByteArrayOutputStream frameBytes = new ByteArrayOutputStream(4096);
+        private final DataOutputStream frames = new DataOutputStream(frameBytes);
+        private int frameCount;
+        private boolean stopped;
+
+        private int heldKeys;
+        private int pressedKeys;
+        private int lastMicros;
+        private int lastHeldKeys;
+
+        // Record being built, written once a frame differs from it
+        private boolean recordOpen;
+        private int recordFlags;
+        private int recordDeltaChange;
+        private int recordKeyChange;
+        private int recordPressed;
+        private int recordRepeat;
+
+        public Recorder(CombatInput source, long seed, String enemyName, int stage, float movementSpeed,
+                        byte[] playerSave) {
+            this.source = source;
+            this.seed = seed;
+            this.enemyName = enemyName;
+            this.stage = stage;
+            this.movementSpeed = movementSpeed;
+            this.playerSave = playerSave;
+        }
+
+        @Override
+        public float beginFrame(float delta) {
+            float sourceDelta = source.beginFrame(delta);
+            if (stopped) {
+                return sourceDelta;
+            }
+
+            int micros = Math.max(0, Math.round(sourceDelta * 1_000_000f));
+            heldKeys = 0;
+            pressedKeys = 0;
+            // The scene ignores keys during screen transitions, record them as released
+            if (!ScreenTransition.isTransitioning()) {
+                for (int i = 0; i < KEYS.length; i++) {
+                    if (source.isKeyPressed(KEYS[i])) {
+                        heldKeys |= 1 << i;
+                    }
+                    if (source.isKeyJustPressed(KEYS[i])) {
+                        pressedKeys |= 1 << i;
+                    }
+                }
+            }
+
+            try {
+                addFrame(micros);
+            } catch (IOException e) {
+                GameLogger.logError("Failed to record combat frame, recording stopped", e);
+                stopped = true;
+            }
+            return micros / 1_000_000f;
+        }
+
+        private void addFrame(int micros) throws IOException {
+            int flags = 0;
+            if (micros != lastMicros) flags |= DELTA_CHANGED;
+            if (heldKeys != lastHeldKeys) flags |= KEYS_CHANGED;
+            if (pressedKeys != 0) flags |= KEYS_PRESSED;
+
+            if (flags == 0 && recordOpen) {
+                recordRepeat++;
+            } else {
+                writeRecord();
+                recordOpen = true;
+                recordFlags = flags;
+                recordDeltaChange = micros - lastMicros;
+                recordKeyChange = heldKeys ^ lastHeldKeys;
+                recordPressed = pressedKeys;
+                recordRepeat = 0;
+            }
+            lastMicros = micros;
+            lastHeldKeys = heldKeys;
+            frameCount++;
+        }
+
+        private void writeRecord() throws IOException {
+            if (!recordOpen) {
+                return;
+            }
+            writeVarInt(frames, (recordRepeat << FLAG_BITS) | recordFlags);
+            if ((recordFlags & DELTA_CHANGED) != 0) {
+                writeVarInt(frames, (recordDeltaChange << 1) ^ (recordDeltaChange >> 31));
+            }
+            if ((recordFlags & KEYS_CHANGED) != 0) {
+                writeVarInt(frames, recordKeyChange);
+            }
+            if ((recordFlags & KEYS_PRESSED) != 0) {
+                writeVarInt(frames, recordPressed);
+            }
+            recordOpen = false;
+        }
+
+        @Override
+        public boolean isKeyPressed(int key) {
+            return stopped ? source.isKeyPressed(key) : hasKey(heldKeys, key);
+        }
+
+        @Override
+        public boolean isKeyJustPressed(int key) {
+            return stopped ? source.isKeyJustPressed(key) : hasKey(pressedKeys, key);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return source.isFinished();
+        }
+
+        /**
+         * Stops recording and returns what was recorded, or null if it was already stopped.
+         * Input keeps passing through afterwards.
+         */
+        public CombatRecording finish() {
+            if (stopped) {
+                return null;
+            }
+            stopped = true;
+            try {
+                writeRecord();
+                frames.flush();
+            } catch (IOException e) {
+                GameLogger.logError("Failed to finish combat recording", e);
+                return null;
+            }
+            return new CombatRecording(seed, enemyName, stage, movementSpeed, playerSave, frameCount,
+                frameBytes.toByteArray());
+        }
+    }
+
+    // =================== Playback ===================
+
+    /**
+     * Feeds recorded frames to the scene, ignoring the real keyboard and frame time.
+     * Wall-clock frame times are collected along the way and logged at the end, so a
+     * replay can be used to compare frame times between builds.
+     */
+    public static class Playback implements CombatInput {
+        private final CombatRecording recording;
+        private final DataInputStream in;
+        private final FrameTimes frameTimes;
+        private int framesPlayed;
+        private boolean finished;
+
+        private int micros;
+        private int heldKeys;
+        private int pressedKeys;
+        private int repeatsLeft;
+
+        private Playback(CombatRecording recording) {
+            this.recording = recording;
+            this.in = new DataInputStream(new ByteArrayInputStream(recording.frames));
+            this.frameTimes = new FrameTimes(recording.frameCount);
+        }
+
+        @Override
+        public float beginFrame(float delta) {
+            if (finished) {
+                return delta;
+            }
+            frameTimes.frame();
+            if (framesPlayed >= recording.frameCount) {
+                finish();
+                return delta;
+            }
+
+            try {
+                nextFrame();
+            } catch (IOException e) {
+                GameLogger.logError("Combat recording is corrupted, replay stopped", e);
+                finish();
+                return delta;
+            }
+            framesPlayed++;
+            return micros / 1_000_000f;
+        }
+
+        private void nextFrame() throws IOException {
+            if (repeatsLeft > 0) {
+                repeatsLeft--;
+                pressedKeys = 0;
+                return;
+            }
+            int header = readVarInt(in);
+            repeatsLeft = header >>> FLAG_BITS;
+            if ((header & DELTA_CHANGED) != 0) {
+                int zigzag = readVarInt(in);
+                micros += (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+            if ((header & KEYS_CHANGED) != 0) {
+                heldKeys ^= readVarInt(in);
+            }
+            pressedKeys = (header & KEYS_PRESSED) != 0 ? readVarInt(in) : 0;
+        }
+
+        private void finish() {
+            finished = true;
+            heldKeys = 0;
+            pressedKeys = 0;
+            GameLogger.logInfo("Replay finished after " + framesPlayed + " frames: " + frameTimes.summary());
+        }
+
+        @Override
+        public boolean isKeyPressed(int key) {
+            return hasKey(heldKeys, key);
+        }
+
+        @Override
+        public boolean isKeyJustPressed(int key) {
+            return hasKey(pressedKeys, key);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        /**
+         * Gets the wall-clock time of every replayed frame in milliseconds.
+         */
+        public FloatArray getFrameTimes() {
+            return frameTimes.getTimes();
+        }
+    }
+}
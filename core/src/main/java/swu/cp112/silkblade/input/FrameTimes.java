@@ -0,0 +1,54 @@
+package swu.cp112.silkblade.input;
+
+import com.badlogic.gdx.utils.FloatArray;
+
+import java.util.Arrays;
+
+/**
+ * Wall-clock frame times collected by input sources that drive unattended runs.
+ */
+final class FrameTimes {
+    private final FloatArray times;
+    private long lastFrameStart;
+
+    FrameTimes(int expectedFrames) {
+        times = new FloatArray(expectedFrames);
+    }
+
+    /**
+     * Marks the start of a frame, recording the time since the previous one.
+     */
+    void frame() {
+        long now = System.nanoTime();
+        if (lastFrameStart != 0) {
+            times.add((now - lastFrameStart) / 1_000_000f);
+        }
+        lastFrameStart = now;
+    }
+
+    FloatArray getTimes() {
+        return times;
+    }
+
+    /**
+     * Average, p50, p95, p99 and max frame time, for the log.
+     */
+    String summary() {
+        if (times.size == 0) {
+            return "no frames";
+        }
+        float[] sorted = Arrays.copyOf(times.items, times.size);
+        Arrays.sort(sorted);
+        float total = 0;
+        for (float time : sorted) {
+            total += time;
+        }
+        return String.format("avg=%.2fms p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+            total / sorted.length, percentile(sorted, 0.50f), percentile(sorted, 0.95f),
+            percentile(sorted, 0.99f), sorted[sorted.length - 1]);
+    }
+
+    private static float percentile(float[] sorted, float fraction) {
+        return sorted[Math.min(sorted.length - 1, (int) (fraction * sorted.length))];
+    }
+}
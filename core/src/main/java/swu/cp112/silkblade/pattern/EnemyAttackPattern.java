@@ -1,6 +1,7 @@
 package swu.cp112.silkblade.pattern;
 
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatSound;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 
 import java.util.List;
@@ -36,4 +37,15 @@ public interface EnemyAttackPattern {
      * @return AttackPatternConfig containing pattern details
      */
     AttackPatternConfig getConfig();
+
+    /**
+     * Whether this pattern plays its own version of a combat sound, in which case the
+     * combat scene doesn't play the default one.
+     *
+     * @param sound The combat sound
+     * @return true if the pattern plays the sound itself
+     */
+    default boolean ownsSound(CombatSound sound) {
+        return false;
+    }
 }
@@ -3,7 +3,8 @@ package swu.cp112.silkblade.pattern;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.badlogic.gdx.math.MathUtils;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
+import swu.cp112.silkblade.util.GameEvents;
 
 /**
  * Manages attack patterns for enemies, allowing dynamic selection
@@ -41,19 +42,22 @@ public class EnemyAttackPatternManager {
         if (availablePatterns.isEmpty()) {
             throw new IllegalStateException("No attack patterns available");
         }
+        Object event = GameEvents.begin(GameEvents.Kind.PATTERN_SELECTED);
 
         // If all patterns have been used, reset the unused patterns list
         if (unusedPatterns.isEmpty()) {
             unusedPatterns.addAll(availablePatterns);
-            swu.cp112.silkblade.util.GameLogger.logInfo("All patterns exhausted, resetting pattern pool with " + 
-                                                      availablePatterns.size() + " available patterns");
+            if (swu.cp112.silkblade.util.GameLogger.isDebugEnabled()) {
+                swu.cp112.silkblade.util.GameLogger.logDebug("All patterns exhausted, resetting pattern pool with " +
+                                                           availablePatterns.size() + " available patterns");
+            }
         }
 
         // Get the previous pattern before selecting a new one
         EnemyAttackPattern previousPattern = currentPattern;
         
         // Select a random pattern
-        int randomIndex = MathUtils.random(0, unusedPatterns.size() - 1);
+        int randomIndex = CombatRandom.random(0, unusedPatterns.size() - 1);
         currentPattern = unusedPatterns.remove(randomIndex);
         
         // If we only had one pattern, immediately reset the pool for next selection
@@ -61,14 +65,19 @@ public class EnemyAttackPatternManager {
             unusedPatterns.addAll(availablePatterns);
             // Don't include the pattern we just selected to avoid immediate repetition
             unusedPatterns.remove(currentPattern);
-            swu.cp112.silkblade.util.GameLogger.logInfo("Last pattern used, resetting pattern pool with " + 
-                                                      unusedPatterns.size() + " available patterns");
+            if (swu.cp112.silkblade.util.GameLogger.isDebugEnabled()) {
+                swu.cp112.silkblade.util.GameLogger.logDebug("Last pattern used, resetting pattern pool with " +
+                                                           unusedPatterns.size() + " available patterns");
+            }
         }
         
         // Log the selected pattern
-        swu.cp112.silkblade.util.GameLogger.logInfo("Selected pattern: " + currentPattern.getPatternName() + 
-                                                   " (" + unusedPatterns.size() + " unused patterns remaining)");
+        if (swu.cp112.silkblade.util.GameLogger.isDebugEnabled()) {
+            swu.cp112.silkblade.util.GameLogger.logDebug("Selected pattern: " + currentPattern.getPatternName() +
+                                                       " (" + unusedPatterns.size() + " unused patterns remaining)");
+        }
 
+        GameEvents.end(event, currentPattern.getPatternName(), unusedPatterns.size());
         return currentPattern;
     }
 
@@ -81,6 +90,15 @@ public class EnemyAttackPatternManager {
         return currentPattern;
     }
 
+    /**
+     * Get the number of available attack patterns.
+     *
+     * @return The number of patterns the enemy selects from
+     */
+    public int getPatternCount() {
+        return availablePatterns.size();
+    }
+
     /**
      * Remove a specific attack pattern.
      *
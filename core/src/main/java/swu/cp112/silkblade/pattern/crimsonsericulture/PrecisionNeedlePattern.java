@@ -3,6 +3,7 @@ package swu.cp112.silkblade.pattern.crimsonsericulture;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
@@ -49,7 +50,7 @@ public class PrecisionNeedlePattern implements EnemyAttackPattern {
         float defenseMultiplier = 0.7f + (enemyAttackDamage * 0.02f);
         float scaledMinDamage = (CONFIG.getMinDamage() + (CONFIG.getMinDamage() * (enemyAttackDamage - 1) * 0.1f)) * defenseMultiplier;
         float scaledMaxDamage = (CONFIG.getMaxDamage() + (CONFIG.getMaxDamage() * (enemyAttackDamage - 1) * 0.1f)) * defenseMultiplier;
-        float damage = Math.abs(MathUtils.random(scaledMinDamage, scaledMaxDamage));
+        float damage = Math.abs(CombatRandom.random(scaledMinDamage, scaledMaxDamage));
 
         // Base bullet parameters - small, fast needles
         float baseSpeed = 960f;
@@ -73,24 +74,24 @@ public class PrecisionNeedlePattern implements EnemyAttackPattern {
             case 0:
                 // Create multiple grid patterns around the player
                 for (int i = 0; i < 2; i++) {
-                    float offsetX = MathUtils.random(-350f, 350f);
-                    float offsetY = MathUtils.random(-350f, 350f);
+                    float offsetX = CombatRandom.random(-350f, 350f);
+                    float offsetY = CombatRandom.random(-350f, 350f);
                     generateGridPattern(bullets, targetX + offsetX, targetY + offsetY, damage, baseSpeed, bulletSize, targetX, targetY);
                 }
                 break;
             case 1:
                 // Create multiple spiral patterns
                 for (int i = 0; i < 2; i++) {
-                    float offsetX = MathUtils.random(-400f, 400f);
-                    float offsetY = MathUtils.random(-200f, 200f);
+                    float offsetX = CombatRandom.random(-400f, 400f);
+                    float offsetY = CombatRandom.random(-200f, 200f);
                     generateSpiralPattern(bullets, enemyX + offsetX, enemyY + offsetY, targetX, targetY, damage, baseSpeed, bulletSize);
                 }
                 break;
             case 2:
                 // Create multiple cross patterns
                 for (int i = 0; i < 3; i++) {
-                    float offsetX = MathUtils.random(-300f, 300f);
-                    float offsetY = MathUtils.random(-300f, 300f);
+                    float offsetX = CombatRandom.random(-300f, 300f);
+                    float offsetY = CombatRandom.random(-300f, 300f);
                     generateCrossPattern(bullets, targetX + offsetX, targetY + offsetY, damage, baseSpeed, bulletSize, targetX, targetY);
                 }
                 break;
@@ -285,16 +286,16 @@ public class PrecisionNeedlePattern implements EnemyAttackPattern {
                                           float arenaWidth, float arenaHeight,
                                           float damage, Enemy enemy) {
         // Create 2-3 random explosion bullets
-        int explodingBulletsCount = MathUtils.random(2, 3);
+        int explodingBulletsCount = CombatRandom.random(2, 3);
 
         for (int i = 0; i < explodingBulletsCount; i++) {
             // Random position within arena
-            float x = arenaX + MathUtils.random(0.1f, 0.9f) * arenaWidth;
-            float y = arenaY + MathUtils.random(0.1f, 0.9f) * arenaHeight;
+            float x = arenaX + CombatRandom.random(0.1f, 0.9f) * arenaWidth;
+            float y = arenaY + CombatRandom.random(0.1f, 0.9f) * arenaHeight;
 
             // Slow movement speed for explosion bullets
             float speed = 120f;
-            float angle = MathUtils.random(0, MathUtils.PI2);
+            float angle = CombatRandom.random(0, MathUtils.PI2);
             float velX = MathUtils.cos(angle) * speed;
             float velY = MathUtils.sin(angle) * speed;
 
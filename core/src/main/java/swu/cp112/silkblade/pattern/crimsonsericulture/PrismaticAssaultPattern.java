@@ -3,6 +3,7 @@ package swu.cp112.silkblade.pattern.crimsonsericulture;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
@@ -52,7 +53,7 @@ public class PrismaticAssaultPattern implements EnemyAttackPattern {
         float defenseMultiplier = 0.6f + (enemyAttackDamage * 0.02f);
         float scaledMinDamage = (CONFIG.getMinDamage() + (CONFIG.getMinDamage() * (enemyAttackDamage - 1) * 0.08f)) * defenseMultiplier;
         float scaledMaxDamage = (CONFIG.getMaxDamage() + (CONFIG.getMaxDamage() * (enemyAttackDamage - 1) * 0.08f)) * defenseMultiplier;
-        float damage = Math.abs(MathUtils.random(scaledMinDamage, scaledMaxDamage));
+        float damage = Math.abs(CombatRandom.random(scaledMinDamage, scaledMaxDamage));
 
         // Base parameters
         float baseSpeed = 880f;
@@ -77,40 +78,40 @@ public class PrismaticAssaultPattern implements EnemyAttackPattern {
             case 0:
                 // Pattern 1: Prismatic pillars - multiple instances
                 for (int i = 0; i < 2; i++) {
-                    float offsetX = MathUtils.random(-400f, 400f);
-                    float offsetY = MathUtils.random(-350f, 350f);
+                    float offsetX = CombatRandom.random(-400f, 400f);
+                    float offsetY = CombatRandom.random(-350f, 350f);
                     createPrismaticPillarsPattern(bullets, enemyX + offsetX, enemyY + offsetY, targetX, targetY, damage, baseSpeed, bulletSize);
                 }
                 break;
             case 1:
                 // Pattern 2: Rainbow spiral - multiple instances from different origins with wide spread
-                float spiral1X = enemyX + MathUtils.random(-400f, 400f);
-                float spiral1Y = enemyY + MathUtils.random(-300f, 300f);
+                float spiral1X = enemyX + CombatRandom.random(-400f, 400f);
+                float spiral1Y = enemyY + CombatRandom.random(-300f, 300f);
                 createRainbowSpiralPattern(bullets, spiral1X, spiral1Y, targetX, targetY, damage, baseSpeed, bulletSize);
 
                 // Ensure second spiral is far from first
-                float spiral2X = enemyX + MathUtils.random(-400f, 400f);
-                float spiral2Y = enemyY + MathUtils.random(-300f, 300f);
+                float spiral2X = enemyX + CombatRandom.random(-400f, 400f);
+                float spiral2Y = enemyY + CombatRandom.random(-300f, 300f);
                 // Ensure some minimum distance between patterns
                 while (Math.abs(spiral2X - spiral1X) < 250f && Math.abs(spiral2Y - spiral1Y) < 250f) {
-                    spiral2X = enemyX + MathUtils.random(-400f, 400f);
-                    spiral2Y = enemyY + MathUtils.random(-300f, 300f);
+                    spiral2X = enemyX + CombatRandom.random(-400f, 400f);
+                    spiral2Y = enemyY + CombatRandom.random(-300f, 300f);
                 }
                 createRainbowSpiralPattern(bullets, spiral2X, spiral2Y, targetX, targetY, damage, baseSpeed, bulletSize);
                 break;
             case 2:
                 // Pattern 3: Prismatic burst - multiple origins with wide distribution
                 for (int i = 0; i < 3; i++) {
-                    float offsetX = MathUtils.random(-400f, 400f);
-                    float offsetY = MathUtils.random(-350f, 350f);
+                    float offsetX = CombatRandom.random(-400f, 400f);
+                    float offsetY = CombatRandom.random(-350f, 350f);
                     createPrismaticBurstPattern(bullets, enemyX + offsetX, enemyY + offsetY, damage, baseSpeed, bulletSize, targetX, targetY);
                 }
                 break;
             case 3:
                 // Pattern 4: Rainbow web - multiple instances aimed at player with wide distribution
                 for (int i = 0; i < 2; i++) {
-                    float offsetX = MathUtils.random(-350f, 350f);
-                    float offsetY = MathUtils.random(-350f, 350f);
+                    float offsetX = CombatRandom.random(-350f, 350f);
+                    float offsetY = CombatRandom.random(-350f, 350f);
                     createRainbowWebPattern(bullets, targetX + offsetX, targetY + offsetY, damage, baseSpeed, bulletSize, targetX, targetY);
                 }
                 break;
@@ -144,8 +145,8 @@ public class PrismaticAssaultPattern implements EnemyAttackPattern {
                 float offsetY = (j - bulletsPerPillar/2) * 30f;
 
                 // Calculate direction toward player with spread
-                float bulletRadians = radians + MathUtils.random(-0.2f, 0.2f);
-                float bulletAngleToPlayer = angleToPlayer + MathUtils.random(-0.3f, 0.3f);
+                float bulletRadians = radians + CombatRandom.random(-0.2f, 0.2f);
+                float bulletAngleToPlayer = angleToPlayer + CombatRandom.random(-0.3f, 0.3f);
 
                 // Mix between direction from pillar and toward player (80% toward player)
                 float velX = MathUtils.cos(bulletRadians) * baseSpeed * 0.2f + MathUtils.cos(bulletAngleToPlayer) * baseSpeed * 0.8f;
@@ -306,9 +307,9 @@ public class PrismaticAssaultPattern implements EnemyAttackPattern {
         
         // Base color for rainbow effect (shifted to be more vibrant)
         Color baseColor = new Color(
-            MathUtils.random(0.7f, 1.0f),
-            MathUtils.random(0.2f, 0.8f),
-            MathUtils.random(0.4f, 1.0f),
+            CombatRandom.random(0.7f, 1.0f),
+            CombatRandom.random(0.2f, 0.8f),
+            CombatRandom.random(0.4f, 1.0f),
             0.9f
         );
         
@@ -329,7 +330,7 @@ public class PrismaticAssaultPattern implements EnemyAttackPattern {
         bullet.setDiscoColorRange(0.4f);
         
         // Set appropriate shape (randomly choose between diamond and circle for variety)
-        bullet.setShape(MathUtils.randomBoolean() ? Bullet.Shape.DIAMOND : Bullet.Shape.CIRCLE);
+        bullet.setShape(CombatRandom.randomBoolean() ? Bullet.Shape.DIAMOND : Bullet.Shape.CIRCLE);
         bullet.setTrailLength(25);
         bullet.enableTelegraphing(0.8f, 0.2f); // Reduced telegraph time from 1.1f to 0.8f
         bullet.setGlowProperties(Color.WHITE, true);
@@ -345,16 +346,16 @@ public class PrismaticAssaultPattern implements EnemyAttackPattern {
                                            float arenaWidth, float arenaHeight,
                                            float damage, Enemy enemy) {
         // Create 2-3 random explosion bullets
-        int explodingBulletsCount = MathUtils.random(2, 3);
+        int explodingBulletsCount = CombatRandom.random(2, 3);
 
         for (int i = 0; i < explodingBulletsCount; i++) {
             // Random position within arena
-            float x = arenaX + MathUtils.random(0.1f, 0.9f) * arenaWidth;
-            float y = arenaY + MathUtils.random(0.1f, 0.9f) * arenaHeight;
+            float x = arenaX + CombatRandom.random(0.1f, 0.9f) * arenaWidth;
+            float y = arenaY + CombatRandom.random(0.1f, 0.9f) * arenaHeight;
 
             // Increase speed for explosion bullets to prevent them from being too slow
             float speed = 280f; // Increased from 150f
-            float angle = MathUtils.random(0, MathUtils.PI2);
+            float angle = CombatRandom.random(0, MathUtils.PI2);
             float velX = MathUtils.cos(angle) * speed;
             float velY = MathUtils.sin(angle) * speed;
 
@@ -3,6 +3,7 @@ package swu.cp112.silkblade.pattern.crimsonsericulture;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
@@ -49,7 +50,7 @@ public class ThreadweaverPattern implements EnemyAttackPattern {
         float defenseMultiplier = 0.65f + (enemyAttackDamage * 0.02f);
         float scaledMinDamage = (CONFIG.getMinDamage() + (CONFIG.getMinDamage() * (enemyAttackDamage - 1) * 0.1f)) * defenseMultiplier;
         float scaledMaxDamage = (CONFIG.getMaxDamage() + (CONFIG.getMaxDamage() * (enemyAttackDamage - 1) * 0.1f)) * defenseMultiplier;
-        float damage = Math.abs(MathUtils.random(scaledMinDamage, scaledMaxDamage));
+        float damage = Math.abs(CombatRandom.random(scaledMinDamage, scaledMaxDamage));
 
         // Base bullet parameters
         float baseSpeed = 880f;
@@ -73,28 +74,28 @@ public class ThreadweaverPattern implements EnemyAttackPattern {
         if (waveCounter == 0) {
             // Pattern 1: Web enclosure (2-3 instances at different positions)
             for (int i = 0; i < 3; i++) {
-                float offsetX = MathUtils.random(-350f, 350f);
-                float offsetY = MathUtils.random(-350f, 350f);
+                float offsetX = CombatRandom.random(-350f, 350f);
+                float offsetY = CombatRandom.random(-350f, 350f);
                 createWebEnclosurePattern(bullets, targetX + offsetX, targetY + offsetY, damage, baseSpeed, bulletSize, targetX, targetY);
             }
         } else if (waveCounter == 1) {
             // Pattern 2: Thread spiral (2 instances from different origins)
-            float spiral1X = enemyX + MathUtils.random(-400f, 400f);
-            float spiral1Y = enemyY + MathUtils.random(-300f, 300f);
+            float spiral1X = enemyX + CombatRandom.random(-400f, 400f);
+            float spiral1Y = enemyY + CombatRandom.random(-300f, 300f);
             createThreadSpiralPattern(bullets, spiral1X, spiral1Y, targetX, targetY, damage, baseSpeed, bulletSize);
 
-            float spiral2X = enemyX + MathUtils.random(-400f, 400f);
-            float spiral2Y = enemyY + MathUtils.random(-300f, 300f);
+            float spiral2X = enemyX + CombatRandom.random(-400f, 400f);
+            float spiral2Y = enemyY + CombatRandom.random(-300f, 300f);
             while (Math.abs(spiral2X - spiral1X) < 200f && Math.abs(spiral2Y - spiral1Y) < 200f) {
-                spiral2X = enemyX + MathUtils.random(-400f, 400f);
-                spiral2Y = enemyY + MathUtils.random(-300f, 300f);
+                spiral2X = enemyX + CombatRandom.random(-400f, 400f);
+                spiral2Y = enemyY + CombatRandom.random(-300f, 300f);
             }
             createThreadSpiralPattern(bullets, spiral2X, spiral2Y, targetX, targetY, damage, baseSpeed, bulletSize);
         } else {
             // Pattern 3: Cross-weave (multiple instances aimed at player)
             for (int i = 0; i < 2; i++) {
-                float offsetX = MathUtils.random(-350f, 350f);
-                float offsetY = MathUtils.random(-350f, 350f);
+                float offsetX = CombatRandom.random(-350f, 350f);
+                float offsetY = CombatRandom.random(-350f, 350f);
                 createCrossWeavePattern(bullets, targetX + offsetX, targetY + offsetY, damage, baseSpeed, bulletSize, targetX, targetY);
             }
         }
@@ -292,16 +293,16 @@ public class ThreadweaverPattern implements EnemyAttackPattern {
                                           float arenaWidth, float arenaHeight,
                                           float damage, Enemy enemy) {
         // Create 2-3 random explosion bullets
-        int explodingBulletsCount = MathUtils.random(2, 3);
+        int explodingBulletsCount = CombatRandom.random(2, 3);
 
         for (int i = 0; i < explodingBulletsCount; i++) {
             // Random position within arena
-            float x = arenaX + MathUtils.random(0.1f, 0.9f) * arenaWidth;
-            float y = arenaY + MathUtils.random(0.1f, 0.9f) * arenaHeight;
+            float x = arenaX + CombatRandom.random(0.1f, 0.9f) * arenaWidth;
+            float y = arenaY + CombatRandom.random(0.1f, 0.9f) * arenaHeight;
 
             // Slow movement speed for explosion bullets
             float speed = 150f;
-            float angle = MathUtils.random(0, MathUtils.PI2);
+            float angle = CombatRandom.random(0, MathUtils.PI2);
             float velX = MathUtils.cos(angle) * speed;
             float velY = MathUtils.sin(angle) * speed;
 
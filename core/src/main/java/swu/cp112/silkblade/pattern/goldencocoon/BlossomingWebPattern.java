@@ -3,6 +3,7 @@ package swu.cp112.silkblade.pattern.goldencocoon;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
@@ -66,7 +67,7 @@ public class BlossomingWebPattern implements EnemyAttackPattern {
         float centerY = arenaY + arenaHeight / 2;
 
         // Calculate damage based on enemy's attack damage
-        float baseDamage = MathUtils.random(CONFIG.getMinDamage(), CONFIG.getMaxDamage());
+        float baseDamage = CombatRandom.random(CONFIG.getMinDamage(), CONFIG.getMaxDamage());
         float scaledDamage = baseDamage * (1.0f + (enemy.getAttackDamage() * 0.1f));
 
         // Check if it's time to change pattern phase
@@ -74,7 +75,7 @@ public class BlossomingWebPattern implements EnemyAttackPattern {
             patternPhase = 1; // Switch to wall pattern
             webRingCount = 0;
             // Randomize ring rotation direction for next time
-            rotateClockwise = MathUtils.randomBoolean();
+            rotateClockwise = CombatRandom.randomBoolean();
         } else if (patternPhase == 1 && webRingCount >= MAX_WEB_RINGS) {
             patternPhase = 2; // Switch to bouncing orbs
             webRingCount = 0;
@@ -84,7 +85,7 @@ public class BlossomingWebPattern implements EnemyAttackPattern {
             webRingCount = 0;
             bouncingOrbsCreated = 0;
             // Randomize ring rotation direction for next time
-            rotateClockwise = MathUtils.randomBoolean();
+            rotateClockwise = CombatRandom.randomBoolean();
         }
 
         // Generate bullets based on spawn cycle and pattern phase
@@ -185,7 +186,7 @@ public class BlossomingWebPattern implements EnemyAttackPattern {
 
         // Add some randomness to prevent predictability
         // 30% chance to spawn from opposite side where player expects
-        if (MathUtils.random() < 0.7f) {
+        if (CombatRandom.random() < 0.7f) {
             // Normal behavior - wall comes from opposite side of player's position
             fromRight = playerOffsetX < 0;  // If player is left of center, wall comes from right
             fromTop = playerOffsetY < 0;    // If player is below center, wall comes from top
@@ -197,7 +198,7 @@ public class BlossomingWebPattern implements EnemyAttackPattern {
 
         // Calculate the wall's starting position
         // Using a random offset from the edge to increase unpredictability
-        float edgeRandomOffset = MathUtils.random(-50f, 50f);
+        float edgeRandomOffset = CombatRandom.random(-50f, 50f);
         float startX, startY;
 
         if (isVertical) {
@@ -227,7 +228,7 @@ public class BlossomingWebPattern implements EnemyAttackPattern {
         float spacing = wallLength / WALL_POINTS;
 
         // Add some variation to wall length for unpredictability
-        float lengthVariation = MathUtils.random(0.8f, 1.2f);
+        float lengthVariation = CombatRandom.random(0.8f, 1.2f);
         wallLength *= lengthVariation;
 
         for (int i = 0; i < WALL_POINTS; i++) {
@@ -236,8 +237,8 @@ public class BlossomingWebPattern implements EnemyAttackPattern {
             float bulletY = startY + (isVertical ? posOffset : 0);
 
             // Add slight positional jitter to make walls less perfectly straight
-            if (MathUtils.random() < 0.3f) {
-                float jitter = MathUtils.random(-5f, 5f);
+            if (CombatRandom.random() < 0.3f) {
+                float jitter = CombatRandom.random(-5f, 5f);
                 if (isVertical) {
                     bulletX += jitter;
                 } else {
@@ -246,7 +247,7 @@ public class BlossomingWebPattern implements EnemyAttackPattern {
             }
 
             // Create bullet with slightly varying speeds
-            float speedVariation = MathUtils.random(0.9f, 1.1f);
+            float speedVariation = CombatRandom.random(0.9f, 1.1f);
 
             Bullet bullet = new Bullet(
                 damage * 0.8f, // Slightly reduced damage for wall bullets
@@ -278,24 +279,24 @@ public class BlossomingWebPattern implements EnemyAttackPattern {
                                    float damage) {
         // Determine spawn position (random edge of arena)
         float spawnX, spawnY;
-        float edgeChoice = MathUtils.random(0f, 1f);
+        float edgeChoice = CombatRandom.random(0f, 1f);
 
         if (edgeChoice < 0.25f) {
             // Top edge
-            spawnX = arenaX + MathUtils.random(0f, arenaWidth);
+            spawnX = arenaX + CombatRandom.random(0f, arenaWidth);
             spawnY = arenaY + arenaHeight;
         } else if (edgeChoice < 0.5f) {
             // Right edge
             spawnX = arenaX + arenaWidth;
-            spawnY = arenaY + MathUtils.random(0f, arenaHeight);
+            spawnY = arenaY + CombatRandom.random(0f, arenaHeight);
         } else if (edgeChoice < 0.75f) {
             // Bottom edge
-            spawnX = arenaX + MathUtils.random(0f, arenaWidth);
+            spawnX = arenaX + CombatRandom.random(0f, arenaWidth);
             spawnY = arenaY;
         } else {
             // Left edge
             spawnX = arenaX;
-            spawnY = arenaY + MathUtils.random(0f, arenaHeight);
+            spawnY = arenaY + CombatRandom.random(0f, arenaHeight);
         }
 
         // Calculate direction toward player with randomness
@@ -303,8 +304,8 @@ public class BlossomingWebPattern implements EnemyAttackPattern {
         float dirY = playerY - spawnY;
 
         // Add randomness to direction
-        dirX += MathUtils.random(-50f, 50f);
-        dirY += MathUtils.random(-50f, 50f);
+        dirX += CombatRandom.random(-50f, 50f);
+        dirY += CombatRandom.random(-50f, 50f);
 
         // Normalize direction
         float length = (float)Math.sqrt(dirX * dirX + dirY * dirY);
@@ -329,7 +330,7 @@ public class BlossomingWebPattern implements EnemyAttackPattern {
         bullet.enableTelegraphing(0.5f, 0.2f);
 
         // Randomly decide if cross pattern will be cardinal or diagonal
-        final boolean useDiagonalPattern = MathUtils.randomBoolean();
+        final boolean useDiagonalPattern = CombatRandom.randomBoolean();
 
         // Set up explosion callback
         bullet.setOnExplodeCallback(() -> {
@@ -5,6 +5,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
@@ -78,7 +79,7 @@ public class PrecisionWebPattern implements EnemyAttackPattern {
             // Time for a new attack
 
             // Choose between different attack types
-            float attackChoice = MathUtils.random(0f, 1f);
+            float attackChoice = CombatRandom.random(0f, 1f);
 
             if (attackChoice < 0.4f) {
                 // Direct predictive shots
@@ -131,11 +132,11 @@ public class PrecisionWebPattern implements EnemyAttackPattern {
                                        float playerX, float playerY,
                                        float arenaWidth, float arenaHeight, float arenaX, float arenaY) {
         // Calculate damage based on enemy's attack damage
-        float baseDamage = MathUtils.random(CONFIG.getMinDamage(), CONFIG.getMaxDamage());
+        float baseDamage = CombatRandom.random(CONFIG.getMinDamage(), CONFIG.getMaxDamage());
         float scaledDamage = baseDamage * (1.0f + (enemy.getAttackDamage() * 0.1f));
 
         // Predict player position based on current velocity and scaling factor
-        float predictionFactor = MathUtils.random(3f, 8f);
+        float predictionFactor = CombatRandom.random(3f, 8f);
         float predictedX = playerX + (playerVelocity.x * predictionFactor);
         float predictedY = playerY + (playerVelocity.y * predictionFactor);
 
@@ -148,12 +149,12 @@ public class PrecisionWebPattern implements EnemyAttackPattern {
         float centerY = arenaY + arenaHeight / 2;
 
         // Create bullets at different angles around the predicted position
-        int numBullets = 4 + MathUtils.random(2, 4);
+        int numBullets = 4 + CombatRandom.random(2, 4);
         float angleStep = MathUtils.PI2 / numBullets;
 
         for (int i = 0; i < numBullets; i++) {
             // Calculate angle with some randomness
-            float angle = i * angleStep + patternPhase + MathUtils.random(-0.1f, 0.1f);
+            float angle = i * angleStep + patternPhase + CombatRandom.random(-0.1f, 0.1f);
 
             // Calculate spawn position at edge of arena
             float radius = (float)Math.sqrt(arenaWidth * arenaWidth + arenaHeight * arenaHeight) / 2;
@@ -170,7 +171,7 @@ public class PrecisionWebPattern implements EnemyAttackPattern {
             dirY /= length;
 
             // Calculate speed with some variation
-            float speed = THREAD_SPEED * MathUtils.random(0.9f, 1.1f);
+            float speed = THREAD_SPEED * CombatRandom.random(0.9f, 1.1f);
 
             // Create bullet with golden color
             Bullet bullet = new Bullet(
@@ -200,7 +201,7 @@ public class PrecisionWebPattern implements EnemyAttackPattern {
                                        float playerX, float playerY,
                                        float arenaWidth, float arenaHeight) {
         // Calculate damage based on enemy's attack damage
-        float baseDamage = MathUtils.random(CONFIG.getMinDamage(), CONFIG.getMaxDamage());
+        float baseDamage = CombatRandom.random(CONFIG.getMinDamage(), CONFIG.getMaxDamage());
         float scaledDamage = baseDamage * (1.0f + (enemy.getAttackDamage() * 0.1f));
 
         // Calculate predicted player position
@@ -208,19 +209,19 @@ public class PrecisionWebPattern implements EnemyAttackPattern {
         float predictedY = playerY + (playerVelocity.y * 4f);
 
         // Create several thread points
-        int numThreads = MathUtils.random(3, 5);
+        int numThreads = CombatRandom.random(3, 5);
         for (int i = 0; i < numThreads; i++) {
             // Random point near the player's predicted position
-            float radius = MathUtils.random(50f, 150f);
-            float angle = MathUtils.random(0f, MathUtils.PI2);
+            float radius = CombatRandom.random(50f, 150f);
+            float angle = CombatRandom.random(0f, MathUtils.PI2);
 
             float pointX = predictedX + MathUtils.cos(angle) * radius;
             float pointY = predictedY + MathUtils.sin(angle) * radius;
 
             // Create several threads radiating from this point
-            int numRadial = MathUtils.random(3, 5);
+            int numRadial = CombatRandom.random(3, 5);
             for (int j = 0; j < numRadial; j++) {
-                float threadAngle = (j * MathUtils.PI2 / numRadial) + MathUtils.random(-0.2f, 0.2f);
+                float threadAngle = (j * MathUtils.PI2 / numRadial) + CombatRandom.random(-0.2f, 0.2f);
 
                 // Direction vector
                 float dirX = MathUtils.cos(threadAngle);
@@ -258,7 +259,7 @@ public class PrecisionWebPattern implements EnemyAttackPattern {
                                float playerX, float playerY,
                                float arenaWidth, float arenaHeight) {
         // Calculate damage based on enemy's attack damage
-        float baseDamage = MathUtils.random(CONFIG.getMinDamage(), CONFIG.getMaxDamage());
+        float baseDamage = CombatRandom.random(CONFIG.getMinDamage(), CONFIG.getMaxDamage());
         float scaledDamage = baseDamage * (1.0f + (enemy.getAttackDamage() * 0.1f));
 
         // Predict further ahead for the trap
@@ -4,6 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
@@ -236,7 +237,7 @@ public class OgreEvolutionPattern implements EnemyAttackPattern {
         }
 
         // Always try to add healing bullets
-        if (MathUtils.random() < (HEALING_CHANCE + (currentEvolution * 0.03f))) {
+        if (CombatRandom.random() < (HEALING_CHANCE + (currentEvolution * 0.03f))) {
             createHealingBullet(healingBullets, enemyX, enemyY, playerX, playerY, FIST_SPEED * 0.6f);
         }
 
@@ -280,7 +281,7 @@ public class OgreEvolutionPattern implements EnemyAttackPattern {
     private void createOgreFistPattern(List<Bullet> bullets, float enemyX, float enemyY,
                                    float playerX, float playerY, float speed,
                                    float minDamage, float maxDamage) {
-        float damage = MathUtils.random(minDamage, maxDamage);
+        float damage = CombatRandom.random(minDamage, maxDamage);
 
         // Calculate fist count based on evolution and stage group
         int fistCount = BASE_FIST_COUNT + stageGroup + currentEvolution;
@@ -319,14 +320,14 @@ public class OgreEvolutionPattern implements EnemyAttackPattern {
             float rotatedDirY = dirX * MathUtils.sin(totalRadians) + dirY * MathUtils.cos(totalRadians);
 
             // Calculate size and speed variations
-            float sizeVariation = 0.8f + (MathUtils.random(0.4f));
-            float speedVariation = 0.85f + (MathUtils.random(0.3f));
+            float sizeVariation = 0.8f + (CombatRandom.random(0.4f));
+            float speedVariation = 0.85f + (CombatRandom.random(0.3f));
 
             // Create fist projectile with ogre-themed color
             Color fistColor = new Color(
-                0.7f + MathUtils.random(0.3f), // Red component strong
-                0.2f + MathUtils.random(0.3f), // Green component moderate
-                0.05f + MathUtils.random(0.15f), // Blue component weak
+                0.7f + CombatRandom.random(0.3f), // Red component strong
+                0.2f + CombatRandom.random(0.3f), // Green component moderate
+                0.05f + CombatRandom.random(0.15f), // Blue component weak
                 1.0f
             );
 
@@ -362,7 +363,7 @@ public class OgreEvolutionPattern implements EnemyAttackPattern {
     private void createOgreSlamPattern(List<Bullet> bullets, float enemyX, float enemyY,
                                    float playerX, float playerY, float speed,
                                    float minDamage, float maxDamage) {
-        float damage = MathUtils.random(minDamage * 0.9f, maxDamage * 0.9f);
+        float damage = CombatRandom.random(minDamage * 0.9f, maxDamage * 0.9f);
 
         // Calculate slam waves based on evolution
         int waveCount = SLAM_WAVES + (currentEvolution / 2);
@@ -441,7 +442,7 @@ public class OgreEvolutionPattern implements EnemyAttackPattern {
     private void createOgreRoarPattern(List<Bullet> bullets, float enemyX, float enemyY,
                                   float playerX, float playerY, float speed,
                                   float minDamage, float maxDamage) {
-        float damage = MathUtils.random(minDamage * 0.8f, maxDamage * 0.8f);
+        float damage = CombatRandom.random(minDamage * 0.8f, maxDamage * 0.8f);
 
         // Calculate the number of rings based on evolution - with limit for highest stage group
         int ringCount = stageGroup == 3 ?
@@ -513,7 +514,7 @@ public class OgreEvolutionPattern implements EnemyAttackPattern {
     private void createOgreStompPattern(List<Bullet> bullets, float enemyX, float enemyY,
                                     float playerX, float playerY, float speed,
                                     float minDamage, float maxDamage) {
-        float damage = MathUtils.random(minDamage, maxDamage);
+        float damage = CombatRandom.random(minDamage, maxDamage);
 
         // Scale line count based on evolution
         int lineCount = STOMP_LINES + currentEvolution;
@@ -647,7 +648,7 @@ public class OgreEvolutionPattern implements EnemyAttackPattern {
     private void createSilkWeavePattern(List<Bullet> bullets, float enemyX, float enemyY,
                                     float playerX, float playerY, float speed,
                                     float minDamage, float maxDamage) {
-        float damage = MathUtils.random(minDamage, maxDamage);
+        float damage = CombatRandom.random(minDamage, maxDamage);
 
         // Scale strand count based on evolution - but cap for highest stage group
         int strandCount = stageGroup == 3 ?
@@ -827,7 +828,7 @@ public class OgreEvolutionPattern implements EnemyAttackPattern {
     private void createOgreChaosSurgePattern(List<Bullet> bullets, float enemyX, float enemyY,
                                          float playerX, float playerY, float speed,
                                          float minDamage, float maxDamage) {
-        float damage = MathUtils.random(minDamage, maxDamage);
+        float damage = CombatRandom.random(minDamage, maxDamage);
 
         // Create a large number of chaotic bullets - but reduced significantly for highest stages
         int chaosBulletCount = stageGroup == 3 ? 4 + stageGroup : 6 + (stageGroup * 3);
@@ -840,7 +841,7 @@ public class OgreEvolutionPattern implements EnemyAttackPattern {
             float spawnAngle = (360f / spawnPoints) * spawn + globalPatternRotation;
             float spawnRadians = spawnAngle * MathUtils.degreesToRadians;
 
-            float spawnDistance = 100f + (MathUtils.random(50f));
+            float spawnDistance = 100f + (CombatRandom.random(50f));
             float spawnX = enemyX + MathUtils.cos(spawnRadians) * spawnDistance;
             float spawnY = enemyY + MathUtils.sin(spawnRadians) * spawnDistance;
 
@@ -849,21 +850,21 @@ public class OgreEvolutionPattern implements EnemyAttackPattern {
             // Create chaos bullets from each spawn point
             for (int i = 0; i < bulletsPerSpawn; i++) {
                 // Calculate random direction
-                float angle = MathUtils.random(360f);
+                float angle = CombatRandom.random(360f);
                 float radians = angle * MathUtils.degreesToRadians;
 
                 float dirX = MathUtils.cos(radians);
                 float dirY = MathUtils.sin(radians);
 
                 // Random speed, size, and color variations
-                float speedMultiplier = 0.7f + MathUtils.random(0.6f);
-                float size = 4.0f + MathUtils.random(4.0f);
+                float speedMultiplier = 0.7f + CombatRandom.random(0.6f);
+                float size = 4.0f + CombatRandom.random(4.0f);
 
                 // Create chaos surge bullet with random color
                 Color chaosColor = new Color(
-                    MathUtils.random(0.5f, 1.0f), // Random components
-                    MathUtils.random(0.3f, 0.8f),
-                    MathUtils.random(0.3f, 0.8f),
+                    CombatRandom.random(0.5f, 1.0f), // Random components
+                    CombatRandom.random(0.3f, 0.8f),
+                    CombatRandom.random(0.3f, 0.8f),
                     1.0f
                 );
 
@@ -887,13 +888,13 @@ public class OgreEvolutionPattern implements EnemyAttackPattern {
                     Bullet.Shape.SQUARE,
                     Bullet.Shape.STAR
                 };
-                chaosBullet.setShape(shapes[MathUtils.random(shapes.length - 1)]);
-                chaosBullet.setTrailLength(20 + MathUtils.random(20));
+                chaosBullet.setShape(shapes[CombatRandom.random(shapes.length - 1)]);
+                chaosBullet.setTrailLength(20 + CombatRandom.random(20));
                 chaosBullet.setGlowing(true);
-                chaosBullet.setGlowLayers(MathUtils.random(2, 5));
+                chaosBullet.setGlowLayers(CombatRandom.random(2, 5));
 
                 // Random rotation speed
-                chaosBullet.startSpinning(MathUtils.random(80f, 250f));
+                chaosBullet.startSpinning(CombatRandom.random(80f, 250f));
 
                 // Random delay for chaotic appearance
                 chaosBullet.enableTelegraphing(1.5f, 0.2f); // Increased from 1.0f, 0.1f
@@ -908,8 +909,8 @@ public class OgreEvolutionPattern implements EnemyAttackPattern {
     private void createHealingBullet(List<Bullet> bullets, float enemyX, float enemyY,
                                 float playerX, float playerY, float speed) {
         // Choose random position around the arena at larger distance
-        float angle = MathUtils.random(360f) * MathUtils.degreesToRadians;
-        float distance = 180f + MathUtils.random(50f);
+        float angle = CombatRandom.random(360f) * MathUtils.degreesToRadians;
+        float distance = 180f + CombatRandom.random(50f);
 
         float spawnX = enemyX + MathUtils.cos(angle) * distance;
         float spawnY = enemyY + MathUtils.sin(angle) * distance;
@@ -1,15 +1,16 @@
 package swu.cp112.silkblade.pattern.silkcicada;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
 import swu.cp112.silkblade.pattern.EnemyAttackPattern;
 import swu.cp112.silkblade.screen.StageSelectionScreen;
+import swu.cp112.silkblade.util.GameClock;
 import swu.cp112.silkblade.util.GameLogger;
 
 import java.util.ArrayList;
@@ -53,7 +54,7 @@ public class HighAttackPattern implements EnemyAttackPattern {
         List<Bullet> bullets = new ArrayList<>();
 
         // Update timers
-        float delta = Gdx.graphics.getDeltaTime();
+        float delta = GameClock.getDelta();
         patternTimer += delta;
         phaseTimer += delta;
 
@@ -111,7 +112,7 @@ public class HighAttackPattern implements EnemyAttackPattern {
         }
 
         // Occasionally spawn healing bullets (all phases)
-        if (MathUtils.random() < HEALING_CHANCE) {
+        if (CombatRandom.random() < HEALING_CHANCE) {
             createHealingBullet(bullets, enemyX, enemyY, playerX, playerY);
         }
 
@@ -125,7 +126,7 @@ public class HighAttackPattern implements EnemyAttackPattern {
                                           float playerX, float playerY, float speed,
                                           float minDamage, float maxDamage, Color baseColor) {
         int bulletCount = MAX_RING_BULLETS;
-        float damage = MathUtils.random(minDamage, maxDamage);
+        float damage = CombatRandom.random(minDamage, maxDamage);
 
         // Create a ring of bullets
         for (int i = 0; i < bulletCount; i++) {
@@ -141,7 +142,7 @@ public class HighAttackPattern implements EnemyAttackPattern {
             float dirY = MathUtils.sin(angle);
 
             // Slightly randomize speed for visual interest
-            float bulletSpeed = speed * MathUtils.random(0.85f, 1.15f);
+            float bulletSpeed = speed * CombatRandom.random(0.85f, 1.15f);
 
             // Create bullet
             Bullet bullet = new Bullet(
@@ -187,7 +188,7 @@ public class HighAttackPattern implements EnemyAttackPattern {
     private void createSpiralPattern(List<Bullet> bullets, float enemyX, float enemyY,
                                    float playerX, float playerY, float speed,
                                    float minDamage, float maxDamage, Color baseColor) {
-        float damage = MathUtils.random(minDamage, maxDamage);
+        float damage = CombatRandom.random(minDamage, maxDamage);
 
         // Create three spiral arms at different angles
         for (int arm = 0; arm < 3; arm++) {
@@ -263,7 +264,7 @@ public class HighAttackPattern implements EnemyAttackPattern {
     private void createFanPattern(List<Bullet> bullets, float enemyX, float enemyY,
                                 float playerX, float playerY, float speed,
                                 float minDamage, float maxDamage, Color baseColor) {
-        float damage = MathUtils.random(minDamage, maxDamage);
+        float damage = CombatRandom.random(minDamage, maxDamage);
 
         // Calculate direction to player
         float dirX = playerX - enemyX;
@@ -378,8 +379,8 @@ public class HighAttackPattern implements EnemyAttackPattern {
     private void createHealingBullet(List<Bullet> bullets, float enemyX, float enemyY,
                                    float playerX, float playerY, float playerSpeed) {
         // Calculate initial position (random around the enemy)
-        float angle = MathUtils.random(MathUtils.PI2);
-        float distance = MathUtils.random(50f, 100f);
+        float angle = CombatRandom.random(MathUtils.PI2);
+        float distance = CombatRandom.random(50f, 100f);
         float spawnX = enemyX + MathUtils.cos(angle) * distance;
         float spawnY = enemyY + MathUtils.sin(angle) * distance;
 
@@ -391,8 +392,8 @@ public class HighAttackPattern implements EnemyAttackPattern {
         dirY = dirY / length;
 
         // Add randomness to direction
-        dirX += MathUtils.random(-0.3f, 0.3f);
-        dirY += MathUtils.random(-0.3f, 0.3f);
+        dirX += CombatRandom.random(-0.3f, 0.3f);
+        dirY += CombatRandom.random(-0.3f, 0.3f);
 
         // Re-normalize
         length = (float) Math.sqrt(dirX * dirX + dirY * dirY);
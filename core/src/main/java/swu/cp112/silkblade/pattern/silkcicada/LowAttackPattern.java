@@ -1,13 +1,14 @@
 package swu.cp112.silkblade.pattern.silkcicada;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
 import swu.cp112.silkblade.pattern.EnemyAttackPattern;
+import swu.cp112.silkblade.util.GameClock;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -50,7 +51,7 @@ public class LowAttackPattern implements EnemyAttackPattern {
         List<Bullet> bullets = new ArrayList<>();
 
         // Update timers
-        float delta = Gdx.graphics.getDeltaTime();
+        float delta = GameClock.getDelta();
         phaseTimer += delta;
 
         // Check for phase transition
@@ -107,7 +108,7 @@ public class LowAttackPattern implements EnemyAttackPattern {
         }
 
         // Occasionally spawn healing bullets
-        if (MathUtils.random() < HEALING_CHANCE) {
+        if (CombatRandom.random() < HEALING_CHANCE) {
             createHealingBullet(bullets, enemyX, enemyY, playerX, playerY);
         }
 
@@ -120,7 +121,7 @@ public class LowAttackPattern implements EnemyAttackPattern {
     private void createBurstPattern(List<Bullet> bullets, float enemyX, float enemyY,
                                   float playerX, float playerY, float speed,
                                   float minDamage, float maxDamage, Color baseColor) {
-        float damage = MathUtils.random(minDamage, maxDamage);
+        float damage = CombatRandom.random(minDamage, maxDamage);
 
         // Calculate direction to player for central burst
         float dirX = playerX - enemyX;
@@ -174,7 +175,7 @@ public class LowAttackPattern implements EnemyAttackPattern {
     private void createLinearPattern(List<Bullet> bullets, float enemyX, float enemyY,
                                    float playerX, float playerY, float speed,
                                    float minDamage, float maxDamage, Color baseColor) {
-        float damage = MathUtils.random(minDamage, maxDamage);
+        float damage = CombatRandom.random(minDamage, maxDamage);
 
         // Calculate direction to player
         float dirX = playerX - enemyX;
@@ -248,10 +249,10 @@ public class LowAttackPattern implements EnemyAttackPattern {
     private void createCircularPattern(List<Bullet> bullets, float enemyX, float enemyY,
                                      float playerX, float playerY, float speed,
                                      float minDamage, float maxDamage, Color baseColor) {
-        float damage = MathUtils.random(minDamage, maxDamage);
+        float damage = CombatRandom.random(minDamage, maxDamage);
 
         // Update rotation offset for next spawn
-        circleRotationOffset += MathUtils.random(MathUtils.PI / 6, MathUtils.PI / 3);
+        circleRotationOffset += CombatRandom.random(MathUtils.PI / 6, MathUtils.PI / 3);
         if (circleRotationOffset > MathUtils.PI2) {
             circleRotationOffset -= MathUtils.PI2;
         }
@@ -266,7 +267,7 @@ public class LowAttackPattern implements EnemyAttackPattern {
             float dirY = MathUtils.sin(angle);
 
             // Add slight variations in speed based on position in circle
-            float speedVariation = 0.9f + MathUtils.random(0.2f);
+            float speedVariation = 0.9f + CombatRandom.random(0.2f);
 
             // Create the bullet
             Bullet bullet = new Bullet(
@@ -298,8 +299,8 @@ public class LowAttackPattern implements EnemyAttackPattern {
     private void createHealingBullet(List<Bullet> bullets, float enemyX, float enemyY,
                                    float playerX, float playerY) {
         // Calculate random spawn offset from enemy
-        float offsetX = MathUtils.random(-60f, 60f);
-        float offsetY = MathUtils.random(-60f, 60f);
+        float offsetX = CombatRandom.random(-60f, 60f);
+        float offsetY = CombatRandom.random(-60f, 60f);
         float spawnX = enemyX + offsetX;
         float spawnY = enemyY + offsetY;
 
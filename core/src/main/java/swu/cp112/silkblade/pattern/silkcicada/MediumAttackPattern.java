@@ -1,13 +1,14 @@
 package swu.cp112.silkblade.pattern.silkcicada;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
 import swu.cp112.silkblade.pattern.EnemyAttackPattern;
+import swu.cp112.silkblade.util.GameClock;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -54,7 +55,7 @@ public class MediumAttackPattern implements EnemyAttackPattern {
         List<Bullet> bullets = new ArrayList<>();
 
         // Update timers
-        float delta = Gdx.graphics.getDeltaTime();
+        float delta = GameClock.getDelta();
         patternTimer += delta;
         phaseTimer += delta;
 
@@ -112,7 +113,7 @@ public class MediumAttackPattern implements EnemyAttackPattern {
         }
 
         // Occasionally spawn healing bullets
-        if (MathUtils.random() < HEALING_CHANCE) {
+        if (CombatRandom.random() < HEALING_CHANCE) {
             createHealingBullet(bullets, enemyX, enemyY, playerX, playerY);
         }
 
@@ -125,7 +126,7 @@ public class MediumAttackPattern implements EnemyAttackPattern {
     private void createGridPattern(List<Bullet> bullets, float enemyX, float enemyY,
                                   float playerX, float playerY, float speed,
                                   float minDamage, float maxDamage, Color baseColor) {
-        float damage = MathUtils.random(minDamage, maxDamage);
+        float damage = CombatRandom.random(minDamage, maxDamage);
 
         // Calculate the direction toward player for the entire grid
         float dirX = playerX - enemyX;
@@ -146,7 +147,7 @@ public class MediumAttackPattern implements EnemyAttackPattern {
         for (int row = 0; row < GRID_ROWS; row++) {
             for (int col = 0; col < GRID_COLS; col++) {
                 // Randomly select one of the four sides of the arena to spawn from
-                int side = MathUtils.random(3); // 0 = top, 1 = right, 2 = bottom, 3 = left
+                int side = CombatRandom.random(3); // 0 = top, 1 = right, 2 = bottom, 3 = left
 
                 // Calculate spawn position based on the side
                 float spawnX, spawnY;
@@ -155,26 +156,26 @@ public class MediumAttackPattern implements EnemyAttackPattern {
 
                 switch (side) {
                     case 0: // Top
-                        spawnX = enemyX - arenaHalfWidth + MathUtils.random(arenaHalfWidth * 2);
-                        spawnY = enemyY + arenaHalfHeight + MathUtils.random(50f, 150f);
+                        spawnX = enemyX - arenaHalfWidth + CombatRandom.random(arenaHalfWidth * 2);
+                        spawnY = enemyY + arenaHalfHeight + CombatRandom.random(50f, 150f);
                         // Adjust direction to come from top
                         spawnDirY = -Math.abs(spawnDirY);
                         break;
                     case 1: // Right
-                        spawnX = enemyX + arenaHalfWidth + MathUtils.random(50f, 150f);
-                        spawnY = enemyY - arenaHalfHeight + MathUtils.random(arenaHalfHeight * 2);
+                        spawnX = enemyX + arenaHalfWidth + CombatRandom.random(50f, 150f);
+                        spawnY = enemyY - arenaHalfHeight + CombatRandom.random(arenaHalfHeight * 2);
                         // Adjust direction to come from right
                         spawnDirX = -Math.abs(spawnDirX);
                         break;
                     case 2: // Bottom
-                        spawnX = enemyX - arenaHalfWidth + MathUtils.random(arenaHalfWidth * 2);
-                        spawnY = enemyY - arenaHalfHeight - MathUtils.random(50f, 150f);
+                        spawnX = enemyX - arenaHalfWidth + CombatRandom.random(arenaHalfWidth * 2);
+                        spawnY = enemyY - arenaHalfHeight - CombatRandom.random(50f, 150f);
                         // Adjust direction to come from bottom
                         spawnDirY = Math.abs(spawnDirY);
                         break;
                     default: // Left
-                        spawnX = enemyX - arenaHalfWidth - MathUtils.random(50f, 150f);
-                        spawnY = enemyY - arenaHalfHeight + MathUtils.random(arenaHalfHeight * 2);
+                        spawnX = enemyX - arenaHalfWidth - CombatRandom.random(50f, 150f);
+                        spawnY = enemyY - arenaHalfHeight + CombatRandom.random(arenaHalfHeight * 2);
                         // Adjust direction to come from left
                         spawnDirX = Math.abs(spawnDirX);
                         break;
@@ -247,7 +248,7 @@ public class MediumAttackPattern implements EnemyAttackPattern {
     private void createWavePattern(List<Bullet> bullets, float enemyX, float enemyY,
                                   float playerX, float playerY, float speed,
                                   float minDamage, float maxDamage, Color baseColor) {
-        float damage = MathUtils.random(minDamage, maxDamage);
+        float damage = CombatRandom.random(minDamage, maxDamage);
 
         // Calculate direction to player
         float dirX = playerX - enemyX;
@@ -325,7 +326,7 @@ public class MediumAttackPattern implements EnemyAttackPattern {
     private void createDiagonalPattern(List<Bullet> bullets, float enemyX, float enemyY,
                                       float playerX, float playerY, float speed,
                                       float minDamage, float maxDamage, Color baseColor) {
-        float damage = MathUtils.random(minDamage, maxDamage);
+        float damage = CombatRandom.random(minDamage, maxDamage);
 
         // Create diagonal lines at different angles
         for (int line = 0; line < DIAGONAL_LINES; line++) {
@@ -441,8 +442,8 @@ public class MediumAttackPattern implements EnemyAttackPattern {
     private void createHealingBullet(List<Bullet> bullets, float enemyX, float enemyY,
                                     float playerX, float playerY) {
         // Calculate random spawn position around enemy
-        float angle = MathUtils.random(MathUtils.PI2);
-        float distance = MathUtils.random(40f, 90f);
+        float angle = CombatRandom.random(MathUtils.PI2);
+        float distance = CombatRandom.random(40f, 90f);
         float spawnX = enemyX + MathUtils.cos(angle) * distance;
         float spawnY = enemyY + MathUtils.sin(angle) * distance;
 
@@ -454,8 +455,8 @@ public class MediumAttackPattern implements EnemyAttackPattern {
         dirY = dirY / length;
 
         // Add some randomness
-        dirX += MathUtils.random(-0.25f, 0.25f);
-        dirY += MathUtils.random(-0.25f, 0.25f);
+        dirX += CombatRandom.random(-0.25f, 0.25f);
+        dirY += CombatRandom.random(-0.25f, 0.25f);
 
         // Re-normalize
         length = (float) Math.sqrt(dirX * dirX + dirY * dirY);
@@ -3,6 +3,7 @@ package swu.cp112.silkblade.pattern.silkgod;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
@@ -44,7 +45,7 @@ public class ConvergingStarPattern implements EnemyAttackPattern {
         float defenseMultiplier = 1.0f + (enemyAttackDamage * 0.15f);
         float scaledMinDamage = (CONFIG.getMinDamage() + (CONFIG.getMinDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
         float scaledMaxDamage = (CONFIG.getMaxDamage() + (CONFIG.getMaxDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
-        float damage = Math.abs(MathUtils.random(scaledMinDamage, scaledMaxDamage));
+        float damage = Math.abs(CombatRandom.random(scaledMinDamage, scaledMaxDamage));
         float bulletSize = 14;  // Same size as original
 
         // Circle pattern - spawn bullets around player
@@ -3,15 +3,16 @@ package swu.cp112.silkblade.pattern.silkgod;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
 import swu.cp112.silkblade.pattern.EnemyAttackPattern;
+import swu.cp112.silkblade.util.GameClock;
 
 public class CrossfirePattern implements EnemyAttackPattern {
     private static final AttackPatternConfig CONFIG = new AttackPatternConfig(
@@ -30,7 +31,7 @@ public class CrossfirePattern implements EnemyAttackPattern {
     // Track last spawn positions
     private float lastHorizontalY = 0f;
     private float lastVerticalX = 0f;
-    private static final float MIN_SPAWN_SPACING = MathUtils.random(5, 20); // Reduced spacing
+    private final float minSpawnSpacing = CombatRandom.random(5, 20); // Reduced spacing, seeded so replays place bullets alike
     private static final float MAX_BULLET_SPEED = 300f;
 
     // Add bullet count control variables
@@ -60,9 +61,9 @@ public class CrossfirePattern implements EnemyAttackPattern {
         float defenseMultiplier = 1.0f + (enemyAttackDamage * 0.15f); // Increases with enemy attack
         float scaledMinDamage = (CONFIG.getMinDamage() + (CONFIG.getMinDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
         float scaledMaxDamage = (CONFIG.getMaxDamage() + (CONFIG.getMaxDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
-        float realDamage = Math.abs(MathUtils.random(scaledMinDamage, scaledMaxDamage));
+        float realDamage = Math.abs(CombatRandom.random(scaledMinDamage, scaledMaxDamage));
         // Update timers
-        spawnTimer += Gdx.graphics.getDeltaTime();
+        spawnTimer += GameClock.getDelta();
 
         // Spawn exploding bullet periodically
         if (spawnTimer - lastExplosionSpawn >= explosionSpawnInterval) {
@@ -207,22 +208,22 @@ public class CrossfirePattern implements EnemyAttackPattern {
             // Generate different Y positions for left and right bullets
             float leftY, rightY;
             do {
-                leftY = MathUtils.random(arenaY + MIN_SPAWN_SPACING,
-                                     arenaY + arenaHeight - MIN_SPAWN_SPACING);
-            } while (Math.abs(leftY - lastHorizontalY) < MIN_SPAWN_SPACING);
+                leftY = CombatRandom.random(arenaY + minSpawnSpacing,
+                                     arenaY + arenaHeight - minSpawnSpacing);
+            } while (Math.abs(leftY - lastHorizontalY) < minSpawnSpacing);
 
             do {
-                rightY = MathUtils.random(arenaY + MIN_SPAWN_SPACING,
-                                      arenaY + arenaHeight - MIN_SPAWN_SPACING);
-            } while (Math.abs(rightY - lastHorizontalY) < MIN_SPAWN_SPACING
-                    || Math.abs(rightY - leftY) < MIN_SPAWN_SPACING);
+                rightY = CombatRandom.random(arenaY + minSpawnSpacing,
+                                      arenaY + arenaHeight - minSpawnSpacing);
+            } while (Math.abs(rightY - lastHorizontalY) < minSpawnSpacing
+                    || Math.abs(rightY - leftY) < minSpawnSpacing);
 
             lastHorizontalY = leftY; // Update last spawn position
 
             // Left side bullet
             Bullet leftBullet = new Bullet(
                 realDamage,
-                arenaX - MathUtils.random(20, 40),
+                arenaX - CombatRandom.random(20, 40),
                 leftY,  // Use leftY for left bullet
                 horizontalSpeed,
                 0f,
@@ -255,7 +256,7 @@ public class CrossfirePattern implements EnemyAttackPattern {
             // Right side bullet
             Bullet rightBullet = new Bullet(
                 realDamage,
-                arenaX + arenaWidth + MathUtils.random(20, 40),
+                arenaX + arenaWidth + CombatRandom.random(20, 40),
                 rightY,  // Use rightY for right bullet
                 -horizontalSpeed,
                 0f,
@@ -293,16 +294,16 @@ public class CrossfirePattern implements EnemyAttackPattern {
 
             float newX;
             do {
-                newX = MathUtils.random(arenaX + MIN_SPAWN_SPACING,
-                                      arenaX + arenaWidth - MIN_SPAWN_SPACING);
-            } while (Math.abs(newX - lastVerticalX) < MIN_SPAWN_SPACING);
+                newX = CombatRandom.random(arenaX + minSpawnSpacing,
+                                      arenaX + arenaWidth - minSpawnSpacing);
+            } while (Math.abs(newX - lastVerticalX) < minSpawnSpacing);
 
             lastVerticalX = newX;
 
             Bullet verticalBullet = new Bullet(
                 realDamage,
                 newX,
-                arenaY - MathUtils.random(20, 40),
+                arenaY - CombatRandom.random(20, 40),
                 0f,
                 verticalSpeed,
                 bulletSize,
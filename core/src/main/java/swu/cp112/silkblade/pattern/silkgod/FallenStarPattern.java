@@ -4,7 +4,10 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
+import swu.cp112.silkblade.audio.VoiceManager;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
+import swu.cp112.silkblade.entity.combat.CombatSound;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
@@ -25,26 +28,14 @@ public class FallenStarPattern implements EnemyAttackPattern {
     private int maxRegularBullets = CONFIG.getMaxBullets() - 1; // Maximum number of regular bullets before massive star
     private boolean patternComplete = false; // Flag to indicate if the pattern is complete
 
-    // Sound related fields
-    private Sound starSpawnSound;
-    private Sound starExplosionSound;
-    private boolean soundsInitialized = false;
-
-    // Initialize sounds
-    private void initializeSounds() {
-        if (!soundsInitialized) {
-            starSpawnSound = Gdx.audio.newSound(Gdx.files.internal("sounds/star_spawn.wav"));
-            starExplosionSound = Gdx.audio.newSound(Gdx.files.internal("sounds/starsplosion.wav"));
-            soundsInitialized = true;
-        }
-    }
+    // Shared by every instance, loaded on first use and disposed when the game exits
+    private static Sound starSpawnSound;
+    private static Sound starExplosionSound;
 
-    // Dispose sounds when no longer needed
-    public void dispose() {
-        if (soundsInitialized) {
-            if (starSpawnSound != null) starSpawnSound.dispose();
-            if (starExplosionSound != null) starExplosionSound.dispose();
-            soundsInitialized = false;
+    private static void initializeSounds() {
+        if (starSpawnSound == null) {
+            starSpawnSound = VoiceManager.load(Gdx.files.internal("sounds/star_spawn.wav"), 4, VoiceManager.PRIORITY_NORMAL);
+            starExplosionSound = VoiceManager.load(Gdx.files.internal("sounds/starsplosion.wav"), 4, VoiceManager.PRIORITY_NORMAL);
         }
     }
 
@@ -65,22 +56,19 @@ public class FallenStarPattern implements EnemyAttackPattern {
         // Generate regular stars until we reach maxRegularBullets
         if (countBullets < maxRegularBullets) {
             // Regular star bullet code
-            float spawnX = arenaX + (CONFIG.getArenaWidth() * 0.5f) + MathUtils.random(0, CONFIG.getArenaWidth() * 2.3f);
+            float spawnX = arenaX + (CONFIG.getArenaWidth() * 0.5f) + CombatRandom.random(0, CONFIG.getArenaWidth() * 2.3f);
             float spawnY = arenaY + CONFIG.getArenaHeight() * 3.2f;
-            float initialSpeed = MathUtils.random(400, 500);
+            float initialSpeed = CombatRandom.random(400, 500);
             float enemyAttackDamage = enemy.getAttackDamage();
             float defenseMultiplier = 1.0f + (enemyAttackDamage * 0.15f);
             float scaledMinDamage = (CONFIG.getMinDamage() + (CONFIG.getMinDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
             float scaledMaxDamage = (CONFIG.getMaxDamage() + (CONFIG.getMaxDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
-            float mainBulletDamage = Math.abs(MathUtils.random(scaledMinDamage, scaledMaxDamage));
+            float mainBulletDamage = Math.abs(CombatRandom.random(scaledMinDamage, scaledMaxDamage));
 
             // Play star spawn sound
-            if (starSpawnSound != null) {
-                long soundId = starSpawnSound.play(0.15f);
-                // Add slight random pitch variation for each star (0.9-1.1 range)
-                float randomPitch = 0.9f + MathUtils.random(0.0f, 0.3f);
-                starSpawnSound.setPitch(soundId, randomPitch);
-            }
+            // Add slight random pitch variation for each star (0.9-1.1 range)
+            float randomPitch = 0.9f + CombatRandom.random(0.0f, 0.3f);
+            VoiceManager.play(starSpawnSound, 0.15f, randomPitch);
 
             Bullet mainBullet = new Bullet(
                 mainBulletDamage,
@@ -123,10 +111,7 @@ public class FallenStarPattern implements EnemyAttackPattern {
             // Set explosion effect
             mainBullet.setOnExplodeCallback(() -> {
                 // Play explosion sound
-                if (starExplosionSound != null) {
-                    long soundId = starExplosionSound.play(0.12f);
-                    starExplosionSound.setPitch(soundId, 1.7f);
-                }
+                VoiceManager.play(starExplosionSound, 0.12f, 1.7f);
 
                 // Trigger screen shake through the enemy
                 if (enemy instanceof AbstractEnemy) {
@@ -171,14 +156,10 @@ public class FallenStarPattern implements EnemyAttackPattern {
             float defenseMultiplier = 1.0f + (enemyAttackDamage * 0.15f);
             float scaledMinDamage = (CONFIG.getMinDamage() + (CONFIG.getMinDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
             float scaledMaxDamage = (CONFIG.getMaxDamage() + (CONFIG.getMaxDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
-            float mainBulletDamage = Math.abs(MathUtils.random(scaledMinDamage, scaledMaxDamage));
+            float mainBulletDamage = Math.abs(CombatRandom.random(scaledMinDamage, scaledMaxDamage));
 
             // Play massive star spawn sound (using regular spawn sound with lower pitch)
-            if (starSpawnSound != null) {
-                long soundId = starSpawnSound.play(0.25f);
-                starSpawnSound.setPitch(soundId, 0.465f); // Lower pitch for massive star
-                starSpawnSound.setVolume(soundId, 0.35f); // Slightly louder
-            }
+            VoiceManager.play(starSpawnSound, 0.35f, 0.465f); // Lower pitch and slightly louder for massive star
 
             Bullet mainBullet = new Bullet(
                 mainBulletDamage,
@@ -221,10 +202,7 @@ public class FallenStarPattern implements EnemyAttackPattern {
             // Set explosion effect
             mainBullet.setOnExplodeCallback(() -> {
                 // Play massive star explosion sound (using regular explosion sound with lower pitch)
-                if (starExplosionSound != null) {
-                    long soundId = starExplosionSound.play(0.15f);
-                    starExplosionSound.setPitch(soundId, 0.85f);
-                }
+                VoiceManager.play(starExplosionSound, 0.15f, 0.85f);
 
                 // Trigger screen shake through the enemy
                 if (enemy instanceof AbstractEnemy) {
@@ -237,7 +215,7 @@ public class FallenStarPattern implements EnemyAttackPattern {
                 // Calculate center position for explosion
                 float explosionX = mainBullet.getX();
                 float explosionY = mainBullet.getY();
-                float ringRotationDirection = MathUtils.randomBoolean() ? 1.0f : -1.0f;
+                float ringRotationDirection = CombatRandom.randomBoolean() ? 1.0f : -1.0f;
                 for(int i = 0; i < 5; i++) {
                     int outerRingBullets = 32 - (i * 4);  // Number of bullets in the outer ring
                     float smallBulletDamage = mainBulletDamage * 0.95f;
@@ -431,6 +409,11 @@ public class FallenStarPattern implements EnemyAttackPattern {
         return "Tears of Heaven";
     }
 
+    @Override
+    public boolean ownsSound(CombatSound sound) {
+        return sound == CombatSound.EXPLOSION; // Stars play their own explosion
+    }
+
     @Override
     public AttackPatternConfig getConfig() {
         return CONFIG;
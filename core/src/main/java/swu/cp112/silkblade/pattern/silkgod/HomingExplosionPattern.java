@@ -7,6 +7,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
@@ -42,7 +43,7 @@ public class HomingExplosionPattern implements EnemyAttackPattern {
         float defenseMultiplier = 1.0f + (enemyAttackDamage * 0.15f);
         float scaledMinDamage = (CONFIG.getMinDamage() + (CONFIG.getMinDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
         float scaledMaxDamage = (CONFIG.getMaxDamage() + (CONFIG.getMaxDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
-        float mainBulletDamage = Math.abs(MathUtils.random(scaledMinDamage, scaledMaxDamage));
+        float mainBulletDamage = Math.abs(CombatRandom.random(scaledMinDamage, scaledMaxDamage));
         Bullet mainBullet = new Bullet(
             mainBulletDamage,
             spawnX,
@@ -132,7 +133,7 @@ public class HomingExplosionPattern implements EnemyAttackPattern {
     private void createBulletRing(Bullet mainBullet, int numBullets, float centerX, float centerY,
                                 float baseSpeed, float damage, float radius, Color color, float angleOffset) {
         // Determine rotation direction for all bullets in this ring
-        float ringRotationDirection = MathUtils.randomBoolean() ? 1f : -1f;
+        float ringRotationDirection = CombatRandom.randomBoolean() ? 1f : -1f;
 
         for (int i = 0; i < numBullets; i++) {
             float initialAngle = ((i * (360f / numBullets)) + angleOffset) * MathUtils.degreesToRadians;
@@ -198,7 +199,7 @@ public class HomingExplosionPattern implements EnemyAttackPattern {
             smallBullet.setShape(Bullet.Shape.STAR);
             smallBullet.setSpinDirectionMatchesMovement(true);
             // Slightly vary the disco speed, but keep it slow (2.0-3.0 seconds per cycle)
-            smallBullet.setDiscoSpeed(2.0f + MathUtils.random(0.0f, 1.0f));
+            smallBullet.setDiscoSpeed(2.0f + CombatRandom.random(0.0f, 1.0f));
             smallBullet.setGlowing(true);  // Enable glow
             smallBullet.setGlowLayers(8);  // Optional: Set custom number of glow layers
             smallBullet.setGlowIntensity(0.3f);
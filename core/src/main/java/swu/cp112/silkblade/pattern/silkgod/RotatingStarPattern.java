@@ -7,6 +7,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
@@ -46,7 +47,7 @@ public class RotatingStarPattern implements EnemyAttackPattern {
         float defenseMultiplier = 1.0f + (enemyAttackDamage * 0.15f);
         float scaledMinDamage = (CONFIG.getMinDamage() + (CONFIG.getMinDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
         float scaledMaxDamage = (CONFIG.getMaxDamage() + (CONFIG.getMaxDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
-        float damage = Math.abs(MathUtils.random(scaledMinDamage, scaledMaxDamage));
+        float damage = Math.abs(CombatRandom.random(scaledMinDamage, scaledMaxDamage));
         float bulletSize = 16;  // Slightly bigger for spear-like appearance
 
         // Circle pattern - spawn bullets around player
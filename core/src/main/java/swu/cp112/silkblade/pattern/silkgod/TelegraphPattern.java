@@ -7,6 +7,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
@@ -79,7 +80,7 @@ public class TelegraphPattern implements EnemyAttackPattern {
         float defenseMultiplier = 1.0f + (enemyAttackDamage * 0.15f);
         float scaledMinDamage = (CONFIG.getMinDamage() + (CONFIG.getMinDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
         float scaledMaxDamage = (CONFIG.getMaxDamage() + (CONFIG.getMaxDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
-        float damage = Math.abs(MathUtils.random(scaledMinDamage, scaledMaxDamage));
+        float damage = Math.abs(CombatRandom.random(scaledMinDamage, scaledMaxDamage));
         // Decide which pattern to use (horizontal, vertical, or diagonal)
         int patternType = patternPhase % 4; // 0=horizontal, 1=vertical, 2=diagonal top-left to bottom-right, 3=diagonal top-right to bottom-left
 
@@ -303,12 +304,12 @@ public class TelegraphPattern implements EnemyAttackPattern {
         float defenseMultiplier = 1.0f + (enemyAttackDamage * 0.15f);
         float scaledMinDamage = (CONFIG.getMinDamage() + (CONFIG.getMinDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
         float scaledMaxDamage = (CONFIG.getMaxDamage() + (CONFIG.getMaxDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
-        float damage = Math.abs(MathUtils.random(scaledMinDamage, scaledMaxDamage));
+        float damage = Math.abs(CombatRandom.random(scaledMinDamage, scaledMaxDamage));
 
         for (int i = 0; i < 10; i++) {
             // Calculate position with offset
-            float offsetX = MathUtils.random(-120f, 120f);
-            float offsetY = MathUtils.random(-30f, 50f);
+            float offsetX = CombatRandom.random(-120f, 120f);
+            float offsetY = CombatRandom.random(-30f, 50f);
             float spawnX = centerX + offsetX;
             float spawnY = centerY + offsetY;
 
@@ -362,7 +363,7 @@ public class TelegraphPattern implements EnemyAttackPattern {
         float defenseMultiplier = 1.0f + (enemyAttackDamage * 0.15f);
         float scaledMinDamage = (CONFIG.getMinDamage() + (CONFIG.getMinDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
         float scaledMaxDamage = (CONFIG.getMaxDamage() + (CONFIG.getMaxDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
-        float damage = Math.abs(MathUtils.random(scaledMinDamage, scaledMaxDamage));
+        float damage = Math.abs(CombatRandom.random(scaledMinDamage, scaledMaxDamage));
         // Sun-ray pattern - 12 rays from center
         int numRays = 12;
         float baseSpeed = 720f;
@@ -408,8 +409,8 @@ public class TelegraphPattern implements EnemyAttackPattern {
 
         // Add some smaller trailing bullets with explosion effect
         for (int i = 0; i < 3; i++) {
-            float angle = MathUtils.random(0, MathUtils.PI2);
-            float dist = MathUtils.random(20, 50);
+            float angle = CombatRandom.random(0, MathUtils.PI2);
+            float dist = CombatRandom.random(20, 50);
 
             Bullet trailBullet = new Bullet(
                 damage,
@@ -462,7 +463,7 @@ public class TelegraphPattern implements EnemyAttackPattern {
                     fragment.setAutoRotate(true);
                     // Add disco effect
                     fragment.setDisco(true, true, false, 0.2f, 0.8f, 0.3f);
-                    fragment.setDiscoSpeed(2.0f + MathUtils.random(0.0f, 1.0f));
+                    fragment.setDiscoSpeed(2.0f + CombatRandom.random(0.0f, 1.0f));
 
                     // Add trailing effect
                     fragment.setTrailLength(48);
@@ -496,7 +497,7 @@ public class TelegraphPattern implements EnemyAttackPattern {
         float defenseMultiplier = 1.0f + (enemyAttackDamage * 0.15f);
         float scaledMinDamage = (CONFIG.getMinDamage() + (CONFIG.getMinDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
         float scaledMaxDamage = (CONFIG.getMaxDamage() + (CONFIG.getMaxDamage() * (enemyAttackDamage - 1) * 0.2f)) * defenseMultiplier;
-        float damage = Math.abs(MathUtils.random(scaledMinDamage, scaledMaxDamage));
+        float damage = Math.abs(CombatRandom.random(scaledMinDamage, scaledMaxDamage));
         // Number of bullets in each ring
         int bulletsPerRing = 7;
 
@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.entity.enemy.SilkGuardian;
@@ -81,7 +82,7 @@ public class EvolutionaryAttackPattern implements EnemyAttackPattern {
         float defenseMultiplier = 1.0f + (enemyAttackDamage * 0.12f); // Higher scaling than SilkWraith
         float scaledMinDamage = (CONFIG.getMinDamage() + (CONFIG.getMinDamage() * (enemyAttackDamage - 1) * 0.18f)) * defenseMultiplier;
         float scaledMaxDamage = (CONFIG.getMaxDamage() + (CONFIG.getMaxDamage() * (enemyAttackDamage - 1) * 0.18f)) * defenseMultiplier;
-        float damage = MathUtils.random(scaledMinDamage, scaledMaxDamage);
+        float damage = CombatRandom.random(scaledMinDamage, scaledMaxDamage);
 
         // Get enemy's primary color
         Color enemyColor = enemy.getPrimaryColor();
@@ -89,30 +90,30 @@ public class EvolutionaryAttackPattern implements EnemyAttackPattern {
         // Generate attack bullets
         for (int i = 0; i < bulletCount; i++) {
             // Choose a random side of the arena to spawn the bullet
-            SpawnSide side = SpawnSide.values()[MathUtils.random(0, 3)];
+            SpawnSide side = SpawnSide.values()[CombatRandom.random(0, 3)];
 
             // Random buffer distance from edge
-            float edgeBuffer = MathUtils.random(MIN_EDGE_BUFFER, MAX_EDGE_BUFFER);
+            float edgeBuffer = CombatRandom.random(MIN_EDGE_BUFFER, MAX_EDGE_BUFFER);
 
             // Calculate spawn position based on the chosen side
             float spawnX, spawnY;
             switch (side) {
                 case TOP:
-                    spawnX = arenaX + MathUtils.random(0, arenaWidth);
+                    spawnX = arenaX + CombatRandom.random(0, arenaWidth);
                     spawnY = arenaY + arenaHeight + edgeBuffer; // Spawn outside the top edge
                     break;
                 case RIGHT:
                     spawnX = arenaX + arenaWidth + edgeBuffer; // Spawn outside the right edge
-                    spawnY = arenaY + MathUtils.random(0, arenaHeight);
+                    spawnY = arenaY + CombatRandom.random(0, arenaHeight);
                     break;
                 case BOTTOM:
-                    spawnX = arenaX + MathUtils.random(0, arenaWidth);
+                    spawnX = arenaX + CombatRandom.random(0, arenaWidth);
                     spawnY = arenaY - edgeBuffer; // Spawn outside the bottom edge
                     break;
                 case LEFT:
                 default:
                     spawnX = arenaX - edgeBuffer; // Spawn outside the left edge
-                    spawnY = arenaY + MathUtils.random(0, arenaHeight);
+                    spawnY = arenaY + CombatRandom.random(0, arenaHeight);
                     break;
             }
 
@@ -126,8 +127,8 @@ public class EvolutionaryAttackPattern implements EnemyAttackPattern {
             // Less randomness in trajectory for more precise targeting
             if (!isPhase2) {
                 // Add slight randomness in phase 1
-                dirX += MathUtils.random(-0.05f, 0.05f);
-                dirY += MathUtils.random(-0.05f, 0.05f);
+                dirX += CombatRandom.random(-0.05f, 0.05f);
+                dirY += CombatRandom.random(-0.05f, 0.05f);
                 // Re-normalize
                 float len = (float) Math.sqrt(dirX * dirX + dirY * dirY);
                 dirX /= len;
@@ -156,32 +157,32 @@ public class EvolutionaryAttackPattern implements EnemyAttackPattern {
         }
 
         // In phase 2, potentially spawn a healing orb with a higher chance
-        if (isPhase2 && MathUtils.random() < HEALING_ORB_CHANCE) {
+        if (isPhase2 && CombatRandom.random() < HEALING_ORB_CHANCE) {
             // Select a random side to spawn from
-            SpawnSide side = SpawnSide.values()[MathUtils.random(0, 3)];
+            SpawnSide side = SpawnSide.values()[CombatRandom.random(0, 3)];
 
             // Random buffer distance from edge
-            float edgeBuffer = MathUtils.random(MIN_EDGE_BUFFER, MAX_EDGE_BUFFER);
+            float edgeBuffer = CombatRandom.random(MIN_EDGE_BUFFER, MAX_EDGE_BUFFER);
 
             // Calculate spawn position
             float healX, healY;
             switch (side) {
                 case TOP:
-                    healX = arenaX + MathUtils.random(0, arenaWidth);
+                    healX = arenaX + CombatRandom.random(0, arenaWidth);
                     healY = arenaY + arenaHeight + edgeBuffer; // Outside top edge
                     break;
                 case RIGHT:
                     healX = arenaX + arenaWidth + edgeBuffer; // Outside right edge
-                    healY = arenaY + MathUtils.random(0, arenaHeight);
+                    healY = arenaY + CombatRandom.random(0, arenaHeight);
                     break;
                 case BOTTOM:
-                    healX = arenaX + MathUtils.random(0, arenaWidth);
+                    healX = arenaX + CombatRandom.random(0, arenaWidth);
                     healY = arenaY - edgeBuffer; // Outside bottom edge
                     break;
                 case LEFT:
                 default:
                     healX = arenaX - edgeBuffer; // Outside left edge
-                    healY = arenaY + MathUtils.random(0, arenaHeight);
+                    healY = arenaY + CombatRandom.random(0, arenaHeight);
                     break;
             }
 
@@ -193,8 +194,8 @@ public class EvolutionaryAttackPattern implements EnemyAttackPattern {
             dirY = dirY / length;
 
             // Add some randomness to direction
-            dirX += MathUtils.random(-0.2f, 0.2f);
-            dirY += MathUtils.random(-0.2f, 0.2f);
+            dirX += CombatRandom.random(-0.2f, 0.2f);
+            dirY += CombatRandom.random(-0.2f, 0.2f);
 
             // Re-normalize direction
             length = (float) Math.sqrt(dirX * dirX + dirY * dirY);
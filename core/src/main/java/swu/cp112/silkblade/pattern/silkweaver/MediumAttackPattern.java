@@ -1,16 +1,17 @@
 package swu.cp112.silkblade.pattern.silkweaver;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.entity.enemy.SilkWeaver;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
 import swu.cp112.silkblade.pattern.EnemyAttackPattern;
 import swu.cp112.silkblade.screen.StageSelectionScreen;
+import swu.cp112.silkblade.util.GameClock;
 import swu.cp112.silkblade.util.GameLogger;
 
 import java.util.ArrayList;
@@ -137,22 +138,22 @@ public class MediumAttackPattern implements EnemyAttackPattern {
         float defenseMultiplier = 1.0f + (enemyAttackDamage * 0.1f);
         float scaledMinDamage = (CONFIG.getMinDamage() + (CONFIG.getMinDamage() * (enemyAttackDamage - 1) * 0.15f)) * defenseMultiplier;
         float scaledMaxDamage = (CONFIG.getMaxDamage() + (CONFIG.getMaxDamage() * (enemyAttackDamage - 1) * 0.15f)) * defenseMultiplier;
-        float damage = MathUtils.random(scaledMinDamage, scaledMaxDamage);
+        float damage = CombatRandom.random(scaledMinDamage, scaledMaxDamage);
 
         // Get enemy's primary color
         Color enemyColor = enemy.getPrimaryColor();
 
         // Update rotation angle - for spiral patterns
-        rotationAngle += ROTATION_SPEED * Gdx.graphics.getDeltaTime();
+        rotationAngle += ROTATION_SPEED * GameClock.getDelta();
         if (rotationAngle > 360f) {
             rotationAngle -= 360f;
         }
 
         // Update spawnTimer for patterns - now using proper delta time
-        spawnTimer += Gdx.graphics.getDeltaTime();
+        spawnTimer += GameClock.getDelta();
 
         // Update dedicated pattern timer as well - redundant safety measure
-        patternTimer += Gdx.graphics.getDeltaTime();
+        patternTimer += GameClock.getDelta();
 
         // Generate attack bullets based on the current phase
         switch (phase) {
@@ -174,9 +175,9 @@ public class MediumAttackPattern implements EnemyAttackPattern {
         }
 
         // In Phase 3, potentially spawn a healing orb
-        if (phase == 3 && MathUtils.random() < HEALING_ORB_CHANCE) {
+        if (phase == 3 && CombatRandom.random() < HEALING_ORB_CHANCE) {
             // Random position near the arena edge
-            float angle = MathUtils.random(0f, MathUtils.PI2);
+            float angle = CombatRandom.random(0f, MathUtils.PI2);
             float radius = Math.min(arenaWidth, arenaHeight) * 0.9f;
 
             float healX = arenaX + (arenaWidth / 2) + MathUtils.cos(angle) * radius;
@@ -190,8 +191,8 @@ public class MediumAttackPattern implements EnemyAttackPattern {
             dirY = dirY / length;
 
             // Add some randomness to direction
-            dirX += MathUtils.random(-0.3f, 0.3f);
-            dirY += MathUtils.random(-0.3f, 0.3f);
+            dirX += CombatRandom.random(-0.3f, 0.3f);
+            dirY += CombatRandom.random(-0.3f, 0.3f);
 
             // Re-normalize direction
             length = (float) Math.sqrt(dirX * dirX + dirY * dirY);
@@ -250,7 +251,7 @@ public class MediumAttackPattern implements EnemyAttackPattern {
             float lineAngle = playerAngle + (i * 360f / count) + crossPatternRotation;
 
             // Add randomized offset to each line (±15 degrees)
-            float randomOffset = MathUtils.random(-4f, 4f);
+            float randomOffset = CombatRandom.random(-4f, 4f);
             lineAngle += randomOffset;
 
             float lineRadians = lineAngle * MathUtils.degreesToRadians;
@@ -392,14 +393,14 @@ public class MediumAttackPattern implements EnemyAttackPattern {
         float centerY = arenaY + arenaHeight / 2;
 
         // Timers for pattern spawning with proper intervals
-        lastGridSpawn += Gdx.graphics.getDeltaTime();
-        lastStarSpawn += Gdx.graphics.getDeltaTime();
-        starRotation += STAR_ROTATION_INCREMENT * Gdx.graphics.getDeltaTime();
+        lastGridSpawn += GameClock.getDelta();
+        lastStarSpawn += GameClock.getDelta();
+        starRotation += STAR_ROTATION_INCREMENT * GameClock.getDelta();
 
         // For the first spawn, immediately generate a pattern
         if (isFirstSpawn) {
             // Generate a random pattern
-            int randomPattern = MathUtils.random(0, 1);
+            int randomPattern = CombatRandom.random(0, 1);
             switch (randomPattern) {
                 case 0:
                     generateGridWallPattern(bullets, arenaX, arenaY, arenaWidth, arenaHeight,
@@ -419,7 +420,7 @@ public class MediumAttackPattern implements EnemyAttackPattern {
         if (lastStarSpawn >= starSpawnInterval && lastGridSpawn >= gridSpawnInterval) {
 
             // Choose a pattern type randomly
-            int patternType = MathUtils.random(0, 1);
+            int patternType = CombatRandom.random(0, 1);
 
             switch (patternType) {
                 case 0: // Grid Wall Pattern (centered on player)
@@ -466,7 +467,7 @@ public class MediumAttackPattern implements EnemyAttackPattern {
         float spacingX = arenaWidth / (verticalCount + 1);
 
         // Create horizontal lines from both left and right sides
-        boolean spawnLeftToRight = MathUtils.randomBoolean();
+        boolean spawnLeftToRight = CombatRandom.randomBoolean();
         float startX = spawnLeftToRight ? arenaX - 50 : arenaX + arenaWidth + 50;
         float directionX = spawnLeftToRight ? 1 : -1;
 
@@ -512,7 +513,7 @@ public class MediumAttackPattern implements EnemyAttackPattern {
         }
 
         // Create vertical lines from both top and bottom
-        boolean spawnBottomToTop = MathUtils.randomBoolean();
+        boolean spawnBottomToTop = CombatRandom.randomBoolean();
         float startY = spawnBottomToTop ? arenaY - 50 : arenaY + arenaHeight + 50;
         float directionY = spawnBottomToTop ? 1 : -1;
 
@@ -581,8 +582,8 @@ public class MediumAttackPattern implements EnemyAttackPattern {
             // Spawn diagonal bullets aimed at the player's corner zone
             for (int i = 0; i < 3; i++) {
                 // Add slight offset to cover more of the corner area
-                float offsetX = MathUtils.random(-50f, 50f);
-                float offsetY = MathUtils.random(-50f, 50f);
+                float offsetX = CombatRandom.random(-50f, 50f);
+                float offsetY = CombatRandom.random(-50f, 50f);
 
                 Bullet diagonalBullet = new Bullet(
                     damage,
@@ -649,7 +650,7 @@ public class MediumAttackPattern implements EnemyAttackPattern {
         // Choose one projectile to target the player directly
         // We'll choose a random one from the even indices (0,2,4) or odd indices (1,3,5)
         // to ensure we don't disrupt the triangle pattern too much
-        int targetingBulletIndex = (MathUtils.randomBoolean() ? 0 : 1) + MathUtils.random(0, 2) * 2;
+        int targetingBulletIndex = (CombatRandom.randomBoolean() ? 0 : 1) + CombatRandom.random(0, 2) * 2;
 
         // Create 6 projectiles that will form the Star of David
         for (int i = 0; i < 6; i++) {
@@ -5,6 +5,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.entity.enemy.SilkWraith;
@@ -124,7 +125,7 @@ public class BasicAttackPattern implements EnemyAttackPattern {
         float defenseMultiplier = 1.0f + (enemyAttackDamage * 0.1f);
         float scaledMinDamage = (CONFIG.getMinDamage() + (CONFIG.getMinDamage() * (enemyAttackDamage - 1) * 0.15f)) * defenseMultiplier;
         float scaledMaxDamage = (CONFIG.getMaxDamage() + (CONFIG.getMaxDamage() * (enemyAttackDamage - 1) * 0.15f)) * defenseMultiplier;
-        float damage = MathUtils.random(scaledMinDamage, scaledMaxDamage);
+        float damage = CombatRandom.random(scaledMinDamage, scaledMaxDamage);
 
         // Get enemy's primary color
         Color enemyColor = enemy.getPrimaryColor();
@@ -132,30 +133,30 @@ public class BasicAttackPattern implements EnemyAttackPattern {
         // Generate attack bullets based on the current phase
         for (int i = 0; i < bulletCount; i++) {
             // Choose a random side of the arena to spawn the bullet
-            SpawnSide side = SpawnSide.values()[MathUtils.random(0, 3)];
+            SpawnSide side = SpawnSide.values()[CombatRandom.random(0, 3)];
 
             // Random buffer distance from edge
-            float edgeBuffer = MathUtils.random(MIN_EDGE_BUFFER, MAX_EDGE_BUFFER);
+            float edgeBuffer = CombatRandom.random(MIN_EDGE_BUFFER, MAX_EDGE_BUFFER);
 
             // Calculate spawn position based on the chosen side
             float spawnX, spawnY;
             switch (side) {
                 case TOP:
-                    spawnX = arenaX + MathUtils.random(0, arenaWidth);
+                    spawnX = arenaX + CombatRandom.random(0, arenaWidth);
                     spawnY = arenaY + arenaHeight + edgeBuffer; // Spawn outside the top edge
                     break;
                 case RIGHT:
                     spawnX = arenaX + arenaWidth + edgeBuffer; // Spawn outside the right edge
-                    spawnY = arenaY + MathUtils.random(0, arenaHeight);
+                    spawnY = arenaY + CombatRandom.random(0, arenaHeight);
                     break;
                 case BOTTOM:
-                    spawnX = arenaX + MathUtils.random(0, arenaWidth);
+                    spawnX = arenaX + CombatRandom.random(0, arenaWidth);
                     spawnY = arenaY - edgeBuffer; // Spawn outside the bottom edge
                     break;
                 case LEFT:
                 default:
                     spawnX = arenaX - edgeBuffer; // Spawn outside the left edge
-                    spawnY = arenaY + MathUtils.random(0, arenaHeight);
+                    spawnY = arenaY + CombatRandom.random(0, arenaHeight);
                     break;
             }
 
@@ -188,32 +189,32 @@ public class BasicAttackPattern implements EnemyAttackPattern {
         }
 
         // In Phase 3, potentially spawn a healing orb with a 25% chance per wave
-        if (phase == 3 && MathUtils.random() < HEALING_ORB_CHANCE) {
+        if (phase == 3 && CombatRandom.random() < HEALING_ORB_CHANCE) {
             // Select a random side to spawn from
-            SpawnSide side = SpawnSide.values()[MathUtils.random(0, 3)];
+            SpawnSide side = SpawnSide.values()[CombatRandom.random(0, 3)];
 
             // Random buffer distance from edge
-            float edgeBuffer = MathUtils.random(MIN_EDGE_BUFFER, MAX_EDGE_BUFFER);
+            float edgeBuffer = CombatRandom.random(MIN_EDGE_BUFFER, MAX_EDGE_BUFFER);
 
             // Calculate spawn position
             float healX, healY;
             switch (side) {
                 case TOP:
-                    healX = arenaX + MathUtils.random(0, arenaWidth);
+                    healX = arenaX + CombatRandom.random(0, arenaWidth);
                     healY = arenaY + arenaHeight + edgeBuffer; // Outside top edge
                     break;
                 case RIGHT:
                     healX = arenaX + arenaWidth + edgeBuffer; // Outside right edge
-                    healY = arenaY + MathUtils.random(0, arenaHeight);
+                    healY = arenaY + CombatRandom.random(0, arenaHeight);
                     break;
                 case BOTTOM:
-                    healX = arenaX + MathUtils.random(0, arenaWidth);
+                    healX = arenaX + CombatRandom.random(0, arenaWidth);
                     healY = arenaY - edgeBuffer; // Outside bottom edge
                     break;
                 case LEFT:
                 default:
                     healX = arenaX - edgeBuffer; // Outside left edge
-                    healY = arenaY + MathUtils.random(0, arenaHeight);
+                    healY = arenaY + CombatRandom.random(0, arenaHeight);
                     break;
             }
 
@@ -225,8 +226,8 @@ public class BasicAttackPattern implements EnemyAttackPattern {
             dirY = dirY / length;
 
             // Add some randomness to direction
-            dirX += MathUtils.random(-0.3f, 0.3f);
-            dirY += MathUtils.random(-0.3f, 0.3f);
+            dirX += CombatRandom.random(-0.3f, 0.3f);
+            dirY += CombatRandom.random(-0.3f, 0.3f);
 
             // Re-normalize direction
             length = (float) Math.sqrt(dirX * dirX + dirY * dirY);
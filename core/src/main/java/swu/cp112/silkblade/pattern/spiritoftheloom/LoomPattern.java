@@ -1,13 +1,14 @@
 package swu.cp112.silkblade.pattern.spiritoftheloom;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
 import swu.cp112.silkblade.pattern.EnemyAttackPattern;
+import swu.cp112.silkblade.util.GameClock;
 import swu.cp112.silkblade.util.GameLogger;
 
 import java.util.ArrayList;
@@ -101,7 +102,7 @@ public class LoomPattern implements EnemyAttackPattern {
         List<Bullet> bullets = new ArrayList<>();
 
         // Update timers
-        float delta = Gdx.graphics.getDeltaTime();
+        float delta = GameClock.getDelta();
         patternTimer += delta;
 
         // Increment spawn count and check for phase transition
@@ -256,7 +257,7 @@ public class LoomPattern implements EnemyAttackPattern {
         }
 
         // Occasionally spawn healing thread
-        if (MathUtils.random() < HEALING_CHANCE) {
+        if (CombatRandom.random() < HEALING_CHANCE) {
             createHealingThread(bullets, centerX, centerY, playerX, playerY, baseSpeed * 0.7f);
         }
 
@@ -269,13 +270,13 @@ public class LoomPattern implements EnemyAttackPattern {
     private void createThreadSpiralPattern(List<Bullet> bullets, float centerX, float centerY,
                                       float playerX, float playerY, float playerAngle, float speed,
                                       float minDamage, float maxDamage) {
-        float damage = MathUtils.random(minDamage, maxDamage);
+        float damage = CombatRandom.random(minDamage, maxDamage);
 
         // Calculate thread count based on stage group
         int threadCount = BASE_THREAD_COUNT + (stageGroup * 2);
 
         // Add a randomized angle offset for variation between spawns (12-25 degrees)
-        float randomOffset = MathUtils.random(12f, 25f);
+        float randomOffset = CombatRandom.random(12f, 25f);
 
         // Include the global pattern rotation to prevent repetitive patterns
         // Now also include player angle for player-oriented direction
@@ -355,7 +356,7 @@ public class LoomPattern implements EnemyAttackPattern {
     private void createParallelThreadPattern(List<Bullet> bullets, float centerX, float centerY,
                                         float playerX, float playerY, float playerAngle, float speed,
                                         float minDamage, float maxDamage) {
-        float damage = MathUtils.random(minDamage, maxDamage);
+        float damage = CombatRandom.random(minDamage, maxDamage);
 
         // Calculate number of thread lines based on stage group
         int threadLines = 1 + stageGroup;
@@ -363,7 +364,7 @@ public class LoomPattern implements EnemyAttackPattern {
         float threadSpacing = 30f - (stageGroup * 2); // Closer spacing for higher stages
 
         // Add a randomized angle offset for variation between spawns (12-25 degrees)
-        float randomOffset = MathUtils.random(12f, 25f) * MathUtils.degreesToRadians;
+        float randomOffset = CombatRandom.random(12f, 25f) * MathUtils.degreesToRadians;
 
         // Include the global pattern rotation to keep patterns evolving
         float globalRotation = globalPatternRotation * MathUtils.degreesToRadians;
@@ -489,13 +490,13 @@ public class LoomPattern implements EnemyAttackPattern {
     private void createRadialThreadPattern(List<Bullet> bullets, float centerX, float centerY,
                                       float playerX, float playerY, float playerAngle, float speed,
                                       float minDamage, float maxDamage) {
-        float damage = MathUtils.random(minDamage, maxDamage);
+        float damage = CombatRandom.random(minDamage, maxDamage);
 
         // Calculate thread count based on stage group
         int threadCount = 3 + (stageGroup * 2);
 
         // Add a randomized angle offset for variation between spawns (12-25 degrees)
-        float randomOffset = MathUtils.random(12f, 25f);
+        float randomOffset = CombatRandom.random(12f, 25f);
 
         // Include the global pattern rotation to prevent repetitive patterns
         // Now include player angle to orient the pattern toward player
@@ -609,14 +610,14 @@ public class LoomPattern implements EnemyAttackPattern {
                                      float minDamage, float maxDamage) {
         if (stageGroup < 3) return; // Only available in stage group 3
 
-        float damage = MathUtils.random(minDamage, maxDamage);
+        float damage = CombatRandom.random(minDamage, maxDamage);
 
         // Create two intersecting rings of threads
         int threadCount = 8;
         float radius = 80f;
 
         // Add a randomized angle offset for variation between spawns (12-25 degrees)
-        float randomOffset = MathUtils.random(12f, 25f);
+        float randomOffset = CombatRandom.random(12f, 25f);
 
         // Include the global pattern rotation to prevent repetitive patterns
         // Now include player angle in the rotation to orient toward player
@@ -735,7 +736,7 @@ public class LoomPattern implements EnemyAttackPattern {
 
         // Choose random position near the arena edge
         // Incorporate player angle to ensure healing threads spawn around player orientation
-        float angle = (MathUtils.random(360f) + playerAngle) * MathUtils.degreesToRadians;
+        float angle = (CombatRandom.random(360f) + playerAngle) * MathUtils.degreesToRadians;
         float distance = 150f;
 
         float spawnX = centerX + MathUtils.cos(angle) * distance;
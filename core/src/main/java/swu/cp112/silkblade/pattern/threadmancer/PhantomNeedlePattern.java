@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
@@ -69,7 +70,7 @@ public class PhantomNeedlePattern implements EnemyAttackPattern {
 
         // Generate bullets based on spawn cycle
         // Calculate damage based on enemy's attack damage
-        float baseDamage = MathUtils.random(CONFIG.getMinDamage(), CONFIG.getMaxDamage());
+        float baseDamage = CombatRandom.random(CONFIG.getMinDamage(), CONFIG.getMaxDamage());
         float scaledDamage = baseDamage * (1.0f + (enemy.getAttackDamage() * 0.1f));
 
         // Generate different patterns based on phase
@@ -120,7 +121,7 @@ public class PhantomNeedlePattern implements EnemyAttackPattern {
                                       float arenaWidth, float arenaHeight,
                                       float damage) {
         // Create phantom needles that appear suddenly with telegraphing
-        int numNeedles = MathUtils.random(4, 7);
+        int numNeedles = CombatRandom.random(4, 7);
 
         // Predict player position
         float predictedX = playerX + (playerVelocity.x);
@@ -128,8 +129,8 @@ public class PhantomNeedlePattern implements EnemyAttackPattern {
 
         for (int i = 0; i < numNeedles; i++) {
             // Calculate random position around the predicted player position
-            float offset = MathUtils.random(100f, 200f);
-            float angle = MathUtils.random(MathUtils.PI2);
+            float offset = CombatRandom.random(100f, 200f);
+            float angle = CombatRandom.random(MathUtils.PI2);
 
             float spawnX = predictedX + MathUtils.cos(angle) * offset;
             float spawnY = predictedY + MathUtils.sin(angle) * offset;
@@ -173,13 +174,13 @@ public class PhantomNeedlePattern implements EnemyAttackPattern {
                                      float arenaWidth, float arenaHeight,
                                      float damage) {
         // Grid parameters - always centered on player
-        int gridLines = MathUtils.random(5, 7);
+        int gridLines = CombatRandom.random(5, 7);
         float gridSize = 350f; // Size of the grid
         float lineSpacing = gridSize / (gridLines - 1);
 
         // Add slight offset to grid center for unpredictability
-        float offsetX = MathUtils.random(-30f, 30f);
-        float offsetY = MathUtils.random(-30f, 30f);
+        float offsetX = CombatRandom.random(-30f, 30f);
+        float offsetY = CombatRandom.random(-30f, 30f);
 
         // Grid center based on player position with offset
         float gridCenterX = playerX + offsetX;
@@ -213,7 +214,7 @@ public class PhantomNeedlePattern implements EnemyAttackPattern {
             float lineY = gridStartY + (i * lineSpacing);
 
             // Skip a random line to create a potential escape route
-            if (MathUtils.randomBoolean(0.3f) && i > 0 && i < gridLines - 1) {
+            if (CombatRandom.randomBoolean(0.3f) && i > 0 && i < gridLines - 1) {
                 continue;
             }
 
@@ -249,7 +250,7 @@ public class PhantomNeedlePattern implements EnemyAttackPattern {
 
             // Skip a random line to create a potential escape route
             // Don't skip the same index as horizontal to avoid too large gaps
-            if (MathUtils.randomBoolean(0.3f) && i > 0 && i < gridLines - 1) {
+            if (CombatRandom.randomBoolean(0.3f) && i > 0 && i < gridLines - 1) {
                 continue;
             }
 
@@ -280,7 +281,7 @@ public class PhantomNeedlePattern implements EnemyAttackPattern {
         }
 
         // Add a few diagonal needles for additional challenge
-        if (MathUtils.randomBoolean(0.6f)) {
+        if (CombatRandom.randomBoolean(0.6f)) {
             addDiagonalNeedles(bullets, gridCenterX, gridCenterY, gridSize, damage);
         }
     }
@@ -290,12 +291,12 @@ public class PhantomNeedlePattern implements EnemyAttackPattern {
      */
     private void addDiagonalNeedles(List<Bullet> bullets, float centerX, float centerY,
                                   float gridSize, float damage) {
-        int diagonalCount = MathUtils.random(2, 4);
+        int diagonalCount = CombatRandom.random(2, 4);
         float radius = gridSize / 2;
 
         for (int i = 0; i < diagonalCount; i++) {
             // Calculate random angle for diagonal
-            float angle = MathUtils.random(MathUtils.PI2);
+            float angle = CombatRandom.random(MathUtils.PI2);
 
             // Spawn on the perimeter of the grid
             float spawnX = centerX + MathUtils.cos(angle) * radius;
@@ -333,7 +334,7 @@ public class PhantomNeedlePattern implements EnemyAttackPattern {
                                    float arenaWidth, float arenaHeight,
                                    float damage) {
         // Create a cross-stitch pattern centered near player
-        int numCrosses = MathUtils.random(3, 5);
+        int numCrosses = CombatRandom.random(3, 5);
         float patternRadius = 150f;
 
         // Predict player's future position based on velocity for targeting
@@ -358,8 +359,8 @@ public class PhantomNeedlePattern implements EnemyAttackPattern {
         }
 
         // Slight offset from predicted player position for slight variation
-        float patternCenterX = predictedX + MathUtils.random(-30f, 30f);
-        float patternCenterY = predictedY + MathUtils.random(-30f, 30f);
+        float patternCenterX = predictedX + CombatRandom.random(-30f, 30f);
+        float patternCenterY = predictedY + CombatRandom.random(-30f, 30f);
 
         for (int i = 0; i < numCrosses; i++) {
             // Calculate position for this cross - biased toward player's movement direction
@@ -400,10 +401,10 @@ public class PhantomNeedlePattern implements EnemyAttackPattern {
             float frontY = predictedY + playerDirY * leadDistance;
 
             // Add 1-2 crosses directly in player's path
-            int extraCrosses = MathUtils.random(1, 2);
+            int extraCrosses = CombatRandom.random(1, 2);
             for (int i = 0; i < extraCrosses; i++) {
-                float offsetX = frontX + MathUtils.random(-30f, 30f);
-                float offsetY = frontY + MathUtils.random(-30f, 30f);
+                float offsetX = frontX + CombatRandom.random(-30f, 30f);
+                float offsetY = frontY + CombatRandom.random(-30f, 30f);
 
                 // Orient these crosses to be harder to dodge (45° to player direction)
                 float rotationOffset = MathUtils.PI / 4 * (i % 2 == 0 ? 1 : -1);
@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
@@ -84,13 +85,13 @@ public class ThreadCagePattern implements EnemyAttackPattern {
         }
 
         // Switch direction occasionally to keep patterns dynamic
-        if (MathUtils.randomBoolean(0.05f)) {
+        if (CombatRandom.randomBoolean(0.05f)) {
             isClockwise = !isClockwise;
         }
 
         // Generate bullets based on spawn cycle
         // Calculate damage based on enemy's attack damage
-        float baseDamage = MathUtils.random(CONFIG.getMinDamage(), CONFIG.getMaxDamage());
+        float baseDamage = CombatRandom.random(CONFIG.getMinDamage(), CONFIG.getMaxDamage());
         float scaledDamage = baseDamage * (1.0f + (enemy.getAttackDamage() * 0.1f));
 
         // Generate different patterns based on phase
@@ -119,8 +120,8 @@ public class ThreadCagePattern implements EnemyAttackPattern {
     private void generateHomingThreadCage(List<Bullet> bullets, Enemy enemy,
                                    float playerX, float playerY, float damage) {
         // Create a cage of threads around the player with a gap for escape
-        int gapSegmentStart = MathUtils.random(0, CAGE_SEGMENTS - 1);
-        int gapSize = MathUtils.random(1, 2); // Size of the gap in segments
+        int gapSegmentStart = CombatRandom.random(0, CAGE_SEGMENTS - 1);
+        int gapSize = CombatRandom.random(1, 2); // Size of the gap in segments
 
         for (int i = 0; i < CAGE_SEGMENTS; i++) {
             // Skip segments to create an escape route
@@ -165,9 +166,9 @@ public class ThreadCagePattern implements EnemyAttackPattern {
             bullets.add(bullet);
 
             // Add a second delayed homing thread for additional challenge with slight offset
-            if (MathUtils.randomBoolean(0.5f)) {
-                float offsetAngle = angle + MathUtils.random(-0.1f, 0.1f);
-                float offsetRadius = CAGE_RADIUS * MathUtils.random(0.9f, 1.1f);
+            if (CombatRandom.randomBoolean(0.5f)) {
+                float offsetAngle = angle + CombatRandom.random(-0.1f, 0.1f);
+                float offsetRadius = CAGE_RADIUS * CombatRandom.random(0.9f, 1.1f);
 
                 float offsetX = playerX + MathUtils.cos(offsetAngle) * offsetRadius;
                 float offsetY = playerY + MathUtils.sin(offsetAngle) * offsetRadius;
@@ -200,15 +201,15 @@ public class ThreadCagePattern implements EnemyAttackPattern {
     private void generateThreadConnector(List<Bullet> bullets, Enemy enemy,
                                       float playerX, float playerY, float damage) {
         // Create a geometric pattern using connected threads
-        int numPoints = MathUtils.random(3, 5); // Number of vertices in the pattern
+        int numPoints = CombatRandom.random(3, 5); // Number of vertices in the pattern
         float baseRadius = CAGE_RADIUS * 0.6f;
-        float angleOffset = MathUtils.random(0f, MathUtils.PI2);
+        float angleOffset = CombatRandom.random(0f, MathUtils.PI2);
 
         // Calculate points of the geometric pattern
         List<Vector2> patternPoints = new ArrayList<>();
         for (int i = 0; i < numPoints; i++) {
             float angle = (i * MathUtils.PI2 / numPoints) + angleOffset + patternRotation;
-            float radius = baseRadius * (1f + MathUtils.random(-0.2f, 0.2f));
+            float radius = baseRadius * (1f + CombatRandom.random(-0.2f, 0.2f));
             float pointX = playerX + MathUtils.cos(angle) * radius;
             float pointY = playerY + MathUtils.sin(angle) * radius;
             patternPoints.add(new Vector2(pointX, pointY));
@@ -253,7 +254,7 @@ public class ThreadCagePattern implements EnemyAttackPattern {
                 elapsedTime[0] += delta;
 
                 // When thread has traveled approximately to the endpoint, enable homing if not already
-                if (elapsedTime[0] >= travelTime * 0.9f && !homingInitiated[0] && MathUtils.randomBoolean(0.4f)) {
+                if (elapsedTime[0] >= travelTime * 0.9f && !homingInitiated[0] && CombatRandom.randomBoolean(0.4f)) {
                     homingInitiated[0] = true;
 
                     // Enable homing behavior
@@ -333,7 +334,7 @@ public class ThreadCagePattern implements EnemyAttackPattern {
         }
 
         // Add central burst of homing threads for additional challenge
-        if (MathUtils.randomBoolean(0.3f)) {
+        if (CombatRandom.randomBoolean(0.3f)) {
             generateCentralBurst(bullets, centerX, centerY, playerX, playerY, damage);
         }
     }
@@ -343,10 +344,10 @@ public class ThreadCagePattern implements EnemyAttackPattern {
      */
     private void generateCentralBurst(List<Bullet> bullets, float centerX, float centerY,
                                     float playerX, float playerY, float damage) {
-        int numBurst = MathUtils.random(3, 5);
+        int numBurst = CombatRandom.random(3, 5);
 
         for (int i = 0; i < numBurst; i++) {
-            float angle = MathUtils.random(MathUtils.PI2);
+            float angle = CombatRandom.random(MathUtils.PI2);
             float initialSpeed = THREAD_SPEED * 0.5f;
 
             // Calculate initial direction
@@ -373,7 +374,7 @@ public class ThreadCagePattern implements EnemyAttackPattern {
 
             // Set update callback to enable homing after a delay
             final float[] timeElapsed = { 0f };
-            final float homingDelay = MathUtils.random(0.5f, 1.2f);
+            final float homingDelay = CombatRandom.random(0.5f, 1.2f);
 
             bullet.setUpdateCallback(delta -> {
                 timeElapsed[0] += delta;
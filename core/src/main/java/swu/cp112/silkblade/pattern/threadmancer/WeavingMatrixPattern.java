@@ -3,6 +3,7 @@ package swu.cp112.silkblade.pattern.threadmancer;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.pattern.AttackPatternConfig;
@@ -70,7 +71,7 @@ public class WeavingMatrixPattern implements EnemyAttackPattern {
 
         // Generate bullets based on spawn cycle
         // Calculate damage based on enemy's attack damage
-        float baseDamage = MathUtils.random(CONFIG.getMinDamage(), CONFIG.getMaxDamage());
+        float baseDamage = CombatRandom.random(CONFIG.getMinDamage(), CONFIG.getMaxDamage());
         float scaledDamage = baseDamage * (1.0f + (enemy.getAttackDamage() * 0.1f));
 
         // Generate different patterns based on phase
@@ -105,15 +106,15 @@ public class WeavingMatrixPattern implements EnemyAttackPattern {
         // Create orthogonal grid (horizontal and vertical lines)
 
         // Calculate number of grid lines and spacing
-        int horizontalLines = MathUtils.random(MIN_GRID_LINES, MAX_GRID_LINES);
-        int verticalLines = MathUtils.random(MIN_GRID_LINES, MAX_GRID_LINES);
+        int horizontalLines = CombatRandom.random(MIN_GRID_LINES, MAX_GRID_LINES);
+        int verticalLines = CombatRandom.random(MIN_GRID_LINES, MAX_GRID_LINES);
 
-        float horizontalSpacing = MathUtils.random(GRID_SPACING_MIN, GRID_SPACING_MAX);
-        float verticalSpacing = MathUtils.random(GRID_SPACING_MIN, GRID_SPACING_MAX);
+        float horizontalSpacing = CombatRandom.random(GRID_SPACING_MIN, GRID_SPACING_MAX);
+        float verticalSpacing = CombatRandom.random(GRID_SPACING_MIN, GRID_SPACING_MAX);
 
         // Center the grid around the player with some offset
-        float gridOffsetX = MathUtils.random(-50f, 50f);
-        float gridOffsetY = MathUtils.random(-50f, 50f);
+        float gridOffsetX = CombatRandom.random(-50f, 50f);
+        float gridOffsetY = CombatRandom.random(-50f, 50f);
 
         float gridCenterX = playerX + gridOffsetX;
         float gridCenterY = playerY + gridOffsetY;
@@ -226,15 +227,15 @@ public class WeavingMatrixPattern implements EnemyAttackPattern {
         // Create a weaving grid with diagonal threads
 
         // Calculate number of diagonal lines
-        int diagonalLines = MathUtils.random(MIN_GRID_LINES, MAX_GRID_LINES);
-        float spacing = MathUtils.random(GRID_SPACING_MIN, GRID_SPACING_MAX);
+        int diagonalLines = CombatRandom.random(MIN_GRID_LINES, MAX_GRID_LINES);
+        float spacing = CombatRandom.random(GRID_SPACING_MIN, GRID_SPACING_MAX);
 
         // Calculate grid size based on diagonal lines and spacing
         float gridSize = diagonalLines * spacing;
 
         // Center grid around player with small random offset
-        float gridCenterX = playerX + MathUtils.random(-30f, 30f);
-        float gridCenterY = playerY + MathUtils.random(-30f, 30f);
+        float gridCenterX = playerX + CombatRandom.random(-30f, 30f);
+        float gridCenterY = playerY + CombatRandom.random(-30f, 30f);
 
         float gridStartX = gridCenterX - gridSize / 2;
         float gridStartY = gridCenterY - gridSize / 2;
@@ -245,7 +246,7 @@ public class WeavingMatrixPattern implements EnemyAttackPattern {
             float startY = gridStartY;
 
             // Skip some lines randomly for partial grid
-            if (MathUtils.randomBoolean(0.3f)) continue;
+            if (CombatRandom.randomBoolean(0.3f)) continue;
 
             // Calculate direction vector for diagonal
             float dirX = THREAD_SPEED * 0.7f;
@@ -277,7 +278,7 @@ public class WeavingMatrixPattern implements EnemyAttackPattern {
             float startY = gridStartY;
 
             // Skip some lines randomly for partial grid
-            if (MathUtils.randomBoolean(0.3f)) continue;
+            if (CombatRandom.randomBoolean(0.3f)) continue;
 
             // Calculate direction vector for diagonal
             float dirX = -THREAD_SPEED * 0.7f;
@@ -311,10 +312,10 @@ public class WeavingMatrixPattern implements EnemyAttackPattern {
         // Create multiple pulsing matrices that emanate from different points
 
         // Number of burst centers to create (4-5)
-        int numBursts = MathUtils.random(4, 5);
+        int numBursts = CombatRandom.random(4, 5);
         
         // Threads per burst
-        int threadsPerBurst = MathUtils.random(8, 10);
+        int threadsPerBurst = CombatRandom.random(8, 10);
         
         // Track previous burst positions to ensure distribution
         List<float[]> burstPositions = new ArrayList<>();
@@ -326,8 +327,8 @@ public class WeavingMatrixPattern implements EnemyAttackPattern {
             
             if (burst == 0) {
                 // First burst is always near the player
-                burstCenterX = playerX + MathUtils.random(-50f, 50f);
-                burstCenterY = playerY + MathUtils.random(-50f, 50f);
+                burstCenterX = playerX + CombatRandom.random(-50f, 50f);
+                burstCenterY = playerY + CombatRandom.random(-50f, 50f);
             } else {
                 // Other bursts are at different places in the arena
                 // For better distribution, use different positioning approaches based on burst index
@@ -338,45 +339,45 @@ public class WeavingMatrixPattern implements EnemyAttackPattern {
                     attempts++;
                     
                     // Try different positioning strategies based on burst number or random selection
-                    float positionType = MathUtils.random(3); // 0-3 different positioning types
+                    float positionType = CombatRandom.random(3); // 0-3 different positioning types
                     
                     if (positionType < 1) {
                         // Position relative to player with random distance and angle
-                        float distance = MathUtils.random(100f, 280f);
-                        float angle = MathUtils.random(MathUtils.PI2);
+                        float distance = CombatRandom.random(100f, 280f);
+                        float angle = CombatRandom.random(MathUtils.PI2);
                         
                         burstCenterX = playerX + MathUtils.cos(angle) * distance;
                         burstCenterY = playerY + MathUtils.sin(angle) * distance;
                     } 
                     else if (positionType < 2) {
                         // Position in a random quadrant of the arena
-                        burstCenterX = MathUtils.random(0, 1) < 0.5f ? 
-                            MathUtils.random(50f, arenaWidth/2 - 50f) : 
-                            MathUtils.random(arenaWidth/2 + 50f, arenaWidth - 50f);
+                        burstCenterX = CombatRandom.random(0, 1) < 0.5f ? 
+                            CombatRandom.random(50f, arenaWidth/2 - 50f) : 
+                            CombatRandom.random(arenaWidth/2 + 50f, arenaWidth - 50f);
                             
-                        burstCenterY = MathUtils.random(0, 1) < 0.5f ? 
-                            MathUtils.random(50f, arenaHeight/2 - 50f) : 
-                            MathUtils.random(arenaHeight/2 + 50f, arenaHeight - 50f);
+                        burstCenterY = CombatRandom.random(0, 1) < 0.5f ? 
+                            CombatRandom.random(50f, arenaHeight/2 - 50f) : 
+                            CombatRandom.random(arenaHeight/2 + 50f, arenaHeight - 50f);
                     }
                     else if (positionType < 3) {
                         // Fully random position in arena
-                        burstCenterX = MathUtils.random(50f, arenaWidth - 50f);
-                        burstCenterY = MathUtils.random(50f, arenaHeight - 50f);
+                        burstCenterX = CombatRandom.random(50f, arenaWidth - 50f);
+                        burstCenterY = CombatRandom.random(50f, arenaHeight - 50f);
                     }
                     else {
                         // Position along arena edge/border
-                        if (MathUtils.randomBoolean()) {
+                        if (CombatRandom.randomBoolean()) {
                             // Position along horizontal edge
-                            burstCenterX = MathUtils.random(50f, arenaWidth - 50f);
-                            burstCenterY = MathUtils.randomBoolean() ? 
-                                MathUtils.random(50f, 100f) : 
-                                MathUtils.random(arenaHeight - 100f, arenaHeight - 50f);
+                            burstCenterX = CombatRandom.random(50f, arenaWidth - 50f);
+                            burstCenterY = CombatRandom.randomBoolean() ? 
+                                CombatRandom.random(50f, 100f) : 
+                                CombatRandom.random(arenaHeight - 100f, arenaHeight - 50f);
                         } else {
                             // Position along vertical edge
-                            burstCenterX = MathUtils.randomBoolean() ? 
-                                MathUtils.random(50f, 100f) : 
-                                MathUtils.random(arenaWidth - 100f, arenaWidth - 50f);
-                            burstCenterY = MathUtils.random(50f, arenaHeight - 50f);
+                            burstCenterX = CombatRandom.randomBoolean() ? 
+                                CombatRandom.random(50f, 100f) : 
+                                CombatRandom.random(arenaWidth - 100f, arenaWidth - 50f);
+                            burstCenterY = CombatRandom.random(50f, arenaHeight - 50f);
                         }
                     }
                     
@@ -401,8 +402,8 @@ public class WeavingMatrixPattern implements EnemyAttackPattern {
                 
                 // If we couldn't find a valid position after max attempts, just use random position
                 if (!positionValid) {
-                    burstCenterX = MathUtils.random(50f, arenaWidth - 50f);
-                    burstCenterY = MathUtils.random(50f, arenaHeight - 50f);
+                    burstCenterX = CombatRandom.random(50f, arenaWidth - 50f);
+                    burstCenterY = CombatRandom.random(50f, arenaHeight - 50f);
                 }
             }
             
@@ -0,0 +1,216 @@
+package swu.cp112.silkblade.screen;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+import swu.cp112.silkblade.core.Main;
+import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.BulletTextures;
+import swu.cp112.silkblade.entity.item.ItemDatabase;
+import swu.cp112.silkblade.util.GameLogger;
+import swu.cp112.silkblade.util.SharedTextures;
+import swu.cp112.silkblade.util.StartupTimeline;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Loads what the first screens and the first fight need while showing a progress bar.
+ *
+ * Images are decoded, and bullet images drawn, as pixmaps on worker threads, and the item
+ * database is built alongside them. Finished pixmaps are uploaded on the GL thread, only for
+ * {@link #UPLOAD_BUDGET_NANOS} per frame, so the bar keeps moving. Anything that fails to load
+ * here is loaded the usual way the first time it's used.
+ */
+public class BootScreen implements Screen {
+    private static final String[] IMAGES = {"title.png", "player.png"};
+    private static final long UPLOAD_BUDGET_NANOS = 4_000_000L; // GL thread time per frame spent on uploads
+    private static final int MAX_WORKERS = 4;
+    private static final float BAR_WIDTH = 640;
+    private static final float BAR_HEIGHT = 16;
+    private static final Color BAR_COLOR = Color.WHITE;
+    private static final Color BACKGROUND_COLOR = Color.BLACK;
+
+    /**
+     * Work done on a worker thread, finished on the GL thread.
+     */
+    private abstract static class Load {
+        Future<Pixmap> result;
+
+        /**
+         * Called on the GL thread with the worker's pixmap, or null when it has none.
+         * Takes ownership of the pixmap.
+         */
+        abstract void finish(Pixmap pixmap);
+    }
+
+    private final Runnable onLoaded;
+    private final FitViewport viewport;
+    private final ShapeRenderer shapeRenderer;
+    private final Array<Load> loads = new Array<>(false, 32);
+    private final ExecutorService workers;
+    private final int total;
+    private final long startNanos;
+    private boolean done;
+
+    /**
+     * @param onLoaded called on the GL thread once everything is loaded, sets the first real screen
+     */
+    public BootScreen(Runnable onLoaded) {
+        this.onLoaded = onLoaded;
+        this.viewport = Main.getViewport();
+        this.shapeRenderer = new ShapeRenderer();
+        this.startNanos = System.nanoTime();
+
+        int threads = Math.max(1, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors() - 1));
+        workers = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "BootLoader");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        submit(new Callable<Pixmap>() {
+            @Override
+            public Pixmap call() {
+                ItemDatabase.getInstance();
+                StartupTimeline.mark("item database");
+                return null;
+            }
+        }, new Load() {
+            @Override
+            void finish(Pixmap pixmap) {
+            }
+        });
+        for (final String path : IMAGES) {
+            submit(new Callable<Pixmap>() {
+                @Override
+                public Pixmap call() {
+                    return new Pixmap(Gdx.files.internal(path));
+                }
+            }, new Load() {
+                @Override
+                void finish(Pixmap pixmap) {
+                    SharedTextures.upload(path, pixmap);
+                }
+            });
+        }
+        for (final Bullet.Shape shape : Bullet.Shape.values()) {
+            submit(new Callable<Pixmap>() {
+                @Override
+                public Pixmap call() {
+                    return BulletTextures.drawBulletPixmap(shape);
+                }
+            }, new Load() {
+                @Override
+                void finish(Pixmap pixmap) {
+                    BulletTextures.upload(shape, pixmap, false);
+                }
+            });
+            submit(new Callable<Pixmap>() {
+                @Override
+                public Pixmap call() {
+                    return BulletTextures.drawGlowPixmap(shape);
+                }
+            }, new Load() {
+                @Override
+                void finish(Pixmap pixmap) {
+                    BulletTextures.upload(shape, pixmap, true);
+                }
+            });
+        }
+        total = loads.size;
+        workers.shutdown(); // Runs what was submitted, then the threads exit
+    }
+
+    private void submit(Callable<Pixmap> work, Load load) {
+        load.result = workers.submit(work);
+        loads.add(load);
+    }
+
+    @Override
+    public void render(float delta) {
+        if (done) {
+            return;
+        }
+        uploadFinished();
+        draw();
+
+        if (loads.size == 0) {
+            done = true;
+            StartupTimeline.mark("assets loaded");
+            GameLogger.logInfo("Boot loading finished: " + total + " assets in "
+                + (System.nanoTime() - startNanos) / 1_000_000 + " ms");
+            dispose();
+            onLoaded.run();
+        }
+    }
+
+    /**
+     * Finishes loads whose worker is done, until this frame's upload budget is spent.
+     */
+    private void uploadFinished() {
+        long start = System.nanoTime();
+        for (int i = loads.size - 1; i >= 0 && System.nanoTime() - start < UPLOAD_BUDGET_NANOS; i--) {
+            Load load = loads.get(i);
+            if (!load.result.isDone()) {
+                continue;
+            }
+            loads.removeIndex(i);
+            try {
+                load.finish(load.result.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                GameLogger.logError("Failed to preload an asset, it will load when first used", e.getCause());
+            } catch (Exception e) {
+                GameLogger.logError("Failed to upload a preloaded asset", e);
+            }
+        }
+    }
+
+    private void draw() {
+        ScreenUtils.clear(BACKGROUND_COLOR);
+        float progress = total > 0 ? (total - loads.size) / (float) total : 1f;
+        float x = (viewport.getWorldWidth() - BAR_WIDTH) / 2;
+        float y = (viewport.getWorldHeight() - BAR_HEIGHT) / 2;
+
+        viewport.apply();
+        shapeRenderer.setProjectionMatrix(viewport.getCamera().combined);
+        shapeRenderer.setColor(BAR_COLOR);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
+        shapeRenderer.rect(x, y, BAR_WIDTH, BAR_HEIGHT);
+        shapeRenderer.end();
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.rect(x, y, BAR_WIDTH * progress, BAR_HEIGHT);
+        shapeRenderer.end();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        viewport.update(width, height, true);
+    }
+
+    @Override
+    public void dispose() {
+        shapeRenderer.dispose();
+        workers.shutdownNow();
+    }
+
+    // Unused Screen interface methods
+    @Override public void show() {}
+    @Override public void hide() {}
+    @Override public void pause() {}
+    @Override public void resume() {}
+}
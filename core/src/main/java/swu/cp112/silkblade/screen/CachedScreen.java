@@ -0,0 +1,22 @@
+package swu.cp112.silkblade.screen;
+
+import com.badlogic.gdx.Screen;
+
+/**
+ * A hub screen that {@link ScreenManager} keeps alive between visits instead of building a new
+ * one each time, so its font, sounds and item lists are only loaded once.
+ */
+public interface CachedScreen extends Screen {
+    /**
+     * Called each time the screen is navigated to, before the transition first draws it.
+     * Refreshes anything that may have changed while the player was on other screens.
+     */
+    void onEnter();
+
+    /**
+     * Called when the game moves on to another screen. Closes anything that shouldn't still be
+     * open when the screen is entered again.
+     */
+    default void onExit() {
+    }
+}
@@ -21,7 +21,7 @@ import swu.cp112.silkblade.util.GameLogger;
 /**
  * Screen for naming a new character and creating a save file.
  */
-public class CharacterCreationScreen implements Screen, InputProcessor {
+public class CharacterCreationScreen implements Screen, InputProcessor, OnDemandScreen {
     /**
      * Display configuration
      */
@@ -33,6 +33,7 @@ public class CharacterCreationScreen implements Screen, InputProcessor {
         static final float TEXT_X_POSITION = 0.2f;
         static final float FONT_SCALE = 2f;
         static final int MAX_NAME_LENGTH = 12;
+        static final float CURSOR_BLINK_INTERVAL = 0.5f;
 
         // Colors
         static final Color TITLE_COLOR = Color.WHITE;
@@ -152,9 +153,14 @@ public class CharacterCreationScreen implements Screen, InputProcessor {
         ScreenUtils.clear(DisplayConfig.BACKGROUND_COLOR);
     }
 
+    @Override
+    public float getNextFrameDelay() {
+        return Math.max(DisplayConfig.CURSOR_BLINK_INTERVAL - cursorBlinkTimer, 0.01f); // Wake up for the next cursor blink
+    }
+
     private void updateCursorBlink(float delta) {
         cursorBlinkTimer += delta;
-        if (cursorBlinkTimer >= 0.5f) {
+        if (cursorBlinkTimer >= DisplayConfig.CURSOR_BLINK_INTERVAL) {
             cursorBlinkTimer = 0;
             cursorVisible = !cursorVisible;
         }
@@ -224,7 +230,7 @@ public class CharacterCreationScreen implements Screen, InputProcessor {
                 game.setScreen(new ScreenTransition(
                     game,
                     this,
-                    new MainNavigationScreen(game),
+                    ScreenManager.obtain(MainNavigationScreen.class, game),
                     ScreenTransition.TransitionType.CROSS_FADE  
                 ));
             } catch (Exception e) {
@@ -1,5 +1,6 @@
 package swu.cp112.silkblade.screen;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Map;
@@ -8,7 +9,6 @@ import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
@@ -34,18 +34,34 @@ import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.files.FileHandle;
 
+import swu.cp112.silkblade.audio.MusicManager;
+import swu.cp112.silkblade.audio.VoiceManager;
 import swu.cp112.silkblade.core.Main;
 import swu.cp112.silkblade.entity.combat.Bullet;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
+import swu.cp112.silkblade.entity.combat.CombatSimulation;
+import swu.cp112.silkblade.entity.combat.CombatSound;
 import swu.cp112.silkblade.entity.combat.DamageNumber;
 import swu.cp112.silkblade.entity.combat.Player;
+import swu.cp112.silkblade.entity.combat.QualityGovernor;
 import swu.cp112.silkblade.entity.enemy.AbstractEnemy;
 import swu.cp112.silkblade.entity.enemy.Enemy;
+import swu.cp112.silkblade.entity.enemy.EnemyRoster;
 import swu.cp112.silkblade.entity.enemy.silkgod.DemoEnemy;
+import swu.cp112.silkblade.input.AutopilotInput;
+import swu.cp112.silkblade.input.CombatInput;
+import swu.cp112.silkblade.input.CombatRecording;
+import swu.cp112.silkblade.pattern.EnemyAttackPattern;
 import swu.cp112.silkblade.screen.transition.ScreenTransition;
+import swu.cp112.silkblade.util.FrameProfiler;
+import swu.cp112.silkblade.util.GameClock;
+import swu.cp112.silkblade.util.GameEvents;
 import swu.cp112.silkblade.util.GameLogger;
-import swu.cp112.silkblade.entity.combat.BulletTextures;
+import swu.cp112.silkblade.util.HitchMonitor;
+import swu.cp112.silkblade.util.SharedTextures;
 import swu.cp112.silkblade.entity.combat.BuffManager;
 import swu.cp112.silkblade.entity.item.ConsumableItem;
+import swu.cp112.silkblade.entity.item.Inventory;
 import swu.cp112.silkblade.entity.item.ItemEffectSystem;
 import swu.cp112.silkblade.screen.OptionsScreen;
 
@@ -56,6 +72,8 @@ public class CombatScene implements Screen {
     private static final float HP_TRANSITION_SPEED = 0.05f;
     private static final float ARENA_MARGIN = 2f;
     private static final float ARENA_TRANSITION_SPEED = 12f;
+    private static final String DEFAULT_MUSIC_PATH = "music/mus_boss5.mp3";
+    private static final float MUSIC_VOLUME = 0.15f;
     private static final float BUTTON_WIDTH = 190f;
     private static final float BUTTON_HEIGHT = 50f;
     private static final float BUTTON_MARGIN = 10f;
@@ -63,8 +81,6 @@ public class CombatScene implements Screen {
     private static final float ARENA_DEFAULT_HEIGHT = 200f;
     private static final float LETTER_DELAY = 0.05f;
     private static final float PUNCTUATION_DELAY = 0.8f; // Additional delay for punctuation marks
-    // Add a grace period before bullets start spawning
-    private static final float COMBAT_START_GRACE_PERIOD = 0.2f;
 
     // Text speed constants
     private static final float TEXT_SPEED_FAST = 0.02f;
@@ -72,7 +88,6 @@ public class CombatScene implements Screen {
     private static final float TEXT_SPEED_SLOW = 0.1f;
     private static final float TEXT_SPEED_VERY_SLOW = 0.15f;
 
-    private static final float IMMUNITY_DURATION = 0.85f;
     private static final float BLINK_INTERVAL = 0.1f;
     private static final float SHAKE_DURATION = 0.3f;
     private static final float SHAKE_INTENSITY = 5.0f;
@@ -85,7 +100,6 @@ public class CombatScene implements Screen {
     private static final float HP_BAR_LINGER_TIME = 1.5f;
     private static final float DEFEATED_ENEMY_LINGER_TIME = 1.5f;
     private static final float END_COMBAT_DELAY = 0f;
-    private static final float DEFAULT_END_COMBAT_PHASE_DELAY = 2.0f; // Default time to wait after all bullets are fired before ending combat phase
 
     // Death Defiance constants
     private static final float DEATH_DEFIANCE_DURATION = 5f;
@@ -131,7 +145,7 @@ public class CombatScene implements Screen {
     private final BitmapFont font;
 
     // =================== Audio Resources ===================
-    private Music backgroundMusic;
+    private final String musicPath;
     private final Sound typingSound;
     private final Sound selectSound;
     private final Sound attackSound;
@@ -156,8 +170,6 @@ public class CombatScene implements Screen {
     private float currentMPText;
     private float targetMPText;
     private float hpBarLingerTimer = 0f;
-    private boolean isImmune = false;
-    private float immunityTimer = 0;
     private float blinkTimer = 0;
     private boolean isVisible = true;
     private boolean didLevelUp = false;
@@ -183,24 +195,17 @@ public class CombatScene implements Screen {
     private boolean playerTurn = true;
     private boolean enemyTurn = false;
     private boolean inCombat = false;
-    private boolean combatActive = false;
+    private Object combatPhaseEvent; // Open GameEvents.Kind.COMBAT_PHASE event while the enemy turn runs
     private boolean showHPAfterDamage = false;
     private float endCombatTimer = 0;
     private int selectedButton = -1;
     private final String[] buttonLabels = {"FIGHT", "SKILL", "ITEM", "RUN!"};
-    private final Array<Bullet> bullets = new Array<>();
-    private float bulletSpawnTimer = 0;
-    private float bulletSpawnInterval = 0.5f;
-    private int maxBullets = 20;
-    private int bulletsSpawned = 0;
+    private CombatSimulation simulation; // Bullets, spawning, collision and immunity of the enemy turn
+    private Array<Bullet> bullets; // Live bullets, owned by the simulation
     private boolean inAttackSequence = false;
     private float attackSequenceTimer = 0;
     private boolean delayedCombatPending = false;
     private float delayedCombatTimer = 0;
-    private boolean allBulletsFired = false;
-    private float endCombatPhaseTimer = 0;
-    // Add a timer for the grace period
-    private float combatStartGraceTimer = 0;
 
     // =================== Item Menu State ===================
     private boolean showingItemMenu = false;
@@ -209,12 +214,60 @@ public class CombatScene implements Screen {
     private int totalItemPages = 1;
     // Map to track temporary item usage during combat (not saved until combat is won)
     private java.util.Map<String, Integer> temporaryItemUsage = new java.util.HashMap<>();
+    // Cached menu rows, rebuilt when the consumables version changes or usage marks them dirty
+    private final Array<ItemMenuEntry> itemMenuEntries = new Array<>();
+    private boolean itemMenuDirty = true;
+    private int itemMenuConsumablesVersion = -1;
+    private float itemMenuLabelWidth = -1f; // Width the labels were truncated for, -1 if not laid out
+    private String[] itemPageLabels = new String[0];
+    private float[] itemPageLabelWidths = new float[0];
+    private float itemPageLabelHeight;
 
     // =================== Skill Menu State ===================
     private boolean showingSkillMenu = false;
     private int selectedSkillIndex = 0;
     private int currentSkillPage = 0;
     private int totalSkillPages = 1;
+    // Cached menu rows, rebuilt when the player's unlocked skills change
+    private final Array<SkillMenuEntry> skillMenuEntries = new Array<>();
+    private int skillMenuSkillsVersion = -1;
+    private float skillMenuLabelWidth = -1f;
+    private int skillMenuLabelMP = -1; // SKILL6 costs all current MP, so its label follows MP
+    private String[] skillPageLabels = new String[0];
+    private float[] skillPageLabelWidths = new float[0];
+    private float skillPageLabelHeight;
+
+    // Shared layout for measuring menu labels without allocating
+    private final GlyphLayout menuLayout = new GlyphLayout();
+
+    /**
+     * Row of the item menu: the selected combat item, the inventory stack backing it
+     * and its label truncated to the menu width.
+     */
+    private static class ItemMenuEntry {
+        final ConsumableItem combatItem;
+        final ConsumableItem inventoryItem;
+        final int remaining;
+        String label;
+
+        ItemMenuEntry(ConsumableItem combatItem, ConsumableItem inventoryItem, int remaining) {
+            this.combatItem = combatItem;
+            this.inventoryItem = inventoryItem;
+            this.remaining = remaining;
+        }
+    }
+
+    /**
+     * Row of the skill menu with its label truncated to the menu width.
+     */
+    private static class SkillMenuEntry {
+        final Player.SkillType skill;
+        String label;
+
+        SkillMenuEntry(Player.SkillType skill) {
+            this.skill = skill;
+        }
+    }
 
     // =================== Camera Effects ===================
     private static class ShakeEffect {
@@ -290,6 +343,17 @@ public class CombatScene implements Screen {
     private boolean backgroundBlurInitialized = false;
     private static final float BACKGROUND_BLUR_STRENGTH = 5.5f; // Adjustable blur strength
 
+    // Bullets and telegraphs, the fill rate heavy part of the arena
+    private final DynamicResolution bulletLayer;
+
+    // Input source, the keyboard through a recorder unless replaying
+    private CombatInput combatInput = CombatInput.LIVE;
+    private CombatRecording.Recorder recorder;
+    private AutopilotInput autopilot;
+    private float movementSpeed = 300f; // From the settings when combat starts
+    private float frameDelta;
+    private boolean replayFinished = false;
+
     // Add player snapshot fields to restore state on death/retreat
     private Player playerSnapshot;
     private boolean snapshotTaken = false;
@@ -300,6 +364,23 @@ public class CombatScene implements Screen {
     }
 
     public CombatScene(Game game, Enemy enemy) {
+        this(game, enemy, null, null);
+    }
+
+    /**
+     * Creates a scene that replays a recorded fight instead of reading the keyboard.
+     * The enemy, stage, seed and player are restored from the recording.
+     */
+    public static CombatScene forReplay(Game game, CombatRecording recording) throws IOException {
+        StageSelectionScreen.setCurrentChallengingStage(recording.getStage());
+        CombatRandom.begin(recording.getSeed());
+        Enemy enemy = EnemyRoster.create(recording.getEnemyName(), recording.getStage());
+        GameLogger.logInfo("Replaying " + recording.getFrameCount() + " frames against " + recording.getEnemyName()
+            + " on stage " + recording.getStage());
+        return new CombatScene(game, enemy, recording.createPlayer(), recording);
+    }
+
+    private CombatScene(Game game, Enemy enemy, Player replayPlayer, CombatRecording replay) {
         try {
             GameLogger.logInfo("Initializing Combat Scene");
             this.game = game;
@@ -307,7 +388,7 @@ public class CombatScene implements Screen {
             if (enemy instanceof AbstractEnemy) {
                 ((AbstractEnemy) enemy).setCombatScene(this);
             }
-            this.player = Player.loadFromFile();
+            this.player = replayPlayer != null ? replayPlayer : Player.loadFromFile();
 
             // Initialize viewport and camera first so they can be used for texture sizing
             viewport = Main.getViewport();
@@ -316,6 +397,7 @@ public class CombatScene implements Screen {
             // Initialize rendering objects BEFORE loading background textures
             spriteBatch = new SpriteBatch();
             shapeRenderer = new ShapeRenderer();
+            bulletLayer = new DynamicResolution("bullets");
             font = new BitmapFont(Gdx.files.internal("fonts/DTM.fnt"));
             font.setColor(Color.WHITE);
             font.getData().setScale(2);
@@ -324,7 +406,9 @@ public class CombatScene implements Screen {
             if (enemy.getCombatBackground() != null) {
                 try {
                     String backgroundPath = enemy.getCombatBackground();
+                    Object loadEvent = GameEvents.begin(GameEvents.Kind.ASSET_LOAD);
                     this.enemyBackgroundTexture = new Texture(Gdx.files.internal(backgroundPath));
+                    GameEvents.end(loadEvent, backgroundPath, 0);
                     GameLogger.logInfo("Loaded enemy background: " + backgroundPath);
                     // Initialize blur effect AFTER spriteBatch is initialized
                     initializeBackgroundBlur();
@@ -349,7 +433,7 @@ public class CombatScene implements Screen {
             this.currentArenaHeight = ARENA_DEFAULT_HEIGHT;
 
             // Initialize player
-            playerTexture = new Texture("player.png");
+            playerTexture = SharedTextures.get("player.png");
             playerSprite = new Sprite(playerTexture);
             playerSprite.setSize(PLAYER_SIZE, PLAYER_SIZE);
             playerHitbox = new Rectangle();
@@ -358,41 +442,32 @@ public class CombatScene implements Screen {
             playerHitbox.width = 18;
             playerHitbox.height = 18;
 
-            // Initialize audio
-            String musicPath = "music/mus_boss5.mp3"; // Default music
-            if (enemy.getCombatMusic() != null) {
-                try {
-                    musicPath = enemy.getCombatMusic();
-//                    GameLogger.logInfo("Loaded enemy music: " + musicPath);
-                } catch (Exception e) {
-                    GameLogger.logError("Failed to load enemy music", e);
-                    musicPath = "music/mus_boss5.mp3"; // Fallback to default
-                }
-            }
-            backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal(musicPath));
-            backgroundMusic.setLooping(true);
-            backgroundMusic.setVolume(.15f);
+            // Initialize audio, the music stream opens in the background while the transition plays
+            musicPath = enemy.getCombatMusic() != null ? enemy.getCombatMusic() : DEFAULT_MUSIC_PATH;
+            MusicManager.prepare(musicPath);
 
-            typingSound = Gdx.audio.newSound(Gdx.files.internal("sounds/typing_2.wav"));
+            typingSound = VoiceManager.load(Gdx.files.internal("sounds/typing_2.wav"), 2, VoiceManager.PRIORITY_LOW);
             selectSound = Gdx.audio.newSound(Gdx.files.internal("sounds/select.wav"));
             attackSound = Gdx.audio.newSound(Gdx.files.internal("sounds/attack.wav"));
             escapeSound = Gdx.audio.newSound(Gdx.files.internal("sounds/escape.wav"));
-            hurtSound = Gdx.audio.newSound(Gdx.files.internal("sounds/hurt.wav"));
-            healSound = Gdx.audio.newSound(Gdx.files.internal("sounds/heal.wav"));
+            hurtSound = VoiceManager.load(Gdx.files.internal("sounds/hurt.wav"), 2, VoiceManager.PRIORITY_HIGH);
+            healSound = VoiceManager.load(Gdx.files.internal("sounds/heal.wav"), 2, VoiceManager.PRIORITY_HIGH);
             levelUpSound = Gdx.audio.newSound(Gdx.files.internal("sounds/level_up.wav"));
             manaRegenSound = Gdx.audio.newSound(Gdx.files.internal("sounds/mana_regen.wav"));
-            explosionSound = Gdx.audio.newSound(Gdx.files.internal("sounds/explosion.wav"));
+            explosionSound = VoiceManager.load(Gdx.files.internal("sounds/explosion.wav"), 4, VoiceManager.PRIORITY_NORMAL);
             deathExplosionSound = Gdx.audio.newSound(Gdx.files.internal("sounds/death_explosion.wav"));
             deathDefianceSound = Gdx.audio.newSound(Gdx.files.internal("sounds/defiance.wav")); // Repurpose level up sound for now
 
             // Initialize HP values
             initializeHPValues();
 
-            // Set bullet spawn interval based on enemy
+            // Arena size and bullet simulation for this enemy
             COMBAT_ARENA_WIDTH = currentEnemy.getArenaWidth();
             COMBAT_ARENA_HEIGHT = currentEnemy.getArenaHeight();
-            bulletSpawnInterval = currentEnemy.getAttackInterval();
-            maxBullets = currentEnemy.getMaxBullets();
+            simulation = new CombatSimulation(player, currentEnemy, playerHitbox,
+                viewport.getWorldWidth(), viewport.getWorldHeight());
+            simulation.setListener(new SimulationListener());
+            bullets = simulation.getBullets();
 
             // Store default arena dimensions
             dialogueArenaWidth = ARENA_DEFAULT_WIDTH;
@@ -402,6 +477,21 @@ public class CombatScene implements Screen {
             explosionAtlas = new TextureAtlas(Gdx.files.internal("atlas/explosion_atlas.atlas"));
             explosionAnimation = new Animation<>(EXPLOSION_FRAME_DURATION, explosionAtlas.findRegions("explosion_frame"));
 
+            // Read the keyboard and record the fight, or play a recorded one back
+            if (replay != null) {
+                movementSpeed = replay.getMovementSpeed();
+                combatInput = replay.playback();
+            } else {
+                movementSpeed = loadGameSettings().playerMovementSpeed;
+                CombatInput source = CombatInput.LIVE;
+                if (AutopilotInput.isEnabled()) {
+                    autopilot = new AutopilotInput(new AutopilotView());
+                    source = autopilot;
+                }
+                recorder = createRecorder(source);
+                combatInput = recorder != null ? recorder : source;
+            }
+
         } catch (Exception e) {
             GameLogger.logError("Failed to initialize Combat Scene with enemy", e);
             throw e;
@@ -438,7 +528,8 @@ public class CombatScene implements Screen {
 
         // Pause the global music and play our combat-specific music
         swu.cp112.silkblade.core.Main.pauseBackgroundMusic();
-        backgroundMusic.play();
+        MusicManager.restart(musicPath, MUSIC_VOLUME);
+        QualityGovernor.resetFrameTiming();
     }
 
     @Override
@@ -452,6 +543,16 @@ public class CombatScene implements Screen {
             // Set to normal blending as the default for this frame
             Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
 
+            // A replay dictates the delta time of every frame
+            delta = combatInput.beginFrame(delta);
+            frameDelta = delta;
+            GameClock.setDelta(delta); // Patterns that time themselves read it from the clock
+            QualityGovernor.frame(bullets.size);
+            if (combatInput.isFinished()) {
+                finishReplay();
+                return;
+            }
+
             // Update game state and render elements
             updateGameState(delta);
             renderGameElements();
@@ -465,7 +566,7 @@ public class CombatScene implements Screen {
             Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
             GameLogger.logError("Error in Combat Scene render", e);
             try {
-                game.setScreen(new MainMenuScreen(game));
+                game.setScreen(ScreenManager.obtain(MainMenuScreen.class, game));
             } catch (Exception e2) {
                 GameLogger.logError("Failed to recover from render error", e2);
                 Gdx.app.exit();
@@ -506,9 +607,7 @@ public class CombatScene implements Screen {
 
         // Stop combat music but don't resume main music yet
         // (let the next screen handle resuming it)
-        if (backgroundMusic != null && backgroundMusic.isPlaying()) {
-            backgroundMusic.stop();
-        }
+        MusicManager.stop(musicPath);
 
         // If we're leaving combat and the enemy wasn't defeated, restore player state
         // This covers cases where we exit without using proper menu options
@@ -518,8 +617,12 @@ public class CombatScene implements Screen {
             GameLogger.logInfo("Combat exit detected - restored player state since combat wasn't completed");
         }
 
+        saveRecording();
+        finishAutopilot();
+
         // Set the flag to indicate we're returning from combat
         returningFromCombat = true;
+        HitchMonitor.setCombatContext(null, -1);
     }
 
     @Override
@@ -530,23 +633,23 @@ public class CombatScene implements Screen {
 
             player.saveToFile();
             player.dispose();
+            saveRecording();
             GameLogger.logInfo("Disposing Combat Scene");
             spriteBatch.dispose();
             font.dispose();
-            playerTexture.dispose();
-            backgroundMusic.dispose();
-            typingSound.dispose();
+            VoiceManager.unload(typingSound);
             selectSound.dispose();
             attackSound.dispose();
             escapeSound.dispose();
-            hurtSound.dispose();
-            healSound.dispose();
+            VoiceManager.unload(hurtSound);
+            VoiceManager.unload(healSound);
             levelUpSound.dispose();
             manaRegenSound.dispose();
-            explosionSound.dispose();
+            VoiceManager.unload(explosionSound);
             deathExplosionSound.dispose();
             deathDefianceSound.dispose();
             shapeRenderer.dispose();
+            bulletLayer.dispose();
 
             // Dispose the enemy background texture if it was loaded
             if (enemyBackgroundTexture != null) {
@@ -554,23 +657,22 @@ public class CombatScene implements Screen {
                 enemyBackgroundTexture = null;
             }
 
-            // Dispose blur resources
-            if (blurredBackgroundTexture != null) {
-                blurredBackgroundTexture.dispose();
-                blurredBackgroundTexture = null;
-            }
-            if (blurFrameBuffer != null) {
-                blurFrameBuffer.dispose();
-                blurFrameBuffer = null;
-            }
+            // Return the blur buffer, the blurred texture is its color attachment
+            FrameBufferPool.free(blurFrameBuffer);
+            blurFrameBuffer = null;
+            blurredBackgroundTexture = null;
 
             // Dispose the explosion atlas
             if (explosionAtlas != null) {
                 explosionAtlas.dispose();
             }
 
-            // Dispose the bullet textures
-            BulletTextures.getInstance().dispose();
+            // Bullet textures are kept for the next fight and disposed when the game exits
+
+            // The enemy is created for this scene only, a retry creates a fresh one
+            if (currentEnemy instanceof AbstractEnemy) {
+                ((AbstractEnemy) currentEnemy).dispose();
+            }
         } catch (Exception e) {
             GameLogger.logError("Error disposing Combat Scene", e);
         }
@@ -586,7 +688,9 @@ public class CombatScene implements Screen {
         updateShake(delta);
         updateEnemyHPBar(delta);
         // Update damage numbers
+        long profileStart = FrameProfiler.start();
         updateDamageNumbers(delta);
+        FrameProfiler.stop("updateDamageNumbers", profileStart);
         // Update Death Defiance state if active
         if (inDeathDefianceState) {
             updateDeathDefianceState(delta);
@@ -620,17 +724,24 @@ public class CombatScene implements Screen {
 
         if (inCombat) {
             currentEnemy.updatePlayerPosition(playerHitbox.x, playerHitbox.y);
+            profileStart = FrameProfiler.start();
             updateBullets(delta);
-            if (!combatActive) {
+            FrameProfiler.stop("updateBullets", profileStart);
+            if (!simulation.isCombatActive()) {
                 updateEndCombat(delta);
             }
         } else {
             // If there are still bullets left after combat ends, keep updating them
             if (bullets.size > 0) {
+                profileStart = FrameProfiler.start();
                 updateBullets(delta);
+                FrameProfiler.stop("updateBullets", profileStart);
             }
             updateDialogueText(delta);
         }
+        FrameProfiler.setCounter("bullets", bullets.size);
+        HitchMonitor.setCombatContext(currentEnemy.getCurrentPattern() != null
+            ? currentEnemy.getCurrentPattern().getPatternName() : null, bullets.size);
 
         // Add missing explosion animation update
         if (showEnemyExplosion) {
@@ -713,30 +824,34 @@ public class CombatScene implements Screen {
         }
 
         // Then render other UI elements
+        long profileStart = FrameProfiler.start();
         renderHUD();
+        FrameProfiler.stop("renderHUD", profileStart);
 
         if (inCombat) {
             if (!playerTurn && enemyTurn) {
-                renderBullets();
+                renderBulletLayer();
                 renderPlayer();
             }
         } else if (showingItemMenu) {
             renderItemMenu();
             // Render bullets on top of item menu if any exist after combat
             if (bullets.size > 0) {
-                renderBullets();
+                renderBulletLayer();
             }
         } else if (showingSkillMenu) {
             renderSkillMenu();
             // Render bullets on top of skill menu if any exist after combat
             if (bullets.size > 0) {
-                renderBullets();
+                renderBulletLayer();
             }
         } else {
+            profileStart = FrameProfiler.start();
             renderDialogueText();
+            FrameProfiler.stop("renderDialogueText", profileStart);
             // Render bullets on top of dialogue if any exist after combat
             if (bullets.size > 0) {
-                renderBullets();
+                renderBulletLayer();
             }
         }
 
@@ -910,7 +1025,7 @@ public class CombatScene implements Screen {
 
             boolean keyJustPressed = false;
             for(int key : DIALOGUE_SKIP_KEYS) {
-                if (Gdx.input.isKeyJustPressed(key)) {
+                if (combatInput.isKeyJustPressed(key)) {
                     keyJustPressed = true;
                     break;
                 }
@@ -934,6 +1049,7 @@ public class CombatScene implements Screen {
 
     public void startCombat() {
         inCombat = true;
+        combatPhaseEvent = GameEvents.begin(GameEvents.Kind.COMBAT_PHASE);
 
         // Get arena dimensions from current pattern
         // IMPORTANT: We need to get the dimensions directly from the enemy's current pattern
@@ -953,14 +1069,7 @@ public class CombatScene implements Screen {
 
         // We don't update buffs here - buffs should only be decremented after surviving an enemy turn
 
-        bullets.clear();
-        bulletsSpawned = 0;
-        combatActive = true;
         showHPAfterDamage = false;
-        allBulletsFired = false;  // Reset the all bullets fired flag
-
-        // Reset grace period timer when starting combat
-        combatStartGraceTimer = 0;
 
         // Reset Death Defiance for the new combat
         inDeathDefianceState = false;
@@ -970,15 +1079,8 @@ public class CombatScene implements Screen {
         // Dim the enemy during combat
         currentEnemy.setAlpha(COMBAT_PHASE_ALPHA);
 
-        // IMPORTANT: Let the enemy start their turn BEFORE getting interval/bullet values
-        // This ensures the pattern is selected first
-        if (currentEnemy != null) {
-            currentEnemy.startTurn();
-        }
-
-        // Update these values from the enemy's CURRENT pattern (which may have just changed)
-        bulletSpawnInterval = currentEnemy.getAttackInterval();
-        maxBullets = currentEnemy.getMaxBullets();
+        // Starts the enemy's turn, which selects the pattern, and resets bullet spawning
+        simulation.startAttack();
 
         // Also update arena dimensions AGAIN in case the enemy changed patterns during startTurn
         COMBAT_ARENA_WIDTH = currentEnemy.getArenaWidth();
@@ -1041,7 +1143,7 @@ public class CombatScene implements Screen {
             // GameLogger.logInfo("Arena centered - position: " + arena.x + ", " + arena.y);
 
             // Recenter player if needed
-            if (!combatActive) {
+            if (!simulation.isCombatActive()) {
                 centerPlayer();
             }
         }
@@ -1049,13 +1151,14 @@ public class CombatScene implements Screen {
 
     public void endCombat() {
         inCombat = false;
-
-        // Call endTurn on the enemy to ensure pattern rotation
-        if (currentEnemy != null) {
-            currentEnemy.endTurn();
+        if (combatPhaseEvent != null) {
+            GameEvents.end(combatPhaseEvent, currentEnemy != null ? currentEnemy.getName() : null, bullets.size);
+            combatPhaseEvent = null;
         }
 
-        combatActive = false;
+        // Ends the enemy's turn, which rotates its pattern, and stops bullet spawning
+        simulation.endAttack();
+
         playerTurn = true;
         enemyTurn = false;
         showHPAfterDamage = false; // Explicitly reset HP display flag
@@ -1075,9 +1178,6 @@ public class CombatScene implements Screen {
         COMBAT_ARENA_HEIGHT = ARENA_DEFAULT_HEIGHT;
         setArenaSize(ARENA_DEFAULT_WIDTH, ARENA_DEFAULT_HEIGHT);
 
-        // Turn off bullet spawning
-        bulletsSpawned = maxBullets + 1;
-
         // Reset enemy
         if (currentEnemy != null) {
             // Make enemy fully visible again
@@ -1089,7 +1189,6 @@ public class CombatScene implements Screen {
 
         // Add a delay before ending combat completely
         endCombatTimer = 0;
-        bulletSpawnTimer = 0;
         if (pendingDefeatMessage) {
             showEnemyExplosion = true;
             enemyExplosionTimer = 0f;
@@ -1116,7 +1215,7 @@ public class CombatScene implements Screen {
             if (playAudioOnce) {
                 boolean inputReceived = false;
                 for (int key : DIALOGUE_SKIP_KEYS) {
-                    if (Gdx.input.isKeyJustPressed(key)) {
+                    if (combatInput.isKeyJustPressed(key)) {
                         inputReceived = true;
                         break;
                     }
@@ -1225,7 +1324,7 @@ public class CombatScene implements Screen {
                 }
 
                 if (!isBuffSkill && currentEnemy.isDefeated()) {
-                    backgroundMusic.stop();
+                    MusicManager.stop(musicPath);
                     savedDefeatMessage = currentEnemy.getDefeatDialogue() + "\n" + currentEnemy.getRewardDialogue();
                     pendingDefeatMessage = true;
                     showDefeatedEnemy = true; // Add this line to enable explosion effect
@@ -1257,7 +1356,7 @@ public class CombatScene implements Screen {
             return;
         }
 
-        if (!isImmune) {
+        if (!simulation.isImmune()) {
             // Get current HP before damage for comparison
             float oldHP = player.getCurrentHP();
 
@@ -1306,7 +1405,7 @@ public class CombatScene implements Screen {
 
                 // Reset blend function to normal before transitioning to game over screen
                 Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-                backgroundMusic.stop();
+                MusicManager.stop(musicPath);
 
                 // Get the player's current position for death animation
                 float playerDeathX = playerHitbox.x;
@@ -1318,8 +1417,7 @@ public class CombatScene implements Screen {
             }
 
             startShake(0.3f, 8.0f);
-            isImmune = true;
-            immunityTimer = 0;
+            simulation.startImmunity();
             isVisible = false;
 
             updateHPTargets();
@@ -1529,7 +1627,7 @@ public class CombatScene implements Screen {
         // Check for dialogue skip keys
         boolean skipPressed = false;
         for(int key : DIALOGUE_SKIP_KEYS) {
-            if (Gdx.input.isKeyJustPressed(key)) {
+            if (combatInput.isKeyJustPressed(key)) {
                 skipPressed = true;
                 break;
             }
@@ -1577,7 +1675,7 @@ public class CombatScene implements Screen {
             currentLetterIndex++;
 
             if (!Character.isWhitespace(nextChar)) {
-                typingSound.play(0.2f);
+                VoiceManager.play(typingSound, 0.2f);
             }
 
             letterTimer = 0;
@@ -1671,17 +1769,14 @@ public class CombatScene implements Screen {
     // =================== Immunity & Effect Methods ===================
 
     private void updateImmunity(float delta) {
-        if (isImmune) {
-            immunityTimer += delta;
-
+        if (simulation.isImmune()) {
             blinkTimer += delta;
             if (blinkTimer >= BLINK_INTERVAL) {
                 isVisible = !isVisible;
                 blinkTimer = 0;
             }
 
-            if (immunityTimer >= IMMUNITY_DURATION) {
-                isImmune = false;
+            if (simulation.updateImmunity(delta)) {
                 isVisible = true;
             }
         }
@@ -1715,6 +1810,7 @@ public class CombatScene implements Screen {
                 if (shake.time < shake.duration) {
                     float progress = shake.time / shake.duration;
                     float decreaseFactor = 1.0f - progress;
+                    // Only moves the camera, so it stays off the seeded combat random
                     float offsetX = MathUtils.random(-1.0f, 1.0f) * shake.intensity * decreaseFactor;
                     float offsetY = MathUtils.random(-1.0f, 1.0f) * shake.intensity * decreaseFactor;
 
@@ -1741,242 +1837,118 @@ public class CombatScene implements Screen {
 
     // =================== Bullet/Attack System Methods ===================
 
-    private void spawnBullet() {
-        float speed = MathUtils.random(100, 250);
-        float size = MathUtils.random(8, 15);
-        Color color = Color.WHITE;
-        float dmg, x, y, vx, vy;
-        boolean isHeal = false;
-        int pattern = (bulletsSpawned / 5) % 4;
-
-        switch (pattern) {
-            case 0: // Top to bottom - standard bullets
-                dmg = MathUtils.random(3, 7);
-                x = MathUtils.random(arena.x + size, arena.x + arena.width - size);
-                y = arena.y + arena.height;
-                vx = MathUtils.random(-50, 50);
-                vy = -speed;
-                color = Color.WHITE;
-                break;
-
-            case 1: // Side to side - faster bullets with medium damage
-                dmg = MathUtils.random(5, 10);
-                x = bulletsSpawned % 2 == 0 ? arena.x : arena.x + arena.width;
-                y = MathUtils.random(arena.y + size, arena.y + arena.height - size);
-                vx = bulletsSpawned % 2 == 0 ? speed * 1.2f : -speed * 1.2f;
-                vy = MathUtils.random(-50, 50);
-                color = Color.YELLOW;
-                break;
-
-            case 2: // Diagonal - medium damage but harder to dodge
-                dmg = MathUtils.random(7, 12);
-                x = arena.x;
-                y = arena.y;
-                vx = speed * 0.9f;
-                vy = speed * 0.9f;
-                color = Color.ORANGE;
-                break;
-
-            case 3: // Spiral from center - highest damage (special attack)
-                float centerX = arena.x + arena.width / 2;
-                float centerY = arena.y + arena.height / 2;
-                float angle = bulletsSpawned * 36 * MathUtils.degreesToRadians;
-                int bulletInPattern = bulletsSpawned % 5;
-                dmg = 8 + (bulletInPattern * 3);
-                isHeal = true;
-                x = centerX;
-                y = centerY;
-                vx = MathUtils.cos(angle) * speed;
-                vy = MathUtils.sin(angle) * speed;
-                color = Color.RED;
-                break;
-
-            default:
-                dmg = 5;
-                x = arena.x + arena.width / 2;
-                y = arena.y + arena.height;
-                vx = 0;
-                vy = -speed;
+    private void updateBullets(float delta) {
+        // Use the target dimensions during transition to ensure consistent bullet spawning
+        if (isTransitioning) {
+            simulation.setSpawnArea(targetX, targetY, targetArenaWidth, targetArenaHeight);
+        } else {
+            simulation.setSpawnArea(arena.x, arena.y, arena.width, arena.height);
         }
-
-        bullets.add(new Bullet(dmg, x, y, vx, vy, size, color, isHeal));
+        simulation.update(delta);
     }
 
-    private void updateBullets(float delta) {
-        // Only spawn new bullets if we're in active combat
-        if (inCombat && combatActive) {
-            // Update grace period timer
-            combatStartGraceTimer += delta;
-
-            // Only start spawning bullets after grace period has elapsed
-            if (combatStartGraceTimer >= COMBAT_START_GRACE_PERIOD) {
-                bulletSpawnTimer += delta;
-                if (bulletSpawnTimer >= bulletSpawnInterval && bulletsSpawned < maxBullets) {
-                    List<Bullet> enemyBullets;
-
-                    // Use the target dimensions during transition to ensure consistent bullet spawning
-                    if (isTransitioning) {
-                        // Use target dimensions and positions for accurate bullet spawning during transition
-                        enemyBullets = currentEnemy.generateAttack(
-                            targetX, targetY, targetArenaWidth, targetArenaHeight
-                        );
-                    } else {
-                        // Use current arena dimensions once transition is complete
-                        enemyBullets = currentEnemy.generateAttack(
-                            arena.x, arena.y, arena.width, arena.height
-                        );
-                    }
-
-                    if (enemyBullets != null && !enemyBullets.isEmpty()) {
-                        bullets.addAll(enemyBullets.toArray(new Bullet[0]));
-                        bulletsSpawned++;
-                    }
-
-                    bulletSpawnTimer = 0;
-                }
-            }
-
-            // Check if all bullets have been fired
-            if (bulletsSpawned >= maxBullets && !allBulletsFired) {
-                allBulletsFired = true;
-                endCombatPhaseTimer = 0;
-            }
-
-            // Special condition: End combat immediately if all bullets are gone and all have been fired
-            if (allBulletsFired && bullets.size == 0) {
-                combatActive = false;
-                endCombatTimer = 0;
-                return;
-            }
-
-            // If all bullets have been fired, start timer for ending combat phase
-            if (allBulletsFired) {
-                endCombatPhaseTimer += delta;
+    /**
+     * What the autopilot sees of the fight.
+     */
+    private class AutopilotView implements AutopilotInput.View {
+        private final Rectangle movementBounds = new Rectangle();
 
-                // Get the end phase delay from the current enemy's attack pattern, or use default
-                float currentEndPhaseDelay = DEFAULT_END_COMBAT_PHASE_DELAY;
+        @Override
+        public boolean isDodging() {
+            return inCombat && enemyTurn && !playerTurn;
+        }
 
-                if (currentEnemy != null && currentEnemy.getCurrentPattern() != null) {
-                    currentEndPhaseDelay = currentEnemy.getCurrentPattern().getConfig().getEndPhaseDelay();
-                }
+        @Override
+        public int getSelectedButton() {
+            return selectedButton;
+        }
 
-                // We still process bullets during the end phase countdown
-                // Only mark combat as inactive once the timer is complete
-                if (endCombatPhaseTimer >= currentEndPhaseDelay) {
-                    combatActive = false;
-                    endCombatTimer = 0;
-                    return;
-                }
-            }
+        @Override
+        public Rectangle getPlayerHitbox() {
+            return playerHitbox;
         }
 
-        // Always update and check each bullet
-        for (int i = bullets.size - 1; i >= 0; i--) {
-            Bullet bullet = bullets.get(i);
-            bullet.update(delta, playerHitbox.x + PLAYER_SIZE / 2, playerHitbox.y + PLAYER_SIZE / 2);
-
-            // Ensure explosion happens before removing bullet
-            if (!bullet.isActive()) {
-                List<Bullet> newBullets = bullet.getExplosionBullets();
-                if (newBullets != null && !newBullets.isEmpty()) {
-                    // Check if we're using a pattern that handles its own explosion sound
-                    boolean shouldPlaySound = true;
-
-                    // Get the current pattern
-                    if (currentEnemy != null && currentEnemy.getCurrentPattern() != null) {
-                        String patternName = currentEnemy.getCurrentPattern().getPatternName();
-                        // Don't play explosion sound for FallenStarPattern (it has its own)
-                        if (patternName.equals("Tears of Heaven")) {
-                            shouldPlaySound = false;
-                        }
-                        // Add more patterns here as needed that handle their own explosion sounds
-                    }
+        @Override
+        public Rectangle getMovementBounds() {
+            return movementBounds.set(arena.x + ARENA_MARGIN, arena.y + ARENA_MARGIN,
+                arena.width - ARENA_MARGIN * 2, arena.height - ARENA_MARGIN * 2);
+        }
 
-                    // Only play the sound if needed
-                    if (shouldPlaySound) {
-                        explosionSound.play(0.175f);
-                    }
+        @Override
+        public Array<Bullet> getBullets() {
+            return simulation.getBullets();
+        }
 
-                    // Convert List to Array.items
-                    for (Bullet newBullet : newBullets) {
-                        bullets.add(newBullet);
-                    }
-                }
-                bullets.removeIndex(i);
-                continue;
-            }
+        @Override
+        public float getMovementSpeed() {
+            return movementSpeed;
+        }
+    }
 
-            // Check if bullet is offscreen
-            if (isBulletOffScreen(bullet)) {
-                if (bullet.hasExplosionTimer()) {  // Check if bullet is set to explode
-                    continue;  // Let explosion run instead of removing it immediately
-                }
-                bullet.destroy();
-                bullets.removeIndex(i);
-                continue;
-            }
+    /**
+     * Plays the sounds and effects for what happens in the simulation.
+     */
+    private class SimulationListener implements CombatSimulation.Listener {
+        @Override
+        public void onExplosion(Bullet bullet, List<Bullet> children) {
+            playCombatSound(CombatSound.EXPLOSION, explosionSound, 0.175f);
+        }
 
-            // Only check for player collision if we're still in active combat
-            if (inCombat && combatActive &&
-                bullet.getHitbox().overlaps(playerHitbox) &&
-                (!bullet.isTelegraphing() || bullet.getTelegraphTimer() >= bullet.getTelegraphDuration()) &&
-                !bullet.isFading()) {
-
-                int damageValue = (int) bullet.getDamage();
-
-                // Handle damage and sounds
-                if (damageValue < 0) {
-                    increaseHP(Math.abs(damageValue)); // Use Math.abs since increaseHP expects a positive value
-                    healSound.setVolume(healSound.play(), 0.15f);
-                    bullet.destroy();
-                    bullets.removeIndex(i);
-                } else if (damageValue > 0 && !isImmune) {
-                    decreaseHP(damageValue);
-                    hurtSound.setVolume(hurtSound.play(), 0.2f);
-
-                    // If this bullet can explode, start its timer instead of destroying it
-                    if (bullet.getOnExplodeCallback() != null) {
-                        bullet.startExplosionTimer(0.5f); // Half second delay before explosion
-                        continue; // Don't destroy the bullet, let it explode
-                    }
+        @Override
+        public void onPlayerHealed(Bullet bullet, int amount) {
+            increaseHP(amount);
+            playCombatSound(CombatSound.HEAL, healSound, 0.15f);
+        }
 
-                    // If it's not an explosive bullet, destroy it normally
-                    bullet.destroy();
-                    bullets.removeIndex(i);
-                }
-                continue;
-            }
+        @Override
+        public void onPlayerHit(Bullet bullet, int damage) {
+            decreaseHP(damage);
+            playCombatSound(CombatSound.HURT, hurtSound, 0.2f);
         }
 
-        // Check for the special condition outside the combat check to handle any remaining bullets
-        if (allBulletsFired && bullets.size == 0 && combatActive) {
-            combatActive = false;
+        @Override
+        public void onAttackFinished() {
             endCombatTimer = 0;
         }
-    }
 
-    private boolean isBulletOffScreen(Bullet bullet) {
-        float screenWidth = viewport.getWorldWidth();
-        float screenHeight = viewport.getWorldHeight();
-
-        // Calculate the trail buffer based on bullet size and trail length
-        float trailBuffer = bullet.getSize() * TRAIL_LENGTH;
+        /**
+         * Plays a combat sound unless the current pattern plays its own version.
+         */
+        private void playCombatSound(CombatSound type, Sound sound, float volume) {
+            EnemyAttackPattern pattern = currentEnemy.getCurrentPattern();
+            if (pattern == null || !pattern.ownsSound(type)) {
+                VoiceManager.play(sound, volume);
+            }
+        }
+    }
 
-        // Only consider the bullet completely off screen if both the bullet and its trail are off screen
-        return bullet.getX() < -trailBuffer ||
-               bullet.getX() > screenWidth + trailBuffer ||
-               bullet.getY() < -trailBuffer ||
-               bullet.getY() > screenHeight + trailBuffer;
+    /**
+     * Renders the bullets at the resolution the bullet layer picked for this frame.
+     */
+    private void renderBulletLayer() {
+        if (bulletLayer.begin(viewport)) {
+            // The layer is blended over the screen afterwards, so it needs correct alpha as well as color
+            spriteBatch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA,
+                GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+            renderBullets();
+            spriteBatch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        } else {
+            renderBullets();
+        }
+        bulletLayer.end(spriteBatch, viewport);
     }
 
     private void renderBullets() {
+        long profileStart = FrameProfiler.start();
         try {
             // Enable blending for transparency
             Gdx.gl.glEnable(GL20.GL_BLEND);
 
             // First render telegraph paths with normal blending
             Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+            long telegraphStart = FrameProfiler.start();
             renderTelegraphedPaths();
+            FrameProfiler.stop("renderTelegraphedPaths", telegraphStart);
 
             // Use SpriteBatch for rendering
             spriteBatch.setProjectionMatrix(camera.combined);
@@ -2035,18 +2007,24 @@ public class CombatScene implements Screen {
             Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
             GameLogger.logError("Error rendering bullets", e);
         }
+        FrameProfiler.stop("renderBullets", profileStart);
     }
 
     // Update the renderTelegraphedPaths method
     private void renderTelegraphedPaths() {
         // Need to begin ShapeRenderer for drawing paths
         Gdx.gl.glEnable(GL20.GL_BLEND);
-        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        // Alpha is accumulated too, for when the bullet layer is drawn offscreen
+        Gdx.gl.glBlendFuncSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
 
         // First pass: Draw filled telegraph paths (better representation of hitbox)
         shapeRenderer.setProjectionMatrix(camera.combined);
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
 
+        // At low quality, a fill lying on top of the last one drawn is skipped, volleys often telegraph the same lane
+        boolean mergeFills = QualityGovernor.isMergingTelegraphs();
+        float lastStartX = Float.NaN, lastStartY = 0, lastEndX = 0, lastEndY = 0;
+
         for (Bullet bullet : bullets) {
             if (bullet.isTelegraphing()) {
                 float alpha = bullet.getTelegraphAlpha();
@@ -2067,6 +2045,18 @@ public class CombatScene implements Screen {
                 Rectangle hitbox = bullet.getHitbox();
                 float hitboxWidth = hitbox.width;
 
+                if (mergeFills) {
+                    float tolerance = hitboxWidth / 2;
+                    if (Math.abs(startPoint[0] - lastStartX) < tolerance && Math.abs(startPoint[1] - lastStartY) < tolerance
+                        && Math.abs(endpoint[0] - lastEndX) < tolerance && Math.abs(endpoint[1] - lastEndY) < tolerance) {
+                        continue;
+                    }
+                    lastStartX = startPoint[0];
+                    lastStartY = startPoint[1];
+                    lastEndX = endpoint[0];
+                    lastEndY = endpoint[1];
+                }
+
                 // Set color with low alpha for filled area
                 Color telegraphColor = new Color();
                 // Create faster flashing effect between soft blue and purple
@@ -2556,20 +2546,8 @@ public class CombatScene implements Screen {
         // If transitioning, only allow camera shake control and not other input
         if (ScreenTransition.isTransitioning()) return;
 
-        // Get player movement speed from settings, or use default if settings unavailable
-        float movementSpeed = 300f; // Default fallback speed
-        try {
-            // Try to access the settings from the options screen
-            OptionsScreen.GameSettings settings = loadGameSettings();
-            if (settings != null) {
-                movementSpeed = settings.playerMovementSpeed;
-            }
-        } catch (Exception e) {
-            GameLogger.logError("Could not load movement speed from settings, using default", e);
-        }
-
         // Skip or escape input
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
+        if (combatInput.isKeyJustPressed(Input.Keys.ESCAPE)) {
             if (inAttackSequence || delayedCombatPending) return;
             if (inCombat) return;
             if (currentEnemy.isDefeated()) return;
@@ -2603,7 +2581,7 @@ public class CombatScene implements Screen {
             if (isTyping || !dialogueCompleted) {
                 handleActiveCombatInput(deltaTime, movementSpeed);
                 for (int key : DIALOGUE_SKIP_KEYS) {
-                    if (Gdx.input.isKeyJustPressed(key)) {
+                    if (combatInput.isKeyJustPressed(key)) {
                         completeDialogue();
                         return;
                     }
@@ -2621,7 +2599,7 @@ public class CombatScene implements Screen {
 
         boolean skipKeyPressed = false;
         for(int key : DIALOGUE_SKIP_KEYS) {
-            if (Gdx.input.isKeyJustPressed(key)) {
+            if (combatInput.isKeyJustPressed(key)) {
                 skipKeyPressed = true;
                 break;
             }
@@ -2800,36 +2778,24 @@ public class CombatScene implements Screen {
         if (!playerTurn && enemyTurn) {
             handleMovementInput(deltaTime, speed);
         } else if (!inAttackSequence && !delayedCombatPending) {
-//            if (!inCombat && selectedButton == 0 && Gdx.input.isKeyPressed(Input.Keys.ENTER)) {
+//            if (!inCombat && selectedButton == 0 && combatInput.isKeyPressed(Input.Keys.ENTER)) {
 //                startCombat();
 //            }
             handleMenuInput();
         }
     }
 
-    private void handleMovementInput(float deltaTime, float speed) {
-        // Get player movement speed from settings, or use default if settings unavailable
-        float movementSpeed = speed; // Use the passed-in speed which should come from settings
-        try {
-            // Try to access the settings from the options screen
-            OptionsScreen.GameSettings settings = loadGameSettings();
-            if (settings != null) {
-                movementSpeed = settings.playerMovementSpeed;
-            }
-        } catch (Exception e) {
-            GameLogger.logError("Could not load movement speed from settings, using default", e);
-        }
-
-        if (Gdx.input.isKeyPressed(Input.Keys.LEFT) || Gdx.input.isKeyPressed(Input.Keys.A)) {
+    private void handleMovementInput(float deltaTime, float movementSpeed) {
+        if (combatInput.isKeyPressed(Input.Keys.LEFT) || combatInput.isKeyPressed(Input.Keys.A)) {
             playerSprite.translateX(-movementSpeed * deltaTime);
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT) || Gdx.input.isKeyPressed(Input.Keys.D)) {
+        if (combatInput.isKeyPressed(Input.Keys.RIGHT) || combatInput.isKeyPressed(Input.Keys.D)) {
             playerSprite.translateX(movementSpeed * deltaTime);
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.UP) || Gdx.input.isKeyPressed(Input.Keys.W)) {
+        if (combatInput.isKeyPressed(Input.Keys.UP) || combatInput.isKeyPressed(Input.Keys.W)) {
             playerSprite.translateY(movementSpeed * deltaTime);
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.DOWN) || Gdx.input.isKeyPressed(Input.Keys.S)) {
+        if (combatInput.isKeyPressed(Input.Keys.DOWN) || combatInput.isKeyPressed(Input.Keys.S)) {
             playerSprite.translateY(-movementSpeed * deltaTime);
         }
     }
@@ -2843,20 +2809,20 @@ public class CombatScene implements Screen {
         }
 
         // Remove the Q key cycling code
-        // if (Gdx.input.isKeyJustPressed(Input.Keys.Q)) {
+        // if (combatInput.isKeyJustPressed(Input.Keys.Q)) {
         //     cycleSkill();
         //     player.playSkillSound();
         // }
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.LEFT)) {
+        if (combatInput.isKeyJustPressed(Input.Keys.LEFT)) {
             selectedButton = (selectedButton - 1 + buttonLabels.length) % buttonLabels.length;
             selectSound.play();
         }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.RIGHT)) {
+        if (combatInput.isKeyJustPressed(Input.Keys.RIGHT)) {
             selectedButton = (selectedButton + 1) % buttonLabels.length;
             selectSound.play();
         }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER) && !isTransitioning) {
+        if (combatInput.isKeyJustPressed(Input.Keys.ENTER) && !isTransitioning) {
             selectButton();
         }
     }
@@ -2949,7 +2915,7 @@ public class CombatScene implements Screen {
 
     // =================== Rendering Methods ===================
     private void renderEnemy() {
-        currentEnemy.update(Gdx.graphics.getDeltaTime());
+        currentEnemy.update(frameDelta);
 
         // Use viewport's world dimensions to calculate position
         float screenWidth = viewport.getWorldWidth();
@@ -3008,7 +2974,7 @@ public class CombatScene implements Screen {
     }
 
     private void updateEndCombat(float delta) {
-        if (!combatActive && inCombat) {
+        if (!simulation.isCombatActive() && inCombat) {
             endCombatTimer += delta;
             if (endCombatTimer >= END_COMBAT_DELAY) {
                 endCombat();
@@ -3029,8 +2995,9 @@ public class CombatScene implements Screen {
         // Clear the temporary item usage when running away
         // No items should be lost if the player doesn't win the battle
         temporaryItemUsage.clear();
+        itemMenuDirty = true;
 
-        backgroundMusic.stop();
+        MusicManager.stop(musicPath);
 
         // Set the returning from combat flag to true
         returningFromCombat = true;
@@ -3038,55 +3005,85 @@ public class CombatScene implements Screen {
         game.setScreen(new ScreenTransition(
             game,
             this,
-            new StageSelectionScreen(game),
+            ScreenManager.obtain(StageSelectionScreen.class, game),
             type
         ));
     }
 
     /**
-     * Renders the item menu with combat items in a grid layout.
+     * Rebuilds the item menu rows if the inventory or this combat's item usage changed.
+     * Only items that exist in the main inventory and haven't been fully used are listed.
      */
-    private void renderItemMenu() {
-        spriteBatch.setProjectionMatrix(camera.combined);
-        spriteBatch.begin();
-
-        // Get combat items from player inventory, but filter out any that are no longer available
-        Array<ConsumableItem> allCombatItems = player.getInventory().getCombatItems();
-        Array<ConsumableItem> combatItems = new Array<>();
-
-        // Filter the combat items based on what's actually available
-        for (ConsumableItem combatItem : allCombatItems) {
-            // Check if this item exists in main inventory
-            boolean itemExists = false;
-            int availableQuantity = 0;
+    private void refreshItemMenu() {
+        Inventory inventory = player.getInventory();
+        if (!itemMenuDirty && itemMenuConsumablesVersion == inventory.getConsumablesVersion()) {
+            return;
+        }
 
-            for (ConsumableItem mainItem : player.getInventory().getConsumableItems()) {
+        itemMenuEntries.clear();
+        Array<ConsumableItem> consumables = inventory.getConsumableItems();
+        for (ConsumableItem combatItem : inventory.getCombatItems()) {
+            // Find the stack in the main inventory backing this combat item
+            ConsumableItem inventoryItem = null;
+            for (ConsumableItem mainItem : consumables) {
                 if (mainItem.getId().equals(combatItem.getId()) && mainItem.getTier().equals(combatItem.getTier())) {
-                    itemExists = true;
-                    availableQuantity = mainItem.getQuantity();
+                    inventoryItem = mainItem;
                     break;
                 }
             }
 
-            // Only show items that exist in main inventory and haven't been fully used this combat
-            if (itemExists) {
+            if (inventoryItem != null) {
                 int usedCount = temporaryItemUsage.getOrDefault(combatItem.getId(), 0);
-                if (usedCount < availableQuantity) {
-                    combatItems.add(combatItem);
+                int remaining = inventoryItem.getQuantity() - usedCount;
+                if (remaining > 0) {
+                    itemMenuEntries.add(new ItemMenuEntry(combatItem, inventoryItem, remaining));
                 }
             }
         }
 
-        // Calculate total pages
-        totalItemPages = (int) Math.ceil((float) combatItems.size / ITEMS_PER_PAGE);
-        if (totalItemPages == 0) totalItemPages = 1;
+        totalItemPages = Math.max(1, (itemMenuEntries.size + ITEMS_PER_PAGE - 1) / ITEMS_PER_PAGE);
+        itemPageLabels = buildPageLabels(totalItemPages);
+        itemMenuLabelWidth = -1f;
+
+        // The getters above renew the version, so read it after building
+        itemMenuConsumablesVersion = inventory.getConsumablesVersion();
+        itemMenuDirty = false;
+    }
+
+    /**
+     * Truncates the item labels and measures the page labels for the given width.
+     * Expects the font at the item menu scale.
+     */
+    private void layoutItemMenu(float maxItemWidth) {
+        if (itemMenuLabelWidth == maxItemWidth) {
+            return;
+        }
+
+        float truncatedWidth = maxItemWidth - font.getSpaceXadvance() * 3; // Space for ellipsis
+        for (ItemMenuEntry entry : itemMenuEntries) {
+            String itemName = fitMenuLabel("* ", entry.combatItem.getName(), "", maxItemWidth, truncatedWidth);
+            entry.label = "* " + itemName + " x" + entry.remaining;
+        }
+        itemPageLabelWidths = measurePageLabels(itemPageLabels);
+        itemPageLabelHeight = font.getCapHeight(); // Height of a single line layout
+        itemMenuLabelWidth = maxItemWidth;
+    }
+
+    /**
+     * Renders the item menu with combat items in a grid layout.
+     */
+    private void renderItemMenu() {
+        spriteBatch.setProjectionMatrix(camera.combined);
+        spriteBatch.begin();
+
+        refreshItemMenu();
 
         // Make sure current page is valid
         currentItemPage = Math.min(currentItemPage, totalItemPages - 1);
 
         // Calculate starting index for current page
         int startIdx = currentItemPage * ITEMS_PER_PAGE;
-        int endIdx = Math.min(startIdx + ITEMS_PER_PAGE, combatItems.size);
+        int endIdx = Math.min(startIdx + ITEMS_PER_PAGE, itemMenuEntries.size);
         int itemsOnCurrentPage = endIdx - startIdx;
 
         // Ensure selectedItemIndex is valid for the current page
@@ -3102,10 +3099,10 @@ public class CombatScene implements Screen {
         float itemY = arena.y + arena.height - ITEM_MENU_PADDING;
         float rowHeight = 50f;
         float maxItemWidth = (arena.width / 2) - ITEM_MENU_PADDING - 30f; // Leave space for quantity
+        layoutItemMenu(maxItemWidth);
 
         // Draw items in a grid
         for (int i = startIdx; i < endIdx; i++) {
-            ConsumableItem item = combatItems.get(i);
             int gridPos = i - startIdx;
             int row = gridPos / ITEMS_PER_ROW;
             int col = gridPos % ITEMS_PER_ROW;
@@ -3113,63 +3110,25 @@ public class CombatScene implements Screen {
             float x = itemX + col * (arena.width / 2);
             float y = itemY - row * rowHeight;
 
-            // Find how many are left after temporary usage
-            int totalQuantity = 0;
-            for (ConsumableItem mainItem : player.getInventory().getConsumableItems()) {
-                if (mainItem.getId().equals(item.getId()) && mainItem.getTier().equals(item.getTier())) {
-                    totalQuantity = mainItem.getQuantity();
-                    break;
-                }
-            }
-            int usedCount = temporaryItemUsage.getOrDefault(item.getId(), 0);
-            int remaining = totalQuantity - usedCount;
-
-            // Calculate if name will overflow
-            String itemName = item.getName();
-            String prefix = "* ";
-            String quantity = " x" + remaining;
-
-            // Check if item name will overflow
-            GlyphLayout layout = new GlyphLayout(font, prefix + itemName);
-            if (layout.width > maxItemWidth) {
-                // Truncate name to fit
-                int maxChars = 0;
-                for (int j = 1; j <= itemName.length(); j++) {
-                    GlyphLayout testLayout = new GlyphLayout(font, prefix + itemName.substring(0, j) + "...");
-                    if (testLayout.width > maxItemWidth - font.getSpaceXadvance() * 3 /* space for ellipsis */) {
-                        break;
-                    }
-                    maxChars = j;
-                }
-
-                if (maxChars > 0) {
-                    itemName = itemName.substring(0, maxChars) + "...";
-                }
-            }
-
-            // Draw item with proper spacing
-            String itemText = prefix + itemName + quantity;
             font.setColor(gridPos == selectedItemIndex ? Color.YELLOW : Color.WHITE);
-            font.draw(spriteBatch, itemText, x, y);
+            font.draw(spriteBatch, itemMenuEntries.get(i).label, x, y);
         }
 
         // Draw page indicator at bottom right (if multiple pages)
         if (totalItemPages > 1) {
-            String pageText = "*PG " + (currentItemPage + 1) + "/" + totalItemPages + "*";
-            GlyphLayout layout = new GlyphLayout(font, pageText);
-            float pageX = arena.x + arena.width - layout.width - PAGE_INDICATOR_PADDING;
-            float pageY = arena.y + PAGE_INDICATOR_PADDING + layout.height;
+            float pageX = arena.x + arena.width - itemPageLabelWidths[currentItemPage] - PAGE_INDICATOR_PADDING;
+            float pageY = arena.y + PAGE_INDICATOR_PADDING + itemPageLabelHeight;
             font.getData().setScale(1.0f);
             font.setColor(Color.LIGHT_GRAY);
-            font.draw(spriteBatch, pageText, pageX, pageY);
+            font.draw(spriteBatch, itemPageLabels[currentItemPage], pageX, pageY);
         }
 
         // If no items available
-        if (combatItems.size == 0) {
+        if (itemMenuEntries.size == 0) {
             String noItemsText = "No items available";
-            GlyphLayout layout = new GlyphLayout(font, noItemsText);
-            float textX = arena.x + (arena.width - layout.width) / 2;
-            float textY = arena.y + (arena.height + layout.height) / 2;
+            menuLayout.setText(font, noItemsText);
+            float textX = arena.x + (arena.width - menuLayout.width) / 2;
+            float textY = arena.y + (arena.height + menuLayout.height) / 2;
             font.setColor(Color.WHITE);
             font.draw(spriteBatch, noItemsText, textX, textY);
         }
@@ -3182,39 +3141,16 @@ public class CombatScene implements Screen {
      * Handles navigation and selection in the item menu.
      */
     private void handleItemMenuInput() {
-        // Get filtered combat items
-        Array<ConsumableItem> allCombatItems = player.getInventory().getCombatItems();
-        Array<ConsumableItem> combatItems = new Array<>();
-
-        // Filter the combat items
-        for (ConsumableItem combatItem : allCombatItems) {
-            boolean itemExists = false;
-            int availableQuantity = 0;
-
-            for (ConsumableItem mainItem : player.getInventory().getConsumableItems()) {
-                if (mainItem.getId().equals(combatItem.getId()) && mainItem.getTier().equals(combatItem.getTier())) {
-                    itemExists = true;
-                    availableQuantity = mainItem.getQuantity();
-                    break;
-                }
-            }
-
-            if (itemExists) {
-                int usedCount = temporaryItemUsage.getOrDefault(combatItem.getId(), 0);
-                if (usedCount < availableQuantity) {
-                    combatItems.add(combatItem);
-                }
-            }
-        }
+        refreshItemMenu();
 
         // Calculate items on current page
         int startIdx = currentItemPage * ITEMS_PER_PAGE;
-        int itemsOnCurrentPage = Math.min(ITEMS_PER_PAGE, combatItems.size - startIdx);
+        int itemsOnCurrentPage = Math.min(ITEMS_PER_PAGE, itemMenuEntries.size - startIdx);
 
         if (itemsOnCurrentPage <= 0) {
             // No items, just handle escape
-            if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE) ||
-                Gdx.input.isKeyJustPressed(Input.Keys.BACKSPACE)) {
+            if (combatInput.isKeyJustPressed(Input.Keys.ESCAPE) ||
+                combatInput.isKeyJustPressed(Input.Keys.BACKSPACE)) {
                 showingItemMenu = false;
                 selectSound.play(0.5f);
             }
@@ -3228,7 +3164,7 @@ public class CombatScene implements Screen {
         }
 
         // Navigate between items
-        if (Gdx.input.isKeyJustPressed(Input.Keys.RIGHT)) {
+        if (combatInput.isKeyJustPressed(Input.Keys.RIGHT)) {
             if (selectedItemIndex % ITEMS_PER_ROW < ITEMS_PER_ROW - 1 &&
                 selectedItemIndex + 1 < itemsOnCurrentPage) {
                 // Normal movement to the right within the page
@@ -3242,7 +3178,7 @@ public class CombatScene implements Screen {
             }
         }
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.LEFT)) {
+        if (combatInput.isKeyJustPressed(Input.Keys.LEFT)) {
             if (selectedItemIndex % ITEMS_PER_ROW > 0) {
                 // Normal movement to the left within the page
                 selectedItemIndex--;
@@ -3252,14 +3188,14 @@ public class CombatScene implements Screen {
                 currentItemPage--;
                 // Calculate items on the previous page
                 int itemsOnPrevPage = Math.min(ITEMS_PER_PAGE,
-                    combatItems.size - (currentItemPage * ITEMS_PER_PAGE));
+                    itemMenuEntries.size - (currentItemPage * ITEMS_PER_PAGE));
                 // Set index to last item on previous page
                 selectedItemIndex = itemsOnPrevPage - 1;
                 selectSound.play(0.5f);
             }
         }
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.DOWN)) {
+        if (combatInput.isKeyJustPressed(Input.Keys.DOWN)) {
             int newIndex = selectedItemIndex + ITEMS_PER_ROW;
             if (newIndex < itemsOnCurrentPage) {
                 selectedItemIndex = newIndex;
@@ -3267,7 +3203,7 @@ public class CombatScene implements Screen {
             }
         }
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.UP)) {
+        if (combatInput.isKeyJustPressed(Input.Keys.UP)) {
             if (selectedItemIndex >= ITEMS_PER_ROW) {
                 selectedItemIndex -= ITEMS_PER_ROW;
                 selectSound.play(0.5f);
@@ -3275,28 +3211,28 @@ public class CombatScene implements Screen {
         }
 
         // Keep PAGE_UP/PAGE_DOWN navigation for accessibility
-        if (Gdx.input.isKeyJustPressed(Input.Keys.PAGE_DOWN) && currentItemPage < totalItemPages - 1) {
+        if (combatInput.isKeyJustPressed(Input.Keys.PAGE_DOWN) && currentItemPage < totalItemPages - 1) {
             currentItemPage++;
             selectedItemIndex = 0;
             selectSound.play(0.5f);
         }
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.PAGE_UP) && currentItemPage > 0) {
+        if (combatInput.isKeyJustPressed(Input.Keys.PAGE_UP) && currentItemPage > 0) {
             currentItemPage--;
             selectedItemIndex = 0;
             selectSound.play(0.5f);
         }
 
         // Select item
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER) ||
-            Gdx.input.isKeyJustPressed(Input.Keys.Z)) {
+        if (combatInput.isKeyJustPressed(Input.Keys.ENTER) ||
+            combatInput.isKeyJustPressed(Input.Keys.Z)) {
             useSelectedItem();
         }
 
         // Cancel
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE) ||
-            Gdx.input.isKeyJustPressed(Input.Keys.BACKSPACE) ||
-            Gdx.input.isKeyJustPressed(Input.Keys.X)) {
+        if (combatInput.isKeyJustPressed(Input.Keys.ESCAPE) ||
+            combatInput.isKeyJustPressed(Input.Keys.BACKSPACE) ||
+            combatInput.isKeyJustPressed(Input.Keys.X)) {
             showingItemMenu = false;
             selectSound.play(0.5f);
         }
@@ -3306,64 +3242,21 @@ public class CombatScene implements Screen {
      * Uses the currently selected item.
      */
     private void useSelectedItem() {
-        // Get the filtered combat items first
-        Array<ConsumableItem> allCombatItems = player.getInventory().getCombatItems();
-        Array<ConsumableItem> combatItems = new Array<>();
-
-        // Filter out items that aren't available
-        for (ConsumableItem combatItem : allCombatItems) {
-            boolean itemExists = false;
-            int availableQuantity = 0;
-
-            for (ConsumableItem mainItem : player.getInventory().getConsumableItems()) {
-                if (mainItem.getId().equals(combatItem.getId()) && mainItem.getTier().equals(combatItem.getTier())) {
-                    itemExists = true;
-                    availableQuantity = mainItem.getQuantity();
-                    break;
-                }
-            }
-
-            if (itemExists) {
-                int usedCount = temporaryItemUsage.getOrDefault(combatItem.getId(), 0);
-                if (usedCount < availableQuantity) {
-                    combatItems.add(combatItem);
-                }
-            }
-        }
+        refreshItemMenu();
 
         // Calculate the actual index based on current page and selection
         int startIdx = currentItemPage * ITEMS_PER_PAGE;
-        int endIdx = Math.min(startIdx + ITEMS_PER_PAGE, combatItems.size);
 
         // Validate selected index
-        if (selectedItemIndex < 0 || startIdx + selectedItemIndex >= combatItems.size) {
+        if (selectedItemIndex < 0 || startIdx + selectedItemIndex >= itemMenuEntries.size) {
             return; // Invalid selection
         }
 
-        // Get the selected item
-        ConsumableItem combatItem = combatItems.get(startIdx + selectedItemIndex);
-
-        // Find corresponding item in main inventory
-        ConsumableItem mainInventoryItem = null;
-        for (ConsumableItem item : player.getInventory().getConsumableItems()) {
-            if (item.getId().equals(combatItem.getId()) && item.getTier().equals(combatItem.getTier())) {
-                mainInventoryItem = item;
-                break;
-            }
-        }
-
-        // If the item no longer exists in the main inventory, don't allow using it
-        if (mainInventoryItem == null) {
-            setDialogueText("You don't have any " + combatItem.getName() + " left!");
-            return;
-        }
-
-        // If we've already used all available of this item in this combat, don't allow using more
-        int usedCount = temporaryItemUsage.getOrDefault(combatItem.getId(), 0);
-        if (usedCount >= mainInventoryItem.getQuantity()) {
-            setDialogueText("You don't have any more " + combatItem.getName() + " to use!");
-            return;
-        }
+        // Get the selected item and its stack in the main inventory
+        // (entries only list items that still have uses left this combat)
+        ItemMenuEntry entry = itemMenuEntries.get(startIdx + selectedItemIndex);
+        ConsumableItem combatItem = entry.combatItem;
+        ConsumableItem mainInventoryItem = entry.inventoryItem;
 
         // Clone the item to avoid modifying the original
         ConsumableItem itemToUse = mainInventoryItem.clone();
@@ -3380,6 +3273,7 @@ public class CombatScene implements Screen {
         // Track temporary item usage
         String itemId = combatItem.getId();
         temporaryItemUsage.put(itemId, temporaryItemUsage.getOrDefault(itemId, 0) + 1);
+        itemMenuDirty = true;
 
         // Based on the item effect, play appropriate sounds and create message
         switch (itemToUse.getEffect()) {
@@ -3523,6 +3417,7 @@ public class CombatScene implements Screen {
 
         // Clear the temporary usage
         temporaryItemUsage.clear();
+        itemMenuDirty = true;
     }
 
     /**
@@ -3655,8 +3550,7 @@ public class CombatScene implements Screen {
         deathDefianceTimer = DEATH_DEFIANCE_DURATION;
 
         // Also set immunity to true for consistent visuals and double protection
-        isImmune = true;
-        immunityTimer = 0;
+        simulation.startImmunity();
 
         // Play sound effect
         deathDefianceSound.play(0.3f); // Increase volume for more impact
@@ -3711,7 +3605,7 @@ public class CombatScene implements Screen {
 
         // Make sure player is visible and not immune after leaving Death Defiance state
         isVisible = true;
-        isImmune = false;
+        simulation.clearImmunity();
 
         // Remove the massive defense buff
         player.removeStatBuff(BuffManager.StatType.DEFENSE, DEATH_DEFIANCE_DEFENSE_BOOST);
@@ -3761,32 +3655,62 @@ public class CombatScene implements Screen {
         spriteBatch.end();
     }
 
-    // Add skill menu rendering method
-    private void renderSkillMenu() {
-        spriteBatch.setProjectionMatrix(camera.combined);
-        spriteBatch.begin();
-
-        // Get player's unlocked skills (excluding BASIC)
-        Player.SkillType[] allSkills = Player.SkillType.values();
-        java.util.List<Player.SkillType> unlockedSkills = new java.util.ArrayList<>();
+    /**
+     * Rebuilds the skill menu rows if the player's unlocked skills changed.
+     * BASIC is excluded since it's used through FIGHT.
+     */
+    private void refreshSkillMenu() {
+        if (skillMenuSkillsVersion == player.getSkillsVersion()) {
+            return;
+        }
 
-        for (Player.SkillType skill : allSkills) {
-            // Skip the BASIC skill
+        skillMenuEntries.clear();
+        for (Player.SkillType skill : Player.SkillType.values()) {
             if (skill != Player.SkillType.BASIC && player.isSkillUnlocked(skill)) {
-                unlockedSkills.add(skill);
+                skillMenuEntries.add(new SkillMenuEntry(skill));
             }
         }
 
-        // Calculate total pages
-        totalSkillPages = (int) Math.ceil((float) unlockedSkills.size() / SKILLS_PER_PAGE);
-        if (totalSkillPages == 0) totalSkillPages = 1;
+        totalSkillPages = Math.max(1, (skillMenuEntries.size + SKILLS_PER_PAGE - 1) / SKILLS_PER_PAGE);
+        skillPageLabels = buildPageLabels(totalSkillPages);
+        skillMenuLabelWidth = -1f;
+        skillMenuSkillsVersion = player.getSkillsVersion();
+    }
+
+    /**
+     * Truncates the skill labels and measures the page labels for the given width.
+     * Expects the font at the skill menu scale.
+     */
+    private void layoutSkillMenu(float maxSkillWidth) {
+        if (skillMenuLabelWidth == maxSkillWidth && skillMenuLabelMP == player.getMP()) {
+            return;
+        }
+
+        for (SkillMenuEntry entry : skillMenuEntries) {
+            String mpText = " (" + player.getSkillMPCost(entry.skill) + " MP)";
+            String skillName = fitMenuLabel("* ", player.getSkillDisplayName(entry.skill), mpText,
+                maxSkillWidth, maxSkillWidth);
+            entry.label = "* " + skillName + mpText;
+        }
+        skillPageLabelWidths = measurePageLabels(skillPageLabels);
+        skillPageLabelHeight = font.getCapHeight();
+        skillMenuLabelWidth = maxSkillWidth;
+        skillMenuLabelMP = player.getMP();
+    }
+
+    // Add skill menu rendering method
+    private void renderSkillMenu() {
+        spriteBatch.setProjectionMatrix(camera.combined);
+        spriteBatch.begin();
+
+        refreshSkillMenu();
 
         // Make sure current page is valid
         currentSkillPage = Math.min(currentSkillPage, totalSkillPages - 1);
 
         // Calculate starting index for current page
         int startIdx = currentSkillPage * SKILLS_PER_PAGE;
-        int endIdx = Math.min(startIdx + SKILLS_PER_PAGE, unlockedSkills.size());
+        int endIdx = Math.min(startIdx + SKILLS_PER_PAGE, skillMenuEntries.size);
         int skillsOnCurrentPage = endIdx - startIdx;
 
         // Ensure selectedSkillIndex is valid for the current page
@@ -3802,71 +3726,44 @@ public class CombatScene implements Screen {
         float skillY = arena.y + arena.height - SKILL_MENU_PADDING;
         float rowHeight = 50f;
         float maxSkillWidth = arena.width - (SKILL_MENU_PADDING * 2);
+        layoutSkillMenu(maxSkillWidth);
 
         // Draw skills in a list
         for (int i = startIdx; i < endIdx; i++) {
-            Player.SkillType skill = unlockedSkills.get(i);
+            SkillMenuEntry entry = skillMenuEntries.get(i);
             int gridPos = i - startIdx;
 
             float x = skillX;
             float y = skillY - gridPos * rowHeight;
 
-            // Calculate MP cost
-            int mpCost = player.getSkillMPCost(skill);
-            String mpText = " (" + mpCost + " MP)";
-            String skillName = player.getSkillDisplayName(skill);
-            String prefix = "* ";
-
-            // Check if skill name will overflow
-            GlyphLayout layout = new GlyphLayout(font, prefix + skillName + mpText);
-            if (layout.width > maxSkillWidth) {
-                // Truncate name to fit
-                int maxChars = 0;
-                for (int j = 1; j <= skillName.length(); j++) {
-                    GlyphLayout testLayout = new GlyphLayout(font, prefix + skillName.substring(0, j) + "..." + mpText);
-                    if (testLayout.width > maxSkillWidth) {
-                        break;
-                    }
-                    maxChars = j;
-                }
-
-                if (maxChars > 0) {
-                    skillName = skillName.substring(0, maxChars) + "...";
-                }
-            }
-
-            // Draw skill with proper spacing
-            String skillText = prefix + skillName + mpText;
             // Set color based on selection and MP availability
             if (gridPos == selectedSkillIndex) {
                 font.setColor(Color.YELLOW); // Selected skill is yellow
             } else if (player.hasFreeSkillCastAvailable()) {
                 font.setColor(Color.CYAN); // Free skill cast available - cyan
-            } else if (player.hasEnoughMPForSkill(skill)) {
+            } else if (player.hasEnoughMPForSkill(entry.skill)) {
                 font.setColor(Color.WHITE); // Normal usable skill is white
             } else {
                 font.setColor(Color.GRAY); // Not enough MP - gray
             }
-            font.draw(spriteBatch, skillText, x, y);
+            font.draw(spriteBatch, entry.label, x, y);
         }
 
         // Draw page indicator at bottom right (if multiple pages)
         if (totalSkillPages > 1) {
-            String pageText = "*PG " + (currentSkillPage + 1) + "/" + totalSkillPages + "*";
-            GlyphLayout layout = new GlyphLayout(font, pageText);
-            float pageX = arena.x + arena.width - layout.width - PAGE_INDICATOR_PADDING;
-            float pageY = arena.y + PAGE_INDICATOR_PADDING + layout.height;
+            float pageX = arena.x + arena.width - skillPageLabelWidths[currentSkillPage] - PAGE_INDICATOR_PADDING;
+            float pageY = arena.y + PAGE_INDICATOR_PADDING + skillPageLabelHeight;
             font.getData().setScale(1.0f);
             font.setColor(Color.LIGHT_GRAY);
-            font.draw(spriteBatch, pageText, pageX, pageY);
+            font.draw(spriteBatch, skillPageLabels[currentSkillPage], pageX, pageY);
         }
 
         // If no skills available
-        if (unlockedSkills.size() == 0) {
+        if (skillMenuEntries.size == 0) {
             String noSkillsText = "No skills available";
-            GlyphLayout layout = new GlyphLayout(font, noSkillsText);
-            float textX = arena.x + (arena.width - layout.width) / 2;
-            float textY = arena.y + (arena.height + layout.height) / 2;
+            menuLayout.setText(font, noSkillsText);
+            float textX = arena.x + (arena.width - menuLayout.width) / 2;
+            float textY = arena.y + (arena.height + menuLayout.height) / 2;
             font.setColor(Color.WHITE);
             font.draw(spriteBatch, noSkillsText, textX, textY);
         }
@@ -3875,26 +3772,62 @@ public class CombatScene implements Screen {
         font.getData().setScale(2.0f);
     }
 
-    // Add skill menu input handling
-    private void handleSkillMenuInput() {
-        // Get unlocked skills (excluding BASIC)
-        Player.SkillType[] allSkills = Player.SkillType.values();
-        java.util.List<Player.SkillType> unlockedSkills = new java.util.ArrayList<>();
+    /**
+     * Builds the "*PG n/total*" indicator for every page of a menu.
+     */
+    private static String[] buildPageLabels(int totalPages) {
+        String[] labels = new String[totalPages];
+        for (int i = 0; i < totalPages; i++) {
+            labels[i] = "*PG " + (i + 1) + "/" + totalPages + "*";
+        }
+        return labels;
+    }
 
-        for (Player.SkillType skill : allSkills) {
-            if (skill != Player.SkillType.BASIC && player.isSkillUnlocked(skill)) {
-                unlockedSkills.add(skill);
+    /**
+     * Measures the widths of page labels at the current font scale.
+     */
+    private float[] measurePageLabels(String[] labels) {
+        float[] widths = new float[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            menuLayout.setText(font, labels[i]);
+            widths[i] = menuLayout.width;
+        }
+        return widths;
+    }
+
+    /**
+     * Shortens a menu name with "..." if prefix + name + suffix is wider than maxWidth.
+     * Keeps as many characters as fit within truncatedWidth, using the font's current scale.
+     */
+    private String fitMenuLabel(String prefix, String name, String suffix, float maxWidth, float truncatedWidth) {
+        menuLayout.setText(font, prefix + name + suffix);
+        if (menuLayout.width <= maxWidth) {
+            return name;
+        }
+
+        int maxChars = 0;
+        for (int j = 1; j <= name.length(); j++) {
+            menuLayout.setText(font, prefix + name.substring(0, j) + "..." + suffix);
+            if (menuLayout.width > truncatedWidth) {
+                break;
             }
+            maxChars = j;
         }
+        return maxChars > 0 ? name.substring(0, maxChars) + "..." : name;
+    }
+
+    // Add skill menu input handling
+    private void handleSkillMenuInput() {
+        refreshSkillMenu();
 
         // Calculate skills on current page
         int startIdx = currentSkillPage * SKILLS_PER_PAGE;
-        int skillsOnCurrentPage = Math.min(SKILLS_PER_PAGE, unlockedSkills.size() - startIdx);
+        int skillsOnCurrentPage = Math.min(SKILLS_PER_PAGE, skillMenuEntries.size - startIdx);
 
         if (skillsOnCurrentPage <= 0) {
             // No skills, just handle escape
-            if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE) ||
-                Gdx.input.isKeyJustPressed(Input.Keys.BACKSPACE)) {
+            if (combatInput.isKeyJustPressed(Input.Keys.ESCAPE) ||
+                combatInput.isKeyJustPressed(Input.Keys.BACKSPACE)) {
                 showingSkillMenu = false;
                 selectSound.play(0.5f);
             }
@@ -3908,7 +3841,7 @@ public class CombatScene implements Screen {
         }
 
         // Navigate between skills - vertical navigation only
-        if (Gdx.input.isKeyJustPressed(Input.Keys.DOWN)) {
+        if (combatInput.isKeyJustPressed(Input.Keys.DOWN)) {
             if (selectedSkillIndex < skillsOnCurrentPage - 1) {
                 // Move down within the page
                 selectedSkillIndex++;
@@ -3921,7 +3854,7 @@ public class CombatScene implements Screen {
             }
         }
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.UP)) {
+        if (combatInput.isKeyJustPressed(Input.Keys.UP)) {
             if (selectedSkillIndex > 0) {
                 // Move up within the page
                 selectedSkillIndex--;
@@ -3931,35 +3864,35 @@ public class CombatScene implements Screen {
                 currentSkillPage--;
                 // Set index to last skill on previous page
                 int skillsOnPrevPage = Math.min(SKILLS_PER_PAGE,
-                    unlockedSkills.size() - (currentSkillPage * SKILLS_PER_PAGE));
+                    skillMenuEntries.size - (currentSkillPage * SKILLS_PER_PAGE));
                 selectedSkillIndex = skillsOnPrevPage - 1;
                 selectSound.play(0.5f);
             }
         }
 
         // Keep PAGE_UP/PAGE_DOWN navigation for accessibility
-        if (Gdx.input.isKeyJustPressed(Input.Keys.PAGE_DOWN) && currentSkillPage < totalSkillPages - 1) {
+        if (combatInput.isKeyJustPressed(Input.Keys.PAGE_DOWN) && currentSkillPage < totalSkillPages - 1) {
             currentSkillPage++;
             selectedSkillIndex = 0;
             selectSound.play(0.5f);
         }
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.PAGE_UP) && currentSkillPage > 0) {
+        if (combatInput.isKeyJustPressed(Input.Keys.PAGE_UP) && currentSkillPage > 0) {
             currentSkillPage--;
             selectedSkillIndex = 0;
             selectSound.play(0.5f);
         }
 
         // Select skill
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER) ||
-            Gdx.input.isKeyJustPressed(Input.Keys.Z)) {
+        if (combatInput.isKeyJustPressed(Input.Keys.ENTER) ||
+            combatInput.isKeyJustPressed(Input.Keys.Z)) {
             useSelectedSkill();
         }
 
         // Cancel
-        if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE) ||
-            Gdx.input.isKeyJustPressed(Input.Keys.BACKSPACE) ||
-            Gdx.input.isKeyJustPressed(Input.Keys.X)) {
+        if (combatInput.isKeyJustPressed(Input.Keys.ESCAPE) ||
+            combatInput.isKeyJustPressed(Input.Keys.BACKSPACE) ||
+            combatInput.isKeyJustPressed(Input.Keys.X)) {
             showingSkillMenu = false;
             selectSound.play(0.5f);
         }
@@ -3967,27 +3900,18 @@ public class CombatScene implements Screen {
 
     // Add method to use the selected skill
     private void useSelectedSkill() {
-        // Get the unlocked skills (excluding BASIC)
-        Player.SkillType[] allSkills = Player.SkillType.values();
-        java.util.List<Player.SkillType> unlockedSkills = new java.util.ArrayList<>();
-
-        for (Player.SkillType skill : allSkills) {
-            if (skill != Player.SkillType.BASIC && player.isSkillUnlocked(skill)) {
-                unlockedSkills.add(skill);
-            }
-        }
+        refreshSkillMenu();
 
         // Calculate the actual index based on current page and selection
         int startIdx = currentSkillPage * SKILLS_PER_PAGE;
-        int endIdx = Math.min(startIdx + SKILLS_PER_PAGE, unlockedSkills.size());
 
         // Validate selected index
-        if (selectedSkillIndex < 0 || startIdx + selectedSkillIndex >= unlockedSkills.size()) {
+        if (selectedSkillIndex < 0 || startIdx + selectedSkillIndex >= skillMenuEntries.size) {
             return; // Invalid selection
         }
 
         // Get the selected skill
-        Player.SkillType selectedSkill = unlockedSkills.get(startIdx + selectedSkillIndex);
+        Player.SkillType selectedSkill = skillMenuEntries.get(startIdx + selectedSkillIndex).skill;
 
         // Set as current skill
         player.setCurrentSkill(selectedSkill);
@@ -4061,15 +3985,15 @@ public class CombatScene implements Screen {
                 if (enemyBackgroundTexture != null) {
                     enemyBackgroundTexture.dispose();
                 }
-                if (blurredBackgroundTexture != null) {
-                    blurredBackgroundTexture.dispose();
-                }
-                if (blurFrameBuffer != null) {
-                    blurFrameBuffer.dispose();
-                }
+                FrameBufferPool.free(blurFrameBuffer);
+                blurFrameBuffer = null;
+                blurredBackgroundTexture = null;
+                backgroundBlurInitialized = false;
 
                 String backgroundPath = currentEnemy.getCombatBackground();
+                Object loadEvent = GameEvents.begin(GameEvents.Kind.ASSET_LOAD);
                 this.enemyBackgroundTexture = new Texture(Gdx.files.internal(backgroundPath));
+                GameEvents.end(loadEvent, backgroundPath, 0);
                 GameLogger.logInfo("Loaded enemy background: " + backgroundPath);
 
                 // Initialize blur effect only if spriteBatch is initialized
@@ -4101,20 +4025,18 @@ public class CombatScene implements Screen {
             }
 
             // Get current viewport dimensions for proper sizing
-            float screenWidth = viewport.getWorldWidth();
-            float screenHeight = viewport.getWorldHeight();
+            int width = (int) viewport.getWorldWidth();
+            int height = (int) viewport.getWorldHeight();
 
-            // Clean up existing resources if they exist
-            if (blurFrameBuffer != null) {
-                blurFrameBuffer.dispose();
-            }
-            if (blurredBackgroundTexture != null) {
-                blurredBackgroundTexture.dispose();
+            // The world size doesn't follow the window, so a resize usually keeps the blur already drawn
+            if (backgroundBlurInitialized && blurFrameBuffer != null
+                && blurFrameBuffer.getWidth() == width && blurFrameBuffer.getHeight() == height) {
+                return;
             }
 
-            // Create a frame buffer at current screen resolution
-            blurFrameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888,
-                (int)screenWidth, (int)screenHeight, false);
+            // Lease a frame buffer at the world resolution
+            FrameBufferPool.free(blurFrameBuffer);
+            blurFrameBuffer = FrameBufferPool.obtain(width, height, Pixmap.Format.RGBA8888);
 
             // Create the blurred texture
             createBlurredBackgroundTexture();
@@ -4178,10 +4100,7 @@ public class CombatScene implements Screen {
         spriteBatch.end();
         blurFrameBuffer.end();
 
-        // Convert the frame buffer to a texture
-        if (blurredBackgroundTexture != null) {
-            blurredBackgroundTexture.dispose();
-        }
+        // The frame buffer's texture is the blurred background, it's freed with the buffer
         blurredBackgroundTexture = blurFrameBuffer.getColorBufferTexture();
 
         // Restore original projection matrix
@@ -4202,6 +4121,58 @@ public class CombatScene implements Screen {
         return new OptionsScreen.GameSettings(); // Return default settings if loading fails
     }
 
+    // =================== Recording & Replay ===================
+
+    /**
+     * Starts recording this fight so it can be replayed. Returns null if the player can't be encoded.
+     */
+    private CombatRecording.Recorder createRecorder(CombatInput source) {
+        try {
+            return new CombatRecording.Recorder(source, CombatRandom.getSeed(),
+                currentEnemy.getClass().getSimpleName(), StageSelectionScreen.getCurrentChallengingStage(),
+                movementSpeed, player.toSaveBytes());
+        } catch (IOException e) {
+            GameLogger.logError("Failed to start combat recording", e);
+            return null;
+        }
+    }
+
+    private void saveRecording() {
+        if (recorder == null) {
+            return;
+        }
+        CombatRecording recording = recorder.finish();
+        if (recording == null) {
+            return;
+        }
+        try {
+            FileHandle file = recording.saveToDirectory();
+            GameLogger.logInfo("Combat recorded to " + file.path() + " (" + recording.getFrameCount()
+                + " frames, seed " + recording.getSeed() + ")");
+        } catch (IOException e) {
+            GameLogger.logError("Failed to save combat recording", e);
+        }
+    }
+
+    private void finishReplay() {
+        if (!replayFinished) {
+            replayFinished = true;
+            Gdx.app.exit();
+        }
+    }
+
+    private void finishAutopilot() {
+        if (autopilot == null) {
+            return;
+        }
+        String outcome = currentEnemy.isDefeated() ? "won" : (player.isDead() ? "lost" : "left the fight");
+        autopilot.logFrameTimes(outcome);
+        autopilot = null;
+        if (AutopilotInput.getStartStage() >= 0) {
+            Gdx.app.exit();
+        }
+    }
+
     // Add these new methods for player state snapshot
 
     /**
@@ -4236,6 +4207,7 @@ public class CombatScene implements Screen {
 
                 // Clear temporary item usage
                 temporaryItemUsage.clear();
+                itemMenuDirty = true;
 
                 // Save the restored state to disk to ensure persistence between screens
                 player.saveToFile();
@@ -4258,9 +4230,7 @@ public class CombatScene implements Screen {
      */
     private void transitionToCreditsScreen() {
         // Stop current music
-        if (backgroundMusic != null) {
-            backgroundMusic.stop();
-        }
+        MusicManager.stop(musicPath);
 
         // Save player data
         player.saveToFile();
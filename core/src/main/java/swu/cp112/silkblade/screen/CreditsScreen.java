@@ -3,7 +3,6 @@ package swu.cp112.silkblade.screen;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
@@ -15,11 +14,14 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.Timer;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 
+import swu.cp112.silkblade.audio.MusicManager;
 import swu.cp112.silkblade.core.Main;
 import swu.cp112.silkblade.screen.transition.ScreenTransition;
 import swu.cp112.silkblade.util.GameLogger;
+import swu.cp112.silkblade.util.SharedTextures;
 
 public class CreditsScreen implements Screen {
     // =================== Constants ===================
@@ -30,6 +32,8 @@ public class CreditsScreen implements Screen {
     private static final float SCROLL_SPEED = 60f;
     private static final float THANK_YOU_DISPLAY_DURATION = 5f;
     private static final float TITLE_SCALE = 0.5f;
+    private static final String MUSIC_PATH = "music/mus_goodbye.mp3";
+    private static final float MUSIC_VOLUME = 0.15f;
 
     // =================== Core Game Objects ===================
     private final Game game;
@@ -58,7 +62,6 @@ public class CreditsScreen implements Screen {
         FADE_OUT_THANK_YOU
     }
 
-    private Music backgroundMusic;
 
     // =================== Typing Effect Variables ===================
     private final String narrativeText = "With the Great Evil defeated \nPeace has returned to Lamphun.";
@@ -89,15 +92,8 @@ public class CreditsScreen implements Screen {
         this.spriteBatch = new SpriteBatch();
         this.font = new BitmapFont(Gdx.files.internal("fonts/DTM.fnt"));
         this.typingSound = Gdx.audio.newSound(Gdx.files.internal("sounds/typing_2.wav"));
-        this.titleTexture = new Texture(Gdx.files.internal("title.png"));
-        String musicPath = "music/mus_goodbye.mp3";
-        try {
-            backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal(musicPath));
-            backgroundMusic.setLooping(true);
-            backgroundMusic.setVolume(.15f);
-        } catch (Exception e) {
-            GameLogger.logError("Error loading music: ", e);
-        }
+        this.titleTexture = SharedTextures.get("title.png");
+        MusicManager.prepare(MUSIC_PATH);
         screenWidth = viewport.getWorldWidth();
         screenHeight = viewport.getWorldHeight();
 
@@ -380,12 +376,12 @@ public class CreditsScreen implements Screen {
     private void transitionToMainMenu() {
         try {
             // Direct transition without white fade
-            backgroundMusic.stop();
-            game.setScreen(new MainMenuScreen(game));
+            MusicManager.stop(MUSIC_PATH);
+            game.setScreen(ScreenManager.obtain(MainMenuScreen.class, game));
         } catch (Exception e) {
             GameLogger.logError("Failed to transition to MainMenuScreen", e);
             // Direct transition if the transition fails
-            game.setScreen(new MainMenuScreen(game));
+            game.setScreen(ScreenManager.obtain(MainMenuScreen.class, game));
         }
     }
 
@@ -425,59 +421,6 @@ public class CreditsScreen implements Screen {
         }
     }
 
-    // Timer implementation
-    private static class Timer {
-        private static Array<Task> tasks = new Array<Task>();
-
-        public static void schedule(Task task, float delaySeconds) {
-            task.delaySeconds = delaySeconds;
-            tasks.add(task);
-
-            // Create a timer thread if none exists
-            if (timerThread == null || !timerThread.isAlive()) {
-                timerThread = new Thread(new Runnable() {
-                    @Override
-                    public void run() {
-                        while (!tasks.isEmpty()) {
-                            try {
-                                Thread.sleep(10); // Check every 10ms
-
-                                for (int i = tasks.size - 1; i >= 0; i--) {
-                                    Task t = tasks.get(i);
-                                    t.delaySeconds -= 0.01f;
-
-                                    if (t.delaySeconds <= 0) {
-                                        final Task currentTask = t;
-                                        tasks.removeIndex(i);
-
-                                        // Execute task on main thread
-                                        Gdx.app.postRunnable(new Runnable() {
-                                            @Override
-                                            public void run() {
-                                                currentTask.run();
-                                            }
-                                        });
-                                    }
-                                }
-                            } catch (InterruptedException e) {
-                                break;
-                            }
-                        }
-                    }
-                });
-                timerThread.setDaemon(true);
-                timerThread.start();
-            }
-        }
-
-        private static Thread timerThread;
-
-        public static abstract class Task {
-            float delaySeconds;
-            public abstract void run();
-        }
-    }
-
     @Override
     public void resize(int width, int height) {
         viewport.update(width, height);
@@ -493,20 +436,14 @@ public class CreditsScreen implements Screen {
         spriteBatch.dispose();
         font.dispose();
         typingSound.dispose();
-        titleTexture.dispose();
-        backgroundMusic.dispose();
     }
 
     @Override public void show() {
-        if(backgroundMusic != null) {
-            backgroundMusic.play();
-        }
+        MusicManager.restart(MUSIC_PATH, MUSIC_VOLUME);
     }
     @Override public void pause() {}
     @Override public void resume() {}
     @Override public void hide() {
-        if (backgroundMusic != null && backgroundMusic.isPlaying()) {
-            backgroundMusic.stop();
-        }
+        MusicManager.stop(MUSIC_PATH);
     }
 }
@@ -0,0 +1,222 @@
+package swu.cp112.silkblade.screen;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import swu.cp112.silkblade.util.GameClock;
+import swu.cp112.silkblade.util.GameLogger;
+
+import java.nio.IntBuffer;
+
+/**
+ * Renders one layer of a screen at a resolution that follows the frame time, for layers whose
+ * cost is fill rate, such as overlapping bullet glow.
+ *
+ * At full scale the layer is drawn straight to the screen. When frames run long, it is drawn
+ * into an offscreen frame buffer at down to {@link #MIN_SCALE} of the viewport's pixels and
+ * stretched back with linear filtering. The scale drops quickly under pressure and only climbs
+ * back after frames have stayed inside the budget for a few seconds, so it doesn't flicker
+ * between sizes.
+ *
+ * Where the driver has GPU timer queries, the scale only drops when the layer itself takes a
+ * real share of the frame, so a frame that is slow on the CPU doesn't blur the bullets for nothing.
+ */
+public class DynamicResolution implements Disposable {
+    private static final float MIN_SCALE = 0.5f;
+    private static final float MAX_SCALE = 1f;
+    private static final float STEP = 0.125f;
+    private static final int WINDOW_FRAMES = 30; // Frames averaged before each decision
+    private static final float DOWN_THRESHOLD = 1.2f; // Average frame time over the budget that lowers the scale
+    private static final float UP_THRESHOLD = 1.05f; // Average frame time under the budget that counts as calm
+    private static final int CALM_WINDOWS = 6; // Calm windows in a row before the scale goes up, about 3 s
+    private static final float LAYER_SHARE = 0.25f; // GPU time of the layer, as a share of the budget, worth scaling
+    private static final long MAX_GAP_NANOS = 250_000_000L; // Longer gaps between frames are pauses, not load
+    private static final int DEFAULT_REFRESH_RATE = 60;
+    private static final int GL_TIME_ELAPSED = 0x88BF; // Not in libGDX's GL30
+    private static final int QUERY_COUNT = 3; // Results are read a couple of frames late so the CPU never waits
+
+    private final String name;
+    private FrameBuffer frameBuffer;
+    private float scale = MAX_SCALE;
+    private boolean scaled;
+    private long budgetNanos;
+
+    private long lastBeginNanos;
+    private long windowNanos;
+    private int windowFrames;
+    private int calmWindows;
+
+    private IntBuffer queries;
+    private int queryIndex;
+    private boolean[] queryPending;
+    private boolean timing;
+    private long layerNanos = -1; // Latest GPU time of the layer, -1 without timer queries
+    private final IntBuffer queryResult = BufferUtils.newIntBuffer(1);
+    private final IntBuffer previousBinding = BufferUtils.newIntBuffer(16);
+
+    /**
+     * @param name what the layer holds, used in the log when its scale changes
+     */
+    public DynamicResolution(String name) {
+        this.name = name;
+        int refreshRate = Gdx.graphics.getDisplayMode().refreshRate;
+        budgetNanos = 1_000_000_000L / (refreshRate > 0 ? refreshRate : DEFAULT_REFRESH_RATE);
+
+        if (Gdx.gl30 != null && Gdx.app.getType() == Application.ApplicationType.Desktop
+            && Gdx.graphics.getGLVersion().isVersionEqualToOrHigher(3, 3)) {
+            queries = BufferUtils.newIntBuffer(QUERY_COUNT);
+            Gdx.gl30.glGenQueries(QUERY_COUNT, queries);
+            queryPending = new boolean[QUERY_COUNT];
+        }
+    }
+
+    /**
+     * Starts the layer. Everything drawn until {@link #end} belongs to it and must be drawn
+     * with the viewport's camera.
+     *
+     * @return whether the layer goes to the offscreen buffer this frame. Blending should then
+     *         also accumulate alpha, since the buffer is drawn over the screen afterwards.
+     */
+    public boolean begin(Viewport viewport) {
+        measureFrame();
+        timing = queries != null && readLayerTime();
+        if (timing) {
+            Gdx.gl30.glBeginQuery(GL_TIME_ELAPSED, queries.get(queryIndex));
+        }
+
+        scaled = scale < MAX_SCALE;
+        if (!scaled) {
+            return false;
+        }
+        int width = Math.max(1, Math.round(viewport.getScreenWidth() * scale));
+        int height = Math.max(1, Math.round(viewport.getScreenHeight() * scale));
+        if (frameBuffer == null || frameBuffer.getWidth() != width || frameBuffer.getHeight() != height) {
+            FrameBufferPool.free(frameBuffer);
+            frameBuffer = FrameBufferPool.obtain(width, height, Pixmap.Format.RGBA8888);
+            frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        }
+
+        // A screen transition may be capturing this screen into its own buffer
+        Gdx.gl.glGetIntegerv(GL20.GL_FRAMEBUFFER_BINDING, previousBinding);
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 0);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        return true;
+    }
+
+    /**
+     * Finishes the layer and, when it was drawn offscreen, draws it over the screen.
+     */
+    public void end(SpriteBatch batch, Viewport viewport) {
+        if (scaled) {
+            frameBuffer.end();
+            Gdx.gl.glBindFramebuffer(GL20.GL_FRAMEBUFFER, previousBinding.get(0));
+            viewport.apply();
+
+            Camera camera = viewport.getCamera();
+            float width = viewport.getWorldWidth();
+            float height = viewport.getWorldHeight();
+            Texture texture = frameBuffer.getColorBufferTexture();
+            batch.setProjectionMatrix(camera.combined);
+            // The buffer holds colors already multiplied by their alpha
+            batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+            batch.begin();
+            batch.draw(texture, camera.position.x - width / 2, camera.position.y - height / 2, width, height,
+                0, 0, texture.getWidth(), texture.getHeight(), false, true);
+            batch.end();
+            batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        }
+        if (timing) {
+            Gdx.gl30.glEndQuery(GL_TIME_ELAPSED);
+            queryPending[queryIndex] = true;
+            queryIndex = (queryIndex + 1) % QUERY_COUNT;
+        }
+    }
+
+    public float getScale() {
+        return scale;
+    }
+
+    private void measureFrame() {
+        if (GameClock.isThrottled()) {
+            // The background frame cap isn't load, drop the partial window
+            lastBeginNanos = 0;
+            windowNanos = 0;
+            windowFrames = 0;
+            return;
+        }
+        long now = System.nanoTime();
+        long frameNanos = now - lastBeginNanos;
+        lastBeginNanos = now;
+        if (frameNanos > MAX_GAP_NANOS) {
+            return;
+        }
+        windowNanos += frameNanos;
+        if (++windowFrames < WINDOW_FRAMES) {
+            return;
+        }
+
+        long average = windowNanos / windowFrames;
+        windowNanos = 0;
+        windowFrames = 0;
+        if (average > budgetNanos * DOWN_THRESHOLD) {
+            calmWindows = 0;
+            if (scale > MIN_SCALE && (layerNanos < 0 || layerNanos > budgetNanos * LAYER_SHARE)) {
+                setScale(scale - STEP);
+            }
+        } else if (average < budgetNanos * UP_THRESHOLD) {
+            if (++calmWindows >= CALM_WINDOWS && scale < MAX_SCALE) {
+                calmWindows = 0;
+                setScale(scale + STEP);
+            }
+        } else {
+            calmWindows = 0;
+        }
+    }
+
+    private void setScale(float value) {
+        scale = Math.max(MIN_SCALE, Math.min(MAX_SCALE, value));
+        // The first frame at a new size pays for the new buffer, don't count it
+        lastBeginNanos = 0;
+        GameLogger.logInfo("Rendering " + name + " at " + Math.round(scale * 100) + "% resolution");
+    }
+
+    /**
+     * Reads the timer query about to be reused, if it was used before.
+     *
+     * @return whether the query is free to time this frame
+     */
+    private boolean readLayerTime() {
+        if (!queryPending[queryIndex]) {
+            return true;
+        }
+        int query = queries.get(queryIndex);
+        Gdx.gl30.glGetQueryObjectuiv(query, GL30.GL_QUERY_RESULT_AVAILABLE, queryResult);
+        if (queryResult.get(0) == 0) {
+            return false; // The GPU is more than a few frames behind, skip timing this frame
+        }
+        Gdx.gl30.glGetQueryObjectuiv(query, GL30.GL_QUERY_RESULT, queryResult);
+        layerNanos = queryResult.get(0) & 0xFFFFFFFFL;
+        queryPending[queryIndex] = false;
+        return true;
+    }
+
+    @Override
+    public void dispose() {
+        FrameBufferPool.free(frameBuffer);
+        frameBuffer = null;
+        if (queries != null) {
+            Gdx.gl30.glDeleteQueries(QUERY_COUNT, queries);
+            queries = null;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package swu.cp112.silkblade.screen;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.utils.Array;
+import swu.cp112.silkblade.util.GameLogger;
+
+/**
+ * Hands out offscreen frame buffers for transitions, the combat background blur and other
+ * post-processing, so a screen change doesn't allocate and free tens of MB of video memory.
+ *
+ * A buffer is leased with {@link #obtain} and given back with {@link #free}. A freed buffer is
+ * kept and handed out again to the next request for the same size and format. Its contents
+ * are whatever the last user left, so clear it before drawing. Its color texture is reset to
+ * nearest filtering and clamped edges, as on a new buffer, so set them again if you need
+ * others. At most {@link #MAX_FREE}
+ * buffers are kept unused, the oldest are disposed first, which drops buffers of a window
+ * size that is no longer in use.
+ */
+public final class FrameBufferPool {
+    private static final int MAX_FREE = 4; // Two transition buffers, the blur and a spare
+
+    private static final Array<FrameBuffer> free = new Array<>(MAX_FREE + 1);
+    private static final Array<FrameBuffer> leased = new Array<>(false, 8);
+
+    private FrameBufferPool() {
+    }
+
+    /**
+     * Leases a frame buffer without a depth attachment.
+     *
+     * @throws IllegalStateException if the driver can't create a buffer of that size
+     */
+    public static FrameBuffer obtain(int width, int height, Pixmap.Format format) {
+        // Newest first, it's the most likely to still be in the GPU's memory
+        for (int i = free.size - 1; i >= 0; i--) {
+            FrameBuffer buffer = free.get(i);
+            if (buffer.getWidth() == width && buffer.getHeight() == height
+                && buffer.getColorBufferTexture().getTextureData().getFormat() == format) {
+                free.removeIndex(i);
+                Texture texture = buffer.getColorBufferTexture();
+                texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+                texture.setWrap(Texture.TextureWrap.ClampToEdge, Texture.TextureWrap.ClampToEdge);
+                leased.add(buffer);
+                return buffer;
+            }
+        }
+        FrameBuffer buffer = new FrameBuffer(format, width, height, false);
+        leased.add(buffer);
+        GameLogger.logInfo("Allocated a " + width + "x" + height + " " + format + " frame buffer, "
+            + (leased.size + free.size) + " in the pool");
+        return buffer;
+    }
+
+    /**
+     * Gives a leased buffer back. Freeing a buffer twice, or one that wasn't leased, does nothing.
+     */
+    public static void free(FrameBuffer buffer) {
+        if (buffer == null || !leased.removeValue(buffer, true)) {
+            return;
+        }
+        free.add(buffer);
+        if (free.size > MAX_FREE) {
+            free.removeIndex(0).dispose();
+        }
+    }
+
+    /**
+     * Disposes every buffer, leased or not. Called when the game exits.
+     */
+    public static void dispose() {
+        for (FrameBuffer buffer : free) {
+            buffer.dispose();
+        }
+        for (FrameBuffer buffer : leased) {
+            buffer.dispose();
+        }
+        free.clear();
+        leased.clear();
+    }
+}
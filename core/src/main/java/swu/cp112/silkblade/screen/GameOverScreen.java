@@ -18,6 +18,7 @@ import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 
 import swu.cp112.silkblade.core.Main;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.enemy.Enemy;
 import swu.cp112.silkblade.entity.enemy.SilkWraith;
 import swu.cp112.silkblade.entity.enemy.SilkWeaver;
@@ -25,6 +26,7 @@ import swu.cp112.silkblade.entity.enemy.SilkCicada;
 import swu.cp112.silkblade.entity.enemy.SpiritOfTheLoom;
 import swu.cp112.silkblade.entity.enemy.HundredSilkOgre;
 import swu.cp112.silkblade.util.GameLogger;
+import swu.cp112.silkblade.util.SharedTextures;
 import swu.cp112.silkblade.screen.transition.ScreenTransition;
 
 /**
@@ -120,7 +122,7 @@ public class GameOverScreen implements Screen {
         font = new BitmapFont(Gdx.files.internal("fonts/DTM.fnt"));
 
         // Load textures and animations
-        heartTexture = new Texture("player.png");
+        heartTexture = SharedTextures.get("player.png");
 
         // Create a white pixel texture for flashing effect
         com.badlogic.gdx.graphics.Pixmap pixmap = new com.badlogic.gdx.graphics.Pixmap(1, 1, com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888);
@@ -453,6 +455,9 @@ public class GameOverScreen implements Screen {
                 // The CombatScene will restore the player from the snapshot taken at combat start
                 swu.cp112.silkblade.entity.combat.Player player = swu.cp112.silkblade.entity.combat.Player.loadFromFile();
 
+                // A retry is a new combat session with its own seed
+                CombatRandom.begin(CombatRandom.newSeed());
+
                 // Create a brand new instance of the same enemy class
                 Enemy freshEnemy;
 
@@ -524,7 +529,7 @@ public class GameOverScreen implements Screen {
                 game.setScreen(new ScreenTransition(
                     game,
                     this,
-                    new StageSelectionScreen(game),
+                    ScreenManager.obtain(StageSelectionScreen.class, game),
                     ScreenTransition.TransitionType.FADE_TO_WHITE
                 ));
             }
@@ -533,7 +538,7 @@ public class GameOverScreen implements Screen {
             game.setScreen(new ScreenTransition(
                 game,
                 this,
-                new StageSelectionScreen(game),
+                ScreenManager.obtain(StageSelectionScreen.class, game),
                 ScreenTransition.TransitionType.FADE_TO_WHITE
             ));
         }
@@ -552,7 +557,7 @@ public class GameOverScreen implements Screen {
         game.setScreen(new ScreenTransition(
             game,
             this,
-            new StageSelectionScreen(game),
+            ScreenManager.obtain(StageSelectionScreen.class, game),
             ScreenTransition.TransitionType.CROSS_FADE
         ));
     }
@@ -600,7 +605,6 @@ public class GameOverScreen implements Screen {
     public void dispose() {
         batch.dispose();
         font.dispose();
-        heartTexture.dispose();
         whiteTexture.dispose();
         explosionAtlas.dispose();
         explosionSound.dispose();
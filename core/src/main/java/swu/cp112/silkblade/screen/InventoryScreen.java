@@ -3,7 +3,6 @@ package swu.cp112.silkblade.screen;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
@@ -25,7 +24,7 @@ import swu.cp112.silkblade.util.GameLogger;
 /**
  * Screen for managing equipment and items.
  */
-public class InventoryScreen implements Screen {
+public class InventoryScreen implements CachedScreen, OnDemandScreen {
     /**
      * Display configuration
      */
@@ -115,8 +114,9 @@ public class InventoryScreen implements Screen {
     private final OrthographicCamera camera;
     private final SpriteBatch batch;
     private final BitmapFont font;
-    private final Player player;
-    private final Inventory inventory;
+    private Player player;
+    private Inventory inventory;
+    private int playerSaveGeneration; // Save generation the player was loaded at
     private final com.badlogic.gdx.graphics.Texture starTexture;
 
     /**
@@ -146,6 +146,7 @@ public class InventoryScreen implements Screen {
     private float statusMessageTimer = 0f;
 
     private float genesisSineTime = 0;
+    private boolean drewAnimatedTier; // Whether the last frame showed a Genesis or End shimmer
 
     // Added to track the item tier for the examine box outline
     private swu.cp112.silkblade.entity.item.ItemTier currentExaminedItemTier = null;
@@ -174,93 +175,68 @@ public class InventoryScreen implements Screen {
         // Initialize ShapeRenderer
         this.shapeRenderer = new com.badlogic.gdx.graphics.glutils.ShapeRenderer();
 
-        // Load player data
-        this.player = Player.loadFromFile();
-        this.inventory = player.getInventory();
+        loadPlayer();
+    }
 
-        // Sort inventory items
+    private void loadPlayer() {
+        player = Player.loadFromFile();
+        inventory = player.getInventory();
+        playerSaveGeneration = Player.getSaveGeneration();
         sortInventoryItems();
     }
 
+    private void savePlayer() {
+        player.saveToFile();
+        playerSaveGeneration = Player.getSaveGeneration(); // Our own save, the player here is already current
+    }
+
     /**
-     * Sort inventory items - first by type (weapon, armor, accessory, consumable),
-     * then by rarity (Genesis to Normal), and finally alphabetically within each tier.
+     * Inventory order: by type (weapon, armor, accessory), then by rarity (highest to lowest),
+     * then alphabetically within each tier.
      */
-    private void sortInventoryItems() {
-        // Create temporary arrays to hold each category
-        Array<Equipment> weapons = new Array<>();
-        Array<Equipment> armors = new Array<>();
-        Array<Equipment> accessories = new Array<>();
-
-        // Categorize equipment by type
-        for (Equipment item : inventory.getInventoryItems()) {
-            switch (item.getType()) {
-                case WEAPON:
-                    weapons.add(item);
-                    break;
-                case ARMOR:
-                    armors.add(item);
-                    break;
-                case ACCESSORY:
-                    accessories.add(item);
-                    break;
+    private static final java.util.Comparator<Equipment> EQUIPMENT_ORDER = new java.util.Comparator<Equipment>() {
+        @Override
+        public int compare(Equipment item1, Equipment item2) {
+            int typeCompare = item1.getType().ordinal() - item2.getType().ordinal();
+            if (typeCompare != 0) {
+                return typeCompare;
             }
-        }
 
-        // Sort each category by rarity (highest to lowest) and then alphabetically
-        sortByRarityAndName(weapons);
-        sortByRarityAndName(armors);
-        sortByRarityAndName(accessories);
-
-        // Clear inventory and add items back in the correct order
-        Array<Equipment> originalItems = new Array<>(inventory.getInventoryItems());
-        inventory.getInventoryItems().clear();
-
-        // Add back in the right order: weapons, armors, accessories
-        inventory.getInventoryItems().addAll(weapons);
-        inventory.getInventoryItems().addAll(armors);
-        inventory.getInventoryItems().addAll(accessories);
+            // Then sort by rarity (highest to lowest)
+            int rarityCompare = item2.getTier().ordinal() - item1.getTier().ordinal();
+            if (rarityCompare != 0) {
+                return rarityCompare;
+            }
 
-        // Sort consumables by rarity and name
-        sortConsumablesByRarityAndName(inventory.getConsumableItems());
-    }
+            // If same rarity, sort alphabetically
+            return item1.getName().compareTo(item2.getName());
+        }
+    };
 
     /**
-     * Sort equipment by rarity (highest to lowest) and then alphabetically by name
+     * Consumable order: by rarity (highest to lowest), then alphabetically.
      */
-    private void sortByRarityAndName(Array<Equipment> items) {
-        items.sort(new java.util.Comparator<Equipment>() {
-            @Override
-            public int compare(Equipment item1, Equipment item2) {
-                // First sort by rarity (highest to lowest)
-                int rarityCompare = item2.getTier().ordinal() - item1.getTier().ordinal();
-                if (rarityCompare != 0) {
-                    return rarityCompare;
-                }
-
-                // If same rarity, sort alphabetically
-                return item1.getName().compareTo(item2.getName());
+    private static final java.util.Comparator<ConsumableItem> CONSUMABLE_ORDER = new java.util.Comparator<ConsumableItem>() {
+        @Override
+        public int compare(ConsumableItem item1, ConsumableItem item2) {
+            // First sort by rarity (highest to lowest)
+            int rarityCompare = item2.getTier().ordinal() - item1.getTier().ordinal();
+            if (rarityCompare != 0) {
+                return rarityCompare;
             }
-        });
-    }
+
+            // If same rarity, sort alphabetically
+            return item1.getName().compareTo(item2.getName());
+        }
+    };
 
     /**
-     * Sort consumables by rarity (highest to lowest) and then alphabetically by name
+     * Sort inventory items - first by type (weapon, armor, accessory, consumable),
+     * then by rarity (Genesis to Normal), and finally alphabetically within each tier.
      */
-    private void sortConsumablesByRarityAndName(Array<ConsumableItem> items) {
-        items.sort(new java.util.Comparator<ConsumableItem>() {
-            @Override
-            public int compare(ConsumableItem item1, ConsumableItem item2) {
-                // First sort by rarity (highest to lowest)
-                int rarityCompare = item2.getTier().ordinal() - item1.getTier().ordinal();
-                if (rarityCompare != 0) {
-                    return rarityCompare;
-                }
-
-                // If same rarity, sort alphabetically
-                return item1.getName().compareTo(item2.getName());
-            }
-        });
+    private void sortInventoryItems() {
+        inventory.getInventoryItems().sort(EQUIPMENT_ORDER);
+        inventory.getConsumableItems().sort(CONSUMABLE_ORDER);
     }
 
     /**
@@ -268,6 +244,8 @@ public class InventoryScreen implements Screen {
      */
     @Override
     public void render(float delta) {
+        drewAnimatedTier = false;
+
         // Update rainbow color animation time for Genesis tier items
         genesisSineTime += delta * 2.0f; // Speed of the rainbow cycle
         if (genesisSineTime > Math.PI * 2) {
@@ -289,6 +267,15 @@ public class InventoryScreen implements Screen {
         }
     }
 
+    @Override
+    public float getNextFrameDelay() {
+        if (drewAnimatedTier) {
+            return EVERY_FRAME;
+        }
+        // Otherwise the screen only changes on input or when the status message clears
+        return statusMessageTimer > 0 ? statusMessageTimer : ON_INPUT;
+    }
+
     private void clearScreen() {
         ScreenUtils.clear(DisplayConfig.BACKGROUND_COLOR);
     }
@@ -824,6 +811,7 @@ public class InventoryScreen implements Screen {
         if (currentExaminedItemTier != null) {
             // Use tier color for the outline
             if (currentExaminedItemTier.isAnimated()) {
+                drewAnimatedTier = true;
                 if (currentExaminedItemTier == swu.cp112.silkblade.entity.item.ItemTier.GENESIS) {
                     // For Genesis tier, create blue-purple galaxy effect
                     float r = (float) Math.abs(Math.sin(genesisSineTime * 0.5f)) * 0.3f + 0.3f; // limited red
@@ -1155,7 +1143,7 @@ public class InventoryScreen implements Screen {
                 inventory.addToInventory(previousItem);
             }
 
-            player.saveToFile();
+            savePlayer();
 
             // Re-sort inventory after changes but try to maintain similar visual position
             updateAfterInventoryChangeWithPosition(currentTopIndex, itemName);
@@ -1239,7 +1227,7 @@ public class InventoryScreen implements Screen {
 
             // Decrease quantity
             inventory.useConsumableItem(item);
-            player.saveToFile();
+            savePlayer();
 
             // Re-sort inventory after changes
             sortInventoryItems();
@@ -1396,7 +1384,7 @@ public class InventoryScreen implements Screen {
             ConsumableItem item = (ConsumableItem) selectedItem;
             if (inventory.toggleCombatSelection(item)) {
                 selectSound.play();
-                player.saveToFile(); // Save changes
+                savePlayer(); // Save changes
             }
         }
     }
@@ -1413,7 +1401,7 @@ public class InventoryScreen implements Screen {
 
         if (inventory.unequipItem(type)) {
             equipSound.play();
-            player.saveToFile();
+            savePlayer();
 
             // Re-sort inventory after changes, and try to select the just-unequipped item
             updateAfterInventoryChangeWithPosition(currentTopIndex, itemName);
@@ -1548,7 +1536,7 @@ public class InventoryScreen implements Screen {
         game.setScreen(new ScreenTransition(
             game,
             this,
-            new MainNavigationScreen(game),
+            ScreenManager.obtain(MainNavigationScreen.class, game),
             ScreenTransition.TransitionType.CROSS_FADE
         ));
     }
@@ -1574,6 +1562,30 @@ public class InventoryScreen implements Screen {
         useSound.dispose();
         shapeRenderer.dispose();
         starTexture.dispose(); // Also dispose the star texture
+        player.dispose();
+    }
+
+    @Override
+    public void onEnter() {
+        inputEnabled = true;
+        // Fights use up consumables and the shop adds items
+        if (playerSaveGeneration != Player.getSaveGeneration()) {
+            player.dispose();
+            loadPlayer();
+            isLeftSide = true;
+            selectedIndexLeft = 0;
+            selectedIndexRight = 0;
+            topItemIndex = 0;
+        }
+    }
+
+    @Override
+    public void onExit() {
+        examiningItem = false;
+        currentExaminedItemTier = null;
+        showDiscardConfirmation = false;
+        confirmationMessage = "";
+        statusMessageTimer = 0f;
     }
 
     @Override
@@ -1595,9 +1607,6 @@ public class InventoryScreen implements Screen {
 
         // Make sure the shared music is playing
         swu.cp112.silkblade.core.Main.resumeBackgroundMusic();
-
-        // Re-sort inventory when showing screen (in case it changed)
-        sortInventoryItems();
     }
 
     // Unused Screen interface methods
@@ -1682,6 +1691,7 @@ public class InventoryScreen implements Screen {
         }
 
         if (tier.isAnimated()) {
+            drewAnimatedTier = true;
             if (tier == swu.cp112.silkblade.entity.item.ItemTier.GENESIS) {
                 // For Genesis tier, create blue-purple galaxy effect
                 float r = (float) Math.abs(Math.sin(genesisSineTime * 0.5f)) * 0.3f + 0.3f; // limited red
@@ -1803,7 +1813,7 @@ public class InventoryScreen implements Screen {
         }
         
         // Save the game to persist the change
-        player.saveToFile();
+        savePlayer();
         
         // May need to adjust selection index if we removed the last item
         if (inventory.getInventoryItems().size + inventory.getConsumableItems().size == 0) {
@@ -3,7 +3,6 @@ package swu.cp112.silkblade.screen;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
@@ -15,11 +14,12 @@ import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import swu.cp112.silkblade.screen.transition.ScreenTransition;
 import swu.cp112.silkblade.core.Main;
+import swu.cp112.silkblade.util.SharedTextures;
 
 /**
  * Handles the main menu screen of the game, including navigation and rendering.
  */
-public class MainMenuScreen implements Screen {
+public class MainMenuScreen implements CachedScreen, OnDemandScreen {
     /**
      * Display configuration
      */
@@ -87,7 +87,7 @@ public class MainMenuScreen implements Screen {
 
         this.batch = initializeGraphics();
         this.font = initializeFont();
-        this.titleTexture = new Texture(Gdx.files.internal(AssetConfig.TITLE_IMAGE_PATH));
+        this.titleTexture = SharedTextures.get(AssetConfig.TITLE_IMAGE_PATH);
 
         this.selectSound = initializeSound();
         // Keep for future reference but comment out
@@ -132,6 +132,11 @@ public class MainMenuScreen implements Screen {
         }
     }
 
+    @Override
+    public float getNextFrameDelay() {
+        return ON_INPUT; // The menu only changes when a key is pressed
+    }
+
     private void clearScreen() {
         ScreenUtils.clear(DisplayConfig.BACKGROUND_COLOR);
     }
@@ -254,12 +259,17 @@ public class MainMenuScreen implements Screen {
     public void dispose() {
         batch.dispose();
         font.dispose();
-        titleTexture.dispose();
         // Keep for future reference but comment out
         // music.dispose();
         selectSound.dispose();
     }
 
+    @Override
+    public void onEnter() {
+        inputEnabled = true;
+        selectedIndex = -1;
+    }
+
     @Override
     public void hide() {
         // Keep for future reference but comment out
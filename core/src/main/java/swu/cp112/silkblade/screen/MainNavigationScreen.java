@@ -3,7 +3,6 @@ package swu.cp112.silkblade.screen;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
@@ -20,7 +19,7 @@ import swu.cp112.silkblade.util.GameLogger;
 /**
  * Main navigation screen to choose where to go next.
  */
-public class MainNavigationScreen implements Screen {
+public class MainNavigationScreen implements CachedScreen, OnDemandScreen {
     /**
      * Display configuration
      */
@@ -72,7 +71,8 @@ public class MainNavigationScreen implements Screen {
     private final OrthographicCamera camera;
     private final SpriteBatch batch;
     private final BitmapFont font;
-    private final Player player;
+    private Player player;
+    private int playerSaveGeneration; // Save generation the player was loaded at
 
     /**
      * Audio components
@@ -103,8 +103,12 @@ public class MainNavigationScreen implements Screen {
         // this.music.setLooping(true);
         // this.music.setVolume(AudioConfig.MUSIC_VOLUME);
 
-        // Load player data
-        this.player = Player.loadFromFile();
+        loadPlayer();
+    }
+
+    private void loadPlayer() {
+        player = Player.loadFromFile();
+        playerSaveGeneration = Player.getSaveGeneration();
     }
 
     /**
@@ -119,6 +123,11 @@ public class MainNavigationScreen implements Screen {
         }
     }
 
+    @Override
+    public float getNextFrameDelay() {
+        return ON_INPUT; // Static until the player picks something
+    }
+
     private void clearScreen() {
         ScreenUtils.clear(DisplayConfig.BACKGROUND_COLOR);
     }
@@ -205,7 +214,7 @@ public class MainNavigationScreen implements Screen {
         game.setScreen(new ScreenTransition(
             game,
             this,
-            new StageSelectionScreen(game),
+            ScreenManager.obtain(StageSelectionScreen.class, game),
             ScreenTransition.TransitionType.CROSS_FADE
         ));
     }
@@ -214,7 +223,7 @@ public class MainNavigationScreen implements Screen {
         game.setScreen(new ScreenTransition(
             game,
             this,
-            new InventoryScreen(game),
+            ScreenManager.obtain(InventoryScreen.class, game),
             ScreenTransition.TransitionType.CROSS_FADE
         ));
     }
@@ -223,7 +232,7 @@ public class MainNavigationScreen implements Screen {
         game.setScreen(new ScreenTransition(
             game,
             this,
-            new ShopScreen(game),
+            ScreenManager.obtain(ShopScreen.class, game),
             ScreenTransition.TransitionType.CROSS_FADE
         ));
     }
@@ -254,6 +263,17 @@ public class MainNavigationScreen implements Screen {
         // Keep for future reference but comment out
         // music.dispose();
         selectSound.dispose();
+        player.dispose();
+    }
+
+    @Override
+    public void onEnter() {
+        inputEnabled = true;
+        // Shops, fights and new saves all change the player while this screen is away
+        if (playerSaveGeneration != Player.getSaveGeneration()) {
+            player.dispose();
+            loadPlayer();
+        }
     }
 
     @Override
@@ -0,0 +1,28 @@
+package swu.cp112.silkblade.screen;
+
+/**
+ * A screen that only needs to be drawn again when something on it changes.
+ *
+ * While one is showing, the game stops rendering continuously. It draws a frame on input, or
+ * when the screen's next animation step is due, so an idle menu uses almost no CPU or GPU.
+ * Screens that don't implement this are drawn every frame.
+ */
+public interface OnDemandScreen {
+    /**
+     * Returned by {@link #getNextFrameDelay()} while the screen animates every frame.
+     */
+    float EVERY_FRAME = 0f;
+
+    /**
+     * Returned by {@link #getNextFrameDelay()} when only input changes the screen.
+     */
+    float ON_INPUT = -1f;
+
+    /**
+     * Gets how long the screen can go without a new frame if there's no input.
+     * Called after every frame.
+     *
+     * @return seconds until the screen changes on its own, {@link #EVERY_FRAME} or {@link #ON_INPUT}
+     */
+    float getNextFrameDelay();
+}
@@ -17,12 +17,13 @@ import com.badlogic.gdx.utils.JsonWriter;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import swu.cp112.silkblade.core.Main;
+import swu.cp112.silkblade.entity.combat.QualityGovernor;
 import swu.cp112.silkblade.screen.transition.ScreenTransition;
 
 /**
  * Options screen for game settings like resolution and fullscreen toggle.
  */
-public class OptionsScreen implements Screen {
+public class OptionsScreen implements Screen, OnDemandScreen {
 
     /**
      * Represents a screen resolution option
@@ -51,6 +52,7 @@ public class OptionsScreen implements Screen {
         public int resolutionIndex = 2; // Default to 1280x720
         public boolean fullscreen = false;
         public float playerMovementSpeed = 300f; // Default movement speed
+        public QualityGovernor.Mode bulletQuality = QualityGovernor.Mode.AUTO;
         
         // Default constructor needed for JSON serialization
         public GameSettings() {}
@@ -107,6 +109,7 @@ public class OptionsScreen implements Screen {
             "Resolution",
             "Fullscreen",
             "Movement Speed",
+            "Bullet Effects",
             "Back"
         };
         public static final String OPTIONS_FILE = "options.json";
@@ -241,6 +244,8 @@ public class OptionsScreen implements Screen {
         if (settings.fullscreen) {
             Gdx.graphics.setFullscreenMode(Gdx.graphics.getDisplayMode());
         }
+
+        QualityGovernor.setMode(settings.bulletQuality);
     }
 
     /**
@@ -261,6 +266,11 @@ public class OptionsScreen implements Screen {
         }
     }
 
+    @Override
+    public float getNextFrameDelay() {
+        return ON_INPUT; // Options only change on input
+    }
+
     private void clearScreen() {
         ScreenUtils.clear(DisplayConfig.BACKGROUND_COLOR);
     }
@@ -320,8 +330,11 @@ public class OptionsScreen implements Screen {
                 
             case 2: // Movement Speed
                 return String.format("%.1f", settings.playerMovementSpeed);
-                
-            case 3: // Back
+
+            case 3: // Bullet Effects
+                return settings.bulletQuality.name();
+
+            case 4: // Back
                 return "";
                 
             default:
@@ -373,9 +386,10 @@ public class OptionsScreen implements Screen {
                 changing = true;
                 break;
             case 2: // Movement Speed
+            case 3: // Bullet Effects
                 changing = true;
                 break;
-            case 3: // Back
+            case 4: // Back
                 saveSettings();
                 returnToMainMenu();
                 break;
@@ -426,6 +440,12 @@ public class OptionsScreen implements Screen {
                     500f
                 );
                 return oldSpeed != settings.playerMovementSpeed;
+
+            case 3: // Bullet Effects
+                QualityGovernor.Mode[] modes = QualityGovernor.Mode.values();
+                int modeIndex = (settings.bulletQuality.ordinal() + direction + modes.length) % modes.length;
+                settings.bulletQuality = modes[modeIndex];
+                return true;
                 
             default:
                 return false;
@@ -437,7 +457,7 @@ public class OptionsScreen implements Screen {
         game.setScreen(new ScreenTransition(
             game,
             this,
-            new MainMenuScreen(game),
+            ScreenManager.obtain(MainMenuScreen.class, game),
             ScreenTransition.TransitionType.CROSS_FADE
         ));
     }
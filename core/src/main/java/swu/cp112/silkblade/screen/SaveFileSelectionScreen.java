@@ -12,7 +12,6 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import swu.cp112.silkblade.core.Main;
@@ -27,7 +26,7 @@ import java.util.Comparator;
 /**
  * Handles the save file selection screen of the game.
  */
-public class SaveFileSelectionScreen implements Screen {
+public class SaveFileSelectionScreen implements Screen, OnDemandScreen {
     /**
      * Display configuration
      */
@@ -182,8 +181,15 @@ public class SaveFileSelectionScreen implements Screen {
             return;
         }
 
-        // Get all JSON files in the save folder
-        FileHandle[] files = saveDir.list(".json");
+        // Get all binary saves plus legacy JSON saves that have not been migrated yet
+        FileHandle[] files = saveDir.list(file -> {
+            String name = file.getName();
+            if (name.endsWith(".sav")) {
+                return true;
+            }
+            return name.endsWith(".json") && !new File(file.getParentFile(),
+                name.substring(0, name.length() - ".json".length()) + ".sav").exists();
+        });
         if (files != null && files.length > 0) {
             // Sort by last modified time (newest first)
             Arrays.sort(files, Comparator.comparing(FileHandle::lastModified).reversed());
@@ -191,8 +197,7 @@ public class SaveFileSelectionScreen implements Screen {
             for (FileHandle file : files) {
                 try {
                     // Load player data from file
-                    Json json = new Json();
-                    Player playerData = json.fromJson(Player.class, file.readString());
+                    Player playerData = Player.readSaveFile(file);
 
                     String fileName = file.nameWithoutExtension();
 
@@ -240,6 +245,11 @@ public class SaveFileSelectionScreen implements Screen {
         }
     }
 
+    @Override
+    public float getNextFrameDelay() {
+        return ON_INPUT; // The save list only changes on input
+    }
+
     private void clearScreen() {
         ScreenUtils.clear(DisplayConfig.BACKGROUND_COLOR);
     }
@@ -366,7 +376,7 @@ public class SaveFileSelectionScreen implements Screen {
             game.setScreen(new ScreenTransition(
                 game,
                 this,
-                new MainMenuScreen(game),
+                ScreenManager.obtain(MainMenuScreen.class, game),
                 ScreenTransition.TransitionType.CROSS_FADE
             ));
         }
@@ -406,7 +416,10 @@ public class SaveFileSelectionScreen implements Screen {
 
     private void loadSaveFile(String fileName) {
         try {
-            FileHandle file = Gdx.files.local(saveFolderPath + "/" + fileName + ".json");
+            FileHandle file = Gdx.files.local(saveFolderPath + "/" + fileName + ".sav");
+            if (!file.exists()) {
+                file = Gdx.files.local(saveFolderPath + "/" + fileName + ".json");
+            }
             if (file.exists()) {
                 // Load the save file data
                 GameLogger.logInfo("Loading save file: " + fileName);
@@ -416,7 +429,7 @@ public class SaveFileSelectionScreen implements Screen {
                 game.setScreen(new ScreenTransition(
                     game,
                     this,
-                    new MainNavigationScreen(game),
+                    ScreenManager.obtain(MainNavigationScreen.class, game),
                     ScreenTransition.TransitionType.CROSS_FADE
                 ));
             }
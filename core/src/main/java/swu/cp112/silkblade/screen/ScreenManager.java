@@ -2,14 +2,21 @@ package swu.cp112.silkblade.screen;
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.utils.ObjectMap;
 import swu.cp112.silkblade.core.Main;
+import swu.cp112.silkblade.util.GameLogger;
 
 /**
  * Utility class to manage screens and get the current active screen.
+ *
+ * Also keeps the hub screens the player bounces between, the main menu, navigation, stage
+ * selection, inventory and shop, alive for the whole session. {@link #obtain} hands out the
+ * one instance of each and calls its {@link CachedScreen#onEnter} hook.
  */
 public class ScreenManager {
     
     private static Screen currentScreen;
+    private static final ObjectMap<Class<? extends CachedScreen>, CachedScreen> cachedScreens = new ObjectMap<>();
     
     /**
      * Set the current screen
@@ -33,4 +40,56 @@ public class ScreenManager {
         }
         return currentScreen;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Gets the session's instance of a hub screen, building it the first time, and gets it
+     * ready to be entered. Pass the result to a transition or to {@code game.setScreen}.
+     */
+    public static <T extends CachedScreen> T obtain(Class<T> type, Game game) {
+        CachedScreen screen = cachedScreens.get(type);
+        if (screen == null) {
+            screen = create(type, game);
+            cachedScreens.put(type, screen);
+        }
+        screen.onEnter();
+        return type.cast(screen);
+    }
+
+    private static CachedScreen create(Class<? extends CachedScreen> type, Game game) {
+        if (type == MainMenuScreen.class) {
+            return new MainMenuScreen(game);
+        } else if (type == MainNavigationScreen.class) {
+            return new MainNavigationScreen(game);
+        } else if (type == StageSelectionScreen.class) {
+            return new StageSelectionScreen(game);
+        } else if (type == InventoryScreen.class) {
+            return new InventoryScreen(game);
+        } else if (type == ShopScreen.class) {
+            return new ShopScreen(game);
+        }
+        throw new IllegalArgumentException("Not a cached screen: " + type.getSimpleName());
+    }
+
+    /**
+     * Tells a cached screen it has been left. Called by the game whenever the screen changes.
+     */
+    public static void screenChanged(Screen previous, Screen next) {
+        if (previous instanceof CachedScreen && previous != next) {
+            ((CachedScreen) previous).onExit();
+        }
+    }
+
+    /**
+     * Disposes every cached screen. Called when the game exits.
+     */
+    public static void dispose() {
+        for (CachedScreen screen : cachedScreens.values()) {
+            try {
+                screen.dispose();
+            } catch (Exception e) {
+                GameLogger.logError("Failed to dispose " + screen.getClass().getSimpleName(), e);
+            }
+        }
+        cachedScreens.clear();
+    }
+}
@@ -3,7 +3,6 @@ package swu.cp112.silkblade.screen;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
@@ -26,7 +25,7 @@ import swu.cp112.silkblade.util.GameLogger;
 /**
  * Screen for buying items and equipment.
  */
-public class ShopScreen implements Screen {
+public class ShopScreen implements CachedScreen, OnDemandScreen {
 
     /**
      * A shop item contains item data plus a price
@@ -201,8 +200,9 @@ public class ShopScreen implements Screen {
     private final OrthographicCamera camera;
     private final SpriteBatch batch;
     private final BitmapFont font;
-    private final Player player;
-    private final Inventory inventory;
+    private Player player;
+    private Inventory inventory;
+    private int playerSaveGeneration; // Save generation the player was loaded at
     private final ItemDatabase itemDB;
 
     /**
@@ -226,6 +226,7 @@ public class ShopScreen implements Screen {
     private final com.badlogic.gdx.graphics.glutils.ShapeRenderer shapeRenderer;
 
     private float genesisSineTime = 0;
+    private boolean drewAnimatedTier; // Whether the last frame showed a Genesis or End shimmer
 
     // Added to track the item tier for the examine box outline
     private ItemTier currentExaminedItemTier = null;
@@ -253,23 +254,25 @@ public class ShopScreen implements Screen {
         // Initialize ShapeRenderer
         this.shapeRenderer = new com.badlogic.gdx.graphics.glutils.ShapeRenderer();
 
-        // Load player data
-        this.player = Player.loadFromFile();
-        this.inventory = player.getInventory();
+        loadPlayer();
         this.itemDB = ItemDatabase.getInstance();
 
         // Initialize shop items
         initializeShopItems();
     }
 
+    private void loadPlayer() {
+        player = Player.loadFromFile();
+        inventory = player.getInventory();
+        playerSaveGeneration = Player.getSaveGeneration();
+    }
+
     /**
-     * Initialize shop items
+     * Initialize shop items.
+     * The database views are already sorted by tier (lowest to highest) and then
+     * alphabetically, so items only need to be filtered into their categories.
      */
     private void initializeShopItems() {
-        // Get all items from the database
-        Array<Equipment> allEquipment = itemDB.getAllEquipment();
-        Array<ConsumableItem> allConsumables = itemDB.getAllConsumables();
-
         // Starter items that should be excluded
         String[] starterItems = {
             "WEAPON_SOFT_LAMPHUN_SILK",
@@ -277,54 +280,14 @@ public class ShopScreen implements Screen {
             "ACCESSORY_SPIRIT_CHARM"
         };
 
-        // Process all equipment
-        for (Equipment equipment : allEquipment) {
-            // Skip starter items
-            boolean isStarter = false;
-            for (String starterId : starterItems) {
-                if (equipment.getId().equals(starterId)) {
-                    isStarter = true;
-                    break;
-                }
-            }
-            if (isStarter) continue;
-
-            // Assign price based on tier and type
-            int price = calculateItemPrice(equipment);
-
-            // Determine boss requirements based on tier
-            boolean requiresBoss1 = equipment.getTier().ordinal() >= ItemTier.RARE.ordinal();
-            boolean requiresBoss2 = equipment.getTier().ordinal() >= ItemTier.HEROIC.ordinal();
-            boolean requiresBoss3 = equipment.getTier().ordinal() >= ItemTier.LEGENDARY.ordinal();
-            boolean requiresBoss4 = equipment.getTier().ordinal() >= ItemTier.GENESIS.ordinal();
-            boolean requiresBoss5 = equipment.getTier() == ItemTier.END;
-
-            // Add to appropriate category
-            ShopItem shopItem = new ShopItem(equipment, price, requiresBoss1, requiresBoss2, requiresBoss3, requiresBoss4, requiresBoss5);
-            switch(equipment.getType()) {
-                case WEAPON:
-                    weaponItems.add(shopItem);
-                    break;
-                case ARMOR:
-                    armorItems.add(shopItem);
-                    break;
-                case ACCESSORY:
-                    accessoryItems.add(shopItem);
-                    break;
-            }
-        }
+        addEquipmentItems(weaponItems, itemDB.getEquipmentByType(Equipment.EquipmentType.WEAPON), starterItems);
+        addEquipmentItems(armorItems, itemDB.getEquipmentByType(Equipment.EquipmentType.ARMOR), starterItems);
+        addEquipmentItems(accessoryItems, itemDB.getEquipmentByType(Equipment.EquipmentType.ACCESSORY), starterItems);
 
         // Process all consumables
-        for (ConsumableItem consumable : allConsumables) {
+        for (ConsumableItem consumable : itemDB.getSortedConsumables()) {
             // Skip starter items
-            boolean isStarter = false;
-            for (String starterId : starterItems) {
-                if (consumable.getId().equals(starterId)) {
-                    isStarter = true;
-                    break;
-                }
-            }
-            if (isStarter) continue;
+            if (isStarterItem(consumable.getId(), starterItems)) continue;
 
             // Assign price based on tier and effect
             int price = calculateItemPrice(consumable);
@@ -339,31 +302,37 @@ public class ShopScreen implements Screen {
             // Add to consumable category
             consumableItems.add(new ShopItem(consumable, price, requiresBoss1, requiresBoss2, requiresBoss3, requiresBoss4, requiresBoss5));
         }
-
-        // Sort items by tier (lowest to highest) in each category
-        sortItemsByTier(weaponItems);
-        sortItemsByTier(armorItems);
-        sortItemsByTier(accessoryItems);
-        sortItemsByTier(consumableItems);
     }
 
     /**
-     * Sort shop items by tier (normal to genesis) and then alphabetically by name
+     * Adds the non-starter equipment of one category, keeping the database order
      */
-    private void sortItemsByTier(Array<ShopItem> items) {
-        items.sort(new java.util.Comparator<ShopItem>() {
-            @Override
-            public int compare(ShopItem item1, ShopItem item2) {
-                // First sort by rarity (lowest to highest)
-                int rarityCompare = item1.getTier().ordinal() - item2.getTier().ordinal();
-                if (rarityCompare != 0) {
-                    return rarityCompare;
-                }
+    private void addEquipmentItems(Array<ShopItem> category, java.util.List<Equipment> equipmentList, String[] starterItems) {
+        for (Equipment equipment : equipmentList) {
+            // Skip starter items
+            if (isStarterItem(equipment.getId(), starterItems)) continue;
+
+            // Assign price based on tier and type
+            int price = calculateItemPrice(equipment);
+
+            // Determine boss requirements based on tier
+            boolean requiresBoss1 = equipment.getTier().ordinal() >= ItemTier.RARE.ordinal();
+            boolean requiresBoss2 = equipment.getTier().ordinal() >= ItemTier.HEROIC.ordinal();
+            boolean requiresBoss3 = equipment.getTier().ordinal() >= ItemTier.LEGENDARY.ordinal();
+            boolean requiresBoss4 = equipment.getTier().ordinal() >= ItemTier.GENESIS.ordinal();
+            boolean requiresBoss5 = equipment.getTier() == ItemTier.END;
+
+            category.add(new ShopItem(equipment, price, requiresBoss1, requiresBoss2, requiresBoss3, requiresBoss4, requiresBoss5));
+        }
+    }
 
-                // If same rarity, sort alphabetically
-                return item1.getName().compareTo(item2.getName());
+    private boolean isStarterItem(String id, String[] starterItems) {
+        for (String starterId : starterItems) {
+            if (id.equals(starterId)) {
+                return true;
             }
-        });
+        }
+        return false;
     }
 
     /**
@@ -482,6 +451,8 @@ public class ShopScreen implements Screen {
      */
     @Override
     public void render(float delta) {
+        drewAnimatedTier = false;
+
         // Update rainbow color animation time for Genesis tier items
         genesisSineTime += delta * 2.0f; // Speed of the rainbow cycle
         if (genesisSineTime > Math.PI * 2) {
@@ -503,6 +474,15 @@ public class ShopScreen implements Screen {
         }
     }
 
+    @Override
+    public float getNextFrameDelay() {
+        if (drewAnimatedTier) {
+            return EVERY_FRAME;
+        }
+        // Otherwise the screen only changes on input or when the status message clears
+        return statusMessageTimer > 0 ? statusMessageTimer : ON_INPUT;
+    }
+
     private void clearScreen() {
         ScreenUtils.clear(DisplayConfig.BACKGROUND_COLOR);
     }
@@ -1011,6 +991,7 @@ public class ShopScreen implements Screen {
         if (currentExaminedItemTier != null) {
             // Use tier color for the outline
             if (currentExaminedItemTier.isAnimated()) {
+                drewAnimatedTier = true;
                 if (currentExaminedItemTier == ItemTier.GENESIS) {
                     // For Genesis tier, create blue-purple galaxy effect
                     float r = (float) Math.abs(Math.sin(genesisSineTime * 0.5f)) * 0.3f + 0.3f; // limited red
@@ -1206,7 +1187,8 @@ public class ShopScreen implements Screen {
         boolean added = false;
 
         if (selectedItem.getItem() instanceof Equipment) {
-            Equipment equipment = (Equipment) selectedItem.getItem();
+            // Shop items are shared database templates, so store a copy
+            Equipment equipment = ((Equipment) selectedItem.getItem()).clone();
             added = inventory.addToInventory(equipment);
 
             if (!added) {
@@ -1216,7 +1198,8 @@ public class ShopScreen implements Screen {
                 return;
             }
         } else if (selectedItem.getItem() instanceof ConsumableItem) {
-            ConsumableItem consumable = (ConsumableItem) selectedItem.getItem();
+            // Shop items are shared database templates, so store a copy
+            ConsumableItem consumable = ((ConsumableItem) selectedItem.getItem()).clone();
 
             // Check if the player already has this consumable to stack it
             boolean hasExisting = false;
@@ -1253,6 +1236,7 @@ public class ShopScreen implements Screen {
 
         // Save player data
         player.saveToFile();
+        playerSaveGeneration = Player.getSaveGeneration(); // Our own save, the player here is already current
 
         // Show success message
         statusMessage = MenuConfig.ITEM_PURCHASED;
@@ -1382,7 +1366,7 @@ public class ShopScreen implements Screen {
         game.setScreen(new ScreenTransition(
             game,
             this,
-            new MainNavigationScreen(game),
+            ScreenManager.obtain(MainNavigationScreen.class, game),
             ScreenTransition.TransitionType.CROSS_FADE
         ));
     }
@@ -1402,6 +1386,7 @@ public class ShopScreen implements Screen {
         }
 
         if (tier.isAnimated()) {
+            drewAnimatedTier = true;
             if (tier == ItemTier.GENESIS) {
                 // For Genesis tier, create blue-purple galaxy effect
                 float r = (float) Math.abs(Math.sin(genesisSineTime * 0.5f)) * 0.3f + 0.3f; // limited red
@@ -1468,6 +1453,25 @@ public class ShopScreen implements Screen {
         buySound.dispose();
         errorSound.dispose();
         shapeRenderer.dispose();
+        player.dispose();
+    }
+
+    @Override
+    public void onEnter() {
+        inputEnabled = true;
+        // Gold and boss unlocks change in fights, the inventory when items are used or sold
+        if (playerSaveGeneration != Player.getSaveGeneration()) {
+            player.dispose();
+            loadPlayer();
+        }
+    }
+
+    @Override
+    public void onExit() {
+        examiningItem = false;
+        currentExaminedItemTier = null;
+        statusMessage = "";
+        statusMessageTimer = 0;
     }
 
     @Override
@@ -3,7 +3,6 @@ package swu.cp112.silkblade.screen;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
@@ -14,6 +13,7 @@ import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import swu.cp112.silkblade.core.Main;
+import swu.cp112.silkblade.entity.combat.CombatRandom;
 import swu.cp112.silkblade.entity.combat.Player;
 import swu.cp112.silkblade.entity.enemy.*;
 import swu.cp112.silkblade.entity.enemy.silkgod.DemoEnemy;
@@ -23,7 +23,7 @@ import swu.cp112.silkblade.util.GameLogger;
 /**
  * Screen for selecting a game stage to play.
  */
-public class StageSelectionScreen implements Screen {
+public class StageSelectionScreen implements CachedScreen {
     /**
      * Display configuration
      */
@@ -84,7 +84,8 @@ public class StageSelectionScreen implements Screen {
     private final OrthographicCamera camera;
     private final SpriteBatch batch;
     private final BitmapFont font;
-    private final Player player;
+    private Player player;
+    private int playerSaveGeneration; // Save generation the player was loaded at
 
     /**
      * Audio components
@@ -136,8 +137,12 @@ public class StageSelectionScreen implements Screen {
         // Keep for future reference but comment out
         // this.music = initializeMusic();
 
-        // Load player data
-        this.player = Player.loadFromFile();
+        loadPlayer();
+    }
+
+    private void loadPlayer() {
+        player = Player.loadFromFile();
+        playerSaveGeneration = Player.getSaveGeneration();
         unlockedStages = player.getCurrentStage();
     }
 
@@ -399,7 +404,7 @@ public class StageSelectionScreen implements Screen {
             game.setScreen(new ScreenTransition(
                 game,
                 this,
-                new MainNavigationScreen(game),
+                ScreenManager.obtain(MainNavigationScreen.class, game),
                 ScreenTransition.TransitionType.CROSS_FADE
             ));
         }
@@ -413,122 +418,23 @@ public class StageSelectionScreen implements Screen {
         // We need to set the challenging stage for patterns to access it
         currentChallengingStage = stageNumber;
 
+        // Seed the session before the enemy is created, it picks its first pattern in the constructor
+        CombatRandom.begin(CombatRandom.newSeed());
+
+        Enemy enemy;
         if (shouldEncounterSecretBoss(stageNumber)) {
             GameLogger.logInfo("Player encountered the secret boss instead of normal enemy!");
-            game.setScreen(new ScreenTransition(
-                game,
-                this,
-                new CombatScene(game, new DemoEnemy()),
-                ScreenTransition.TransitionType.FADE_TO_WHITE
-            ));
-        // Use SilkWraith for stages 1-9
-        } else if (stageNumber >= 1 && stageNumber <= 9) {
-            // Create a SilkWraith with the appropriate stage number
-            SilkWraith wraith = new SilkWraith(stageNumber);
-            game.setScreen(new ScreenTransition(
-                game,
-                this,
-                new CombatScene(game, wraith),
-                ScreenTransition.TransitionType.FADE_TO_WHITE
-            ));
-        // Use SilkGuardian for stage 10 (boss stage)
-        } else if (stageNumber == 10) {
-            // Create the stage 10 boss - Silk Guardian
-            SilkGuardian guardian = new SilkGuardian();
-            game.setScreen(new ScreenTransition(
-                game,
-                this,
-                new CombatScene(game, guardian),
-                ScreenTransition.TransitionType.FADE_TO_WHITE
-            ));
-        // Use SilkWeaver for stages 11-19
-        } else if (stageNumber >= 11 && stageNumber <= 19) {
-            // Create a SilkWeaver with the appropriate stage number
-            SilkWeaver weaver = new SilkWeaver(stageNumber);
-            game.setScreen(new ScreenTransition(
-                game,
-                this,
-                new CombatScene(game, weaver),
-                ScreenTransition.TransitionType.FADE_TO_WHITE
-            ));
-        // Use GoldenCocoon for stage 20 (boss stage)
-        } else if (stageNumber == 20) {
-            // Create the stage 20 boss - Golden Cocoon
-            GoldenCocoon cocoon = new GoldenCocoon();
-            game.setScreen(new ScreenTransition(
-                game,
-                this,
-                new CombatScene(game, cocoon),
-                ScreenTransition.TransitionType.FADE_TO_WHITE
-            ));
-        // Use SilkCicada for stages 21-29
-        } else if (stageNumber >= 21 && stageNumber <= 29) {
-            // Create a SilkCicada with the appropriate stage number
-            SilkCicada cicada = new SilkCicada(stageNumber);
-            game.setScreen(new ScreenTransition(
-                game,
-                this,
-                new CombatScene(game, cicada),
-                ScreenTransition.TransitionType.FADE_TO_WHITE
-            ));
-        } else if (stageNumber == 30) {
-            // Create the stage 30 boss - Threadmancer
-            Threadmancer thread = new Threadmancer();
-            game.setScreen(new ScreenTransition(
-                game,
-                this,
-                new CombatScene(game, thread),
-                ScreenTransition.TransitionType.FADE_TO_WHITE
-            ));
-        // Use SpiritOfTheLoom for stages 31-39
-        } else if (stageNumber >= 31 && stageNumber <= 39) {
-            // Create a SpiritOfTheLoom with the appropriate stage number
-            SpiritOfTheLoom loom = new SpiritOfTheLoom(stageNumber);
-            game.setScreen(new ScreenTransition(
-                game,
-                this,
-                new CombatScene(game, loom),
-                ScreenTransition.TransitionType.FADE_TO_WHITE
-            ));
-        // Use CrimsonSericulture for stage 40 (boss stage)
-        } else if (stageNumber == 40) {
-            // Create the stage 40 boss - Crimson Sericulture
-            CrimsonSericulture sericulture = new CrimsonSericulture();
-            game.setScreen(new ScreenTransition(
-                game,
-                this,
-                new CombatScene(game, sericulture),
-                ScreenTransition.TransitionType.FADE_TO_WHITE
-            ));
-        // Use HundredSilkOgre for stages 41-49
-        } else if (stageNumber >= 41 && stageNumber <= 49) {
-            // Create a HundredSilkOgre with the appropriate stage number
-            HundredSilkOgre ogre = new HundredSilkOgre(stageNumber);
-            game.setScreen(new ScreenTransition(
-                game,
-                this,
-                new CombatScene(game, ogre),
-                ScreenTransition.TransitionType.FADE_TO_WHITE
-            ));
-        // Use SilkRevenant for stage 50 (boss stage)
-        } else if (stageNumber == 50) {
-            // Create the stage 50 boss - Silk Revenant
-            SilkRevenant revenant = new SilkRevenant();
-            game.setScreen(new ScreenTransition(
-                game,
-                this,
-                new CombatScene(game, revenant),
-                ScreenTransition.TransitionType.FADE_TO_WHITE
-            ));
+            enemy = new DemoEnemy();
         } else {
-            // Use DemoEnemy for other stages (temporary)
-            game.setScreen(new ScreenTransition(
-                game,
-                this,
-                new CombatScene(game, new DemoEnemy()),
-                ScreenTransition.TransitionType.FADE_TO_WHITE
-            ));
+            // SilkWraith for stages 1-9, a boss every tenth stage, DemoEnemy outside the roster
+            enemy = EnemyRoster.forStage(stageNumber);
         }
+        game.setScreen(new ScreenTransition(
+            game,
+            this,
+            new CombatScene(game, enemy),
+            ScreenTransition.TransitionType.FADE_TO_WHITE
+        ));
     }
 
     /**
@@ -564,6 +470,17 @@ public class StageSelectionScreen implements Screen {
         // Keep for future reference but comment out
         // music.dispose();
         selectSound.dispose();
+        player.dispose();
+    }
+
+    @Override
+    public void onEnter() {
+        inputEnabled = true;
+        // A won fight unlocks the next stage
+        if (playerSaveGeneration != Player.getSaveGeneration()) {
+            player.dispose();
+            loadPlayer();
+        }
     }
 
     @Override
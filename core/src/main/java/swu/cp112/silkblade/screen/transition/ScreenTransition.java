@@ -4,10 +4,24 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.FrameBuffer;
-
+import swu.cp112.silkblade.screen.FrameBufferPool;
+import swu.cp112.silkblade.util.GameClock;
+import swu.cp112.silkblade.util.GameEvents;
+import swu.cp112.silkblade.util.GameLogger;
+
+/**
+ * Fades from one screen to the next.
+ *
+ * The outgoing screen is captured once, on the first frame, and the fade works from that
+ * snapshot. The incoming screen is rendered once while the old one fades out, which gets its
+ * first, expensive render out of the way before it's visible, and from then on only renders
+ * live during the second half, where it's on screen. When the transition ends, its frame
+ * count and worst frame are logged.
+ */
 public class ScreenTransition implements Screen {
     private Game game;
     private Screen currentScreen;
@@ -20,6 +34,15 @@ public class ScreenTransition implements Screen {
     private OrthographicCamera camera;
     private FrameBuffer currentScreenBuffer;
     private FrameBuffer nextScreenBuffer;
+    private Object transitionEvent;
+
+    private boolean currentCaptured;
+    private boolean nextWarmedUp;
+    private boolean skipNextDelta; // The frame after the warm-up is long, the fade shouldn't jump over it
+    private final long startNanos;
+    private long lastFrameNanos;
+    private long worstFrameNanos;
+    private int frames;
 
     private static boolean isTransitioning = false;
 
@@ -37,40 +60,35 @@ public class ScreenTransition implements Screen {
         this.currentScreen = currentScreen;
         this.nextScreen = nextScreen;
         this.type = type;
+        this.transitionEvent = GameEvents.begin(GameEvents.Kind.SCREEN_TRANSITION);
+        this.startNanos = System.nanoTime();
 
         batch = new SpriteBatch();
         camera = new OrthographicCamera(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         camera.position.set(camera.viewportWidth / 2f, camera.viewportHeight / 2f, 0);
         camera.update();
 
-        // Create frame buffers for capturing screen states
-        currentScreenBuffer = new FrameBuffer(
-            com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888,
-            Gdx.graphics.getWidth(),
-            Gdx.graphics.getHeight(),
-            false
-        );
-
-        nextScreenBuffer = new FrameBuffer(
-            com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888,
-            Gdx.graphics.getWidth(),
-            Gdx.graphics.getHeight(),
-            false
-        );
+        // Lease frame buffers for capturing screen states, the previous transition's are reused
+        currentScreenBuffer = FrameBufferPool.obtain(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), Pixmap.Format.RGBA8888);
+        nextScreenBuffer = FrameBufferPool.obtain(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), Pixmap.Format.RGBA8888);
 
         isTransitioning = true;
     }
 
     @Override
     public void render(float delta) {
+        measureFrame();
+
         // Reset blend function to ensure proper rendering
         Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
 
-        // Capture screens if not already captured
-        captureScreens();
-
-        currentTime += delta;
+        if (skipNextDelta) {
+            skipNextDelta = false;
+        } else {
+            currentTime += delta;
+        }
         float progress = Math.min(currentTime / transitionDuration, 1f);
+        captureScreens(progress >= 0.5f);
 
         switch (type) {
             case FADE_TO_WHITE:
@@ -88,23 +106,61 @@ public class ScreenTransition implements Screen {
             isTransitioning = false;
             game.setScreen(nextScreen);
             disposeBuffers();
+            report();
         }
     }
 
-    private void captureScreens() {
-        // Capture current screen
-        currentScreenBuffer.begin();
-        Gdx.gl.glClearColor(0, 0, 0, 1);
-        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-        currentScreen.render(Gdx.graphics.getDeltaTime());
-        currentScreenBuffer.end();
+    /**
+     * Renders the screens the fade needs this frame into their buffers.
+     *
+     * @param nextShown whether the incoming screen is visible this frame
+     */
+    private void captureScreens(boolean nextShown) {
+        if (!currentCaptured) {
+            // The outgoing screen is frozen from here on, one capture is enough
+            capture(currentScreenBuffer, currentScreen);
+            currentCaptured = true;
+        } else if (!nextWarmedUp && !nextShown) {
+            // Its first render loads and uploads what it needs, do it while it's still hidden
+            capture(nextScreenBuffer, nextScreen);
+            nextWarmedUp = true;
+            skipNextDelta = true;
+        }
+        if (nextShown) {
+            capture(nextScreenBuffer, nextScreen);
+            nextWarmedUp = true;
+        }
+    }
 
-        // Capture next screen
-        nextScreenBuffer.begin();
+    private void capture(FrameBuffer buffer, Screen screen) {
+        buffer.begin();
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-        nextScreen.render(Gdx.graphics.getDeltaTime());
-        nextScreenBuffer.end();
+        screen.render(GameClock.getDelta());
+        buffer.end();
+    }
+
+    /**
+     * Measures the time since the previous transition frame, which covers that frame's
+     * captures and its buffer swap.
+     */
+    private void measureFrame() {
+        long now = System.nanoTime();
+        if (lastFrameNanos != 0) {
+            worstFrameNanos = Math.max(worstFrameNanos, now - lastFrameNanos);
+        }
+        lastFrameNanos = now;
+        frames++;
+    }
+
+    private void report() {
+        String name = currentScreen.getClass().getSimpleName() + " -> " + nextScreen.getClass().getSimpleName();
+        GameLogger.logInfo("Transition " + name + " took " + (System.nanoTime() - startNanos) / 1_000_000
+            + " ms over " + frames + " frames, worst frame " + worstFrameNanos / 1000 / 1000f + " ms");
+        if (transitionEvent != null) {
+            GameEvents.end(transitionEvent, name, (int) (worstFrameNanos / 1000));
+            transitionEvent = null;
+        }
     }
 
     private void renderFadeToWhiteTransition(float progress) {
@@ -210,12 +266,11 @@ public class ScreenTransition implements Screen {
     }
 
     private void disposeBuffers() {
-        if (currentScreenBuffer != null) {
-            currentScreenBuffer.dispose();
-        }
-        if (nextScreenBuffer != null) {
-            nextScreenBuffer.dispose();
-        }
+        // Back to the pool for the next transition
+        FrameBufferPool.free(currentScreenBuffer);
+        FrameBufferPool.free(nextScreenBuffer);
+        currentScreenBuffer = null;
+        nextScreenBuffer = null;
     }
 
     // Screen lifecycle methods
@@ -230,18 +285,8 @@ public class ScreenTransition implements Screen {
         
         try {
             // First attempt: try to create framebuffers with exact dimensions
-            currentScreenBuffer = new FrameBuffer(
-                com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888,
-                width,
-                height,
-                false
-            );
-            nextScreenBuffer = new FrameBuffer(
-                com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888,
-                width,
-                height,
-                false
-            );
+            currentScreenBuffer = FrameBufferPool.obtain(width, height, Pixmap.Format.RGBA8888);
+            nextScreenBuffer = FrameBufferPool.obtain(width, height, Pixmap.Format.RGBA8888);
         } catch (IllegalStateException e) {
             // Handle framebuffer creation error - some hardware requires power-of-two textures
             // Get nearest power of 2 dimensions
@@ -252,20 +297,16 @@ public class ScreenTransition implements Screen {
             Gdx.app.log("ScreenTransition", "Failed to create framebuffer with dimensions " + 
                         width + "x" + height + ", using " + pot_width + "x" + pot_height + " instead");
             
-            currentScreenBuffer = new FrameBuffer(
-                com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888,
-                pot_width,
-                pot_height,
-                false
-            );
-            nextScreenBuffer = new FrameBuffer(
-                com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888,
-                pot_width,
-                pot_height,
-                false
-            );
+            // The first may have been leased before the second failed
+            FrameBufferPool.free(currentScreenBuffer);
+            currentScreenBuffer = FrameBufferPool.obtain(pot_width, pot_height, Pixmap.Format.RGBA8888);
+            nextScreenBuffer = FrameBufferPool.obtain(pot_width, pot_height, Pixmap.Format.RGBA8888);
         }
 
+        // The new buffers are empty, capture both screens again
+        currentCaptured = false;
+        nextWarmedUp = false;
+
         currentScreen.resize(width, height);
         nextScreen.resize(width, height);
     }
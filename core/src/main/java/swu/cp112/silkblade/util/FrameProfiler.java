@@ -0,0 +1,279 @@
+package swu.cp112.silkblade.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.util.Arrays;
+
+/**
+ * Lightweight frame profiler with a toggleable on-screen overlay.
+ *
+ * Code under test is wrapped in named scopes:
+ * <pre>
+ * long start = FrameProfiler.start();
+ * updateBullets(delta);
+ * FrameProfiler.stop("updateBullets", start);
+ * </pre>
+ * Scopes hit several times per frame are summed, and the totals of the frames a scope
+ * ran in are kept over a rolling window for p50/p95/p99. While the profiler is disabled
+ * start() returns 0 and stop() returns immediately. Render thread only.
+ */
+public final class FrameProfiler {
+    private static final int WINDOW_FRAMES = 240;
+    private static final float OVERLAY_REFRESH_SECONDS = 0.25f;
+    private static final float OVERLAY_SCALE = 0.8f;
+    private static final float OVERLAY_PADDING = 10f;
+
+    private static boolean enabled = false;
+    private static final ObjectMap<String, Scope> scopes = new ObjectMap<>();
+    private static final Array<Scope> scopeOrder = new Array<>();
+    private static final ObjectIntMap<String> counters = new ObjectIntMap<>();
+    private static final Scope frameScope = new Scope("frame");
+    private static long frameStart;
+
+    // GL counters of the last completed frame, captured before the overlay draws
+    private static GLProfiler glProfiler;
+    private static int drawCalls, textureBindings, shaderSwitches, glCalls;
+
+    // Overlay resources and cached text, created on first enable
+    private static SpriteBatch batch;
+    private static BitmapFont font;
+    private static final Array<String> overlayLines = new Array<>();
+    private static float overlayTimer = OVERLAY_REFRESH_SECONDS;
+
+    private FrameProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void toggle() {
+        setEnabled(!enabled);
+    }
+
+    public static void setEnabled(boolean value) {
+        if (enabled == value) {
+            return;
+        }
+        enabled = value;
+        if (glProfiler == null && Gdx.graphics != null) {
+            glProfiler = new GLProfiler(Gdx.graphics);
+        }
+        if (glProfiler != null) {
+            if (enabled) {
+                glProfiler.enable();
+            } else {
+                glProfiler.disable();
+            }
+        }
+        reset();
+        GameLogger.logInfo("Frame profiler " + (enabled ? "enabled" : "disabled"));
+    }
+
+    /**
+     * Clears all collected samples.
+     */
+    public static void reset() {
+        for (Scope scope : scopeOrder) {
+            scope.clear();
+        }
+        frameScope.clear();
+        counters.clear();
+        overlayLines.clear();
+        overlayTimer = OVERLAY_REFRESH_SECONDS;
+    }
+
+    /**
+     * Starts timing a scope. Returns 0 when the profiler is disabled.
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Ends a scope started with {@link #start()} and adds its time to this frame's total.
+     */
+    public static void stop(String name, long start) {
+        if (!enabled || start == 0L) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        Scope scope = scopes.get(name);
+        if (scope == null) {
+            scope = new Scope(name);
+            scopes.put(name, scope);
+            scopeOrder.add(scope);
+        }
+        scope.frameNanos += elapsed;
+        scope.frameCalls++;
+    }
+
+    /**
+     * Records a live value such as the bullet count, shown on the overlay.
+     */
+    public static void setCounter(String name, int value) {
+        if (enabled) {
+            counters.put(name, value);
+        }
+    }
+
+    /**
+     * Marks the start of a frame. Called by the game before rendering the screen.
+     */
+    public static void beginFrame() {
+        if (!enabled) {
+            return;
+        }
+        if (glProfiler != null) {
+            glProfiler.reset();
+        }
+        frameStart = System.nanoTime();
+    }
+
+    /**
+     * Closes the frame: commits the per-frame scope totals and captures GL counters.
+     */
+    public static void endFrame() {
+        if (!enabled || frameStart == 0L) {
+            return;
+        }
+        frameScope.frameNanos = System.nanoTime() - frameStart;
+        frameScope.frameCalls = 1;
+        frameScope.commitFrame();
+        for (Scope scope : scopeOrder) {
+            scope.commitFrame();
+        }
+        if (glProfiler != null) {
+            drawCalls = glProfiler.getDrawCalls();
+            textureBindings = glProfiler.getTextureBindings();
+            shaderSwitches = glProfiler.getShaderSwitches();
+            glCalls = glProfiler.getCalls();
+        }
+    }
+
+    /**
+     * Draws the overlay in the top left corner of the window, using its own batch and projection.
+     */
+    public static void renderOverlay() {
+        if (!enabled) {
+            return;
+        }
+        if (batch == null) {
+            batch = new SpriteBatch();
+            font = new BitmapFont(Gdx.files.internal("fonts/DTM.fnt"));
+            font.getData().setScale(OVERLAY_SCALE);
+        }
+
+        // Percentiles need a sort, so only rebuild the text a few times per second
+        overlayTimer += Gdx.graphics.getDeltaTime();
+        if (overlayTimer >= OVERLAY_REFRESH_SECONDS) {
+            overlayTimer = 0;
+            buildOverlayLines();
+        }
+
+        int width = Gdx.graphics.getWidth();
+        int height = Gdx.graphics.getHeight();
+        batch.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+        batch.begin();
+        float y = height - OVERLAY_PADDING;
+        for (int i = 0; i < overlayLines.size; i++) {
+            font.setColor(i == 0 ? Color.YELLOW : Color.WHITE);
+            font.draw(batch, overlayLines.get(i), OVERLAY_PADDING, y);
+            y -= font.getLineHeight();
+        }
+        batch.end();
+    }
+
+    public static void dispose() {
+        if (batch != null) {
+            batch.dispose();
+            font.dispose();
+            batch = null;
+            font = null;
+        }
+        if (glProfiler != null) {
+            glProfiler.disable();
+        }
+    }
+
+    private static void buildOverlayLines() {
+        overlayLines.clear();
+        overlayLines.add("PROFILER (F3)   ms  p50 / p95 / p99");
+        overlayLines.add(frameScope.describe());
+        for (Scope scope : scopeOrder) {
+            overlayLines.add(scope.describe());
+        }
+        overlayLines.add("draw calls " + drawCalls + "  tex binds " + textureBindings
+            + "  shader switches " + shaderSwitches + "  gl calls " + glCalls);
+        for (ObjectIntMap.Entry<String> counter : counters) {
+            overlayLines.add(counter.key + " " + counter.value);
+        }
+    }
+
+    /**
+     * Rolling per-frame totals of one named scope.
+     */
+    private static final class Scope {
+        final String name;
+        final long[] samples = new long[WINDOW_FRAMES];
+        final long[] sorted = new long[WINDOW_FRAMES];
+        int sampleCount;
+        int nextSample;
+        long frameNanos;
+        int frameCalls;
+        int lastCalls;
+
+        Scope(String name) {
+            this.name = name;
+        }
+
+        void commitFrame() {
+            if (frameCalls == 0) {
+                return; // Scope didn't run this frame
+            }
+            samples[nextSample] = frameNanos;
+            nextSample = (nextSample + 1) % WINDOW_FRAMES;
+            sampleCount = Math.min(sampleCount + 1, WINDOW_FRAMES);
+            lastCalls = frameCalls;
+            frameNanos = 0;
+            frameCalls = 0;
+        }
+
+        void clear() {
+            sampleCount = 0;
+            nextSample = 0;
+            frameNanos = 0;
+            frameCalls = 0;
+            lastCalls = 0;
+        }
+
+        String describe() {
+            if (sampleCount == 0) {
+                return name + "  -";
+            }
+            System.arraycopy(samples, 0, sorted, 0, sampleCount);
+            Arrays.sort(sorted, 0, sampleCount);
+            return name + "  " + millis(percentile(0.50f)) + " / " + millis(percentile(0.95f))
+                + " / " + millis(percentile(0.99f)) + (lastCalls > 1 ? "  x" + lastCalls : "");
+        }
+
+        private long percentile(float p) {
+            int index = Math.min(sampleCount - 1, (int) Math.ceil(p * sampleCount) - 1);
+            return sorted[Math.max(index, 0)];
+        }
+
+        private static String millis(long nanos) {
+            // Two decimals without String.format
+            long hundredths = (nanos + 5000L) / 10000L;
+            long fraction = hundredths % 100;
+            return (hundredths / 100) + "." + (fraction < 10 ? "0" : "") + fraction;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package swu.cp112.silkblade.util;
+
+/**
+ * The game's frame clock. {@link swu.cp112.silkblade.core.Main} advances it once per frame and
+ * hands its delta to the screen. Combat code that isn't given a delta reads it from here instead
+ * of from {@code Gdx.graphics}, so replays and the headless simulator can set it.
+ *
+ * The delta is capped at {@link #MAX_DELTA}, so a stall such as dragging the window doesn't make
+ * bullets jump through the player. While the window is minimized the clock is suspended, and the
+ * first frame after it comes back has a delta of zero.
+ *
+ * While the window is in the background with its frame rate capped, the clock is marked as
+ * throttled. Frame times then say nothing about load, so the frame time monitors ignore them.
+ */
+public final class GameClock {
+    public static final float MAX_DELTA = 0.1f; // Below 10 FPS the game slows down instead of skipping ahead
+
+    private static float delta;
+    private static boolean suspended;
+    private static boolean skipNextFrame;
+    private static boolean throttled;
+
+    private GameClock() {
+    }
+
+    /**
+     * Advances the clock by a frame.
+     *
+     * @param rawDelta the time since the last frame
+     * @param afterIdle whether the game was rendering on demand, in which case the whole gap is
+     *                  passed on because idle screens wake up expecting the real time elapsed
+     * @return the delta for this frame
+     */
+    public static float beginFrame(float rawDelta, boolean afterIdle) {
+        if (suspended) {
+            delta = 0f;
+        } else if (skipNextFrame) {
+            skipNextFrame = false;
+            delta = 0f;
+        } else {
+            delta = afterIdle ? rawDelta : Math.min(rawDelta, MAX_DELTA);
+        }
+        return delta;
+    }
+
+    /**
+     * Gets the delta of the current frame.
+     */
+    public static float getDelta() {
+        return delta;
+    }
+
+    /**
+     * Overrides the delta of the current frame, for replays and the headless simulator.
+     */
+    public static void setDelta(float value) {
+        delta = value;
+    }
+
+    /**
+     * Stops the clock, every frame has a delta of zero until {@link #resume()}.
+     */
+    public static void suspend() {
+        suspended = true;
+    }
+
+    /**
+     * Starts the clock again. The first frame after it has a delta of zero, so the time spent
+     * suspended is never simulated.
+     */
+    public static void resume() {
+        suspended = false;
+        skipNextFrame = true;
+    }
+
+    public static boolean isSuspended() {
+        return suspended;
+    }
+
+    /**
+     * Marks whether the frame rate is capped below the display's because the window lost focus.
+     */
+    public static void setThrottled(boolean value) {
+        throttled = value;
+    }
+
+    /**
+     * Whether frames are slow on purpose, in which case they shouldn't be measured as load.
+     */
+    public static boolean isThrottled() {
+        return throttled;
+    }
+}
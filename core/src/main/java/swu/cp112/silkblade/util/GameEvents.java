@@ -0,0 +1,65 @@
+package swu.cp112.silkblade.util;
+
+/**
+ * Timeline events for external recorders such as JDK Flight Recorder.
+ *
+ * Core stays on Java 8 and has no recorder of its own; the desktop launcher installs
+ * a {@link Sink} that maps each {@link Kind} to a JFR event. Without a sink every call
+ * is a null check, so instrumented code can call this unconditionally:
+ * <pre>
+ * Object event = GameEvents.begin(GameEvents.Kind.PLAYER_SAVE);
+ * ...
+ * GameEvents.end(event, SAVE_FILE, bytes.length);
+ * </pre>
+ */
+public final class GameEvents {
+    /**
+     * Instrumented operations. The meaning of the name and count passed to
+     * {@link #end(Object, String, int)} depends on the kind.
+     */
+    public enum Kind {
+        COMBAT_PHASE,      // name: enemy, count: bullets left when the phase ended
+        PATTERN_SELECTED,  // name: pattern, count: patterns left in the pool
+        PATTERN_VOLLEY,    // name: pattern, count: bullets generated
+        EXPLOSION_SPAWN,   // name: unused, count: child bullets spawned
+        PLAYER_SAVE,       // name: save file, count: bytes written
+        SCREEN_TRANSITION, // name: "From -> To", count: worst frame in microseconds
+        ASSET_LOAD         // name: asset or group, count: unused
+    }
+
+    /**
+     * Receives events. begin() returns a started event or null if the kind isn't recorded.
+     */
+    public interface Sink {
+        Object begin(Kind kind);
+
+        void end(Object event, String name, int count);
+    }
+
+    private static volatile Sink sink;
+
+    private GameEvents() {
+    }
+
+    public static void setSink(Sink value) {
+        sink = value;
+    }
+
+    /**
+     * Starts timing an event. Returns null when nothing is recording it.
+     */
+    public static Object begin(Kind kind) {
+        Sink current = sink;
+        return current != null ? current.begin(kind) : null;
+    }
+
+    /**
+     * Ends and commits an event returned by {@link #begin(Kind)}. Null events are ignored.
+     */
+    public static void end(Object event, String name, int count) {
+        Sink current = sink;
+        if (event != null && current != null) {
+            current.end(event, name, count);
+        }
+    }
+}
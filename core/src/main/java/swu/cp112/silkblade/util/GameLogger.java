@@ -1,81 +1,387 @@
 package swu.cp112.silkblade.util;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.files.FileHandle;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
 
+/**
+ * Asynchronous game logger.
+ *
+ * Callers only push an entry into a lock-free ring buffer; formatting, console output
+ * and file writes happen on a background writer thread that keeps the log file open.
+ * If the buffer is full the entry is dropped and counted rather than blocking the frame.
+ * The log is rotated once it grows past {@link #MAX_LOG_BYTES}.
+ */
 public class GameLogger {
+    /**
+     * Log levels, in increasing severity.
+     */
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR, OFF
+    }
+
     private static final String LOG_FILE = "game_log.txt";
-    private static FileHandle logFile;
-    private static SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+    private static final long MAX_LOG_BYTES = 2L * 1024 * 1024;
+    private static final int MAX_BACKUPS = 3; // game_log.1.txt .. game_log.3.txt
+    private static final int BUFFER_CAPACITY = 4096; // Must be a power of two
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private static final RingBuffer buffer = new RingBuffer(BUFFER_CAPACITY);
+    private static final AtomicLong droppedEntries = new AtomicLong();
+    private static volatile int minLevel = Level.INFO.ordinal();
+    private static volatile boolean running = true;
+    private static volatile boolean clearRequested;
+
+    // Only touched by the writer thread (or by shutdown once the writer has stopped)
+    private static final File logFile;
+    private static final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+    private static Writer out;
+    private static long logSize;
+    private static long reportedDrops;
+
+    private static final Thread writerThread;
 
     static {
-        // Initialize the log file in the local directory
-        logFile = Gdx.files.local(LOG_FILE);
+        // Initialize the log file in the local directory, falling back to the
+        // working directory when running without a libGDX backend
+        logFile = Gdx.files != null ? Gdx.files.local(LOG_FILE).file() : new File(LOG_FILE);
+
+        writerThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                writerLoop();
+            }
+        }, "GameLogger");
+        writerThread.setDaemon(true);
+        writerThread.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+            @Override
+            public void run() {
+                shutdown();
+            }
+        }, "GameLogger-shutdown"));
+    }
+
+    /**
+     * Sets the lowest level that will be logged.
+     */
+    public static void setLevel(Level level) {
+        minLevel = level.ordinal();
+    }
+
+    public static Level getLevel() {
+        return Level.values()[minLevel];
+    }
+
+    /**
+     * Checks whether messages of the given level are logged.
+     * Use this to skip building expensive messages in hot paths.
+     */
+    public static boolean isEnabled(Level level) {
+        return level.ordinal() >= minLevel;
+    }
+
+    public static boolean isDebugEnabled() {
+        return Level.DEBUG.ordinal() >= minLevel;
+    }
+
+    public static void logDebug(String message) {
+        log(Level.DEBUG, message, null);
+    }
+
+    public static void logInfo(String message) {
+        log(Level.INFO, message, null);
+    }
+
+    public static void logWarn(String message) {
+        log(Level.WARN, message, null);
     }
 
     public static void logError(String message, Throwable error) {
+        log(Level.ERROR, message, error);
+    }
+
+    /**
+     * Gets the total number of entries dropped because the buffer was full.
+     */
+    public static long getDroppedCount() {
+        return droppedEntries.get();
+    }
+
+    private static void log(Level level, String message, Throwable error) {
+        if (level.ordinal() < minLevel) {
+            return;
+        }
+        if (!running || !buffer.offer(new Entry(System.currentTimeMillis(), level, message, error))) {
+            droppedEntries.incrementAndGet();
+            return;
+        }
+        if (level == Level.ERROR) {
+            // Errors are worth getting to disk promptly
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * Truncates the log file. Entries already queued are discarded as well.
+     */
+    public static void clearLog() {
+        clearRequested = true;
+        LockSupport.unpark(writerThread);
+    }
+
+    public static String getLogContents() {
         try {
-            // Convert stack trace to string
-            StringWriter sw = new StringWriter();
-            PrintWriter pw = new PrintWriter(sw);
-            error.printStackTrace(pw);
-            String stackTrace = sw.toString();
-
-            // Format the log entry
-            String timestamp = dateFormat.format(new Date());
-            String logEntry = String.format(
-                "=== Error Log Entry ===\n" +
-                "Time: %s\n" +
-                "Message: %s\n" +
-                "Stack Trace:\n%s\n" +
-                "==================\n\n",
-                timestamp, message, stackTrace
-            );
-
-            // Append to log file
-            logFile.writeString(logEntry, true);
-
-            // Also print to console
-            System.err.println(logEntry);
+            flush();
+            return new String(Files.readAllBytes(logFile.toPath()), StandardCharsets.UTF_8);
         } catch (Exception e) {
-            // If logging fails, at least print to console
-            System.err.println("Failed to log error: " + e.getMessage());
-            error.printStackTrace();
+            return "Failed to read log: " + e.getMessage();
         }
     }
 
-    public static void logInfo(String message) {
+    /**
+     * Waits briefly until everything logged so far has been written.
+     * Never call this from a hot path.
+     */
+    public static void flush() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (running && (!buffer.isEmpty() || clearRequested) && System.nanoTime() < deadline) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    /**
+     * Stops the writer thread and writes out any remaining entries.
+     * Called on game disposal and from a shutdown hook; later calls do nothing.
+     */
+    public static synchronized void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
         try {
-            String timestamp = dateFormat.format(new Date());
-            String logEntry = String.format(
-                "[%s] INFO: %s\n",
-                timestamp, message
-            );
-
-            logFile.writeString(logEntry, true);
-            System.out.println(logEntry);
-        } catch (Exception e) {
-            System.err.println("Failed to log info: " + e.getMessage());
+            writerThread.join(TimeUnit.SECONDS.toMillis(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!writerThread.isAlive()) {
+            // Pick up anything logged while the writer was finishing
+            drain();
+            closeOutput();
         }
     }
 
-    public static void clearLog() {
+    private static void writerLoop() {
+        while (running) {
+            if (!drain()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        drain();
+        closeOutput();
+    }
+
+    /**
+     * Writes all queued entries. Returns true if anything was written.
+     */
+    private static boolean drain() {
+        if (clearRequested) {
+            clearRequested = false;
+            while (buffer.poll() != null) {
+                // Discard
+            }
+            truncate();
+            return true;
+        }
+
+        boolean wroteAny = false;
+        Entry entry;
+        while ((entry = buffer.poll()) != null) {
+            write(format(entry), entry.level == Level.ERROR);
+            wroteAny = true;
+        }
+        long dropped = droppedEntries.get() - reportedDrops;
+        if (dropped > 0) {
+            reportedDrops += dropped;
+            write(format(new Entry(System.currentTimeMillis(), Level.WARN,
+                dropped + " log entries dropped (buffer full)", null)), true);
+            wroteAny = true;
+        }
+        if (wroteAny && out != null) {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                System.err.println("Failed to flush log: " + e.getMessage());
+            }
+        }
+        return wroteAny;
+    }
+
+    private static String format(Entry entry) {
+        String timestamp = dateFormat.format(new Date(entry.time));
+        if (entry.error == null) {
+            return "[" + timestamp + "] " + entry.level + ": " + entry.message + "\n";
+        }
+
+        // Convert stack trace to string
+        StringWriter sw = new StringWriter();
+        entry.error.printStackTrace(new PrintWriter(sw));
+        return "=== Error Log Entry ===\n" +
+            "Time: " + timestamp + "\n" +
+            "Message: " + entry.message + "\n" +
+            "Stack Trace:\n" + sw + "\n" +
+            "==================\n\n";
+    }
+
+    private static void write(String text, boolean toStdErr) {
+        if (toStdErr) {
+            System.err.print(text);
+        } else {
+            System.out.print(text);
+        }
+
         try {
-            logFile.writeString("", false);
-        } catch (Exception e) {
-            System.err.println("Failed to clear log: " + e.getMessage());
+            if (out == null) {
+                openOutput(true);
+            }
+            out.write(text);
+            logSize += text.length(); // Approximate, counts chars
+            if (logSize >= MAX_LOG_BYTES) {
+                rotate();
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to write log: " + e.getMessage());
+            closeOutput();
         }
     }
 
-    public static String getLogContents() {
+    private static void openOutput(boolean append) throws IOException {
+        File parent = logFile.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        out = new BufferedWriter(new OutputStreamWriter(
+            new FileOutputStream(logFile, append), StandardCharsets.UTF_8), 8192);
+        logSize = append ? logFile.length() : 0;
+    }
+
+    private static void closeOutput() {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close log: " + e.getMessage());
+            }
+            out = null;
+        }
+    }
+
+    /**
+     * Shifts game_log.txt to game_log.1.txt (and older backups up by one) and starts a new file.
+     */
+    private static void rotate() throws IOException {
+        closeOutput();
+        String base = LOG_FILE.substring(0, LOG_FILE.lastIndexOf('.'));
+        File dir = logFile.getAbsoluteFile().getParentFile();
+        new File(dir, base + "." + MAX_BACKUPS + ".txt").delete();
+        for (int i = MAX_BACKUPS - 1; i >= 1; i--) {
+            File backup = new File(dir, base + "." + i + ".txt");
+            if (backup.exists()) {
+                backup.renameTo(new File(dir, base + "." + (i + 1) + ".txt"));
+            }
+        }
+        logFile.renameTo(new File(dir, base + ".1.txt"));
+        openOutput(false);
+    }
+
+    private static void truncate() {
+        closeOutput();
         try {
-            return logFile.readString();
-        } catch (Exception e) {
-            return "Failed to read log: " + e.getMessage();
+            openOutput(false);
+        } catch (IOException e) {
+            System.err.println("Failed to clear log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A single queued log call. Formatting is deferred to the writer thread.
+     */
+    private static final class Entry {
+        final long time;
+        final Level level;
+        final String message;
+        final Throwable error;
+
+        Entry(long time, Level level, String message, Throwable error) {
+            this.time = time;
+            this.level = level;
+            this.message = message;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Bounded multi-producer, single-consumer ring buffer.
+     * Producers claim a slot with a CAS on the tail and publish into it;
+     * the writer thread consumes in order and frees each slot before advancing the head.
+     */
+    private static final class RingBuffer {
+        private final AtomicReferenceArray<Entry> slots;
+        private final int mask;
+        private final AtomicLong tail = new AtomicLong();
+        private volatile long head;
+
+        RingBuffer(int capacity) {
+            slots = new AtomicReferenceArray<>(capacity);
+            mask = capacity - 1;
+        }
+
+        boolean offer(Entry entry) {
+            while (true) {
+                long t = tail.get();
+                if (t - head > mask) {
+                    return false; // Full
+                }
+                if (tail.compareAndSet(t, t + 1)) {
+                    slots.lazySet((int) (t & mask), entry);
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Takes the next entry, or null if it hasn't been published yet. Writer thread only.
+         */
+        Entry poll() {
+            int index = (int) (head & mask);
+            Entry entry = slots.get(index);
+            if (entry == null) {
+                return null;
+            }
+            slots.lazySet(index, null);
+            head = head + 1;
+            return entry;
+        }
+
+        boolean isEmpty() {
+            return tail.get() == head;
         }
     }
 }
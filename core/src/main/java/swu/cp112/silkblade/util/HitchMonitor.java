@@ -0,0 +1,292 @@
+package swu.cp112.silkblade.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Flags frames that take longer than the hitch budget (twice the target frame time)
+ * and writes one line per hitch to hitch_log.txt with what happened during that frame:
+ * GC pauses reported by the collectors, bytes allocated by the render thread,
+ * the current screen, the active attack pattern and the bullet count.
+ *
+ * GC pauses come from GarbageCollectorMXBean notifications on a JMX thread and are
+ * folded into the next frame boundary. Everything else is sampled on the render thread.
+ */
+public final class HitchMonitor {
+    private static final String HITCH_LOG_FILE = "hitch_log.txt";
+    private static final float HITCH_BUDGET_MULTIPLIER = 2f;
+    private static final int DEFAULT_REFRESH_RATE = 60;
+    // JMX notification type for com.sun.management.GarbageCollectionNotificationInfo
+    private static final String GC_NOTIFICATION = "com.sun.management.gc.notification";
+
+    private static boolean enabled = true;
+    private static boolean initialized;
+    private static long budgetNanos;
+    private static long lastFrameStart;
+    private static long lastAllocatedBytes = -1;
+    private static int hitchCount;
+
+    // Allocation tracking, unavailable on JVMs without com.sun.management
+    private static com.sun.management.ThreadMXBean allocationBean;
+    private static long renderThreadId;
+
+    // GC pauses since the last frame boundary, written by the JMX notification thread
+    private static final Object gcLock = new Object();
+    private static int gcCount;
+    private static long gcPauseMillis;
+    private static final StringBuilder gcNames = new StringBuilder();
+    private static final NotificationListener gcListener = new NotificationListener() {
+        @Override
+        public void handleNotification(Notification notification, Object handback) {
+            onGcNotification(notification);
+        }
+    };
+
+    // Frame context set by the active screen
+    private static String patternName;
+    private static int bulletCount = -1;
+
+    private static ExecutorService writer;
+    private static SimpleDateFormat dateFormat;
+
+    private HitchMonitor() {
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+        lastFrameStart = 0;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the number of hitches recorded this session.
+     */
+    public static int getHitchCount() {
+        return hitchCount;
+    }
+
+    /**
+     * Sets the combat context recorded with hitches. Pass null and -1 outside of combat.
+     */
+    public static void setCombatContext(String pattern, int bullets) {
+        patternName = pattern;
+        bulletCount = bullets;
+    }
+
+    /**
+     * Marks a frame boundary. Called once per frame by the game before rendering,
+     * so a hitch is attributed to the frame that just finished.
+     */
+    public static void frame() {
+        if (!enabled) {
+            return;
+        }
+        if (!initialized) {
+            initialize();
+        }
+
+        if (GameClock.isThrottled()) {
+            // Capped frames are long on purpose, start measuring again once the cap is lifted
+            lastFrameStart = 0;
+            return;
+        }
+
+        long now = System.nanoTime();
+        long allocated = allocatedBytes();
+        if (lastFrameStart != 0) {
+            long frameNanos = now - lastFrameStart;
+            if (frameNanos > budgetNanos) {
+                long frameAllocated = lastAllocatedBytes >= 0 && allocated >= 0 ? allocated - lastAllocatedBytes : -1;
+                recordHitch(frameNanos, frameAllocated);
+            } else {
+                clearGcSinceLastFrame();
+            }
+        }
+        lastFrameStart = now;
+        lastAllocatedBytes = allocated;
+    }
+
+    /**
+     * Forgets when the current frame started, for when the next frame won't follow right
+     * after it because the game only renders on demand.
+     */
+    public static void resetFrameTiming() {
+        lastFrameStart = 0;
+    }
+
+    /**
+     * Stops listening for GC pauses and stops the writer after pending hitch lines are written.
+     */
+    public static void dispose() {
+        if (!initialized) {
+            return;
+        }
+        // Otherwise the next initialize adds a second listener and every pause is counted twice
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gcBean instanceof NotificationEmitter) {
+                try {
+                    ((NotificationEmitter) gcBean).removeNotificationListener(gcListener);
+                } catch (ListenerNotFoundException e) {
+                    // Not registered on this collector, nothing to remove
+                }
+            }
+        }
+        clearGcSinceLastFrame();
+        if (writer != null) {
+            writer.shutdown();
+            writer = null;
+        }
+        initialized = false;
+        lastFrameStart = 0;
+    }
+
+    private static void initialize() {
+        initialized = true;
+
+        int refreshRate = Gdx.graphics != null ? Gdx.graphics.getDisplayMode().refreshRate : DEFAULT_REFRESH_RATE;
+        if (refreshRate <= 0) {
+            refreshRate = DEFAULT_REFRESH_RATE;
+        }
+        budgetNanos = (long) (HITCH_BUDGET_MULTIPLIER * 1_000_000_000L / refreshRate);
+
+        renderThreadId = Thread.currentThread().getId();
+        try {
+            ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+            if (threadBean instanceof com.sun.management.ThreadMXBean) {
+                allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+                if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+                    allocationBean.setThreadAllocatedMemoryEnabled(true);
+                }
+            }
+        } catch (Throwable e) {
+            // Not a HotSpot-style JVM, hitches are logged without allocation data
+            allocationBean = null;
+        }
+
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gcBean instanceof NotificationEmitter) {
+                ((NotificationEmitter) gcBean).addNotificationListener(gcListener, null, null);
+            }
+        }
+
+        dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        writer = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "HitchMonitor");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        GameLogger.logInfo("Hitch monitor started, budget " + (budgetNanos / 1_000_000f) + " ms");
+    }
+
+    private static long allocatedBytes() {
+        if (allocationBean == null) {
+            return -1;
+        }
+        try {
+            return allocationBean.getThreadAllocatedBytes(renderThreadId);
+        } catch (Throwable e) {
+            allocationBean = null;
+            return -1;
+        }
+    }
+
+    private static void onGcNotification(Notification notification) {
+        if (!GC_NOTIFICATION.equals(notification.getType())
+            || !(notification.getUserData() instanceof CompositeData)) {
+            return;
+        }
+        CompositeData info = (CompositeData) notification.getUserData();
+        CompositeData gcInfo = (CompositeData) info.get("gcInfo");
+        long duration = gcInfo != null ? ((Number) gcInfo.get("duration")).longValue() : 0L;
+        String gcName = String.valueOf(info.get("gcName"));
+
+        synchronized (gcLock) {
+            gcCount++;
+            gcPauseMillis += duration;
+            if (gcNames.indexOf(gcName) < 0) {
+                if (gcNames.length() > 0) {
+                    gcNames.append(',');
+                }
+                gcNames.append(gcName);
+            }
+        }
+    }
+
+    private static void clearGcSinceLastFrame() {
+        synchronized (gcLock) {
+            gcCount = 0;
+            gcPauseMillis = 0;
+            gcNames.setLength(0);
+        }
+    }
+
+    private static void recordHitch(long frameNanos, long frameAllocated) {
+        hitchCount++;
+
+        StringBuilder line = new StringBuilder(160);
+        line.append(dateFormat.format(new Date()))
+            .append(" frame=").append(frameNanos / 100_000 / 10f).append("ms")
+            .append(" budget=").append(budgetNanos / 100_000 / 10f).append("ms");
+        if (frameAllocated >= 0) {
+            line.append(" alloc=").append(frameAllocated / 1024).append("KB");
+        }
+        synchronized (gcLock) {
+            line.append(" gc=").append(gcCount).append('/').append(gcPauseMillis).append("ms");
+            if (gcCount > 0) {
+                line.append('[').append(gcNames).append(']');
+            }
+            gcCount = 0;
+            gcPauseMillis = 0;
+            gcNames.setLength(0);
+        }
+        if (Gdx.app != null && Gdx.app.getApplicationListener() instanceof com.badlogic.gdx.Game) {
+            com.badlogic.gdx.Screen screen = ((com.badlogic.gdx.Game) Gdx.app.getApplicationListener()).getScreen();
+            line.append(" screen=").append(screen != null ? screen.getClass().getSimpleName() : "none");
+        }
+        if (patternName != null) {
+            line.append(" pattern=\"").append(patternName).append('"');
+        }
+        if (bulletCount >= 0) {
+            line.append(" bullets=").append(bulletCount);
+        }
+        line.append('\n');
+
+        final String entry = line.toString();
+        if (writer == null) {
+            return;
+        }
+        // Append on the writer thread so the hitch isn't made worse by file IO
+        writer.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    FileHandle file = Gdx.files.local(HITCH_LOG_FILE);
+                    file.writeString(entry, true);
+                } catch (Exception e) {
+                    GameLogger.logError("Failed to write hitch log", e);
+                }
+            }
+        });
+    }
+}
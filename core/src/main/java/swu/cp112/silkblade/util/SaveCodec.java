@@ -0,0 +1,223 @@
+package swu.cp112.silkblade.util;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * Compact versioned binary encoding used for save files.
+ *
+ * Layout: magic, format version, interned ID table, body.
+ * Integers in the body are varint encoded (zigzag for signed values) and every
+ * item ID is written once in the table and referenced by index afterwards.
+ */
+public final class SaveCodec {
+    private static final byte[] MAGIC = {'S', 'B', 'S', 'V'};
+
+    /**
+     * Current binary format version. Bump this when the layout changes and
+     * gate the new fields on {@link Reader#getVersion()} when reading.
+     *
+     * Version history:
+     * 1 - initial binary format (player stats, skills, bosses, inventory)
+     */
+    public static final int CURRENT_VERSION = 1;
+
+    private SaveCodec() {
+    }
+
+    /**
+     * Checks whether the given bytes start with the binary save magic.
+     */
+    public static boolean isBinarySave(byte[] bytes) {
+        if (bytes == null || bytes.length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (bytes[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the body into a buffer while collecting the ID table,
+     * then assembles the final file in {@link #toBytes()}.
+     */
+    public static final class Writer {
+        private final ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream(256);
+        private final DataOutputStream body = new DataOutputStream(bodyBytes);
+        private final ObjectIntMap<String> idIndex = new ObjectIntMap<>();
+        private final Array<String> idTable = new Array<>();
+
+        public void writeVarInt(int value) throws IOException {
+            writeVarInt(body, value);
+        }
+
+        public void writeSignedVarInt(int value) throws IOException {
+            // Zigzag so small negative numbers stay small
+            writeVarInt(body, (value << 1) ^ (value >> 31));
+        }
+
+        public void writeFloat(float value) throws IOException {
+            body.writeFloat(value);
+        }
+
+        public void writeBoolean(boolean value) throws IOException {
+            body.writeBoolean(value);
+        }
+
+        public void writeString(String value) throws IOException {
+            body.writeUTF(value != null ? value : "");
+        }
+
+        /**
+         * Writes a reference to an interned ID. A null ID is encoded as 0.
+         */
+        public void writeId(String id) throws IOException {
+            if (id == null) {
+                writeVarInt(body, 0);
+                return;
+            }
+            int index = idIndex.get(id, -1);
+            if (index < 0) {
+                index = idTable.size;
+                idTable.add(id);
+                idIndex.put(id, index);
+            }
+            writeVarInt(body, index + 1);
+        }
+
+        public byte[] toBytes() throws IOException {
+            body.flush();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bodyBytes.size() + 64);
+            DataOutputStream header = new DataOutputStream(out);
+            header.write(MAGIC);
+            writeVarInt(header, CURRENT_VERSION);
+            writeVarInt(header, idTable.size);
+            for (String id : idTable) {
+                header.writeUTF(id);
+            }
+            bodyBytes.writeTo(header);
+            header.flush();
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Reads a file produced by {@link Writer}. The header and ID table are
+     * parsed up front so body readers can resolve IDs by index.
+     */
+    public static final class Reader {
+        private final DataInputStream in;
+        private final int version;
+        private final String[] idTable;
+
+        public Reader(byte[] bytes) throws IOException {
+            if (!isBinarySave(bytes)) {
+                throw new IOException("Not a binary save file");
+            }
+            in = new DataInputStream(new ByteArrayInputStream(bytes, MAGIC.length, bytes.length - MAGIC.length));
+            version = readVarInt(in);
+            if (version < 1 || version > CURRENT_VERSION) {
+                throw new IOException("Unsupported save version: " + version);
+            }
+            idTable = new String[readVarInt(in)];
+            for (int i = 0; i < idTable.length; i++) {
+                idTable[i] = in.readUTF();
+            }
+        }
+
+        /**
+         * Gets the format version the file was written with.
+         */
+        public int getVersion() {
+            return version;
+        }
+
+        public int readVarInt() throws IOException {
+            return SaveCodec.readVarInt(in);
+        }
+
+        public int readSignedVarInt() throws IOException {
+            int raw = SaveCodec.readVarInt(in);
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        public float readFloat() throws IOException {
+            return in.readFloat();
+        }
+
+        public boolean readBoolean() throws IOException {
+            return in.readBoolean();
+        }
+
+        public String readString() throws IOException {
+            return in.readUTF();
+        }
+
+        /**
+         * Reads an interned ID reference, returning null for an empty slot.
+         */
+        public String readId() throws IOException {
+            int index = readIdIndex();
+            return index >= 0 ? idTable[index] : null;
+        }
+
+        /**
+         * Reads an interned ID reference as a table index, returning -1 for an empty slot.
+         * Lets callers resolve each distinct ID once and use array lookups afterwards.
+         */
+        public int readIdIndex() throws IOException {
+            int index = SaveCodec.readVarInt(in);
+            if (index > idTable.length) {
+                throw new IOException("Invalid ID reference: " + index);
+            }
+            return index - 1;
+        }
+
+        /**
+         * Gets the number of distinct IDs in the table.
+         */
+        public int getIdCount() {
+            return idTable.length;
+        }
+
+        /**
+         * Gets the ID stored at a table index.
+         */
+        public String getId(int index) {
+            return idTable[index];
+        }
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Truncated save file");
+            }
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed varint in save file");
+    }
+}
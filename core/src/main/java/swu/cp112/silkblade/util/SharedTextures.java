@@ -0,0 +1,56 @@
+package swu.cp112.silkblade.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Textures that several screens and every loaded player use, such as the title and the player
+ * sprite, loaded once for the whole session. The boot screen uploads them ahead of time. Any
+ * other path is loaded the first time it's asked for.
+ *
+ * Callers don't own these textures and must not dispose them.
+ */
+public final class SharedTextures {
+    private static final ObjectMap<String, Texture> textures = new ObjectMap<>();
+
+    private SharedTextures() {
+    }
+
+    /**
+     * Gets the shared texture of an internal file, loading it if it isn't loaded yet.
+     */
+    public static Texture get(String path) {
+        Texture texture = textures.get(path);
+        if (texture == null) {
+            Object loadEvent = GameEvents.begin(GameEvents.Kind.ASSET_LOAD);
+            texture = new Texture(Gdx.files.internal(path));
+            GameEvents.end(loadEvent, path, 0);
+            textures.put(path, texture);
+        }
+        return texture;
+    }
+
+    /**
+     * Uploads an image that was decoded ahead of time as the shared texture of its path.
+     * Disposes the pixmap. Called on the GL thread.
+     */
+    public static void upload(String path, Pixmap pixmap) {
+        Texture previous = textures.put(path, new Texture(pixmap));
+        pixmap.dispose();
+        if (previous != null) {
+            previous.dispose();
+        }
+    }
+
+    /**
+     * Disposes every shared texture. Called when the game exits.
+     */
+    public static void dispose() {
+        for (Texture texture : textures.values()) {
+            texture.dispose();
+        }
+        textures.clear();
+    }
+}
@@ -0,0 +1,76 @@
+package swu.cp112.silkblade.util;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongArray;
+
+/**
+ * Records how long startup takes, from the JVM starting to the first frame that takes input,
+ * so startup regressions show up in the log. Steps are marked as they finish and the whole
+ * timeline is logged once by {@link #finish}:
+ * <pre>
+ * Startup timeline: launcher 180 ms, create 420 ms, ... first interactive frame 1310 ms
+ * </pre>
+ * Times are from JVM start when the launcher provides it, otherwise from the first mark.
+ */
+public final class StartupTimeline {
+    private static final Array<String> names = new Array<>();
+    private static final LongArray times = new LongArray();
+    private static long originNanos;
+    private static boolean started;
+    private static volatile boolean finished; // Read every frame until startup is over
+
+    private StartupTimeline() {
+    }
+
+    /**
+     * Starts the timeline at the time the JVM started.
+     *
+     * @param startMillis JVM start time in {@link System#currentTimeMillis()} terms
+     */
+    public static synchronized void setJvmStart(long startMillis) {
+        originNanos = System.nanoTime() - (System.currentTimeMillis() - startMillis) * 1_000_000L;
+        started = true;
+    }
+
+    /**
+     * Marks a startup step as done. Can be called from worker threads.
+     */
+    public static synchronized void mark(String name) {
+        if (finished) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (!started) {
+            originNanos = now;
+            started = true;
+        }
+        names.add(name);
+        times.add(now - originNanos);
+    }
+
+    /**
+     * Marks the last step and logs the timeline. Later calls do nothing.
+     */
+    public static synchronized void finish(String name) {
+        if (finished) {
+            return;
+        }
+        mark(name);
+        finished = true;
+
+        StringBuilder line = new StringBuilder("Startup timeline: ");
+        for (int i = 0; i < names.size; i++) {
+            if (i > 0) {
+                line.append(", ");
+            }
+            line.append(names.get(i)).append(' ').append(times.get(i) / 1_000_000L).append(" ms");
+        }
+        GameLogger.logInfo(line.toString());
+        names.clear();
+        times.clear();
+    }
+
+    public static boolean isFinished() {
+        return finished;
+    }
+}
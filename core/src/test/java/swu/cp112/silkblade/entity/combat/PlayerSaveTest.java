@@ -0,0 +1,218 @@
+package swu.cp112.silkblade.entity.combat;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import swu.cp112.silkblade.entity.item.ConsumableItem;
+import swu.cp112.silkblade.entity.item.Equipment;
+import swu.cp112.silkblade.entity.item.Inventory;
+import swu.cp112.silkblade.util.SaveCodec;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * The binary save format and the legacy JSON import. Runs without a GL context, the player's
+ * sprite and sounds fail to load and are logged, which doesn't touch any saved state.
+ */
+public class PlayerSaveTest {
+    // A save as written by the JSON format before the binary one, trimmed to a few items
+    private static final String LEGACY_SAVE = "{\n"
+        + "\"name\": \"A\",\n"
+        + "\"level\": 20,\n"
+        + "\"exp\": 99999,\n"
+        + "\"mp\": 298,\n"
+        + "\"maxMP\": 295,\n"
+        + "\"attack\": 260,\n"
+        + "\"critRate\": 0.26000002,\n"
+        + "\"defense\": 105,\n"
+        + "\"maxHP\": 358,\n"
+        + "\"currentHP\": 412,\n"
+        + "\"currentStage\": 50,\n"
+        + "\"gold\": 3949022,\n"
+        + "\"unlockedSkills\": [true, true, false, true, true, false, true],\n"
+        + "\"currentSkill\": \"SKILL1\",\n"
+        + "\"inventory\": {\n"
+        + "\t\"equippedItems\": [\n"
+        + "\t\t{ \"id\": \"WEAPON_ETERNAL_SILKBLADE\" },\n"
+        + "\t\t{ \"id\": \"ARMOR_COSMIC_SILK_VESTMENT\" },\n"
+        + "\t\t{ \"id\": \"ACCESSORY_TRANSCENDENT_SILK_CROWN\" }\n"
+        + "\t],\n"
+        + "\t\"inventoryItems\": [\n"
+        + "\t\t{ \"id\": \"WEAPON_TWIN_SILK_BLADES\" },\n"
+        + "\t\t{ \"id\": \"ARMOR_SILK_ROBE\" }\n"
+        + "\t],\n"
+        + "\t\"storageItems\": [\n"
+        + "\t\t{ \"id\": \"ACCESSORY_SPIRIT_CHARM\" }\n"
+        + "\t],\n"
+        + "\t\"consumableItems\": [\n"
+        + "\t\t{ \"id\": \"CONSUMABLE_DRAGON_SILK\", \"quantity\": 3 },\n"
+        + "\t\t{ \"id\": \"CONSUMABLE_HERBAL_DRINK\", \"quantity\": 31 }\n"
+        + "\t],\n"
+        + "\t\"combatItems\": [\n"
+        + "\t\t{ \"id\": \"CONSUMABLE_HERBAL_DRINK\", \"quantity\": 1 },\n"
+        + "\t\t{ \"id\": \"CONSUMABLE_DRAGON_SILK\", \"quantity\": 1 }\n"
+        + "\t]\n"
+        + "},\n"
+        + "\"boss1Defeated\": true,\n"
+        + "\"boss2Defeated\": true,\n"
+        + "\"boss3Defeated\": false,\n"
+        + "\"boss4Defeated\": true,\n"
+        + "\"boss5Defeated\": false\n"
+        + "}\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void disableSaving() {
+        // Unlocking skills and changing stage save the player, which needs Gdx.files
+        Player.setSavingEnabled(false);
+    }
+
+    @Test
+    public void roundTripsFullyPopulatedPlayer() throws IOException {
+        Player player = new Player("Tester");
+        player.gainExp(5000);
+        player.setMP(7);
+        player.setGold(123456);
+        player.setCurrentStage(37);
+        player.setBossDefeated(1, true);
+        player.setBossDefeated(2, true);
+        player.setBossDefeated(4, true);
+        player.setCurrentSkill(Player.SkillType.SKILL4);
+
+        Inventory inventory = player.getInventory();
+        inventory.equipItem(Equipment.fromSavedId("WEAPON_ETERNAL_SILKBLADE"));
+        inventory.equipItem(Equipment.fromSavedId("ARMOR_COSMIC_SILK_VESTMENT"));
+        inventory.addToInventory(Equipment.fromSavedId("WEAPON_TWIN_SILK_BLADES"));
+        inventory.addToInventory(Equipment.fromSavedId("WEAPON_TWIN_SILK_BLADES"));
+        Equipment stored = Equipment.fromSavedId("ACCESSORY_SPIRIT_CHARM");
+        inventory.addToInventory(stored);
+        inventory.moveToStorage(stored);
+        inventory.addConsumableItem(ConsumableItem.fromSavedId("CONSUMABLE_DOI_TI_HONEY", 4));
+        inventory.toggleCombatSelection(ConsumableItem.fromSavedId("CONSUMABLE_DOI_TI_HONEY", 1));
+
+        Player loaded = Player.fromSaveBytes(player.toSaveBytes());
+
+        assertSamePlayer(player, loaded);
+        assertEquals(Player.SkillType.SKILL4, loaded.getCurrentSkill());
+        assertTrue(loaded.isBossDefeated(4));
+        assertEquals(1, loaded.getInventory().getStorageItems().size);
+    }
+
+    @Test
+    public void migratesLegacyJsonSave() throws IOException {
+        File file = folder.newFile("player_save.json");
+        FileHandle legacyFile = new FileHandle(file);
+        legacyFile.writeString(LEGACY_SAVE, false);
+
+        Player imported = Player.importFromJson(legacyFile);
+        assertEquals("A", imported.getName());
+        assertEquals(20, imported.getLevel());
+        assertEquals(3949022, imported.getGold());
+        assertEquals(50, imported.getCurrentStage());
+        assertEquals(Player.SkillType.SKILL1, imported.getCurrentSkill());
+        assertTrue(imported.isBossDefeated(4));
+        assertEquals("WEAPON_ETERNAL_SILKBLADE", imported.getInventory().getWeapon().getId());
+        assertEquals(2, imported.getInventory().getInventoryItems().size);
+        assertEquals(31, imported.getInventory().getConsumableItems().get(1).getQuantity());
+
+        // Migration writes the imported player in the binary format, nothing may be lost on the way
+        byte[] bytes = imported.toSaveBytes();
+        assertTrue(SaveCodec.isBinarySave(bytes));
+        assertSamePlayer(imported, Player.fromSaveBytes(bytes));
+
+        // The loader tells the formats apart by the header
+        File binaryFile = folder.newFile("player_save.sav");
+        new FileHandle(binaryFile).writeBytes(bytes, false);
+        assertSamePlayer(imported, Player.readSaveFile(new FileHandle(binaryFile)));
+        assertSamePlayer(imported, Player.readSaveFile(legacyFile));
+    }
+
+    @Test
+    public void rejectsTruncatedSave() throws IOException {
+        byte[] bytes = new Player("Tester").toSaveBytes();
+
+        for (int length : new int[] {bytes.length - 1, bytes.length / 2, 6}) {
+            try {
+                Player.fromSaveBytes(Arrays.copyOf(bytes, length));
+                fail("Loaded a save cut off after " + length + " of " + bytes.length + " bytes");
+            } catch (IOException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void rejectsWrongVersion() throws IOException {
+        byte[] bytes = new Player("Tester").toSaveBytes();
+        bytes[4] = (byte) (SaveCodec.CURRENT_VERSION + 1); // The version varint follows the magic
+
+        try {
+            Player.fromSaveBytes(bytes);
+            fail("Loaded a save from a newer version");
+        } catch (IOException expected) {
+        }
+    }
+
+    private static void assertSamePlayer(Player expected, Player actual) {
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getLevel(), actual.getLevel());
+        assertEquals(expected.getExp(), actual.getExp());
+        assertEquals(expected.getMP(), actual.getMP());
+        assertEquals(expected.getBaseMaxMP(), actual.getBaseMaxMP());
+        assertEquals(expected.getAttack(), actual.getAttack());
+        assertEquals(expected.getBaseCritRate(), actual.getBaseCritRate(), 0f);
+        assertEquals(expected.getBaseDefense(), actual.getBaseDefense());
+        assertEquals(expected.getBaseMaxHP(), actual.getBaseMaxHP());
+        assertEquals(expected.getCurrentHP(), actual.getCurrentHP());
+        assertEquals(expected.getCurrentStage(), actual.getCurrentStage());
+        assertEquals(expected.getGold(), actual.getGold());
+        for (Player.SkillType skill : Player.SkillType.values()) {
+            assertEquals(skill.name(), expected.isSkillUnlocked(skill), actual.isSkillUnlocked(skill));
+        }
+        assertEquals(expected.getCurrentSkill(), actual.getCurrentSkill());
+        for (int boss = 1; boss <= 5; boss++) {
+            assertEquals("boss " + boss, expected.isBossDefeated(boss), actual.isBossDefeated(boss));
+        }
+
+        Inventory expectedInventory = expected.getInventory();
+        Inventory actualInventory = actual.getInventory();
+        assertSameEquipment(expectedInventory.getEquippedItems(), actualInventory.getEquippedItems());
+        assertSameEquipment(expectedInventory.getInventoryItems(), actualInventory.getInventoryItems());
+        assertSameEquipment(expectedInventory.getStorageItems(), actualInventory.getStorageItems());
+        assertSameConsumables(expectedInventory.getConsumableItems(), actualInventory.getConsumableItems());
+        assertSameConsumables(expectedInventory.getCombatItems(), actualInventory.getCombatItems());
+    }
+
+    private static void assertSameEquipment(Array<Equipment> expected, Array<Equipment> actual) {
+        assertEquals(expected.size, actual.size);
+        for (int i = 0; i < expected.size; i++) {
+            Equipment item = expected.get(i);
+            if (item == null) {
+                assertNull(actual.get(i));
+            } else {
+                assertNotNull(actual.get(i));
+                assertEquals(item.getId(), actual.get(i).getId());
+            }
+        }
+    }
+
+    private static void assertSameConsumables(Array<ConsumableItem> expected, Array<ConsumableItem> actual) {
+        assertEquals(expected.size, actual.size);
+        for (int i = 0; i < expected.size; i++) {
+            assertEquals(expected.get(i).getId(), actual.get(i).getId());
+            assertEquals(expected.get(i).getQuantity(), actual.get(i).getQuantity());
+        }
+    }
+}
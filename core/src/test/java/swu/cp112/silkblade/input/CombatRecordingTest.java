@@ -0,0 +1,218 @@
+package swu.cp112.silkblade.input;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.files.FileHandle;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CombatRecordingTest {
+    private static final byte[] PLAYER_SAVE = {1, 2, 3};
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void roundTripsRecordedFrames() throws IOException {
+        ScriptedInput script = new ScriptedInput();
+        // A long run of identical frames, stored as one repeated record
+        script.add(120, 1 / 60f, 0, 0);
+        // Moving right, then diagonally, with a press in the middle of a held key set
+        script.add(30, 1 / 60f, keys(Input.Keys.RIGHT), 0);
+        script.add(1, 1 / 60f, keys(Input.Keys.RIGHT, Input.Keys.UP), keys(Input.Keys.Z));
+        script.add(20, 1 / 60f, keys(Input.Keys.RIGHT, Input.Keys.UP), 0);
+        script.add(1, 1 / 60f, keys(Input.Keys.UP), keys(Input.Keys.X, Input.Keys.SPACE));
+        // Frame times that don't fall on whole microseconds, and a frame with no time at all
+        script.add(5, 0.0123456789f, 0, 0);
+        script.add(1, 0.0333333f, 0, keys(Input.Keys.ENTER));
+        script.add(1, 0f, keys(Input.Keys.LEFT), 0);
+        script.add(10, 1 / 144f, keys(Input.Keys.LEFT), 0);
+
+        CombatRecording.Recorder recorder = new CombatRecording.Recorder(script, 42L, "SilkRevenant", 7, 1.5f,
+            PLAYER_SAVE);
+        int frames = script.size();
+        float[] recordedDeltas = new float[frames];
+        for (int i = 0; i < frames; i++) {
+            recordedDeltas[i] = recorder.beginFrame(0f);
+            float expected = Math.round(script.deltas[i] * 1_000_000f) / 1_000_000f;
+            assertEquals("delta of frame " + i, expected, recordedDeltas[i], 0f);
+            assertSameKeys(i, script, recorder);
+        }
+        CombatRecording recording = read(recorder.finish().toBytes());
+
+        assertEquals(42L, recording.getSeed());
+        assertEquals("SilkRevenant", recording.getEnemyName());
+        assertEquals(7, recording.getStage());
+        assertEquals(1.5f, recording.getMovementSpeed(), 0f);
+        assertEquals(frames, recording.getFrameCount());
+
+        CombatRecording.Playback playback = recording.playback();
+        script.rewind();
+        for (int i = 0; i < frames; i++) {
+            script.beginFrame(0f);
+            assertEquals("delta of frame " + i, recordedDeltas[i], playback.beginFrame(0.5f), 0f);
+            assertSameKeys(i, script, playback);
+            assertFalse(playback.isFinished());
+        }
+        // Past the last frame the real delta passes through and no keys are held
+        assertEquals(0.5f, playback.beginFrame(0.5f), 0f);
+        assertTrue(playback.isFinished());
+        assertFalse(playback.isKeyPressed(Input.Keys.LEFT));
+    }
+
+    @Test
+    public void compressesRepeatedFrames() throws IOException {
+        ScriptedInput script = new ScriptedInput();
+        script.add(10_000, 1 / 60f, keys(Input.Keys.RIGHT), 0);
+        CombatRecording.Recorder recorder = new CombatRecording.Recorder(script, 1L, "Goblin", 1, 1f, PLAYER_SAVE);
+        for (int i = 0; i < script.size(); i++) {
+            recorder.beginFrame(0f);
+        }
+
+        byte[] bytes = recorder.finish().toBytes();
+        assertTrue("A constant fight took " + bytes.length + " bytes", bytes.length < 100);
+        assertEquals(10_000, read(bytes).getFrameCount());
+    }
+
+    @Test
+    public void rejectsDamagedFiles() throws IOException {
+        ScriptedInput script = new ScriptedInput();
+        script.add(200, 1 / 60f, keys(Input.Keys.DOWN), 0);
+        script.add(200, 1 / 30f, keys(Input.Keys.UP), keys(Input.Keys.Z));
+        CombatRecording.Recorder recorder = new CombatRecording.Recorder(script, 42L, "SilkRevenant", 7, 1f,
+            PLAYER_SAVE);
+        for (int i = 0; i < script.size(); i++) {
+            recorder.beginFrame(0f);
+        }
+        byte[] bytes = recorder.finish().toBytes();
+
+        byte[] wrongMagic = bytes.clone();
+        wrongMagic[0] = 'X';
+        assertRejected(wrongMagic, IOException.class);
+
+        byte[] wrongVersion = bytes.clone();
+        wrongVersion[4] = (byte) (CombatRecording.CURRENT_VERSION + 1); // The version varint follows the magic
+        assertRejected(wrongVersion, IOException.class);
+
+        int framesStart = indexOfZlibHeader(bytes);
+        assertRejected(Arrays.copyOf(bytes, 10), EOFException.class);
+        assertRejected(Arrays.copyOf(bytes, framesStart + 2), EOFException.class);
+
+        // Breaking the zlib header at the start of the frame stream
+        byte[] corrupt = bytes.clone();
+        corrupt[framesStart + 1] = 0;
+        assertRejected(corrupt, IOException.class);
+    }
+
+    private CombatRecording read(byte[] bytes) throws IOException {
+        FileHandle file = new FileHandle(folder.newFile());
+        file.writeBytes(bytes, false);
+        return CombatRecording.read(file);
+    }
+
+    private void assertRejected(byte[] bytes, Class<? extends IOException> expected) throws IOException {
+        try {
+            read(bytes);
+            fail("Read a damaged recording");
+        } catch (IOException e) {
+            assertTrue(e.getClass().getSimpleName() + ": " + e.getMessage(), expected.isInstance(e));
+        }
+    }
+
+    private static int indexOfZlibHeader(byte[] bytes) {
+        // Deflater.BEST_COMPRESSION starts its stream with 0x78 0xDA, the header before it can't contain that
+        for (int i = 4; i < bytes.length - 1; i++) {
+            if (bytes[i] == 0x78 && bytes[i + 1] == (byte) 0xDA) {
+                return i;
+            }
+        }
+        throw new AssertionError("No zlib stream in the recording");
+    }
+
+    private static void assertSameKeys(int frame, CombatInput expected, CombatInput actual) {
+        for (int key : CombatInput.KEYS) {
+            String name = Input.Keys.toString(key) + " in frame " + frame;
+            assertEquals(name + " held", expected.isKeyPressed(key), actual.isKeyPressed(key));
+            assertEquals(name + " pressed", expected.isKeyJustPressed(key), actual.isKeyJustPressed(key));
+        }
+    }
+
+    private static int keys(int... keys) {
+        int mask = 0;
+        for (int key : keys) {
+            mask |= mask(key);
+        }
+        return mask;
+    }
+
+    // The bit a key has in a recording
+    private static int mask(int key) {
+        for (int i = 0; i < CombatInput.KEYS.length; i++) {
+            if (CombatInput.KEYS[i] == key) {
+                return 1 << i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Plays a fixed list of frames, keys are masks in the recording's bit order.
+     */
+    private static class ScriptedInput implements CombatInput {
+        private float[] deltas = new float[0];
+        private int[] held = new int[0];
+        private int[] pressed = new int[0];
+        private int frame = -1;
+
+        void add(int count, float delta, int heldKeys, int pressedKeys) {
+            int size = deltas.length;
+            deltas = Arrays.copyOf(deltas, size + count);
+            held = Arrays.copyOf(held, size + count);
+            pressed = Arrays.copyOf(pressed, size + count);
+            for (int i = size; i < size + count; i++) {
+                deltas[i] = delta;
+                held[i] = heldKeys;
+                // A press only lasts the first frame it's added for
+                pressed[i] = i == size ? pressedKeys : 0;
+            }
+        }
+
+        int size() {
+            return deltas.length;
+        }
+
+        void rewind() {
+            frame = -1;
+        }
+
+        @Override
+        public float beginFrame(float delta) {
+            frame++;
+            return deltas[frame];
+        }
+
+        @Override
+        public boolean isKeyPressed(int key) {
+            return (held[frame] & mask(key)) != 0;
+        }
+
+        @Override
+        public boolean isKeyJustPressed(int key) {
+            return (pressed[frame] & mask(key)) != 0;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return frame >= deltas.length - 1;
+        }
+    }
+}
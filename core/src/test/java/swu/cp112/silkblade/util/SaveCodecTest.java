@@ -0,0 +1,123 @@
+package swu.cp112.silkblade.util;
+
+import org.junit.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SaveCodecTest {
+    @Test
+    public void roundTripsEveryFieldType() throws IOException {
+        SaveCodec.Writer writer = new SaveCodec.Writer();
+        writer.writeVarInt(0);
+        writer.writeVarInt(300);
+        writer.writeVarInt(Integer.MAX_VALUE);
+        writer.writeSignedVarInt(-1);
+        writer.writeSignedVarInt(Integer.MIN_VALUE);
+        writer.writeFloat(0.26000002f);
+        writer.writeBoolean(true);
+        writer.writeString("CHARA");
+        writer.writeString(null);
+        writer.writeId("WEAPON_ETERNAL_SILKBLADE");
+        writer.writeId(null);
+        writer.writeId("CONSUMABLE_HERBAL_DRINK");
+        writer.writeId("WEAPON_ETERNAL_SILKBLADE");
+        byte[] bytes = writer.toBytes();
+
+        assertTrue(SaveCodec.isBinarySave(bytes));
+        SaveCodec.Reader reader = new SaveCodec.Reader(bytes);
+        assertEquals(SaveCodec.CURRENT_VERSION, reader.getVersion());
+        assertEquals(0, reader.readVarInt());
+        assertEquals(300, reader.readVarInt());
+        assertEquals(Integer.MAX_VALUE, reader.readVarInt());
+        assertEquals(-1, reader.readSignedVarInt());
+        assertEquals(Integer.MIN_VALUE, reader.readSignedVarInt());
+        assertEquals(0.26000002f, reader.readFloat(), 0f);
+        assertTrue(reader.readBoolean());
+        assertEquals("CHARA", reader.readString());
+        assertEquals("", reader.readString());
+        assertEquals("WEAPON_ETERNAL_SILKBLADE", reader.readId());
+        assertNull(reader.readId());
+        assertEquals("CONSUMABLE_HERBAL_DRINK", reader.readId());
+        assertEquals("WEAPON_ETERNAL_SILKBLADE", reader.readId());
+
+        // Each ID is stored once however often it is referenced
+        assertEquals(2, reader.getIdCount());
+    }
+
+    @Test
+    public void detectsJsonAsNotBinary() {
+        assertFalse(SaveCodec.isBinarySave("{\"name\": \"CHARA\"}".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(SaveCodec.isBinarySave(new byte[] {'S', 'B'}));
+        assertFalse(SaveCodec.isBinarySave(null));
+    }
+
+    @Test
+    public void rejectsTruncatedBody() throws IOException {
+        SaveCodec.Writer writer = new SaveCodec.Writer();
+        writer.writeId("ARMOR_SILK_ROBE");
+        writer.writeVarInt(1_000_000);
+        byte[] bytes = writer.toBytes();
+
+        SaveCodec.Reader reader = new SaveCodec.Reader(Arrays.copyOf(bytes, bytes.length - 1));
+        assertEquals("ARMOR_SILK_ROBE", reader.readId());
+        try {
+            reader.readVarInt();
+            fail("Read a varint past the end of the buffer");
+        } catch (EOFException expected) {
+        }
+    }
+
+    @Test
+    public void rejectsTruncatedIdTable() throws IOException {
+        SaveCodec.Writer writer = new SaveCodec.Writer();
+        writer.writeId("ARMOR_SILK_ROBE");
+        byte[] bytes = writer.toBytes();
+
+        try {
+            new SaveCodec.Reader(Arrays.copyOf(bytes, 8));
+            fail("Accepted a save cut off inside the ID table");
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void rejectsUnsupportedVersions() throws IOException {
+        byte[] bytes = new SaveCodec.Writer().toBytes();
+
+        bytes[4] = (byte) (SaveCodec.CURRENT_VERSION + 1); // The version varint follows the magic
+        try {
+            new SaveCodec.Reader(bytes);
+            fail("Accepted a save from a newer version");
+        } catch (IOException expected) {
+        }
+
+        bytes[4] = 0;
+        try {
+            new SaveCodec.Reader(bytes);
+            fail("Accepted a save with version 0");
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void rejectsIdReferencesOutsideTheTable() throws IOException {
+        SaveCodec.Writer writer = new SaveCodec.Writer();
+        writer.writeVarInt(5); // References ID 4 of an empty table
+        SaveCodec.Reader reader = new SaveCodec.Reader(writer.toBytes());
+
+        try {
+            reader.readId();
+            fail("Resolved an ID that isn't in the table");
+        } catch (IOException expected) {
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package swu.cp112.silkblade.lwjgl3;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import swu.cp112.silkblade.util.GameEvents;
+
+/**
+ * Records {@link GameEvents} as JDK Flight Recorder events.
+ * Start a recording with the bundled profile, e.g. {@code ./gradlew lwjgl3:run -Pjfr},
+ * and open the .jfr file in JDK Mission Control to see them on the thread timeline.
+ */
+public class JfrGameEvents implements GameEvents.Sink {
+    // Looked up once, so a kind that no recording enables is skipped before an event is allocated
+    private final EventType[] types = new EventType[GameEvents.Kind.values().length];
+
+    public JfrGameEvents() {
+        types[GameEvents.Kind.COMBAT_PHASE.ordinal()] = EventType.getEventType(CombatPhaseEvent.class);
+        types[GameEvents.Kind.PATTERN_SELECTED.ordinal()] = EventType.getEventType(PatternSelectedEvent.class);
+        types[GameEvents.Kind.PATTERN_VOLLEY.ordinal()] = EventType.getEventType(PatternVolleyEvent.class);
+        types[GameEvents.Kind.EXPLOSION_SPAWN.ordinal()] = EventType.getEventType(ExplosionSpawnEvent.class);
+        types[GameEvents.Kind.PLAYER_SAVE.ordinal()] = EventType.getEventType(PlayerSaveEvent.class);
+        types[GameEvents.Kind.SCREEN_TRANSITION.ordinal()] = EventType.getEventType(ScreenTransitionEvent.class);
+        types[GameEvents.Kind.ASSET_LOAD.ordinal()] = EventType.getEventType(AssetLoadEvent.class);
+    }
+
+    @Override
+    public Object begin(GameEvents.Kind kind) {
+        EventType type = types[kind.ordinal()];
+        if (type == null || !type.isEnabled()) {
+            return null;
+        }
+        GameEvent event;
+        switch (kind) {
+            case COMBAT_PHASE:
+                event = new CombatPhaseEvent();
+                break;
+            case PATTERN_SELECTED:
+                event = new PatternSelectedEvent();
+                break;
+            case PATTERN_VOLLEY:
+                event = new PatternVolleyEvent();
+                break;
+            case EXPLOSION_SPAWN:
+                event = new ExplosionSpawnEvent();
+                break;
+            case PLAYER_SAVE:
+                event = new PlayerSaveEvent();
+                break;
+            case SCREEN_TRANSITION:
+                event = new ScreenTransitionEvent();
+                break;
+            case ASSET_LOAD:
+                event = new AssetLoadEvent();
+                break;
+            default:
+                return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void end(Object event, String name, int count) {
+        GameEvent gameEvent = (GameEvent) event;
+        gameEvent.end();
+        if (gameEvent.shouldCommit()) {
+            gameEvent.fill(name, count);
+            gameEvent.commit();
+        }
+    }
+
+    @Category("Silk Blade")
+    @StackTrace(false)
+    public abstract static class GameEvent extends Event {
+        abstract void fill(String name, int count);
+    }
+
+    @Name("silkblade.CombatPhase")
+    @Label("Combat Phase")
+    @Description("Enemy turn from startCombat to endCombat")
+    public static class CombatPhaseEvent extends GameEvent {
+        @Label("Enemy")
+        String enemy;
+        @Label("Bullets Remaining")
+        int bulletsRemaining;
+
+        @Override
+        void fill(String name, int count) {
+            enemy = name;
+            bulletsRemaining = count;
+        }
+    }
+
+    @Name("silkblade.PatternSelected")
+    @Label("Pattern Selected")
+    @Description("EnemyAttackPatternManager.selectRandomPattern")
+    public static class PatternSelectedEvent extends GameEvent {
+        @Label("Pattern")
+        String pattern;
+        @Label("Unused Patterns")
+        int unusedPatterns;
+
+        @Override
+        void fill(String name, int count) {
+            pattern = name;
+            unusedPatterns = count;
+        }
+    }
+
+    @Name("silkblade.PatternVolley")
+    @Label("Pattern Volley")
+    @Description("One generateBullets call of the active pattern")
+    public static class PatternVolleyEvent extends GameEvent {
+        @Label("Pattern")
+        String pattern;
+        @Label("Bullet Count")
+        int bulletCount;
+
+        @Override
+        void fill(String name, int count) {
+            pattern = name;
+            bulletCount = count;
+        }
+    }
+
+    @Name("silkblade.ExplosionSpawn")
+    @Label("Explosion Spawn")
+    @Description("Child bullets spawned by an exploding bullet")
+    public static class ExplosionSpawnEvent extends GameEvent {
+        @Label("Child Count")
+        int childCount;
+
+        @Override
+        void fill(String name, int count) {
+            childCount = count;
+        }
+    }
+
+    @Name("silkblade.PlayerSave")
+    @Label("Player Save")
+    @Description("Player.saveToFile")
+    public static class PlayerSaveEvent extends GameEvent {
+        @Label("File")
+        String file;
+        @Label("Bytes")
+        @DataAmount
+        int bytes;
+
+        @Override
+        void fill(String name, int count) {
+            file = name;
+            bytes = count;
+        }
+    }
+
+    @Name("silkblade.ScreenTransition")
+    @Label("Screen Transition")
+    @Description("From the transition starting to the next screen being set")
+    public static class ScreenTransitionEvent extends GameEvent {
+        @Label("Transition")
+        String transition;
+        @Label("Worst Frame")
+        @Timespan(Timespan.MICROSECONDS)
+        long worstFrame;
+
+        @Override
+        void fill(String name, int count) {
+            transition = name;
+            worstFrame = count;
+        }
+    }
+
+    @Name("silkblade.AssetLoad")
+    @Label("Asset Load")
+    public static class AssetLoadEvent extends GameEvent {
+        @Label("Asset")
+        String asset;
+
+        @Override
+        void fill(String name, int count) {
+            asset = name;
+        }
+    }
+}
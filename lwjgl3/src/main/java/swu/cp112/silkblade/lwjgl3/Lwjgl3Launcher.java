@@ -1,13 +1,23 @@
 package swu.cp112.silkblade.lwjgl3;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Graphics;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3WindowAdapter;
 import swu.cp112.silkblade.core.Main;
+import swu.cp112.silkblade.util.GameClock;
+import swu.cp112.silkblade.util.GameEvents;
+import swu.cp112.silkblade.util.StartupTimeline;
+
+import java.lang.management.ManagementFactory;
 
 /** Launches the desktop (LWJGL3) application. */
 public class Lwjgl3Launcher {
     private static final Graphics.DisplayMode screen = Lwjgl3ApplicationConfiguration.getDisplayMode();
+    private static final int UNFOCUSED_FPS = 15; // Enough for the menu music fades, light on a laptop battery
+
+    private static int foregroundFps;
 
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return ; // This handles macOS support and helps on Windows.
@@ -15,17 +25,67 @@ public class Lwjgl3Launcher {
     }
 
     private static Lwjgl3Application createApplication() {
+        startTimeline();
+        installFlightRecorderEvents();
         return new Lwjgl3Application(new Main(), getDefaultConfiguration());
     }
 
+    /** Measures startup from the JVM starting rather than from the first mark. */
+    private static void startTimeline() {
+        try {
+            StartupTimeline.setJvmStart(ManagementFactory.getRuntimeMXBean().getStartTime());
+        } catch (LinkageError e) {
+            // Runtime without the java.management module, the timeline starts here instead
+        }
+        StartupTimeline.mark("launcher");
+    }
+
+    /** Routes game timeline events to JDK Flight Recorder. Events are only recorded while a recording is running. */
+    private static void installFlightRecorderEvents() {
+        try {
+            GameEvents.setSink(new JfrGameEvents());
+        } catch (LinkageError e) {
+            // Runtime without the jdk.jfr module, events stay disabled
+        }
+    }
+
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {
         Lwjgl3ApplicationConfiguration configuration = new Lwjgl3ApplicationConfiguration();
         configuration.setTitle("Silk Blade: Silk Warriors of Lamphun");
-        configuration.useVsync(true);
-        configuration.setForegroundFPS(screen.refreshRate + 1);
+        if (Boolean.getBoolean("silkblade.uncapped")) {
+            // Replays for frame time comparisons run as fast as the machine allows
+            configuration.useVsync(false);
+            foregroundFps = 0;
+        } else {
+            configuration.useVsync(true);
+            foregroundFps = screen.refreshRate + 1;
+        }
+        configuration.setForegroundFPS(foregroundFps);
+        if (!isUnattended()) {
+            configuration.setWindowListener(new Lwjgl3WindowAdapter() {
+                @Override
+                public void focusLost() {
+                    Gdx.graphics.setForegroundFPS(UNFOCUSED_FPS);
+                    // Capped frames would read as hitches and lower bullet quality and render scale
+                    GameClock.setThrottled(true);
+                }
+
+                @Override
+                public void focusGained() {
+                    Gdx.graphics.setForegroundFPS(foregroundFps);
+                    GameClock.setThrottled(false);
+                }
+            });
+        }
         configuration.setWindowedMode(1280, 720);
         configuration.setWindowIcon("libgdx128.png", "libgdx64.png", "libgdx32.png", "libgdx16.png");
         return configuration;
     }
-}
 
+    /** Whether the game runs without anyone at the window, where throttling would skew the frame times being measured. */
+    private static boolean isUnattended() {
+        return Boolean.getBoolean("silkblade.uncapped")
+            || System.getProperty("silkblade.autopilot") != null
+            || System.getProperty("silkblade.replay") != null;
+    }
+}